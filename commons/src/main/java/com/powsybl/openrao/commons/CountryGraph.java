@@ -12,7 +12,12 @@ import com.powsybl.iidm.network.Network;
 import com.powsybl.iidm.network.Substation;
 import com.powsybl.iidm.network.Terminal;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -21,12 +26,15 @@ import java.util.Set;
  */
 public class CountryGraph {
     private final Set<CountryBoundary> boundaries;
+    // Minimum number of boundaries between two countries of the graph, computed once for all pairs of countries
+    private final Map<Country, Map<Country, Integer>> distances;
 
     /**
      * Constructor based on a set of given CountryBoundary
      */
     public CountryGraph(Set<CountryBoundary> boundaries) {
         this.boundaries = boundaries;
+        this.distances = computeDistances(boundaries);
     }
 
     /**
@@ -50,6 +58,36 @@ public class CountryGraph {
                     OpenRaoLoggerProvider.TECHNICAL_LOGS.debug("Countries are not defined in both sides of branch {}", branch.getId());
                 }
             });
+        distances = computeDistances(boundaries);
+    }
+
+    /**
+     * Breadth-first search from every country of the graph
+     */
+    private static Map<Country, Map<Country, Integer>> computeDistances(Set<CountryBoundary> boundaries) {
+        Map<Country, Set<Country>> neighbors = new EnumMap<>(Country.class);
+        for (CountryBoundary boundary : boundaries) {
+            neighbors.computeIfAbsent(boundary.getCountryLeft(), country -> EnumSet.noneOf(Country.class)).add(boundary.getCountryRight());
+            neighbors.computeIfAbsent(boundary.getCountryRight(), country -> EnumSet.noneOf(Country.class)).add(boundary.getCountryLeft());
+        }
+        Map<Country, Map<Country, Integer>> distances = new EnumMap<>(Country.class);
+        for (Country origin : neighbors.keySet()) {
+            Map<Country, Integer> distancesFromOrigin = new EnumMap<>(Country.class);
+            distancesFromOrigin.put(origin, 0);
+            Deque<Country> countriesToVisit = new ArrayDeque<>();
+            countriesToVisit.add(origin);
+            while (!countriesToVisit.isEmpty()) {
+                Country country = countriesToVisit.poll();
+                int distance = distancesFromOrigin.get(country);
+                for (Country neighbor : neighbors.get(country)) {
+                    if (distancesFromOrigin.putIfAbsent(neighbor, distance + 1) == null) {
+                        countriesToVisit.add(neighbor);
+                    }
+                }
+            }
+            distances.put(origin, distancesFromOrigin);
+        }
+        return distances;
     }
 
     private Optional<Country> getTerminalCountry(Terminal terminal) {
@@ -69,16 +107,22 @@ public class CountryGraph {
         if (country1.equals(country2)) {
             return true;
         }
-        if (maxNumberOfBoundaries <= 0) {
-            return false;
-        }
+        int numberOfBoundaries = getNumberOfBoundaries(country1, country2);
+        return numberOfBoundaries != Integer.MAX_VALUE && numberOfBoundaries <= maxNumberOfBoundaries;
+    }
 
-        for (CountryBoundary boundary : boundaries) {
-            if (boundary.getCountryLeft().equals(country1) && areNeighbors(boundary.getCountryRight(), country2, maxNumberOfBoundaries - 1)
-                || boundary.getCountryRight().equals(country1) && areNeighbors(boundary.getCountryLeft(), country2, maxNumberOfBoundaries - 1)) {
-                return true;
-            }
+    /**
+     * Minimum number of boundaries to cross to go from country1 to country2, or Integer.MAX_VALUE if country2 cannot
+     * be reached from country1
+     */
+    public int getNumberOfBoundaries(Country country1, Country country2) {
+        if (country1.equals(country2)) {
+            return 0;
+        }
+        Map<Country, Integer> distancesFromCountry1 = distances.get(country1);
+        if (distancesFromCountry1 == null) {
+            return Integer.MAX_VALUE;
         }
-        return false;
+        return distancesFromCountry1.getOrDefault(country2, Integer.MAX_VALUE);
     }
 }
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.openrao.commons;
+
+import com.powsybl.iidm.network.Country;
+import com.powsybl.iidm.network.Network;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Thread-safe cache of the geographical data of a network: its {@link CountryGraph}, and the countries in which
+ * the elements of a CRAC (CNECs, remedial actions...) are located.
+ * <p>
+ * These data only depend on the substations and branches of the network, and not on its variants nor on the
+ * position of its switches. They can therefore be computed once and shared by all the perimeters of a RAO, even
+ * when each perimeter works on a copy of the network.
+ * <p>
+ * The cache does not register any listener on the network, so that it can be garbage collected with its owner
+ * (for instance the {@code ToolProvider} of a RAO). It must be cleared with {@link #invalidate()} if substations or
+ * branches are created in or removed from the network while it is in use.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class NetworkLocationCache {
+    private final Network network;
+    private final Map<Object, Set<Optional<Country>>> locations = new ConcurrentHashMap<>();
+    private volatile CountryGraph countryGraph;
+
+    public NetworkLocationCache(Network network) {
+        this.network = network;
+    }
+
+    public CountryGraph getCountryGraph() {
+        CountryGraph graph = countryGraph;
+        if (graph == null) {
+            synchronized (this) {
+                graph = countryGraph;
+                if (graph == null) {
+                    graph = new CountryGraph(network);
+                    countryGraph = graph;
+                }
+            }
+        }
+        return graph;
+    }
+
+    /**
+     * Returns the location of an element, computed with the given function the first time it is requested,
+     * for instance {@code getLocation(flowCnec, flowCnec::getLocation)}
+     */
+    public Set<Optional<Country>> getLocation(Object element, Function<Network, Set<Optional<Country>>> locationComputer) {
+        return locations.computeIfAbsent(element, e -> locationComputer.apply(network));
+    }
+
+    public synchronized void invalidate() {
+        countryGraph = null;
+        locations.clear();
+    }
+}
@@ -10,6 +10,9 @@ import com.powsybl.iidm.network.Country;
 import com.powsybl.iidm.network.Network;
 import org.junit.jupiter.api.Test;
 
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -45,4 +48,28 @@ class CountryGraphTest {
         // negative max number of boundaries
         assertFalse(graph.areNeighbors(Country.FR, Country.BE, -10));
     }
+
+    @Test
+    void testNumberOfBoundaries() {
+        Set<CountryBoundary> boundaries = Set.of(
+            new CountryBoundary(Country.FR, Country.BE),
+            new CountryBoundary(Country.BE, Country.NL),
+            new CountryBoundary(Country.NL, Country.DE),
+            new CountryBoundary(Country.FR, Country.DE),
+            new CountryBoundary(Country.ES, Country.PT));
+        CountryGraph graph = new CountryGraph(boundaries);
+
+        assertEquals(0, graph.getNumberOfBoundaries(Country.FR, Country.FR));
+        assertEquals(1, graph.getNumberOfBoundaries(Country.FR, Country.BE));
+        assertEquals(1, graph.getNumberOfBoundaries(Country.DE, Country.FR));
+        // shortest path is FR-DE-NL or FR-BE-NL
+        assertEquals(2, graph.getNumberOfBoundaries(Country.FR, Country.NL));
+        assertEquals(2, graph.getNumberOfBoundaries(Country.BE, Country.DE));
+        // countries which are not connected, or not in the graph
+        assertEquals(Integer.MAX_VALUE, graph.getNumberOfBoundaries(Country.FR, Country.PT));
+        assertEquals(Integer.MAX_VALUE, graph.getNumberOfBoundaries(Country.AT, Country.FR));
+        assertEquals(0, graph.getNumberOfBoundaries(Country.AT, Country.AT));
+        assertFalse(graph.areNeighbors(Country.FR, Country.PT, Integer.MAX_VALUE));
+        assertTrue(graph.areNeighbors(Country.NL, Country.FR, 2));
+    }
 }
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.openrao.commons;
+
+import com.powsybl.iidm.network.Country;
+import com.powsybl.iidm.network.Network;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class NetworkLocationCacheTest {
+
+    @Test
+    void testLocationsAndCountryGraphAreComputedOnce() {
+        Network network = Network.read("TestCase12Nodes.uct", getClass().getResourceAsStream("/TestCase12Nodes.uct"));
+        NetworkLocationCache cache = new NetworkLocationCache(network);
+
+        AtomicInteger numberOfComputations = new AtomicInteger();
+        Function<Network, Set<Optional<Country>>> locationComputer = n -> {
+            numberOfComputations.incrementAndGet();
+            return Set.of(Optional.of(Country.FR));
+        };
+
+        assertEquals(Set.of(Optional.of(Country.FR)), cache.getLocation("element", locationComputer));
+        assertEquals(Set.of(Optional.of(Country.FR)), cache.getLocation("element", locationComputer));
+        assertEquals(1, numberOfComputations.get());
+
+        CountryGraph countryGraph = cache.getCountryGraph();
+        assertSame(countryGraph, cache.getCountryGraph());
+
+        // the cache does not watch the network, it must be invalidated explicitly
+        network.getLine("FFR1AA1  FFR2AA1  1").remove();
+        assertSame(countryGraph, cache.getCountryGraph());
+        cache.invalidate();
+        assertNotSame(countryGraph, cache.getCountryGraph());
+        cache.getLocation("element", locationComputer);
+        assertEquals(2, numberOfComputations.get());
+    }
+}
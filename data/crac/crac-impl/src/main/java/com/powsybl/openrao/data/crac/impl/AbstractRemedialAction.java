@@ -38,6 +38,7 @@ public abstract class AbstractRemedialAction<I extends RemedialAction<I>> extend
     private boolean computedUsageMethods = false;
     private Map<State, UsageMethod> usageMethodPerState;
     private Map<Instant, UsageMethod> usageMethodPerInstant;
+    private Runnable usageRulesChangeListener;
 
     protected AbstractRemedialAction(String id, String name, String operator, Set<UsageRule> usageRules, Integer speed) {
         super(id, name);
@@ -49,6 +50,17 @@ public abstract class AbstractRemedialAction<I extends RemedialAction<I>> extend
     void addUsageRule(UsageRule usageRule) {
         computedUsageMethods = false;
         this.usageRules.add(usageRule);
+        if (usageRulesChangeListener != null) {
+            usageRulesChangeListener.run();
+        }
+    }
+
+    /**
+     * Sets a callback run every time a usage rule is added to the remedial action, so that the
+     * Crac it belongs to can invalidate its indexes of remedial actions per state
+     */
+    void setUsageRulesChangeListener(Runnable usageRulesChangeListener) {
+        this.usageRulesChangeListener = usageRulesChangeListener;
     }
 
     @Override
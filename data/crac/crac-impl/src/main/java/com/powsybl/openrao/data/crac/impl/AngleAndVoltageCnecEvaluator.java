@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.openrao.data.crac.impl;
+
+import com.powsybl.iidm.network.Network;
+import com.powsybl.openrao.commons.OpenRaoException;
+import com.powsybl.openrao.commons.Unit;
+import com.powsybl.openrao.data.crac.api.cnec.AngleCnec;
+import com.powsybl.openrao.data.crac.api.cnec.Cnec;
+import com.powsybl.openrao.data.crac.api.cnec.CnecValue;
+import com.powsybl.openrao.data.crac.api.cnec.VoltageCnec;
+import com.powsybl.openrao.data.crac.api.threshold.Threshold;
+
+import java.util.*;
+
+/**
+ * Evaluates the values, margins and security statuses of a set of {@link AngleCnec}s or {@link VoltageCnec}s on a
+ * network, giving the same results as {@link Cnec#computeValue}, {@link Cnec#computeMargin} and
+ * {@link Cnec#computeSecurityStatus}.
+ * <p>
+ * The bounds of the CNECs are computed once, when the evaluator is built. Each call to {@link #evaluate(Network)}
+ * then reads the value of every CNEC once from the network, and stores it in arrays indexed by CNEC from which the
+ * margins and the security statuses are derived. It must be called again after each load-flow computation.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class AngleAndVoltageCnecEvaluator {
+    private final Unit unit;
+    private final List<Cnec<?>> cnecs;
+    private final Map<Cnec<?>, Integer> cnecIndexes = new HashMap<>();
+    // bounds used to compute the margins, including the reliability margins
+    private final double[] lowerBounds;
+    private final double[] upperBounds;
+    // bounds used to tell high constraints from low constraints
+    private final double[] lowerConstraintLimits;
+    private final double[] upperConstraintLimits;
+    private final CnecValue[] values;
+    private final double[] minValues;
+    private final double[] maxValues;
+    private boolean evaluated = false;
+
+    public AngleAndVoltageCnecEvaluator(Collection<? extends Cnec> cnecs, Unit unit) {
+        this.unit = unit;
+        this.cnecs = new ArrayList<>(cnecs.size());
+        cnecs.forEach(this.cnecs::add);
+        int numberOfCnecs = this.cnecs.size();
+        lowerBounds = new double[numberOfCnecs];
+        upperBounds = new double[numberOfCnecs];
+        lowerConstraintLimits = new double[numberOfCnecs];
+        upperConstraintLimits = new double[numberOfCnecs];
+        values = new CnecValue[numberOfCnecs];
+        minValues = new double[numberOfCnecs];
+        maxValues = new double[numberOfCnecs];
+        for (int i = 0; i < numberOfCnecs; i++) {
+            Cnec<?> cnec = this.cnecs.get(i);
+            unit.checkPhysicalParameter(cnec.getPhysicalParameter());
+            cnecIndexes.put(cnec, i);
+            if (cnec instanceof AngleCnec angleCnec) {
+                lowerBounds[i] = angleCnec.getLowerBound(unit).orElse(Double.NEGATIVE_INFINITY);
+                upperBounds[i] = angleCnec.getUpperBound(unit).orElse(Double.POSITIVE_INFINITY);
+                lowerConstraintLimits[i] = getLowerConstraintLimit(angleCnec);
+                upperConstraintLimits[i] = getUpperConstraintLimit(angleCnec);
+            } else if (cnec instanceof VoltageCnec voltageCnec) {
+                lowerBounds[i] = voltageCnec.getLowerBound(unit).orElse(Double.NEGATIVE_INFINITY);
+                upperBounds[i] = voltageCnec.getUpperBound(unit).orElse(Double.POSITIVE_INFINITY);
+                lowerConstraintLimits[i] = lowerBounds[i];
+                upperConstraintLimits[i] = upperBounds[i];
+            } else {
+                throw new OpenRaoException(String.format("Cnec %s is neither an AngleCnec nor a VoltageCnec", cnec.getId()));
+            }
+        }
+    }
+
+    /**
+     * Reads the values of all the CNECs on the network.
+     */
+    public void evaluate(Network network) {
+        for (int i = 0; i < cnecs.size(); i++) {
+            CnecValue value = cnecs.get(i).computeValue(network, unit);
+            values[i] = value;
+            if (value instanceof AngleCnecValue angleCnecValue) {
+                minValues[i] = angleCnecValue.value();
+                maxValues[i] = angleCnecValue.value();
+            } else {
+                minValues[i] = ((VoltageCnecValue) value).minValue();
+                maxValues[i] = ((VoltageCnecValue) value).maxValue();
+            }
+        }
+        evaluated = true;
+    }
+
+    public CnecValue getValue(Cnec<?> cnec) {
+        return values[getIndex(cnec)];
+    }
+
+    public double getMargin(Cnec<?> cnec) {
+        return computeMargin(getIndex(cnec));
+    }
+
+    public Cnec.SecurityStatus getSecurityStatus(Cnec<?> cnec) {
+        int i = getIndex(cnec);
+        return computeSecurityStatus(minValues[i], maxValues[i], lowerBounds[i], upperBounds[i], lowerConstraintLimits[i], upperConstraintLimits[i]);
+    }
+
+    /**
+     * Returns true if at least one of the CNECs has a negative margin.
+     */
+    public boolean hasNegativeMargin() {
+        checkEvaluated();
+        for (int i = 0; i < cnecs.size(); i++) {
+            if (computeMargin(i) < 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private double computeMargin(int i) {
+        return computeMargin(minValues[i], maxValues[i], lowerBounds[i], upperBounds[i]);
+    }
+
+    /**
+     * Margin of a CNEC whose values lie between minValue and maxValue, the bounds including the reliability margin.
+     * Also used by {@link AngleCnecImpl} and {@link VoltageCnecImpl}.
+     */
+    static double computeMargin(double minValue, double maxValue, double lowerBound, double upperBound) {
+        return Math.min(minValue - lowerBound, upperBound - maxValue);
+    }
+
+    /**
+     * Security status of a CNEC whose values lie between minValue and maxValue: the CNEC is constrained when its
+     * margin is negative, and the constraint limits tell high constraints from low constraints. Also used by
+     * {@link AngleCnecImpl} and {@link VoltageCnecImpl}.
+     */
+    static Cnec.SecurityStatus computeSecurityStatus(double minValue, double maxValue, double lowerBound, double upperBound,
+                                                     double lowerConstraintLimit, double upperConstraintLimit) {
+        if (computeMargin(minValue, maxValue, lowerBound, upperBound) < 0) {
+            boolean highConstraint = maxValue > upperConstraintLimit;
+            boolean lowConstraint = minValue < lowerConstraintLimit;
+            if (highConstraint && lowConstraint) {
+                return Cnec.SecurityStatus.HIGH_AND_LOW_CONSTRAINTS;
+            } else if (highConstraint) {
+                return Cnec.SecurityStatus.HIGH_CONSTRAINT;
+            } else {
+                return Cnec.SecurityStatus.LOW_CONSTRAINT;
+            }
+        } else {
+            return Cnec.SecurityStatus.SECURE;
+        }
+    }
+
+    /**
+     * The constraints of an AngleCnec are detected on its thresholds, without reliability margin
+     */
+    static double getLowerConstraintLimit(AngleCnec angleCnec) {
+        return angleCnec.getThresholds().stream().filter(Threshold::limitsByMin)
+            .mapToDouble(threshold -> threshold.min().orElseThrow()).max().orElse(Double.NEGATIVE_INFINITY);
+    }
+
+    static double getUpperConstraintLimit(AngleCnec angleCnec) {
+        return angleCnec.getThresholds().stream().filter(Threshold::limitsByMax)
+            .mapToDouble(threshold -> threshold.max().orElseThrow()).min().orElse(Double.POSITIVE_INFINITY);
+    }
+
+    private void checkEvaluated() {
+        if (!evaluated) {
+            throw new OpenRaoException("The CNECs must be evaluated on a network first");
+        }
+    }
+
+    private int getIndex(Cnec<?> cnec) {
+        checkEvaluated();
+        Integer index = cnecIndexes.get(cnec);
+        if (index == null) {
+            throw new OpenRaoException(String.format("Cnec %s is not handled by this evaluator", cnec.getId()));
+        }
+        return index;
+    }
+}
@@ -117,42 +117,16 @@ public class AngleCnecImpl extends AbstractCnec<AngleCnec> implements AngleCnec
     @Override
     public double computeMargin(Network network, Unit unit) {
         unit.checkPhysicalParameter(getPhysicalParameter());
-        AngleCnecValue actualAngleValue = computeValue(network, unit);
-        double marginOnLowerBound = actualAngleValue.value() - getLowerBound(unit).orElse(Double.NEGATIVE_INFINITY);
-        double marginOnUpperBound = getUpperBound(unit).orElse(Double.POSITIVE_INFINITY) - actualAngleValue.value();
-        return Math.min(marginOnLowerBound, marginOnUpperBound);
-    }
-
-    private double computeMargin(double actualAngleValue, Unit unit) {
-        double marginOnLowerBound = actualAngleValue - getLowerBound(unit).orElse(Double.NEGATIVE_INFINITY);
-        double marginOnUpperBound = getUpperBound(unit).orElse(Double.POSITIVE_INFINITY) - actualAngleValue;
-        return Math.min(marginOnLowerBound, marginOnUpperBound);
+        double actualAngleValue = computeValue(network, unit).value();
+        return AngleAndVoltageCnecEvaluator.computeMargin(actualAngleValue, actualAngleValue,
+            getLowerBound(unit).orElse(Double.NEGATIVE_INFINITY), getUpperBound(unit).orElse(Double.POSITIVE_INFINITY));
     }
 
     public SecurityStatus computeSecurityStatus(Network network, Unit unit) {
         double actualAngleValue = computeValue(network, unit).value();
-
-        if (computeMargin(actualAngleValue, unit) < 0) {
-            boolean highVoltageConstraints = false;
-            boolean lowVoltageConstraints = false;
-            if (getThresholds().stream()
-                .anyMatch(threshold -> threshold.limitsByMax() && actualAngleValue > threshold.max().orElseThrow())) {
-                highVoltageConstraints = true;
-            }
-            if (getThresholds().stream()
-                .anyMatch(threshold -> threshold.limitsByMin() && actualAngleValue < threshold.min().orElseThrow())) {
-                lowVoltageConstraints = true;
-            }
-            if (highVoltageConstraints && lowVoltageConstraints) {
-                return SecurityStatus.HIGH_AND_LOW_CONSTRAINTS;
-            } else if (highVoltageConstraints) {
-                return SecurityStatus.HIGH_CONSTRAINT;
-            } else {
-                return SecurityStatus.LOW_CONSTRAINT;
-            }
-        } else {
-            return SecurityStatus.SECURE;
-        }
+        return AngleAndVoltageCnecEvaluator.computeSecurityStatus(actualAngleValue, actualAngleValue,
+            getLowerBound(unit).orElse(Double.NEGATIVE_INFINITY), getUpperBound(unit).orElse(Double.POSITIVE_INFINITY),
+            AngleAndVoltageCnecEvaluator.getLowerConstraintLimit(this), AngleAndVoltageCnecEvaluator.getUpperConstraintLimit(this));
     }
 
     private VoltageLevel getVoltageLevelOfElement(String elementId, Network network) {
@@ -43,6 +43,7 @@ import com.powsybl.openrao.data.crac.api.usagerule.OnContingencyState;
 import com.powsybl.openrao.data.crac.api.usagerule.UsageMethod;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import static java.lang.String.format;
@@ -71,6 +72,14 @@ public class CracImpl extends AbstractIdentifiable<Crac> implements Crac {
     private final Map<Instant, RaUsageLimits> raUsageLimitsPerInstant = new HashMap<>();
     private Instant lastInstantAdded = null;
 
+    // Secondary indexes, lazily built on first use and invalidated when the underlying objects are modified
+    private volatile Map<State, Set<FlowCnec>> flowCnecsPerState;
+    private volatile Map<State, Set<AngleCnec>> angleCnecsPerState;
+    private volatile Map<State, Set<VoltageCnec>> voltageCnecsPerState;
+    private volatile Map<String, Set<Cnec<?>>> cnecsPerNetworkElement;
+    private final Map<State, Map<UsageMethod, Set<RangeAction<?>>>> rangeActionsPerStateAndUsageMethod = new ConcurrentHashMap<>();
+    private final Map<State, Map<UsageMethod, Set<NetworkAction>>> networkActionsPerStateAndUsageMethod = new ConcurrentHashMap<>();
+
     public CracImpl(String id, String name) {
         super(id, name);
     }
@@ -108,10 +117,7 @@ public class CracImpl extends AbstractIdentifiable<Crac> implements Crac {
      * @return true if the NetworkElement is referenced in a Contingency, a Cnec or a RemedialAction
      */
     private boolean isNetworkElementUsedWithinCrac(String networkElementId) {
-        return getCnecs().stream()
-                .map(Cnec::getNetworkElements)
-                .flatMap(Set::stream)
-                .anyMatch(ne -> ((NetworkElement) ne).getId().equals(networkElementId))
+        return getCnecsPerNetworkElement().containsKey(networkElementId)
             || getRemedialActions().stream()
                 .map(RemedialAction::getNetworkElements)
                 .flatMap(Set::stream)
@@ -391,8 +397,8 @@ public class CracImpl extends AbstractIdentifiable<Crac> implements Crac {
      * @return true if the State is referenced in a Cnec or a RemedialAction's UsageRule
      */
     private boolean isStateUsedWithinCrac(String stateId) {
-        return getCnecs().stream()
-            .anyMatch(cnec -> cnec.getState().getId().equals(stateId))
+        State state = states.get(stateId);
+        return state != null && (getFlowCnecsPerState().containsKey(state) || getAngleCnecsPerState().containsKey(state) || getVoltageCnecsPerState().containsKey(state))
                 || getRemedialActions().stream()
                 .map(RemedialAction::getUsageRules)
                 .flatMap(Set::stream)
@@ -514,9 +520,7 @@ public class CracImpl extends AbstractIdentifiable<Crac> implements Crac {
 
     @Override
     public Set<FlowCnec> getFlowCnecs(State state) {
-        return flowCnecs.values().stream()
-                .filter(cnec -> cnec.getState().equals(state))
-                .collect(Collectors.toSet());
+        return new HashSet<>(getFlowCnecsPerState().getOrDefault(state, Collections.emptySet()));
     }
 
     @Override
@@ -531,9 +535,7 @@ public class CracImpl extends AbstractIdentifiable<Crac> implements Crac {
 
     @Override
     public Set<AngleCnec> getAngleCnecs(State state) {
-        return angleCnecs.values().stream()
-            .filter(cnec -> cnec.getState().equals(state))
-            .collect(Collectors.toSet());
+        return new HashSet<>(getAngleCnecsPerState().getOrDefault(state, Collections.emptySet()));
     }
 
     @Override
@@ -548,9 +550,7 @@ public class CracImpl extends AbstractIdentifiable<Crac> implements Crac {
 
     @Override
     public Set<VoltageCnec> getVoltageCnecs(State state) {
-        return voltageCnecs.values().stream()
-            .filter(cnec -> cnec.getState().equals(state))
-            .collect(Collectors.toSet());
+        return new HashSet<>(getVoltageCnecsPerState().getOrDefault(state, Collections.emptySet()));
     }
 
     @Override
@@ -573,6 +573,7 @@ public class CracImpl extends AbstractIdentifiable<Crac> implements Crac {
         flowCnecsToRemove.forEach(flowCnecToRemove ->
             flowCnecs.remove(flowCnecToRemove.getId())
         );
+        invalidateFlowCnecIndexes();
         safeRemoveNetworkElements(networkElementsToRemove);
         safeRemoveStates(statesToRemove);
     }
@@ -591,6 +592,7 @@ public class CracImpl extends AbstractIdentifiable<Crac> implements Crac {
         angleCnecsToRemove.forEach(angleCnecToRemove ->
             angleCnecs.remove(angleCnecToRemove.getId())
         );
+        invalidateAngleCnecIndexes();
         safeRemoveNetworkElements(networkElementsToRemove);
         safeRemoveStates(statesToRemove);
     }
@@ -608,20 +610,84 @@ public class CracImpl extends AbstractIdentifiable<Crac> implements Crac {
         voltageCnecsToRemove.forEach(voltageCnecToRemove ->
             voltageCnecs.remove(voltageCnecToRemove.getId())
         );
+        invalidateVoltageCnecIndexes();
         safeRemoveNetworkElements(networkElementsToRemove);
         safeRemoveStates(statesToRemove);
     }
 
     void addFlowCnec(FlowCnec flowCnec) {
         flowCnecs.put(flowCnec.getId(), flowCnec);
+        invalidateFlowCnecIndexes();
     }
 
     void addAngleCnec(AngleCnec angleCnec) {
         angleCnecs.put(angleCnec.getId(), angleCnec);
+        invalidateAngleCnecIndexes();
     }
 
     void addVoltageCnec(VoltageCnec voltageCnec) {
         voltageCnecs.put(voltageCnec.getId(), voltageCnec);
+        invalidateVoltageCnecIndexes();
+    }
+
+    private Map<State, Set<FlowCnec>> getFlowCnecsPerState() {
+        Map<State, Set<FlowCnec>> index = flowCnecsPerState;
+        if (index == null) {
+            index = indexPerState(flowCnecs.values());
+            flowCnecsPerState = index;
+        }
+        return index;
+    }
+
+    private Map<State, Set<AngleCnec>> getAngleCnecsPerState() {
+        Map<State, Set<AngleCnec>> index = angleCnecsPerState;
+        if (index == null) {
+            index = indexPerState(angleCnecs.values());
+            angleCnecsPerState = index;
+        }
+        return index;
+    }
+
+    private Map<State, Set<VoltageCnec>> getVoltageCnecsPerState() {
+        Map<State, Set<VoltageCnec>> index = voltageCnecsPerState;
+        if (index == null) {
+            index = indexPerState(voltageCnecs.values());
+            voltageCnecsPerState = index;
+        }
+        return index;
+    }
+
+    private static <T extends Cnec<?>> Map<State, Set<T>> indexPerState(Collection<T> cnecs) {
+        Map<State, Set<T>> index = new HashMap<>();
+        cnecs.forEach(cnec -> index.computeIfAbsent(cnec.getState(), state -> new HashSet<>()).add(cnec));
+        return index;
+    }
+
+    private Map<String, Set<Cnec<?>>> getCnecsPerNetworkElement() {
+        Map<String, Set<Cnec<?>>> index = cnecsPerNetworkElement;
+        if (index == null) {
+            Map<String, Set<Cnec<?>>> newIndex = new HashMap<>();
+            getCnecs().forEach(cnec -> cnec.getNetworkElements().forEach(networkElement ->
+                newIndex.computeIfAbsent(((NetworkElement) networkElement).getId(), id -> new HashSet<>()).add(cnec)));
+            index = newIndex;
+            cnecsPerNetworkElement = index;
+        }
+        return index;
+    }
+
+    private void invalidateFlowCnecIndexes() {
+        flowCnecsPerState = null;
+        cnecsPerNetworkElement = null;
+    }
+
+    private void invalidateAngleCnecIndexes() {
+        angleCnecsPerState = null;
+        cnecsPerNetworkElement = null;
+    }
+
+    private void invalidateVoltageCnecIndexes() {
+        voltageCnecsPerState = null;
+        cnecsPerNetworkElement = null;
     }
 
     // endregion
@@ -738,22 +804,10 @@ public class CracImpl extends AbstractIdentifiable<Crac> implements Crac {
 
     @Override
     public Set<RangeAction<?>> getRangeActions(State state, UsageMethod... usageMethods) {
-        Set<RangeAction<?>> pstRangeActionsSet = pstRangeActions.values().stream()
-                .filter(rangeAction -> Arrays.stream(usageMethods).anyMatch(usageMethod -> rangeAction.getUsageMethod(state).equals(usageMethod)))
-                .collect(Collectors.toSet());
-        Set<RangeAction<?>> hvdcRangeActionsSet = hvdcRangeActions.values().stream()
-                .filter(rangeAction -> Arrays.stream(usageMethods).anyMatch(usageMethod -> rangeAction.getUsageMethod(state).equals(usageMethod)))
-                .collect(Collectors.toSet());
-        Set<RangeAction<?>> injectionRangeActionSet = injectionRangeActions.values().stream()
-                .filter(rangeAction -> Arrays.stream(usageMethods).anyMatch(usageMethod -> rangeAction.getUsageMethod(state).equals(usageMethod)))
-                .collect(Collectors.toSet());
-        Set<RangeAction<?>> counterTradeRangeActionSet = counterTradeRangeActions.values().stream()
-            .filter(rangeAction -> Arrays.stream(usageMethods).anyMatch(usageMethod -> rangeAction.getUsageMethod(state).equals(usageMethod)))
-            .collect(Collectors.toSet());
-        Set<RangeAction<?>> rangeActionsSet = new HashSet<>(pstRangeActionsSet);
-        rangeActionsSet.addAll(hvdcRangeActionsSet);
-        rangeActionsSet.addAll(injectionRangeActionSet);
-        rangeActionsSet.addAll(counterTradeRangeActionSet);
+        Map<UsageMethod, Set<RangeAction<?>>> rangeActionsPerUsageMethod = rangeActionsPerStateAndUsageMethod.computeIfAbsent(state,
+            s -> indexPerUsageMethod(getRangeActions(), s));
+        Set<RangeAction<?>> rangeActionsSet = new HashSet<>();
+        Arrays.stream(usageMethods).distinct().forEach(usageMethod -> rangeActionsSet.addAll(rangeActionsPerUsageMethod.getOrDefault(usageMethod, Collections.emptySet())));
         return rangeActionsSet;
     }
 
@@ -796,6 +850,7 @@ public class CracImpl extends AbstractIdentifiable<Crac> implements Crac {
         Set<String> associatedStatesIds = getAssociatedStates(rangeActionToRemove).stream().map(State::getId).collect(Collectors.toSet());
 
         pstRangeActions.remove(id);
+        rangeActionsPerStateAndUsageMethod.clear();
 
         safeRemoveNetworkElements(associatedNetworkElementsIds);
         safeRemoveStates(associatedStatesIds);
@@ -812,6 +867,7 @@ public class CracImpl extends AbstractIdentifiable<Crac> implements Crac {
         Set<String> associatedStatesIds = getAssociatedStates(rangeActionToRemove).stream().map(State::getId).collect(Collectors.toSet());
 
         hvdcRangeActions.remove(id);
+        rangeActionsPerStateAndUsageMethod.clear();
 
         safeRemoveNetworkElements(associatedNetworkElementsIds);
         safeRemoveStates(associatedStatesIds);
@@ -829,6 +885,7 @@ public class CracImpl extends AbstractIdentifiable<Crac> implements Crac {
         Set<String> associatedStatesIds = getAssociatedStates(rangeActionToRemove).stream().map(State::getId).collect(Collectors.toSet());
 
         injectionRangeActions.remove(id);
+        rangeActionsPerStateAndUsageMethod.clear();
 
         safeRemoveNetworkElements(associatedNetworkElementsIds);
         safeRemoveStates(associatedStatesIds);
@@ -836,18 +893,26 @@ public class CracImpl extends AbstractIdentifiable<Crac> implements Crac {
 
     void addPstRangeAction(PstRangeAction pstRangeAction) {
         pstRangeActions.put(pstRangeAction.getId(), pstRangeAction);
+        listenToUsageRulesChanges(pstRangeAction);
+        rangeActionsPerStateAndUsageMethod.clear();
     }
 
     void addHvdcRangeAction(HvdcRangeAction hvdcRangeAction) {
         hvdcRangeActions.put(hvdcRangeAction.getId(), hvdcRangeAction);
+        listenToUsageRulesChanges(hvdcRangeAction);
+        rangeActionsPerStateAndUsageMethod.clear();
     }
 
     void addInjectionRangeAction(InjectionRangeAction injectionRangeAction) {
         injectionRangeActions.put(injectionRangeAction.getId(), injectionRangeAction);
+        listenToUsageRulesChanges(injectionRangeAction);
+        rangeActionsPerStateAndUsageMethod.clear();
     }
 
     void addCounterTradeRangeAction(CounterTradeRangeAction counterTradeRangeAction) {
         counterTradeRangeActions.put(counterTradeRangeAction.getId(), counterTradeRangeAction);
+        listenToUsageRulesChanges(counterTradeRangeAction);
+        rangeActionsPerStateAndUsageMethod.clear();
     }
 
     // endregion
@@ -862,9 +927,11 @@ public class CracImpl extends AbstractIdentifiable<Crac> implements Crac {
 
     @Override
     public Set<NetworkAction> getNetworkActions(State state, UsageMethod... usageMethods) {
-        return networkActions.values().stream()
-            .filter(networkAction -> Arrays.stream(usageMethods).anyMatch(usageMethod -> networkAction.getUsageMethod(state).equals(usageMethod)))
-            .collect(Collectors.toSet());
+        Map<UsageMethod, Set<NetworkAction>> networkActionsPerUsageMethod = networkActionsPerStateAndUsageMethod.computeIfAbsent(state,
+            s -> indexPerUsageMethod(networkActions.values(), s));
+        Set<NetworkAction> networkActionsSet = new HashSet<>();
+        Arrays.stream(usageMethods).distinct().forEach(usageMethod -> networkActionsSet.addAll(networkActionsPerUsageMethod.getOrDefault(usageMethod, Collections.emptySet())));
+        return networkActionsSet;
     }
 
     @Override
@@ -893,6 +960,7 @@ public class CracImpl extends AbstractIdentifiable<Crac> implements Crac {
         Set<String> associatedStatesIds = getAssociatedStates(networkActionToRemove).stream().map(State::getId).collect(Collectors.toSet());
 
         networkActions.remove(id);
+        networkActionsPerStateAndUsageMethod.clear();
 
         safeRemoveNetworkElements(associatedNetworkElementsIds);
         safeRemoveStates(associatedStatesIds);
@@ -900,6 +968,23 @@ public class CracImpl extends AbstractIdentifiable<Crac> implements Crac {
 
     void addNetworkAction(NetworkAction networkAction) {
         networkActions.put(networkAction.getId(), networkAction);
+        listenToUsageRulesChanges(networkAction);
+        networkActionsPerStateAndUsageMethod.clear();
+    }
+
+    private static <T extends RemedialAction<?>> Map<UsageMethod, Set<T>> indexPerUsageMethod(Collection<T> remedialActions, State state) {
+        Map<UsageMethod, Set<T>> index = new EnumMap<>(UsageMethod.class);
+        remedialActions.forEach(remedialAction -> index.computeIfAbsent(remedialAction.getUsageMethod(state), usageMethod -> new HashSet<>()).add(remedialAction));
+        return index;
+    }
+
+    private void listenToUsageRulesChanges(RemedialAction<?> remedialAction) {
+        if (remedialAction instanceof AbstractRemedialAction<?> abstractRemedialAction) {
+            abstractRemedialAction.setUsageRulesChangeListener(() -> {
+                rangeActionsPerStateAndUsageMethod.clear();
+                networkActionsPerStateAndUsageMethod.clear();
+            });
+        }
     }
     // endregion
 
@@ -121,44 +121,16 @@ public class VoltageCnecImpl extends AbstractCnec<VoltageCnec> implements Voltag
     public double computeMargin(Network network, Unit unit) {
         unit.checkPhysicalParameter(getPhysicalParameter());
         VoltageCnecValue voltageValue = computeValue(network, unit);
-        double marginLowerBound = voltageValue.minValue() - getLowerBound(unit).orElse(Double.NEGATIVE_INFINITY);
-        double marginUpperBound = getUpperBound(unit).orElse(Double.POSITIVE_INFINITY) - voltageValue.maxValue();
-        return Math.min(marginLowerBound, marginUpperBound);
-    }
-
-    private double computeMargin(VoltageCnecValue voltageValue, Unit unit) {
-        double marginLowerBound = voltageValue.minValue() - getLowerBound(unit).orElse(Double.NEGATIVE_INFINITY);
-        double marginUpperBound = getUpperBound(unit).orElse(Double.POSITIVE_INFINITY) - voltageValue.maxValue();
-        return Math.min(marginLowerBound, marginUpperBound);
+        return AngleAndVoltageCnecEvaluator.computeMargin(voltageValue.minValue(), voltageValue.maxValue(),
+            getLowerBound(unit).orElse(Double.NEGATIVE_INFINITY), getUpperBound(unit).orElse(Double.POSITIVE_INFINITY));
     }
 
     public SecurityStatus computeSecurityStatus(Network network, Unit unit) {
         VoltageCnecValue voltageValue = computeValue(network, unit);
-
-        if (computeMargin(voltageValue, unit) < 0) {
-            boolean highVoltageConstraints = false;
-            boolean lowVoltageConstraints = false;
-
-            double marginLowerBound = voltageValue.minValue() - getLowerBound(unit).orElse(Double.NEGATIVE_INFINITY);
-            double marginUpperBound = getUpperBound(unit).orElse(Double.POSITIVE_INFINITY) - voltageValue.maxValue();
-
-            if (marginUpperBound < 0) {
-                highVoltageConstraints = true;
-            }
-            if (marginLowerBound < 0) {
-                lowVoltageConstraints = true;
-            }
-
-            if (highVoltageConstraints && lowVoltageConstraints) {
-                return SecurityStatus.HIGH_AND_LOW_CONSTRAINTS;
-            } else if (highVoltageConstraints) {
-                return SecurityStatus.HIGH_CONSTRAINT;
-            } else {
-                return SecurityStatus.LOW_CONSTRAINT;
-            }
-        } else {
-            return SecurityStatus.SECURE;
-        }
+        double lowerBound = getLowerBound(unit).orElse(Double.NEGATIVE_INFINITY);
+        double upperBound = getUpperBound(unit).orElse(Double.POSITIVE_INFINITY);
+        // the constraints of a VoltageCnec are detected on its bounds
+        return AngleAndVoltageCnecEvaluator.computeSecurityStatus(voltageValue.minValue(), voltageValue.maxValue(), lowerBound, upperBound, lowerBound, upperBound);
     }
 
     @Override
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.openrao.data.crac.impl;
+
+import com.powsybl.iidm.network.Bus;
+import com.powsybl.iidm.network.BusbarSection;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.VoltageLevel;
+import com.powsybl.openrao.commons.OpenRaoException;
+import com.powsybl.openrao.commons.Unit;
+import com.powsybl.openrao.data.crac.api.Crac;
+import com.powsybl.openrao.data.crac.api.InstantKind;
+import com.powsybl.openrao.data.crac.api.cnec.AngleCnec;
+import com.powsybl.openrao.data.crac.api.cnec.Cnec;
+import com.powsybl.openrao.data.crac.api.cnec.VoltageCnec;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class AngleAndVoltageCnecEvaluatorTest {
+    private static final String PREVENTIVE_INSTANT_ID = "preventive";
+    private static final double DOUBLE_TOLERANCE = 1e-3;
+
+    private Crac crac;
+
+    @BeforeEach
+    public void setUp() {
+        crac = new CracImplFactory().create("cracId")
+            .newInstant(PREVENTIVE_INSTANT_ID, InstantKind.PREVENTIVE);
+    }
+
+    private AngleCnec addAngleCnec(String id, String exportingNetworkElement, double min, double max) {
+        return crac.newAngleCnec()
+            .withId(id)
+            .withExportingNetworkElement(exportingNetworkElement)
+            .withImportingNetworkElement("importing-VL")
+            .withInstant(PREVENTIVE_INSTANT_ID)
+            .withReliabilityMargin(5.)
+            .newThreshold().withUnit(Unit.DEGREE).withMin(min).withMax(max).add()
+            .add();
+    }
+
+    private VoltageCnec addVoltageCnec(String id, String networkElement, double min, double max) {
+        return crac.newVoltageCnec()
+            .withId(id)
+            .withNetworkElement(networkElement)
+            .withInstant(PREVENTIVE_INSTANT_ID)
+            .withReliabilityMargin(10.)
+            .newThreshold().withUnit(Unit.KILOVOLT).withMin(min).withMax(max).add()
+            .add();
+    }
+
+    @Test
+    void testSameResultsAsVoltageCnecs() {
+        VoltageCnec secureCnec = addVoltageCnec("secure", "VL1", 200., 500.);
+        VoltageCnec highCnec = addVoltageCnec("high", "VL2", 200., 500.);
+        VoltageCnec lowCnec = addVoltageCnec("low", "VL3", 200., 500.);
+        Network network = Mockito.mock(Network.class);
+        mockBusVoltage(network, "VL1", 400.);
+        mockBusVoltage(network, "VL2", 495.);
+        mockBusVoltage(network, "VL3", 100.);
+
+        AngleAndVoltageCnecEvaluator evaluator = new AngleAndVoltageCnecEvaluator(List.of(secureCnec, highCnec, lowCnec), Unit.KILOVOLT);
+        evaluator.evaluate(network);
+
+        for (VoltageCnec cnec : List.of(secureCnec, highCnec, lowCnec)) {
+            assertEquals(((VoltageCnecValue) cnec.computeValue(network, Unit.KILOVOLT)).minValue(), ((VoltageCnecValue) evaluator.getValue(cnec)).minValue(), DOUBLE_TOLERANCE);
+            assertEquals(cnec.computeMargin(network, Unit.KILOVOLT), evaluator.getMargin(cnec), DOUBLE_TOLERANCE);
+            assertEquals(cnec.computeSecurityStatus(network, Unit.KILOVOLT), evaluator.getSecurityStatus(cnec));
+        }
+        assertEquals(Cnec.SecurityStatus.SECURE, evaluator.getSecurityStatus(secureCnec));
+        assertEquals(Cnec.SecurityStatus.HIGH_CONSTRAINT, evaluator.getSecurityStatus(highCnec));
+        assertEquals(Cnec.SecurityStatus.LOW_CONSTRAINT, evaluator.getSecurityStatus(lowCnec));
+        assertEquals(-5., evaluator.getMargin(highCnec), DOUBLE_TOLERANCE);
+        assertTrue(evaluator.hasNegativeMargin());
+
+        // values are only read again from the network when it is evaluated again
+        mockBusVoltage(network, "VL2", 400.);
+        mockBusVoltage(network, "VL3", 400.);
+        assertEquals(Cnec.SecurityStatus.HIGH_CONSTRAINT, evaluator.getSecurityStatus(highCnec));
+        evaluator.evaluate(network);
+        assertFalse(evaluator.hasNegativeMargin());
+    }
+
+    @Test
+    void testSameResultsAsAngleCnecs() {
+        // the bounds are shrunk by the reliability margin, whereas the constraints are detected on the thresholds
+        AngleCnec secureCnec = addAngleCnec("secure", "VL1", -10., 10.);
+        AngleCnec inReliabilityMarginCnec = addAngleCnec("in-reliability-margin", "VL2", -10., 10.);
+        AngleCnec highCnec = addAngleCnec("high", "VL3", -10., 10.);
+        AngleCnec lowCnec = addAngleCnec("low", "VL4", -10., 10.);
+        // with several thresholds, the most restrictive one is used
+        AngleCnec severalThresholdsCnec = crac.newAngleCnec()
+            .withId("several-thresholds")
+            .withExportingNetworkElement("VL2")
+            .withImportingNetworkElement("importing-VL")
+            .withInstant(PREVENTIVE_INSTANT_ID)
+            .withReliabilityMargin(5.)
+            .newThreshold().withUnit(Unit.DEGREE).withMin(-10.).withMax(10.).add()
+            .newThreshold().withUnit(Unit.DEGREE).withMax(7.).add()
+            .add();
+        List<AngleCnec> cnecs = List.of(secureCnec, inReliabilityMarginCnec, highCnec, lowCnec, severalThresholdsCnec);
+        Network network = Mockito.mock(Network.class);
+        Mockito.when(network.getBusBreakerView()).thenReturn(Mockito.mock(Network.BusBreakerView.class));
+        mockBusAngle(network, "importing-VL", 0.);
+        mockBusAngle(network, "VL1", 2.);
+        mockBusAngle(network, "VL2", 8.);
+        mockBusAngle(network, "VL3", 12.);
+        mockBusAngle(network, "VL4", -12.);
+
+        AngleAndVoltageCnecEvaluator evaluator = new AngleAndVoltageCnecEvaluator(cnecs, Unit.DEGREE);
+        evaluator.evaluate(network);
+
+        for (AngleCnec cnec : cnecs) {
+            assertEquals(((AngleCnecValue) cnec.computeValue(network, Unit.DEGREE)).value(), ((AngleCnecValue) evaluator.getValue(cnec)).value(), DOUBLE_TOLERANCE);
+            assertEquals(cnec.computeMargin(network, Unit.DEGREE), evaluator.getMargin(cnec), DOUBLE_TOLERANCE);
+            assertEquals(cnec.computeSecurityStatus(network, Unit.DEGREE), evaluator.getSecurityStatus(cnec));
+        }
+        assertEquals(3., evaluator.getMargin(secureCnec), DOUBLE_TOLERANCE);
+        assertEquals(Cnec.SecurityStatus.SECURE, evaluator.getSecurityStatus(secureCnec));
+        // the threshold itself is not exceeded
+        assertEquals(-3., evaluator.getMargin(inReliabilityMarginCnec), DOUBLE_TOLERANCE);
+        assertEquals(Cnec.SecurityStatus.LOW_CONSTRAINT, evaluator.getSecurityStatus(inReliabilityMarginCnec));
+        assertEquals(-7., evaluator.getMargin(highCnec), DOUBLE_TOLERANCE);
+        assertEquals(Cnec.SecurityStatus.HIGH_CONSTRAINT, evaluator.getSecurityStatus(highCnec));
+        assertEquals(-7., evaluator.getMargin(lowCnec), DOUBLE_TOLERANCE);
+        assertEquals(Cnec.SecurityStatus.LOW_CONSTRAINT, evaluator.getSecurityStatus(lowCnec));
+        assertEquals(-6., evaluator.getMargin(severalThresholdsCnec), DOUBLE_TOLERANCE);
+        assertEquals(Cnec.SecurityStatus.HIGH_CONSTRAINT, evaluator.getSecurityStatus(severalThresholdsCnec));
+    }
+
+    @Test
+    void testErrors() {
+        VoltageCnec cnec = addVoltageCnec("cnec", "VL1", 200., 500.);
+        VoltageCnec otherCnec = addVoltageCnec("other-cnec", "VL2", 200., 500.);
+        Set<VoltageCnec> cnecs = Set.of(cnec);
+        assertThrows(OpenRaoException.class, () -> new AngleAndVoltageCnecEvaluator(cnecs, Unit.DEGREE));
+
+        AngleAndVoltageCnecEvaluator evaluator = new AngleAndVoltageCnecEvaluator(cnecs, Unit.KILOVOLT);
+        OpenRaoException exception = assertThrows(OpenRaoException.class, () -> evaluator.getMargin(cnec));
+        assertEquals("The CNECs must be evaluated on a network first", exception.getMessage());
+
+        Network network = Mockito.mock(Network.class);
+        mockBusVoltage(network, "VL1", 400.);
+        evaluator.evaluate(network);
+        exception = assertThrows(OpenRaoException.class, () -> evaluator.getMargin(otherCnec));
+        assertEquals("Cnec other-cnec is not handled by this evaluator", exception.getMessage());
+    }
+
+    private static void mockBusVoltage(Network network, String elementId, double voltage) {
+        VoltageLevel voltageLevel = Mockito.mock(VoltageLevel.class);
+        Mockito.when(network.getVoltageLevel(elementId)).thenReturn(voltageLevel);
+        BusbarSection busbarSection = Mockito.mock(BusbarSection.class);
+        Mockito.when(network.getBusbarSection(elementId)).thenReturn(busbarSection);
+        Mockito.when(busbarSection.getV()).thenReturn(voltage);
+    }
+
+    private static void mockBusAngle(Network network, String elementId, double angle) {
+        VoltageLevel voltageLevel = Mockito.mock(VoltageLevel.class);
+        Mockito.when(network.getVoltageLevel(elementId)).thenReturn(voltageLevel);
+        VoltageLevel.BusView busView = Mockito.mock(VoltageLevel.BusView.class);
+        Mockito.when(voltageLevel.getBusView()).thenReturn(busView);
+        Bus bus = Mockito.mock(Bus.class);
+        Mockito.when(bus.getAngle()).thenReturn(angle);
+        Mockito.when(busView.getBusStream()).thenAnswer(invocation -> Stream.of(bus));
+    }
+}
@@ -1185,6 +1185,36 @@ class CracImplTest {
         state2 = crac.getState(contingency2, curativeInstant);
     }
 
+    @Test
+    void testPerStateIndexesAreUpdatedWhenCracIsModified() {
+        setUpCracWithRAs();
+        FlowCnec cnec = crac.getFlowCnec("cnec");
+        assertEquals(Set.of(cnec), crac.getFlowCnecs(state1));
+        assertTrue(crac.getRangeActions(crac.getPreventiveState(), UsageMethod.AVAILABLE).contains(ra1));
+        assertFalse(crac.getRangeActions(state2, UsageMethod.AVAILABLE).contains(ra1));
+
+        // new CNEC on an already indexed state
+        FlowCnec otherCnec = crac.newFlowCnec()
+            .withId("other-cnec")
+            .withNetworkElement("cnec-ne")
+            .withContingency("contingency1")
+            .withInstant(CURATIVE_INSTANT_ID)
+            .withNominalVoltage(220.)
+            .newThreshold().withSide(TwoSides.TWO).withMax(1000.).withUnit(Unit.AMPERE).add()
+            .add();
+        assertEquals(Set.of(cnec, otherCnec), crac.getFlowCnecs(state1));
+        crac.removeFlowCnec("other-cnec");
+        assertEquals(Set.of(cnec), crac.getFlowCnecs(state1));
+
+        // new usage rule on a range action of the CRAC
+        ra1.newOnStateUsageRule().withState(state2).withUsageMethod(UsageMethod.AVAILABLE).add();
+        assertTrue(crac.getRangeActions(state2, UsageMethod.AVAILABLE).contains(ra1));
+
+        // removed range action
+        crac.removePstRangeAction("ra1");
+        assertFalse(crac.getRangeActions(state2, UsageMethod.AVAILABLE).contains(ra1));
+    }
+
     @Test
     void testIsRangeActionAvailableInState() {
         setUpCracWithRAs();
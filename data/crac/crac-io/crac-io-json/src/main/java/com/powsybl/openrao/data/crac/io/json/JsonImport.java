@@ -7,10 +7,17 @@
 
 package com.powsybl.openrao.data.crac.io.json;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.StreamReadFeature;
+import com.fasterxml.jackson.core.json.JsonReadFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.auto.service.AutoService;
 import com.networknt.schema.JsonSchema;
+import com.powsybl.commons.config.PlatformConfig;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.openrao.commons.OpenRaoException;
 import com.powsybl.openrao.data.crac.api.Crac;
@@ -19,13 +26,12 @@ import com.powsybl.openrao.data.crac.api.io.Importer;
 import com.powsybl.openrao.data.crac.api.parameters.CracCreationParameters;
 import com.powsybl.openrao.data.crac.io.json.deserializers.CracDeserializer;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.UncheckedIOException;
-import java.nio.charset.StandardCharsets;
 import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -33,7 +39,6 @@ import static com.powsybl.commons.json.JsonUtil.createObjectMapper;
 import static com.powsybl.openrao.commons.logs.OpenRaoLoggerProvider.TECHNICAL_LOGS;
 import static com.powsybl.openrao.data.crac.io.json.JsonSchemaProvider.getSchema;
 import static com.powsybl.openrao.data.crac.io.json.JsonSchemaProvider.getValidationErrors;
-import static com.powsybl.openrao.data.crac.io.json.JsonSchemaProvider.isCracFile;
 
 /**
  * @author Viktor Terrier {@literal <viktor.terrier at rte-france.com>}
@@ -41,6 +46,42 @@ import static com.powsybl.openrao.data.crac.io.json.JsonSchemaProvider.isCracFil
  */
 @AutoService(Importer.class)
 public class JsonImport implements Importer {
+    private static final String MODULE_NAME = "json-crac-importer";
+    private static final String VALIDATE_SCHEMA_DURING_IMPORT = "validate-schema-during-import";
+    private static final JsonFactory JSON_FACTORY = JsonFactory.builder()
+        .disable(StreamReadFeature.AUTO_CLOSE_SOURCE)
+        .enable(JsonReadFeature.ALLOW_NON_NUMERIC_NUMBERS)
+        .build();
+    private static final ObjectMapper TREE_MAPPER = new ObjectMapper(JSON_FACTORY);
+    private static final Pattern VERSION_PATTERN = Pattern.compile("^([1-9]\\d*)\\.(\\d+)$");
+
+    private final boolean validateSchemaDuringImport;
+
+    /**
+     * Used by the {@link java.util.ServiceLoader}: the "validate-schema-during-import" property of the
+     * "json-crac-importer" module of the platform configuration tells where the schema is validated.
+     */
+    public JsonImport() {
+        this(PlatformConfig.defaultConfig());
+    }
+
+    public JsonImport(PlatformConfig platformConfig) {
+        this(platformConfig.getOptionalModuleConfig(MODULE_NAME)
+            .map(config -> config.getBooleanProperty(VALIDATE_SCHEMA_DURING_IMPORT, false))
+            .orElse(false));
+    }
+
+    /**
+     * @param validateSchemaDuringImport if true, {@link #exists} only checks the header of the JSON file and the
+     *                                   validation against the schema of the CRAC version is done while importing
+     *                                   the CRAC, so that the file is only read once. Otherwise, {@link #exists}
+     *                                   still builds the whole JSON document in memory to validate it, so this mode
+     *                                   is required to avoid holding a tree of the whole CRAC
+     */
+    public JsonImport(boolean validateSchemaDuringImport) {
+        this.validateSchemaDuringImport = validateSchemaDuringImport;
+    }
+
     @Override
     public String getFormat() {
         return "JSON";
@@ -51,19 +92,23 @@ public class JsonImport implements Importer {
         if (!filename.endsWith(".json")) {
             return false;
         }
-        try {
-            ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(inputStream.readAllBytes());
-            if (isCracFile(byteArrayInputStream)) {
-                byteArrayInputStream.reset();
-                Version cracVersion = readVersion(byteArrayInputStream);
-                JsonSchema jsonSchema = getSchema(cracVersion);
-                List<String> validationError = getValidationErrors(jsonSchema, byteArrayInputStream);
-                if (validationError.isEmpty()) {
-                    return true;
-                }
-                throw new OpenRaoException("JSON file is not a valid CRAC v%s.%s. Reasons: %s".formatted(cracVersion.majorVersion(), cracVersion.minorVersion(), String.join("; ", validationError)));
+        try (JsonParser jsonParser = JSON_FACTORY.createParser(inputStream)) {
+            // when the schema is validated here, the fields are gathered in a tree while the document is streamed,
+            // so that it is only read once
+            ObjectNode cracJsonNode = validateSchemaDuringImport ? null : TREE_MAPPER.createObjectNode();
+            Optional<Version> cracVersion = readHeader(jsonParser, cracJsonNode);
+            if (cracVersion.isEmpty()) {
+                return false;
             }
-            return false;
+            if (validateSchemaDuringImport) {
+                return true;
+            }
+            JsonSchema jsonSchema = getSchema(cracVersion.get());
+            List<String> validationError = getValidationErrors(jsonSchema, cracJsonNode);
+            if (validationError.isEmpty()) {
+                return true;
+            }
+            throw new OpenRaoException("JSON file is not a valid CRAC v%s.%s. Reasons: %s".formatted(cracVersion.get().majorVersion(), cracVersion.get().minorVersion(), String.join("; ", validationError)));
         } catch (IOException e) {
             TECHNICAL_LOGS.debug("JSON file could not be processed as CRAC. Reason: {}", e.getMessage());
             return false;
@@ -78,7 +123,7 @@ public class JsonImport implements Importer {
         try {
             ObjectMapper objectMapper = createObjectMapper();
             SimpleModule module = new SimpleModule();
-            module.addDeserializer(Crac.class, new CracDeserializer(cracCreationParameters.getCracFactory(), network));
+            module.addDeserializer(Crac.class, new CracDeserializer(cracCreationParameters.getCracFactory(), network, validateSchemaDuringImport));
             objectMapper.registerModule(module);
             Crac crac = objectMapper.readValue(inputStream, Crac.class);
             CracCreationContext cracCreationContext = new JsonCracCreationContext(true, crac, network.getNameOrId());
@@ -95,12 +140,51 @@ public class JsonImport implements Importer {
         }
     }
 
-    private static Version readVersion(ByteArrayInputStream cracByteArrayInputStream) {
-        String cracContent = new String(cracByteArrayInputStream.readAllBytes(), StandardCharsets.UTF_8);
-        cracByteArrayInputStream.reset();
-        Pattern versionPattern = Pattern.compile("\"version\"\\s?:\\s?\"([1-9]\\d*)\\.(\\d+)\"");
-        Matcher versionMatcher = versionPattern.matcher(cracContent);
-        versionMatcher.find();
-        return new Version(Integer.parseInt(versionMatcher.group(1)), Integer.parseInt(versionMatcher.group(2)));
+    /**
+     * Streams the top-level fields of the JSON document until the fields of a minimum viable CRAC (type, version,
+     * id and name) have been read. If cracJsonNode is not null, all the top-level fields of the document are read
+     * and added to it; otherwise the rest of the document is not read.
+     *
+     * @return the version of the CRAC, or an empty optional if the document is not a JSON CRAC
+     */
+    private static Optional<Version> readHeader(JsonParser jsonParser, ObjectNode cracJsonNode) throws IOException {
+        if (jsonParser.nextToken() != JsonToken.START_OBJECT) {
+            return Optional.empty();
+        }
+        boolean isCrac = false;
+        boolean hasId = false;
+        boolean hasName = false;
+        String version = null;
+        while ((cracJsonNode != null || !(isCrac && version != null && hasId && hasName)) && jsonParser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = jsonParser.currentName();
+            String textValue = jsonParser.nextToken() == JsonToken.VALUE_STRING ? jsonParser.getText() : null;
+            switch (fieldName) {
+                case JsonSerializationConstants.TYPE -> {
+                    isCrac = JsonSerializationConstants.CRAC_TYPE.equals(textValue);
+                    if (!isCrac) {
+                        return Optional.empty();
+                    }
+                }
+                case JsonSerializationConstants.VERSION -> version = textValue;
+                case JsonSerializationConstants.ID -> hasId = textValue != null;
+                case JsonSerializationConstants.NAME -> hasName = textValue != null;
+                default -> {
+                    // other fields are not part of the header
+                }
+            }
+            if (cracJsonNode != null) {
+                cracJsonNode.set(fieldName, TREE_MAPPER.readTree(jsonParser));
+            } else {
+                jsonParser.skipChildren();
+            }
+        }
+        if (!isCrac || version == null || !hasId || !hasName) {
+            return Optional.empty();
+        }
+        Matcher versionMatcher = VERSION_PATTERN.matcher(version);
+        if (!versionMatcher.matches()) {
+            return Optional.empty();
+        }
+        return Optional.of(new Version(Integer.parseInt(versionMatcher.group(1)), Integer.parseInt(versionMatcher.group(2))));
     }
 }
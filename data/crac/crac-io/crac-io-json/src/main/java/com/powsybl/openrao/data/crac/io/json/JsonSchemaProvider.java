@@ -8,6 +8,7 @@
 package com.powsybl.openrao.data.crac.io.json;
 
 import com.fasterxml.jackson.core.json.JsonReadFeature;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.networknt.schema.JsonSchema;
 import com.networknt.schema.JsonSchemaFactory;
@@ -30,17 +31,16 @@ public final class JsonSchemaProvider {
 
     private static final String SCHEMAS_DIRECTORY = "/schemas/crac/";
     private static final String SCHEMAS_NAME_PATTERN = "crac-v%s.%s.json";
-    private static final String MINIMUM_VIABLE_CRAC_SCHEMA = "minimum-viable-crac.json";
     private static final JsonSchemaFactory SCHEMA_FACTORY = JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V202012);
     private static final SchemaValidatorsConfig CONFIG = SchemaValidatorsConfig.builder().locale(Locale.UK).build();
     private static final ObjectMapper MAPPER = new ObjectMapper().configure(JsonReadFeature.ALLOW_NON_NUMERIC_NUMBERS.mappedFeature(), true);
 
     public static List<String> getValidationErrors(JsonSchema schema, InputStream cracInputStream) throws IOException {
-        return schema.validate(MAPPER.readTree(cracInputStream)).stream().map(ValidationMessage::getMessage).toList();
+        return getValidationErrors(schema, MAPPER.readTree(cracInputStream));
     }
 
-    public static boolean isCracFile(InputStream cracInputStream) throws IOException {
-        return getValidationErrors(getSchema(getSchemaAsStream(MINIMUM_VIABLE_CRAC_SCHEMA)), cracInputStream).isEmpty();
+    public static List<String> getValidationErrors(JsonSchema schema, JsonNode cracJsonNode) {
+        return schema.validate(cracJsonNode).stream().map(ValidationMessage::getMessage).toList();
     }
 
     public static JsonSchema getSchema(Version version) {
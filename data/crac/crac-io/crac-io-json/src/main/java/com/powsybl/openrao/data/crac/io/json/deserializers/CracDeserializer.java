@@ -10,13 +10,16 @@ package com.powsybl.openrao.data.crac.io.json.deserializers;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.openrao.commons.OpenRaoException;
 import com.powsybl.openrao.data.crac.io.json.ExtensionsHandler;
+import com.powsybl.openrao.data.crac.io.json.JsonSchemaProvider;
 import com.powsybl.openrao.data.crac.io.json.JsonSerializationConstants;
+import com.powsybl.openrao.data.crac.io.json.Version;
 import com.powsybl.openrao.data.crac.api.Crac;
 import com.powsybl.openrao.data.crac.api.CracFactory;
 import com.powsybl.openrao.data.crac.api.InstantKind;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.powsybl.commons.extensions.Extension;
 import com.powsybl.commons.json.JsonUtil;
@@ -42,18 +45,35 @@ public class CracDeserializer extends JsonDeserializer<Crac> {
 
     private final boolean headerCheckOnly;
 
+    private final boolean validateSchema;
+
     public CracDeserializer(boolean headerCheckOnly) {
         this.headerCheckOnly = headerCheckOnly;
+        this.validateSchema = false;
     }
 
     public CracDeserializer(CracFactory cracFactory, Network network) {
+        this(cracFactory, network, false);
+    }
+
+    /**
+     * @param validateSchema if true, the JSON CRAC is validated against the schema of its version before being
+     *                       deserialized, from the same read of the input
+     */
+    public CracDeserializer(CracFactory cracFactory, Network network, boolean validateSchema) {
         this.cracFactory = cracFactory;
         this.network = network;
         this.headerCheckOnly = false;
+        this.validateSchema = validateSchema;
     }
 
     @Override
-    public Crac deserialize(JsonParser jsonParser, DeserializationContext deserializationContext) throws IOException {
+    public Crac deserialize(JsonParser inputJsonParser, DeserializationContext deserializationContext) throws IOException {
+
+        JsonParser jsonParser = inputJsonParser;
+        if (validateSchema) {
+            jsonParser = validateAndTraverse(inputJsonParser);
+        }
 
         // check header
         String version = isValid(jsonParser);
@@ -170,6 +190,24 @@ public class CracDeserializer extends JsonDeserializer<Crac> {
         return version;
     }
 
+    private static JsonParser validateAndTraverse(JsonParser jsonParser) throws IOException {
+        JsonNode cracJsonNode = jsonParser.readValueAsTree();
+        JsonNode versionNode = cracJsonNode.get(JsonSerializationConstants.VERSION);
+        if (versionNode == null || !versionNode.isTextual()) {
+            throw new OpenRaoException(String.format("%s must contain a %s in its second field", JsonSerializationConstants.CRAC_TYPE, JsonSerializationConstants.VERSION));
+        }
+        String version = versionNode.asText();
+        int majorVersion = JsonSerializationConstants.getPrimaryVersionNumber(version);
+        int minorVersion = JsonSerializationConstants.getSubVersionNumber(version);
+        List<String> validationErrors = JsonSchemaProvider.getValidationErrors(JsonSchemaProvider.getSchema(new Version(majorVersion, minorVersion)), cracJsonNode);
+        if (!validationErrors.isEmpty()) {
+            throw new OpenRaoException("JSON file is not a valid CRAC v%s.%s. Reasons: %s".formatted(majorVersion, minorVersion, String.join("; ", validationErrors)));
+        }
+        JsonParser treeJsonParser = cracJsonNode.traverse(jsonParser.getCodec());
+        treeJsonParser.nextToken();
+        return treeJsonParser;
+    }
+
     private void scrollJsonUntilField(JsonParser jsonParser, String field) throws IOException {
         while (!jsonParser.getCurrentName().equals(field)) {
             if (jsonParser.nextToken() == JsonToken.END_OBJECT) {
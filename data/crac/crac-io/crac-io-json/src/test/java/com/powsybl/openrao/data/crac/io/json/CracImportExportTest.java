@@ -9,7 +9,10 @@ package com.powsybl.openrao.data.crac.io.json;
 import ch.qos.logback.classic.Logger;
 import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.core.read.ListAppender;
+import com.google.common.jimfs.Configuration;
+import com.google.common.jimfs.Jimfs;
 import com.powsybl.action.*;
+import com.powsybl.commons.config.InMemoryPlatformConfig;
 import com.powsybl.iidm.network.Country;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.iidm.network.TwoSides;
@@ -45,6 +48,7 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.FileSystem;
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Map;
@@ -533,6 +537,32 @@ class CracImportExportTest {
         assertEquals("JSON file is not a valid CRAC v2.5. Reasons: /instants/3/kind: does not have a value in the enumeration [\"PREVENTIVE\", \"OUTAGE\", \"AUTO\", \"CURATIVE\"]; /contingencies/1/networkElementsIds/0: integer found, string expected; /contingencies/1/networkElementsIds/1: integer found, string expected; /contingencies/2: required property 'networkElementsIds' not found", exception.getMessage());
     }
 
+    @Test
+    void testValidateSchemaDuringImport() {
+        JsonImport jsonImport = new JsonImport(true);
+        assertTrue(jsonImport.exists("cracWithErrors.json", CracImportExportTest.class.getResourceAsStream("/cracWithErrors.json")));
+        assertFalse(jsonImport.exists("invalidCrac.json", getClass().getResourceAsStream("/invalidCrac.json")));
+
+        Network network = NetworkImportsUtil.createNetworkForJsonRetrocompatibilityTest();
+        CracCreationContext context = jsonImport.importData(CracImportExportTest.class.getResourceAsStream("/cracWithErrors.json"), new CracCreationParameters(), network, null);
+        assertFalse(context.isCreationSuccessful());
+        assertTrue(context.getCreationReport().toString().contains("JSON file is not a valid CRAC v2.5."));
+
+        context = jsonImport.importData(getClass().getResourceAsStream("/retrocompatibility/v2/crac-v2.5.json"), new CracCreationParameters(), network, null);
+        assertTrue(context.isCreationSuccessful());
+    }
+
+    @Test
+    void testValidateSchemaDuringImportFromConfig() throws IOException {
+        try (FileSystem fileSystem = Jimfs.newFileSystem(Configuration.unix())) {
+            InMemoryPlatformConfig platformConfig = new InMemoryPlatformConfig(fileSystem);
+            assertThrows(OpenRaoException.class, () -> new JsonImport(platformConfig).exists("cracWithErrors.json", CracImportExportTest.class.getResourceAsStream("/cracWithErrors.json")));
+
+            platformConfig.createModuleConfig("json-crac-importer").setStringProperty("validate-schema-during-import", "true");
+            assertTrue(new JsonImport(platformConfig).exists("cracWithErrors.json", CracImportExportTest.class.getResourceAsStream("/cracWithErrors.json")));
+        }
+    }
+
     private static ListAppender<ILoggingEvent> initLogger() {
         Logger logger = (Logger) LoggerFactory.getLogger(TechnicalLogs.class);
         ListAppender<ILoggingEvent> listAppender = new ListAppender<>();
@@ -57,7 +57,7 @@ public final class GlskVirtualHubs {
      */
     public static ZonalData<SensitivityVariableSet> getVirtualHubGlsks(VirtualHubsConfiguration virtualHubsConfiguration, Network network, List<String> eiCodes) {
         Map<String, SensitivityVariableSet> glsks = new HashMap<>();
-        Map<String, Injection<?>> injections = buildInjectionsMap(virtualHubsConfiguration, network);
+        Map<String, Injection<?>> injections = getVirtualHubInjections(virtualHubsConfiguration, network);
 
         eiCodes.forEach(eiCode -> {
 
@@ -72,11 +72,19 @@ public final class GlskVirtualHubs {
         return new ZonalDataImpl<>(glsks);
     }
 
-    private static Map<String, Injection<?>> buildInjectionsMap(VirtualHubsConfiguration virtualHubsConfiguration, Network network) {
+    /**
+     * Find the injections of all the virtual hubs of a configuration
+     *
+     * @param network : Network object in which the virtual hubs are looked for
+     *
+     * @return the injection (load or unpaired dangling line) of each virtual hub found in the network, by EI Code
+     */
+    public static Map<String, Injection<?>> getVirtualHubInjections(VirtualHubsConfiguration virtualHubsConfiguration, Network network) {
+        NetworkIndex networkIndex = NetworkIndex.build(network);
         Map<String, Injection<?>> injections = new HashMap<>();
         virtualHubsConfiguration.getVirtualHubs()
                 .forEach(virtualHub -> {
-                    Injection<?> injection = getInjection(network, virtualHub);
+                    Injection<?> injection = getInjection(networkIndex, virtualHub);
                     if (injection != null) {
                         injections.put(virtualHub.eic(), injection);
                     }
@@ -94,12 +102,12 @@ public final class GlskVirtualHubs {
         }
     }
 
-    private static Injection<?> getInjection(Network network, VirtualHub virtualHub) {
+    private static Injection<?> getInjection(NetworkIndex networkIndex, VirtualHub virtualHub) {
 
-        Optional<Bus> bus = findBusById(network, virtualHub.nodeName());
-        if (bus.isPresent()) {
+        Bus bus = networkIndex.busesById().get(virtualHub.nodeName());
+        if (bus != null) {
             // virtual hub is on a real network node
-            Optional<Load> busLoad = bus.get().getLoadStream().findFirst();
+            Optional<Load> busLoad = bus.getLoadStream().findFirst();
             if (busLoad.isEmpty()) {
                 OpenRaoLoggerProvider.BUSINESS_WARNS.warn("Virtual hub {} cannot be assigned on node {} as it has no load in the network", virtualHub.eic(), virtualHub.nodeName());
                 return null;
@@ -107,25 +115,30 @@ public final class GlskVirtualHubs {
             return busLoad.get();
         }
 
-        Optional<DanglingLine> danglingLine = findDanglingLineWithXNode(network, virtualHub.nodeName());
-        if (danglingLine.isPresent() && !danglingLine.get().isPaired()) {
-            return danglingLine.get();
+        DanglingLine danglingLine = networkIndex.unpairedDanglingLinesByPairingKey().get(virtualHub.nodeName());
+        if (danglingLine != null) {
+            return danglingLine;
         }
 
         OpenRaoLoggerProvider.BUSINESS_WARNS.warn("Virtual hub {} cannot be assigned on node {} as it was not found in the network", virtualHub.eic(), virtualHub.nodeName());
         return null;
     }
 
-    private static Optional<Bus> findBusById(Network network, String id) {
-        return network.getVoltageLevelStream()
-            .flatMap(vl -> vl.getBusBreakerView().getBusStream())
-            .filter(bus -> bus.getId().equals(id))
-            .findFirst();
-    }
-
-    private static Optional<DanglingLine> findDanglingLineWithXNode(Network network, String xNodeId) {
-        return network.getDanglingLineStream()
-            .filter(danglingLine -> danglingLine.getPairingKey().equals(xNodeId))
-            .findFirst();
+    /**
+     * Bus-breaker buses by id and unpaired dangling lines by pairing key, indexed in one pass over the network so
+     * that the virtual hubs are resolved in constant time
+     */
+    private record NetworkIndex(Map<String, Bus> busesById, Map<String, DanglingLine> unpairedDanglingLinesByPairingKey) {
+        private static NetworkIndex build(Network network) {
+            Map<String, Bus> busesById = new HashMap<>();
+            network.getVoltageLevelStream()
+                .flatMap(vl -> vl.getBusBreakerView().getBusStream())
+                .forEach(bus -> busesById.putIfAbsent(bus.getId(), bus));
+            Map<String, DanglingLine> unpairedDanglingLinesByPairingKey = new HashMap<>();
+            network.getDanglingLineStream()
+                .filter(danglingLine -> !danglingLine.isPaired() && danglingLine.getPairingKey() != null)
+                .forEach(danglingLine -> unpairedDanglingLinesByPairingKey.putIfAbsent(danglingLine.getPairingKey(), danglingLine));
+            return new NetworkIndex(busesById, unpairedDanglingLinesByPairingKey);
+        }
     }
 }
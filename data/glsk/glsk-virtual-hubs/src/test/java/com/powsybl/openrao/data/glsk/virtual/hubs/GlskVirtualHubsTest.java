@@ -10,6 +10,7 @@ import com.powsybl.openrao.virtualhubs.MarketArea;
 import com.powsybl.openrao.virtualhubs.VirtualHub;
 import com.powsybl.openrao.virtualhubs.VirtualHubsConfiguration;
 import com.powsybl.glsk.commons.ZonalData;
+import com.powsybl.iidm.network.Injection;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.sensitivity.SensitivityVariableSet;
 import org.junit.jupiter.api.BeforeEach;
@@ -18,6 +19,7 @@ import org.junit.jupiter.api.Test;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -68,4 +70,15 @@ class GlskVirtualHubsTest {
         ZonalData<SensitivityVariableSet> glsks = GlskVirtualHubs.getVirtualHubGlsks(virtualHubsConfiguration, network, virtualHubEiCodes);
         assertEquals(0, glsks.getDataPerZone().size());
     }
+
+    @Test
+    void testGetVirtualHubInjections() {
+        MarketArea frMarketArea = virtualHubsConfiguration.getMarketAreas().get(0);
+        virtualHubsConfiguration.addVirtualHub(new VirtualHub("code3", "UNKNOWN_EICODE", false, false, "UNKNOWN_NODE", frMarketArea, null));
+        Map<String, Injection<?>> injections = GlskVirtualHubs.getVirtualHubInjections(virtualHubsConfiguration, network);
+
+        assertEquals(2, injections.size());
+        assertEquals("NNL3AA1 _load", injections.get("15XGDYRHKLKAAAAS").getId());
+        assertEquals("FFR1AA1  X_GBFR1  1", injections.get("17YXTYUDHGKAAAAS").getId());
+    }
 }
@@ -0,0 +1,277 @@
+/*
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.powsybl.openrao.data.raoresult.io.binary;
+
+import com.powsybl.iidm.network.TwoSides;
+import com.powsybl.openrao.commons.OpenRaoException;
+import com.powsybl.openrao.commons.Unit;
+import com.powsybl.openrao.data.crac.api.Crac;
+import com.powsybl.openrao.data.crac.api.Instant;
+import com.powsybl.openrao.data.crac.api.State;
+import com.powsybl.openrao.data.crac.api.cnec.FlowCnec;
+import com.powsybl.openrao.data.crac.api.networkaction.NetworkAction;
+import com.powsybl.openrao.data.crac.api.rangeaction.RangeAction;
+import com.powsybl.openrao.data.raoresult.api.ComputationStatus;
+import com.powsybl.openrao.data.raoresult.api.OptimizationStepsExecuted;
+import com.powsybl.openrao.data.raoresult.impl.CostResult;
+import com.powsybl.openrao.data.raoresult.impl.RangeActionResult;
+import com.powsybl.openrao.data.raoresult.impl.RaoResultImpl;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+import java.util.stream.Collectors;
+
+import static com.powsybl.openrao.data.raoresult.io.binary.BinaryRaoResultFormat.*;
+
+/**
+ * RaoResult backed by a buffer in the binary columnar format, see {@link BinaryRaoResultFormat}.
+ * <p>
+ * The header (statuses, costs and activated remedial actions) is decoded when the RaoResult is created, whereas
+ * the results of the FlowCnecs are read from the buffer each time they are requested. When the buffer is a
+ * memory-mapped file, see {@link #read(Path, Crac)}, only the pages containing the requested values are loaded.
+ * <p>
+ * The FlowCnec results are split in chunks which can be addressed with int offsets, so that files larger than 2 GB
+ * can be mapped. The size of the chunks is a multiple of {@link Double#BYTES}, so a value never spans two chunks.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class BinaryRaoResult extends RaoResultImpl {
+
+    static final long DEFAULT_CHUNK_SIZE = 1L << 30;
+
+    private final Crac crac;
+    private final Map<String, Integer> optInstantIndexes = new HashMap<>();
+    private final Map<String, Integer> flowCnecIndexes = new HashMap<>();
+    private final int numberOfFlowCnecs;
+    private final long chunkSize;
+    private final ByteBuffer[] flowCnecResultChunks;
+
+    /**
+     * @param header               buffer from which the header is read, from its current position
+     * @param chunkSize            size of the chunks of the FlowCnec results, multiple of {@link Double#BYTES}
+     * @param flowCnecResultChunks gives the chunks of the FlowCnec results from the position of the end of the header
+     */
+    private BinaryRaoResult(ByteBuffer header, Crac crac, long chunkSize, LongFunction<ByteBuffer[]> flowCnecResultChunks) {
+        super(crac);
+        this.crac = crac;
+        this.chunkSize = chunkSize;
+        checkHeader(header);
+        Map<String, State> statesPerId = crac.getStates().stream().collect(Collectors.toMap(State::getId, Function.identity()));
+        readStatuses(header, statesPerId);
+        readCosts(header);
+        readNetworkActions(header, statesPerId);
+        readRangeActions(header, statesPerId);
+        numberOfFlowCnecs = header.getInt();
+        for (int flowCnecIndex = 0; flowCnecIndex < numberOfFlowCnecs; flowCnecIndex++) {
+            flowCnecIndexes.put(readString(header), flowCnecIndex);
+        }
+        this.flowCnecResultChunks = flowCnecResultChunks.apply(header.position());
+    }
+
+    /**
+     * Reads a binary RaoResult from a buffer holding its whole content
+     */
+    BinaryRaoResult(ByteBuffer buffer, Crac crac) {
+        this(buffer.duplicate(), crac, DEFAULT_CHUNK_SIZE, headerEnd -> sliceInChunks(buffer, headerEnd, DEFAULT_CHUNK_SIZE));
+    }
+
+    /**
+     * Memory-maps a binary RaoResult file
+     */
+    public static BinaryRaoResult read(Path path, Crac crac) throws IOException {
+        return read(path, crac, DEFAULT_CHUNK_SIZE);
+    }
+
+    static BinaryRaoResult read(Path path, Crac crac, long chunkSize) throws IOException {
+        try (FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return map(fileChannel, crac, chunkSize);
+        }
+    }
+
+    /**
+     * Memory-maps a binary RaoResult from the current position of the channel to its end. The mapping remains valid
+     * once the channel is closed.
+     */
+    static BinaryRaoResult map(FileChannel fileChannel, Crac crac, long chunkSize) throws IOException {
+        long start = fileChannel.position();
+        long size = fileChannel.size() - start;
+        // the header is expected to fit in the first 2 GB
+        ByteBuffer header = fileChannel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(size, Integer.MAX_VALUE));
+        try {
+            return new BinaryRaoResult(header, crac, chunkSize, headerEnd -> mapInChunks(fileChannel, start + headerEnd, size - headerEnd, chunkSize));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static ByteBuffer[] sliceInChunks(ByteBuffer buffer, long start, long chunkSize) {
+        long size = buffer.limit() - start;
+        ByteBuffer[] chunks = new ByteBuffer[numberOfChunks(size, chunkSize)];
+        for (int i = 0; i < chunks.length; i++) {
+            long chunkStart = i * chunkSize;
+            chunks[i] = buffer.slice(Math.toIntExact(start + chunkStart), Math.toIntExact(Math.min(chunkSize, size - chunkStart)));
+        }
+        return chunks;
+    }
+
+    private static ByteBuffer[] mapInChunks(FileChannel fileChannel, long start, long size, long chunkSize) {
+        ByteBuffer[] chunks = new ByteBuffer[numberOfChunks(size, chunkSize)];
+        for (int i = 0; i < chunks.length; i++) {
+            long chunkStart = i * chunkSize;
+            try {
+                chunks[i] = fileChannel.map(FileChannel.MapMode.READ_ONLY, start + chunkStart, Math.min(chunkSize, size - chunkStart));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return chunks;
+    }
+
+    private static int numberOfChunks(long size, long chunkSize) {
+        return Math.toIntExact((size + chunkSize - 1) / chunkSize);
+    }
+
+    private void readStatuses(ByteBuffer header, Map<String, State> statesPerId) {
+        byte computationStatus = header.get();
+        setComputationStatus(computationStatus < 0 ? null : ComputationStatus.values()[computationStatus]);
+        OptimizationStepsExecuted optimizationStepsExecuted = OptimizationStepsExecuted.values()[header.get()];
+        if (optimizationStepsExecuted != OptimizationStepsExecuted.FIRST_PREVENTIVE_ONLY) {
+            setOptimizationStepsExecuted(optimizationStepsExecuted);
+        }
+        int numberOfStates = header.getInt();
+        for (int i = 0; i < numberOfStates; i++) {
+            State state = statesPerId.get(readString(header));
+            ComputationStatus stateComputationStatus = ComputationStatus.values()[header.get()];
+            if (state != null) {
+                setComputationStatus(state, stateComputationStatus);
+            }
+        }
+    }
+
+    private void readCosts(ByteBuffer header) {
+        String[] virtualCostNames = new String[header.getInt()];
+        for (int i = 0; i < virtualCostNames.length; i++) {
+            virtualCostNames[i] = readString(header);
+        }
+        int numberOfOptInstants = header.getInt();
+        for (int optInstantIndex = 0; optInstantIndex < numberOfOptInstants; optInstantIndex++) {
+            String optInstantId = readString(header);
+            optInstantIndexes.put(optInstantId, optInstantIndex);
+            CostResult costResult = getAndCreateIfAbsentCostResult(optInstantId);
+            costResult.setFunctionalCost(header.getDouble());
+            for (String virtualCostName : virtualCostNames) {
+                double virtualCost = header.getDouble();
+                if (!Double.isNaN(virtualCost)) {
+                    costResult.setVirtualCost(virtualCostName, virtualCost);
+                }
+            }
+        }
+    }
+
+    private void readNetworkActions(ByteBuffer header, Map<String, State> statesPerId) {
+        int numberOfNetworkActions = header.getInt();
+        for (int i = 0; i < numberOfNetworkActions; i++) {
+            NetworkAction networkAction = crac.getNetworkAction(readString(header));
+            int numberOfActivations = header.getInt();
+            for (int j = 0; j < numberOfActivations; j++) {
+                State state = statesPerId.get(readString(header));
+                if (networkAction != null && state != null) {
+                    getAndCreateIfAbsentNetworkActionResult(networkAction).addActivationForState(state);
+                }
+            }
+        }
+    }
+
+    private void readRangeActions(ByteBuffer header, Map<String, State> statesPerId) {
+        int numberOfRangeActions = header.getInt();
+        for (int i = 0; i < numberOfRangeActions; i++) {
+            RangeAction<?> rangeAction = crac.getRangeAction(readString(header));
+            double initialSetpoint = header.getDouble();
+            RangeActionResult rangeActionResult = rangeAction == null ? new RangeActionResult() : getAndCreateIfAbsentRangeActionResult(rangeAction);
+            rangeActionResult.setInitialSetpoint(initialSetpoint);
+            int numberOfActivations = header.getInt();
+            for (int j = 0; j < numberOfActivations; j++) {
+                State state = statesPerId.get(readString(header));
+                double setpoint = header.getDouble();
+                if (state != null) {
+                    rangeActionResult.addActivationForState(state, setpoint);
+                }
+            }
+        }
+    }
+
+    /**
+     * Same resolution of the optimized instant as in {@link RaoResultImpl}
+     */
+    private Instant checkOptimizedInstant(Instant optimizedInstant, FlowCnec flowCnec) {
+        if (optimizedInstant == null) {
+            return null;
+        }
+        Instant instant = optimizedInstant;
+        if (flowCnec.getState().getInstant().comesBefore(instant)) {
+            instant = flowCnec.getState().getInstant();
+        }
+        if (instant.isOutage()) {
+            instant = crac.getPreventiveInstant();
+        }
+        return instant;
+    }
+
+    private double getFlowCnecResult(Instant optimizedInstant, FlowCnec flowCnec, int column) {
+        if (column < 0) {
+            throw new OpenRaoException("Binary RaoResult only contains flow results in AMPERE and MEGAWATT");
+        }
+        Instant instant = checkOptimizedInstant(optimizedInstant, flowCnec);
+        Integer optInstantIndex = optInstantIndexes.get(instant == null ? INITIAL_INSTANT_ID : instant.getId());
+        Integer flowCnecIndex = flowCnecIndexes.get(flowCnec.getId());
+        if (optInstantIndex == null || flowCnecIndex == null) {
+            // as in RaoResultImpl, results which have not been set are NaN
+            return Double.NaN;
+        }
+        long valuePosition = (((long) optInstantIndex * COLUMNS_PER_INSTANT + column) * numberOfFlowCnecs + flowCnecIndex) * Double.BYTES;
+        return flowCnecResultChunks[(int) (valuePosition / chunkSize)].getDouble((int) (valuePosition % chunkSize));
+    }
+
+    @Override
+    public double getFlow(Instant optimizedInstant, FlowCnec flowCnec, TwoSides side, Unit unit) {
+        return getFlowCnecResult(optimizedInstant, flowCnec, column(unit, FLOW, side));
+    }
+
+    @Override
+    public double getMargin(Instant optimizedInstant, FlowCnec flowCnec, Unit unit) {
+        return getFlowCnecResult(optimizedInstant, flowCnec, column(unit, MARGIN));
+    }
+
+    @Override
+    public double getRelativeMargin(Instant optimizedInstant, FlowCnec flowCnec, Unit unit) {
+        return getFlowCnecResult(optimizedInstant, flowCnec, column(unit, RELATIVE_MARGIN));
+    }
+
+    @Override
+    public double getLoopFlow(Instant optimizedInstant, FlowCnec flowCnec, TwoSides side, Unit unit) {
+        return getFlowCnecResult(optimizedInstant, flowCnec, column(unit, LOOP_FLOW, side));
+    }
+
+    @Override
+    public double getCommercialFlow(Instant optimizedInstant, FlowCnec flowCnec, TwoSides side, Unit unit) {
+        return getFlowCnecResult(optimizedInstant, flowCnec, column(unit, COMMERCIAL_FLOW, side));
+    }
+
+    @Override
+    public double getPtdfZonalSum(Instant optimizedInstant, FlowCnec flowCnec, TwoSides side) {
+        return getFlowCnecResult(optimizedInstant, flowCnec, ptdfZonalSumColumn(side));
+    }
+}
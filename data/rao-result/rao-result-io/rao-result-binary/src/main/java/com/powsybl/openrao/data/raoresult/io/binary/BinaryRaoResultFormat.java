@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.powsybl.openrao.data.raoresult.io.binary;
+
+import com.powsybl.iidm.network.TwoSides;
+import com.powsybl.openrao.commons.OpenRaoException;
+import com.powsybl.openrao.commons.Unit;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Layout of the binary RaoResult format.
+ * <p>
+ * The file starts with a header, read sequentially, which contains the computation statuses, the costs, the
+ * activated remedial actions per state and the ids of the FlowCnecs. It is followed by the FlowCnec results,
+ * stored as blocks of {@link #COLUMNS_PER_INSTANT} columns per optimization instant. Each column contains one
+ * double per FlowCnec, in the order of the ids of the header, so that the offset of any value can be computed
+ * without decoding the others.
+ * <p>
+ * Within the block of an optimization instant, columns are ordered by unit (AMPERE then MEGAWATT), then by
+ * quantity: margin, relative margin, flow on side ONE and TWO, loop-flow on side ONE and TWO, commercial flow on
+ * side ONE and TWO. The two last columns of the block are the sums of zonal PTDFs on side ONE and TWO.
+ * <p>
+ * All numbers are big-endian, strings are written as their length followed by their UTF-8 bytes.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+final class BinaryRaoResultFormat {
+
+    static final int MAGIC_NUMBER = 0x4F525242; // "ORRB"
+    static final int FORMAT_VERSION = 1;
+
+    static final Unit[] UNITS = {Unit.AMPERE, Unit.MEGAWATT};
+    static final TwoSides[] SIDES = {TwoSides.ONE, TwoSides.TWO};
+
+    static final int MARGIN = 0;
+    static final int RELATIVE_MARGIN = 1;
+    static final int FLOW = 2;
+    static final int LOOP_FLOW = 4;
+    static final int COMMERCIAL_FLOW = 6;
+    private static final int COLUMNS_PER_UNIT = 8;
+    private static final int PTDF_ZONAL_SUM = UNITS.length * COLUMNS_PER_UNIT;
+    static final int COLUMNS_PER_INSTANT = PTDF_ZONAL_SUM + SIDES.length;
+
+    private BinaryRaoResultFormat() {
+    }
+
+    /**
+     * Index of a column in the block of an optimization instant, or -1 if the unit is not stored
+     */
+    static int column(Unit unit, int quantity) {
+        for (int unitIndex = 0; unitIndex < UNITS.length; unitIndex++) {
+            if (UNITS[unitIndex] == unit) {
+                return unitIndex * COLUMNS_PER_UNIT + quantity;
+            }
+        }
+        return -1;
+    }
+
+    static int column(Unit unit, int quantity, TwoSides side) {
+        int column = column(unit, quantity);
+        return column < 0 ? column : column + side.ordinal();
+    }
+
+    static int ptdfZonalSumColumn(TwoSides side) {
+        return PTDF_ZONAL_SUM + side.ordinal();
+    }
+
+    static void writeString(DataOutputStream outputStream, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        outputStream.writeInt(bytes.length);
+        outputStream.write(bytes);
+    }
+
+    static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    static void checkHeader(ByteBuffer buffer) {
+        if (buffer.remaining() < 2 * Integer.BYTES || buffer.getInt() != MAGIC_NUMBER) {
+            throw new OpenRaoException("Data is not a binary RaoResult");
+        }
+        int formatVersion = buffer.getInt();
+        if (formatVersion != FORMAT_VERSION) {
+            throw new OpenRaoException("Binary RaoResult importer cannot handle format version %d, only version %d is supported".formatted(formatVersion, FORMAT_VERSION));
+        }
+    }
+}
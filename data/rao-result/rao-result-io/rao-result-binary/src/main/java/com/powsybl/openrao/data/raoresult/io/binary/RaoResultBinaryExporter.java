@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.powsybl.openrao.data.raoresult.io.binary;
+
+import com.google.auto.service.AutoService;
+import com.powsybl.iidm.network.TwoSides;
+import com.powsybl.openrao.commons.OpenRaoException;
+import com.powsybl.openrao.commons.Unit;
+import com.powsybl.openrao.data.crac.api.Crac;
+import com.powsybl.openrao.data.crac.api.CracCreationContext;
+import com.powsybl.openrao.data.crac.api.Identifiable;
+import com.powsybl.openrao.data.crac.api.Instant;
+import com.powsybl.openrao.data.crac.api.InstantKind;
+import com.powsybl.openrao.data.crac.api.State;
+import com.powsybl.openrao.data.crac.api.cnec.FlowCnec;
+import com.powsybl.openrao.data.crac.api.networkaction.NetworkAction;
+import com.powsybl.openrao.data.crac.api.rangeaction.RangeAction;
+import com.powsybl.openrao.data.raoresult.api.ComputationStatus;
+import com.powsybl.openrao.data.raoresult.api.RaoResult;
+import com.powsybl.openrao.data.raoresult.api.io.Exporter;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.function.DoubleSupplier;
+
+import static com.powsybl.openrao.data.raoresult.io.binary.BinaryRaoResultFormat.*;
+
+/**
+ * Rao Result exporter in binary columnar format, see {@link BinaryRaoResultFormat}.
+ * <p>
+ * Only the results of the FlowCnecs are exported, along with the costs, the computation statuses and the
+ * activated remedial actions.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+@AutoService(Exporter.class)
+public class RaoResultBinaryExporter implements Exporter {
+
+    @Override
+    public String getFormat() {
+        return "BINARY";
+    }
+
+    @Override
+    public Set<String> getRequiredProperties() {
+        return Set.of();
+    }
+
+    @Override
+    public Class<? extends CracCreationContext> getCracCreationContextClass() {
+        return CracCreationContext.class;
+    }
+
+    @Override
+    public void exportData(RaoResult raoResult, CracCreationContext cracCreationContext, Properties properties, OutputStream outputStream) {
+        validateDataToExport(cracCreationContext, properties);
+        exportData(raoResult, cracCreationContext.getCrac(), properties, outputStream);
+    }
+
+    @Override
+    public void exportData(RaoResult raoResult, Crac crac, Properties properties, OutputStream outputStream) {
+        try {
+            DataOutputStream dataOutputStream = new DataOutputStream(new BufferedOutputStream(outputStream));
+            dataOutputStream.writeInt(MAGIC_NUMBER);
+            dataOutputStream.writeInt(FORMAT_VERSION);
+            List<Instant> optInstants = getOptimizationInstants(crac);
+            List<State> states = crac.getStates().stream().sorted(Comparator.comparing(State::getId)).toList();
+            writeStatuses(raoResult, states, dataOutputStream);
+            writeCosts(raoResult, optInstants, dataOutputStream);
+            writeNetworkActions(raoResult, crac, states, dataOutputStream);
+            writeRangeActions(raoResult, crac, states, dataOutputStream);
+            writeFlowCnecResults(raoResult, crac, optInstants, dataOutputStream);
+            dataOutputStream.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static List<Instant> getOptimizationInstants(Crac crac) {
+        List<Instant> optInstants = new ArrayList<>();
+        optInstants.add(null);
+        optInstants.add(crac.getPreventiveInstant());
+        if (crac.hasAutoInstant()) {
+            optInstants.add(crac.getInstant(InstantKind.AUTO));
+        }
+        optInstants.addAll(crac.getInstants(InstantKind.CURATIVE));
+        return optInstants;
+    }
+
+    private static void writeStatuses(RaoResult raoResult, List<State> states, DataOutputStream outputStream) throws IOException {
+        ComputationStatus computationStatus = raoResult.getComputationStatus();
+        outputStream.writeByte(computationStatus == null ? -1 : computationStatus.ordinal());
+        outputStream.writeByte(raoResult.getOptimizationStepsExecuted().ordinal());
+        List<State> statesWithStatus = states.stream().filter(state -> raoResult.getComputationStatus(state) != ComputationStatus.DEFAULT).toList();
+        outputStream.writeInt(statesWithStatus.size());
+        for (State state : statesWithStatus) {
+            writeString(outputStream, state.getId());
+            outputStream.writeByte(raoResult.getComputationStatus(state).ordinal());
+        }
+    }
+
+    private static void writeCosts(RaoResult raoResult, List<Instant> optInstants, DataOutputStream outputStream) throws IOException {
+        List<String> virtualCostNames = raoResult.getVirtualCostNames().stream().sorted().toList();
+        outputStream.writeInt(virtualCostNames.size());
+        for (String virtualCostName : virtualCostNames) {
+            writeString(outputStream, virtualCostName);
+        }
+        outputStream.writeInt(optInstants.size());
+        for (Instant optInstant : optInstants) {
+            writeString(outputStream, optInstant == null ? RaoResult.INITIAL_INSTANT_ID : optInstant.getId());
+            outputStream.writeDouble(safeGet(() -> raoResult.getFunctionalCost(optInstant)));
+            for (String virtualCostName : virtualCostNames) {
+                outputStream.writeDouble(safeGet(() -> raoResult.getVirtualCost(optInstant, virtualCostName)));
+            }
+        }
+    }
+
+    private static void writeNetworkActions(RaoResult raoResult, Crac crac, List<State> states, DataOutputStream outputStream) throws IOException {
+        List<NetworkAction> networkActions = crac.getNetworkActions().stream().sorted(Comparator.comparing(Identifiable::getId)).toList();
+        outputStream.writeInt(networkActions.size());
+        for (NetworkAction networkAction : networkActions) {
+            writeString(outputStream, networkAction.getId());
+            List<State> activationStates = states.stream().filter(state -> raoResult.isActivatedDuringState(state, networkAction)).toList();
+            outputStream.writeInt(activationStates.size());
+            for (State state : activationStates) {
+                writeString(outputStream, state.getId());
+            }
+        }
+    }
+
+    private static void writeRangeActions(RaoResult raoResult, Crac crac, List<State> states, DataOutputStream outputStream) throws IOException {
+        List<RangeAction<?>> rangeActions = crac.getRangeActions().stream().sorted(Comparator.comparing(Identifiable::getId)).toList();
+        outputStream.writeInt(rangeActions.size());
+        for (RangeAction<?> rangeAction : rangeActions) {
+            writeString(outputStream, rangeAction.getId());
+            outputStream.writeDouble(safeGet(() -> raoResult.getPreOptimizationSetPointOnState(crac.getPreventiveState(), rangeAction)));
+            List<State> activationStates = states.stream().filter(state -> raoResult.isActivatedDuringState(state, rangeAction)).toList();
+            outputStream.writeInt(activationStates.size());
+            for (State state : activationStates) {
+                writeString(outputStream, state.getId());
+                outputStream.writeDouble(safeGet(() -> raoResult.getOptimizedSetPointOnState(state, rangeAction)));
+            }
+        }
+    }
+
+    private static void writeFlowCnecResults(RaoResult raoResult, Crac crac, List<Instant> optInstants, DataOutputStream outputStream) throws IOException {
+        List<FlowCnec> flowCnecs = crac.getFlowCnecs().stream().sorted(Comparator.comparing(FlowCnec::getId)).toList();
+        outputStream.writeInt(flowCnecs.size());
+        for (FlowCnec flowCnec : flowCnecs) {
+            writeString(outputStream, flowCnec.getId());
+        }
+        // columns are written in the order of their index, see BinaryRaoResultFormat
+        for (Instant optInstant : optInstants) {
+            for (Unit unit : UNITS) {
+                for (FlowCnec flowCnec : flowCnecs) {
+                    outputStream.writeDouble(safeGet(() -> raoResult.getMargin(optInstant, flowCnec, unit)));
+                }
+                for (FlowCnec flowCnec : flowCnecs) {
+                    outputStream.writeDouble(safeGet(() -> raoResult.getRelativeMargin(optInstant, flowCnec, unit)));
+                }
+                for (TwoSides side : SIDES) {
+                    for (FlowCnec flowCnec : flowCnecs) {
+                        outputStream.writeDouble(safeGet(() -> raoResult.getFlow(optInstant, flowCnec, side, unit)));
+                    }
+                }
+                for (TwoSides side : SIDES) {
+                    for (FlowCnec flowCnec : flowCnecs) {
+                        outputStream.writeDouble(safeGet(() -> raoResult.getLoopFlow(optInstant, flowCnec, side, unit)));
+                    }
+                }
+                for (TwoSides side : SIDES) {
+                    for (FlowCnec flowCnec : flowCnecs) {
+                        outputStream.writeDouble(safeGet(() -> raoResult.getCommercialFlow(optInstant, flowCnec, side, unit)));
+                    }
+                }
+            }
+            for (TwoSides side : SIDES) {
+                for (FlowCnec flowCnec : flowCnecs) {
+                    outputStream.writeDouble(safeGet(() -> raoResult.getPtdfZonalSum(optInstant, flowCnec, side)));
+                }
+            }
+        }
+    }
+
+    private static double safeGet(DoubleSupplier result) {
+        // RaoResult getters can throw an exception if the RAO was executed on one state only, or if the value is not defined in the unit
+        try {
+            return result.getAsDouble();
+        } catch (OpenRaoException e) {
+            return Double.NaN;
+        }
+    }
+}
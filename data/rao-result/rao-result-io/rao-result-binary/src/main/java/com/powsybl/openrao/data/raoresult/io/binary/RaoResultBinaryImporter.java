@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.powsybl.openrao.data.raoresult.io.binary;
+
+import com.google.auto.service.AutoService;
+import com.powsybl.openrao.commons.OpenRaoException;
+import com.powsybl.openrao.data.crac.api.Crac;
+import com.powsybl.openrao.data.raoresult.api.RaoResult;
+import com.powsybl.openrao.data.raoresult.api.io.Importer;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Rao Result importer in binary columnar format, see {@link BinaryRaoResultFormat}.
+ * <p>
+ * A file input stream is memory-mapped rather than loaded in memory. The content of a byte array input stream,
+ * which is what {@link RaoResult#read} provides, is already in memory and is wrapped in a buffer. Any other input
+ * stream is first copied to a temporary file which is then mapped. {@link BinaryRaoResult#read} maps a file without
+ * going through an input stream.
+ *
+ * @author agent {@literal <agent at local>}
+ * @see RaoResultBinaryExporter
+ */
+@AutoService(Importer.class)
+public class RaoResultBinaryImporter implements Importer {
+
+    @Override
+    public String getFormat() {
+        return "BINARY";
+    }
+
+    @Override
+    public boolean exists(InputStream inputStream) {
+        try {
+            BinaryRaoResultFormat.checkHeader(ByteBuffer.wrap(inputStream.readNBytes(2 * Integer.BYTES)));
+            return true;
+        } catch (OpenRaoException | IOException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public RaoResult importData(InputStream inputStream, Crac crac) {
+        try {
+            if (inputStream instanceof FileInputStream fileInputStream) {
+                return BinaryRaoResult.map(fileInputStream.getChannel(), crac, BinaryRaoResult.DEFAULT_CHUNK_SIZE);
+            }
+            if (inputStream instanceof ByteArrayInputStream byteArrayInputStream) {
+                // the content is already in memory, and cannot be larger than 2 GB
+                return new BinaryRaoResult(ByteBuffer.wrap(byteArrayInputStream.readAllBytes()), crac);
+            }
+            Path temporaryFile = Files.createTempFile("rao-result", ".bin");
+            try {
+                Files.copy(inputStream, temporaryFile, StandardCopyOption.REPLACE_EXISTING);
+                return BinaryRaoResult.read(temporaryFile, crac);
+            } finally {
+                deleteTemporaryFile(temporaryFile);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void deleteTemporaryFile(Path temporaryFile) {
+        try {
+            // the mapping remains valid once the file is deleted, except on systems which forbid deleting a mapped file
+            Files.delete(temporaryFile);
+        } catch (IOException e) {
+            temporaryFile.toFile().deleteOnExit();
+        }
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.powsybl.openrao.data.raoresult.io.binary;
+
+import com.powsybl.iidm.network.TwoSides;
+import com.powsybl.openrao.commons.OpenRaoException;
+import com.powsybl.openrao.commons.Unit;
+import com.powsybl.openrao.data.crac.api.Crac;
+import com.powsybl.openrao.data.crac.api.Instant;
+import com.powsybl.openrao.data.crac.api.State;
+import com.powsybl.openrao.data.crac.api.cnec.FlowCnec;
+import com.powsybl.openrao.data.crac.api.networkaction.NetworkAction;
+import com.powsybl.openrao.data.crac.api.rangeaction.RangeAction;
+import com.powsybl.openrao.data.crac.impl.utils.ExhaustiveCracCreation;
+import com.powsybl.openrao.data.raoresult.api.RaoResult;
+import com.powsybl.openrao.data.raoresult.impl.utils.ExhaustiveRaoResultCreation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.function.DoubleSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class RaoResultBinaryRoundTripTest {
+
+    private static final double DOUBLE_TOLERANCE = 1e-6;
+
+    @Test
+    void roundTripTest() throws IOException {
+        Crac crac = ExhaustiveCracCreation.create();
+        RaoResult raoResult = ExhaustiveRaoResultCreation.create(crac);
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        raoResult.write("BINARY", crac, new Properties(), outputStream);
+        byte[] bytes = outputStream.toByteArray();
+
+        RaoResultBinaryImporter importer = new RaoResultBinaryImporter();
+        assertTrue(importer.exists(new ByteArrayInputStream(bytes)));
+        checkContent(raoResult, RaoResult.read(new ByteArrayInputStream(bytes), crac), crac);
+        // other streams go through a temporary file
+        checkContent(raoResult, importer.importData(new BufferedInputStream(new ByteArrayInputStream(bytes)), crac), crac);
+    }
+
+    @Test
+    void memoryMappedRoundTripTest(@TempDir Path tempDir) throws IOException {
+        Crac crac = ExhaustiveCracCreation.create();
+        RaoResult raoResult = ExhaustiveRaoResultCreation.create(crac);
+
+        Path raoResultFile = tempDir.resolve("raoResult.bin");
+        try (OutputStream outputStream = Files.newOutputStream(raoResultFile)) {
+            new RaoResultBinaryExporter().exportData(raoResult, crac, new Properties(), outputStream);
+        }
+        checkContent(raoResult, BinaryRaoResult.read(raoResultFile, crac), crac);
+    }
+
+    @Test
+    void memoryMappedInChunksRoundTripTest(@TempDir Path tempDir) throws IOException {
+        Crac crac = ExhaustiveCracCreation.create();
+        RaoResult raoResult = ExhaustiveRaoResultCreation.create(crac);
+
+        Path raoResultFile = tempDir.resolve("raoResult.bin");
+        try (OutputStream outputStream = Files.newOutputStream(raoResultFile)) {
+            new RaoResultBinaryExporter().exportData(raoResult, crac, new Properties(), outputStream);
+        }
+        // small chunks, so that the FlowCnec results are spread over many mappings
+        checkContent(raoResult, BinaryRaoResult.read(raoResultFile, crac, 3 * Double.BYTES), crac);
+        try (InputStream inputStream = new FileInputStream(raoResultFile.toFile())) {
+            checkContent(raoResult, new RaoResultBinaryImporter().importData(inputStream, crac), crac);
+        }
+    }
+
+    @Test
+    void testUnitsWhichAreNotStored() throws IOException {
+        Crac crac = ExhaustiveCracCreation.create();
+        RaoResult raoResult = ExhaustiveRaoResultCreation.create(crac);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        raoResult.write("BINARY", crac, new Properties(), outputStream);
+        RaoResult importedRaoResult = RaoResult.read(new ByteArrayInputStream(outputStream.toByteArray()), crac);
+
+        FlowCnec flowCnec = crac.getFlowCnecs().iterator().next();
+        Instant preventiveInstant = crac.getPreventiveInstant();
+        OpenRaoException exception = assertThrows(OpenRaoException.class, () -> importedRaoResult.getMargin(preventiveInstant, flowCnec, Unit.PERCENT_IMAX));
+        assertEquals("Binary RaoResult only contains flow results in AMPERE and MEGAWATT", exception.getMessage());
+        assertThrows(OpenRaoException.class, () -> importedRaoResult.getFlow(preventiveInstant, flowCnec, TwoSides.ONE, Unit.KILOVOLT));
+    }
+
+    @Test
+    void testExistsOnOtherFormats() {
+        RaoResultBinaryImporter importer = new RaoResultBinaryImporter();
+        assertFalse(importer.exists(new ByteArrayInputStream("{\"type\" : \"RAO_RESULT\"}".getBytes())));
+        assertFalse(importer.exists(new ByteArrayInputStream(new byte[0])));
+        assertEquals("BINARY", importer.getFormat());
+    }
+
+    private static void checkContent(RaoResult expected, RaoResult actual, Crac crac) {
+        assertEquals(expected.getComputationStatus(), actual.getComputationStatus());
+        assertEquals(expected.getOptimizationStepsExecuted(), actual.getOptimizationStepsExecuted());
+        assertEquals(expected.getVirtualCostNames(), actual.getVirtualCostNames());
+
+        List<Instant> optInstants = new ArrayList<>(crac.getSortedInstants());
+        optInstants.add(null);
+        for (Instant optInstant : optInstants) {
+            assertEquals(expected.getFunctionalCost(optInstant), actual.getFunctionalCost(optInstant), DOUBLE_TOLERANCE);
+            assertEquals(expected.getCost(optInstant), actual.getCost(optInstant), DOUBLE_TOLERANCE);
+            for (String virtualCostName : expected.getVirtualCostNames()) {
+                assertEquals(expected.getVirtualCost(optInstant, virtualCostName), actual.getVirtualCost(optInstant, virtualCostName), DOUBLE_TOLERANCE);
+            }
+            for (FlowCnec flowCnec : crac.getFlowCnecs()) {
+                for (Unit unit : List.of(Unit.AMPERE, Unit.MEGAWATT)) {
+                    assertSameValue(() -> expected.getMargin(optInstant, flowCnec, unit), () -> actual.getMargin(optInstant, flowCnec, unit));
+                    assertSameValue(() -> expected.getRelativeMargin(optInstant, flowCnec, unit), () -> actual.getRelativeMargin(optInstant, flowCnec, unit));
+                    for (TwoSides side : TwoSides.values()) {
+                        assertSameValue(() -> expected.getFlow(optInstant, flowCnec, side, unit), () -> actual.getFlow(optInstant, flowCnec, side, unit));
+                        assertSameValue(() -> expected.getLoopFlow(optInstant, flowCnec, side, unit), () -> actual.getLoopFlow(optInstant, flowCnec, side, unit));
+                        assertSameValue(() -> expected.getCommercialFlow(optInstant, flowCnec, side, unit), () -> actual.getCommercialFlow(optInstant, flowCnec, side, unit));
+                    }
+                }
+                for (TwoSides side : TwoSides.values()) {
+                    assertSameValue(() -> expected.getPtdfZonalSum(optInstant, flowCnec, side), () -> actual.getPtdfZonalSum(optInstant, flowCnec, side));
+                }
+            }
+        }
+
+        for (State state : crac.getStates()) {
+            assertEquals(expected.getComputationStatus(state), actual.getComputationStatus(state));
+            for (NetworkAction networkAction : crac.getNetworkActions()) {
+                assertEquals(expected.isActivatedDuringState(state, networkAction), actual.isActivatedDuringState(state, networkAction));
+                assertEquals(expected.wasActivatedBeforeState(state, networkAction), actual.wasActivatedBeforeState(state, networkAction));
+            }
+            for (RangeAction<?> rangeAction : crac.getRangeActions()) {
+                assertEquals(expected.isActivatedDuringState(state, rangeAction), actual.isActivatedDuringState(state, rangeAction));
+                assertSameValue(() -> expected.getPreOptimizationSetPointOnState(state, rangeAction), () -> actual.getPreOptimizationSetPointOnState(state, rangeAction));
+                assertSameValue(() -> expected.getOptimizedSetPointOnState(state, rangeAction), () -> actual.getOptimizedSetPointOnState(state, rangeAction));
+            }
+        }
+    }
+
+    private static void assertSameValue(DoubleSupplier expected, DoubleSupplier actual) {
+        double expectedValue;
+        try {
+            expectedValue = expected.getAsDouble();
+        } catch (OpenRaoException e) {
+            // values which cannot be read in the original RaoResult are exported as NaN
+            expectedValue = Double.NaN;
+        }
+        assertEquals(expectedValue, actual.getAsDouble(), DOUBLE_TOLERANCE);
+    }
+}
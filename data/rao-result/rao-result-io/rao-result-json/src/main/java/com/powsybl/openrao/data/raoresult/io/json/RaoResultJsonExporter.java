@@ -27,6 +27,7 @@ import java.io.UncheckedIOException;
 import java.util.HashSet;
 import java.util.Properties;
 import java.util.Set;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * Rao Result exporter in JSON format.
@@ -39,6 +40,9 @@ import java.util.Set;
  *     <li>
  *         <i>flows-in-megawatts</i>: boolean (default is "false").
  *     </li>
+ *     <li>
+ *         <i>compression</i>: "none" or "gzip" (default is "none").
+ *     </li>
  * </ul>
  *
  * @author Baptiste Seguinot {@literal <baptiste.seguinot at rte-france.com>}
@@ -48,6 +52,9 @@ public class RaoResultJsonExporter implements Exporter {
     private static final String JSON_EXPORT_PROPERTIES_PREFIX = "rao-result.export.json.";
     private static final String FLOWS_IN_AMPERES = "flows-in-amperes";
     private static final String FLOWS_IN_MEGAWATTS = "flows-in-megawatts";
+    private static final String COMPRESSION = "compression";
+    private static final String NO_COMPRESSION = "none";
+    private static final String GZIP_COMPRESSION = "gzip";
 
     @Override
     public String getFormat() {
@@ -77,6 +84,10 @@ public class RaoResultJsonExporter implements Exporter {
         if (!flowsInAmperes && !flowsInMegawatts) {
             throw new OpenRaoException("At least one flow unit should be used. Please provide %s and/or %s in the properties.".formatted(JSON_EXPORT_PROPERTIES_PREFIX + FLOWS_IN_AMPERES, JSON_EXPORT_PROPERTIES_PREFIX + FLOWS_IN_MEGAWATTS));
         }
+        String compression = properties.getProperty(JSON_EXPORT_PROPERTIES_PREFIX + COMPRESSION, NO_COMPRESSION);
+        if (!NO_COMPRESSION.equals(compression) && !GZIP_COMPRESSION.equals(compression)) {
+            throw new OpenRaoException("Unknown compression %s for %s, it should be %s or %s.".formatted(compression, JSON_EXPORT_PROPERTIES_PREFIX + COMPRESSION, NO_COMPRESSION, GZIP_COMPRESSION));
+        }
         Set<Unit> flowUnits = new HashSet<>();
         if (flowsInAmperes) {
             flowUnits.add(Unit.AMPERE);
@@ -89,7 +100,13 @@ public class RaoResultJsonExporter implements Exporter {
             SimpleModule module = new RaoResultJsonSerializerModule(crac, flowUnits);
             objectMapper.registerModule(module);
             ObjectWriter writer = objectMapper.writerWithDefaultPrettyPrinter();
-            writer.writeValue(outputStream, raoResult);
+            if (GZIP_COMPRESSION.equals(compression)) {
+                GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream);
+                writer.writeValue(gzipOutputStream, raoResult);
+                gzipOutputStream.finish();
+            } else {
+                writer.writeValue(outputStream, raoResult);
+            }
         } catch (IOException e) {
             throw new UncheckedIOException(e);
         }
@@ -11,13 +11,19 @@ import com.powsybl.openrao.commons.OpenRaoException;
 import com.powsybl.openrao.data.crac.api.Crac;
 import com.powsybl.openrao.data.raoresult.api.io.Importer;
 import com.powsybl.openrao.data.raoresult.api.RaoResult;
+import com.powsybl.openrao.data.raoresult.impl.RaoResultImpl;
 import com.powsybl.openrao.data.raoresult.io.json.deserializers.RaoResultDeserializer;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.UncheckedIOException;
+import java.util.zip.GZIPInputStream;
 
 import static com.powsybl.commons.json.JsonUtil.createObjectMapper;
 
@@ -26,6 +32,8 @@ import static com.powsybl.commons.json.JsonUtil.createObjectMapper;
  */
 @AutoService(Importer.class)
 public class RaoResultJsonImporter implements Importer {
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
     @Override
     public String getFormat() {
         return "JSON";
@@ -33,13 +41,12 @@ public class RaoResultJsonImporter implements Importer {
 
     @Override
     public boolean exists(InputStream inputStream) {
-        try {
-            ObjectMapper objectMapper = createObjectMapper();
-            SimpleModule module = new SimpleModule();
-            module.addDeserializer(RaoResult.class, new RaoResultDeserializer(true));
-            objectMapper.registerModule(module);
-            // TODO: replace this by a call to RaoResultDeserializer.isValid
-            objectMapper.readValue(inputStream, RaoResult.class);
+        // only the header of the document is read
+        try (JsonParser jsonParser = JSON_FACTORY.createParser(decompressIfNeeded(inputStream))) {
+            if (jsonParser.nextToken() != JsonToken.START_OBJECT) {
+                return false;
+            }
+            RaoResultDeserializer.isValid(jsonParser, new RaoResultImpl(null));
             return true;
         } catch (OpenRaoException | IOException e) {
             return false;
@@ -53,9 +60,20 @@ public class RaoResultJsonImporter implements Importer {
             SimpleModule module = new SimpleModule();
             module.addDeserializer(RaoResult.class, new RaoResultDeserializer(crac));
             objectMapper.registerModule(module);
-            return objectMapper.readValue(inputStream, RaoResult.class);
+            return objectMapper.readValue(decompressIfNeeded(inputStream), RaoResult.class);
         } catch (IOException e) {
             throw new UncheckedIOException(e);
         }
     }
+
+    /**
+     * RaoResults can be exported as gzip-compressed JSON files, which are recognized by their magic number
+     */
+    private static InputStream decompressIfNeeded(InputStream inputStream) throws IOException {
+        BufferedInputStream bufferedInputStream = new BufferedInputStream(inputStream);
+        bufferedInputStream.mark(2);
+        int magicNumber = bufferedInputStream.read() | bufferedInputStream.read() << 8;
+        bufferedInputStream.reset();
+        return magicNumber == GZIPInputStream.GZIP_MAGIC ? new GZIPInputStream(bufferedInputStream) : bufferedInputStream;
+    }
 }
@@ -124,7 +124,7 @@ public class RaoResultDeserializer extends JsonDeserializer<RaoResult> {
         String firstFieldName = jsonParser.nextFieldName();
         String jsonFileVersion;
 
-        if (firstFieldName.equals(COMPUTATION_STATUS)) {
+        if (COMPUTATION_STATUS.equals(firstFieldName)) {
             /*
              it is assumed that the document version is 1.0
              at this time, there were not the headers with TYPE, VERSION and INFO of the document
@@ -132,13 +132,16 @@ public class RaoResultDeserializer extends JsonDeserializer<RaoResult> {
             jsonFileVersion = "1.0";
             raoResult.setComputationStatus(deserializeStatus(jsonParser.nextTextValue()));
         } else {
-            if (!jsonParser.nextTextValue().equals(RAO_RESULT_TYPE)) {
+            if (!RAO_RESULT_TYPE.equals(jsonParser.nextTextValue())) {
                 throw new OpenRaoException(String.format("type of document must be %s", RAO_RESULT_TYPE));
             }
-            if (!jsonParser.nextFieldName().equals(VERSION)) {
+            if (!VERSION.equals(jsonParser.nextFieldName())) {
                 throw new OpenRaoException(String.format("%s must contain a version in its second field", RAO_RESULT_TYPE));
             }
             jsonFileVersion = jsonParser.nextTextValue();
+            if (jsonFileVersion == null) {
+                throw new OpenRaoException(String.format("%s must contain a version in its second field", RAO_RESULT_TYPE));
+            }
         }
 
         checkVersion(jsonFileVersion);
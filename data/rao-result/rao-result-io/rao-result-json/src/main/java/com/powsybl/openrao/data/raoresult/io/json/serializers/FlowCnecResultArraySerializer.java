@@ -18,6 +18,7 @@ import com.powsybl.openrao.data.raoresult.api.RaoResult;
 import com.fasterxml.jackson.core.JsonGenerator;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Set;
@@ -31,6 +32,20 @@ import static com.powsybl.openrao.commons.Unit.MEGAWATT;
  */
 final class FlowCnecResultArraySerializer {
 
+    // units and sides, in the order in which they are serialized
+    private static final Unit[] UNITS = {AMPERE, MEGAWATT};
+    private static final TwoSides[] SIDES = {TwoSides.ONE, TwoSides.TWO};
+
+    // layout of the results of a FlowCnec for one optimization instant and one unit
+    private static final int MARGIN = 0;
+    private static final int RELATIVE_MARGIN = 1;
+    private static final int FLOW = 0;
+    private static final int LOOP_FLOW = 1;
+    private static final int COMMERCIAL_FLOW = 2;
+    private static final int PTDF_ZONAL_SUM = 3;
+    private static final int NUMBER_OF_VALUES_PER_SIDE = 4;
+    private static final int NUMBER_OF_VALUES = 2 + SIDES.length * NUMBER_OF_VALUES_PER_SIDE;
+
     private FlowCnecResultArraySerializer() {
     }
 
@@ -40,88 +55,92 @@ final class FlowCnecResultArraySerializer {
             .sorted(Comparator.comparing(FlowCnec::getId))
             .toList();
 
+        // optimization instants after which results can be exported: initial, preventive, then auto and curative ones
+        List<Instant> optInstants = new ArrayList<>();
+        optInstants.add(null);
+        optInstants.add(crac.getPreventiveInstant());
+        if (crac.hasAutoInstant()) {
+            optInstants.add(crac.getInstant(InstantKind.AUTO));
+        }
+        optInstants.addAll(crac.getInstants(InstantKind.CURATIVE));
+
+        boolean[] exportedUnits = new boolean[UNITS.length];
+        for (int unitIndex = 0; unitIndex < UNITS.length; unitIndex++) {
+            exportedUnits[unitIndex] = flowUnits.contains(UNITS[unitIndex]);
+        }
+
+        FlowCnecResults flowCnecResults = new FlowCnecResults(optInstants);
         jsonGenerator.writeArrayFieldStart(RaoResultJsonConstants.FLOWCNEC_RESULTS);
         for (FlowCnec flowCnec : sortedListOfFlowCnecs) {
-            serializeFlowCnecResult(flowCnec, raoResult, crac, flowUnits, jsonGenerator);
+            serializeFlowCnecResult(flowCnec, raoResult, flowCnecResults, exportedUnits, jsonGenerator);
         }
         jsonGenerator.writeEndArray();
     }
 
-    private static void serializeFlowCnecResult(FlowCnec flowCnec, RaoResult raoResult, Crac crac, Set<Unit> flowUnits, JsonGenerator jsonGenerator) throws IOException {
-        if (!containsAnyResultForFlowCnec(raoResult, flowCnec, crac, MEGAWATT) && !containsAnyResultForFlowCnec(raoResult, flowCnec, crac, AMPERE)) {
-            return;
-        }
-        jsonGenerator.writeStartObject();
-        jsonGenerator.writeStringField(RaoResultJsonConstants.FLOWCNEC_ID, flowCnec.getId());
-
-        serializeFlowCnecResultForOptimizationState(null, flowCnec, raoResult, crac, flowUnits, jsonGenerator);
-        serializeFlowCnecResultForOptimizationState(crac.getPreventiveInstant(), flowCnec, raoResult, crac, flowUnits, jsonGenerator);
+    private static void serializeFlowCnecResult(FlowCnec flowCnec, RaoResult raoResult, FlowCnecResults flowCnecResults, boolean[] exportedUnits, JsonGenerator jsonGenerator) throws IOException {
+        // preventive FlowCnecs only have results after the initial situation and the preventive optimization,
+        // and only the results of the FlowCnecs of auto and curative states are exported after auto and curative optimizations
         Instant instant = flowCnec.getState().getInstant();
-        if (instant.isCurative() || instant.isAuto()) {
-            if (crac.hasAutoInstant()) {
-                serializeFlowCnecResultForOptimizationState(crac.getInstant(InstantKind.AUTO), flowCnec, raoResult, crac, flowUnits, jsonGenerator);
+        int numberOfReadInstants = flowCnec.getState().isPreventive() ? 2 : flowCnecResults.optInstants.size();
+        int numberOfExportedInstants = instant.isCurative() || instant.isAuto() ? flowCnecResults.optInstants.size() : 2;
+
+        flowCnecResults.read(raoResult, flowCnec, numberOfReadInstants);
+        boolean[] unitsWithResults = new boolean[UNITS.length];
+        for (int unitIndex = 0; unitIndex < UNITS.length; unitIndex++) {
+            for (int instantIndex = 0; instantIndex < numberOfReadInstants && !unitsWithResults[unitIndex]; instantIndex++) {
+                unitsWithResults[unitIndex] = flowCnecResults.containsAnyResult(instantIndex, unitIndex);
             }
-            crac.getInstants(InstantKind.CURATIVE).forEach(curativeInstant -> {
-                try {
-                    serializeFlowCnecResultForOptimizationState(curativeInstant, flowCnec, raoResult, crac, flowUnits, jsonGenerator);
-                } catch (IOException e) {
-                    throw new OpenRaoException("An error occured when serializing Voltage Cnec results", e);
-                }
-            });
         }
-        jsonGenerator.writeEndObject();
-    }
-
-    private static void serializeFlowCnecResultForOptimizationState(Instant optInstant, FlowCnec flowCnec, RaoResult raoResult, Crac crac, Set<Unit> flowUnits, JsonGenerator jsonGenerator) throws IOException {
-        if (!containsAnyResultForOptimizationState(raoResult, flowCnec, optInstant, MEGAWATT) && !containsAnyResultForOptimizationState(raoResult, flowCnec, optInstant, AMPERE)) {
+        if (!unitsWithResults[0] && !unitsWithResults[1]) {
             return;
         }
-        jsonGenerator.writeObjectFieldStart(RaoResultJsonConstants.serializeInstantId(optInstant));
-        for (Unit flowUnit : flowUnits.stream().sorted().toList()) {
-            serializeFlowCnecResultForOptimizationStateAndUnit(optInstant, flowUnit, flowCnec, raoResult, crac, jsonGenerator);
-        }
-        jsonGenerator.writeEndObject();
-    }
 
-    private static void serializeFlowCnecResultForOptimizationStateAndUnit(Instant optInstant, Unit unit, FlowCnec flowCnec, RaoResult raoResult, Crac crac, JsonGenerator jsonGenerator) throws IOException {
-        if (!containsAnyResultForFlowCnec(raoResult, flowCnec, crac, unit)) {
-            return;
-        }
-        jsonGenerator.writeObjectFieldStart(RaoResultJsonConstants.serializeUnit(unit));
-        serializeFlowCnecMargin(optInstant, unit, flowCnec, raoResult, jsonGenerator);
-        for (TwoSides side : flowCnec.getMonitoredSides().stream().sorted(Comparator.comparing(TwoSides::toString)).toList()) {
-            serializeFlowCnecFlows(optInstant, unit, flowCnec, side, raoResult, jsonGenerator);
+        jsonGenerator.writeStartObject();
+        jsonGenerator.writeStringField(RaoResultJsonConstants.FLOWCNEC_ID, flowCnec.getId());
+        for (int instantIndex = 0; instantIndex < numberOfExportedInstants; instantIndex++) {
+            if (!flowCnecResults.containsAnyResult(instantIndex, 0) && !flowCnecResults.containsAnyResult(instantIndex, 1)) {
+                continue;
+            }
+            jsonGenerator.writeObjectFieldStart(RaoResultJsonConstants.serializeInstantId(flowCnecResults.optInstants.get(instantIndex)));
+            for (int unitIndex = 0; unitIndex < UNITS.length; unitIndex++) {
+                if (exportedUnits[unitIndex] && unitsWithResults[unitIndex]) {
+                    serializeFlowCnecResultForOptimizationStateAndUnit(instantIndex, unitIndex, flowCnec, flowCnecResults, jsonGenerator);
+                }
+            }
+            jsonGenerator.writeEndObject();
         }
         jsonGenerator.writeEndObject();
     }
 
-    private static void serializeFlowCnecMargin(Instant optInstant, Unit unit, FlowCnec flowCnec, RaoResult raoResult, JsonGenerator jsonGenerator) throws IOException {
-        double margin = safeGetMargin(raoResult, flowCnec, optInstant, unit);
-        double relativeMargin = safeGetRelativeMargin(raoResult, flowCnec, optInstant, unit);
-
-        if (Double.isNaN(margin) && Double.isNaN(relativeMargin)) {
-            return;
-        }
+    private static void serializeFlowCnecResultForOptimizationStateAndUnit(int instantIndex, int unitIndex, FlowCnec flowCnec, FlowCnecResults flowCnecResults, JsonGenerator jsonGenerator) throws IOException {
+        jsonGenerator.writeObjectFieldStart(RaoResultJsonConstants.serializeUnit(UNITS[unitIndex]));
+        double margin = flowCnecResults.get(instantIndex, unitIndex, MARGIN);
+        double relativeMargin = flowCnecResults.get(instantIndex, unitIndex, RELATIVE_MARGIN);
         if (!Double.isNaN(margin)) {
             jsonGenerator.writeNumberField(RaoResultJsonConstants.MARGIN, roundValueBasedOnMargin(margin, margin, 2));
         }
         if (!Double.isNaN(relativeMargin)) {
             jsonGenerator.writeNumberField(RaoResultJsonConstants.RELATIVE_MARGIN, roundValueBasedOnMargin(relativeMargin, margin, 2));
         }
+        Set<TwoSides> monitoredSides = flowCnec.getMonitoredSides();
+        for (int sideIndex = 0; sideIndex < SIDES.length; sideIndex++) {
+            if (monitoredSides.contains(SIDES[sideIndex])) {
+                serializeFlowCnecFlows(instantIndex, unitIndex, sideIndex, margin, flowCnecResults, jsonGenerator);
+            }
+        }
+        jsonGenerator.writeEndObject();
     }
 
-    private static void serializeFlowCnecFlows(Instant optInstant, Unit unit, FlowCnec flowCnec, TwoSides side, RaoResult raoResult, JsonGenerator jsonGenerator) throws IOException {
-        double flow = safeGetFlow(raoResult, flowCnec, side, optInstant, unit);
-        double margin = safeGetMargin(raoResult, flowCnec, optInstant, unit);
-        double loopFlow = safeGetLoopFlow(raoResult, flowCnec, side, optInstant, unit);
-        double commercialFlow = safeGetCommercialFlow(raoResult, flowCnec, side, optInstant, unit);
-        double ptdfZonalSum = safeGetPtdfZonalSum(raoResult, flowCnec, side, optInstant);
-
-        if (Double.isNaN(flow) && Double.isNaN(loopFlow) && Double.isNaN(commercialFlow) && (!unit.equals(MEGAWATT) || Double.isNaN(ptdfZonalSum))) {
+    private static void serializeFlowCnecFlows(int instantIndex, int unitIndex, int sideIndex, double margin, FlowCnecResults flowCnecResults, JsonGenerator jsonGenerator) throws IOException {
+        if (!flowCnecResults.containsAnyResult(instantIndex, unitIndex, sideIndex)) {
             return;
         }
+        double flow = flowCnecResults.get(instantIndex, unitIndex, sideIndex, FLOW);
+        double loopFlow = flowCnecResults.get(instantIndex, unitIndex, sideIndex, LOOP_FLOW);
+        double commercialFlow = flowCnecResults.get(instantIndex, unitIndex, sideIndex, COMMERCIAL_FLOW);
+        double ptdfZonalSum = flowCnecResults.get(instantIndex, unitIndex, sideIndex, PTDF_ZONAL_SUM);
 
-        jsonGenerator.writeObjectFieldStart(RaoResultJsonConstants.serializeSide(side));
+        jsonGenerator.writeObjectFieldStart(RaoResultJsonConstants.serializeSide(SIDES[sideIndex]));
         if (!Double.isNaN(flow)) {
             jsonGenerator.writeNumberField(RaoResultJsonConstants.FLOW, roundValueBasedOnMargin(flow, margin, 2));
         }
@@ -131,36 +150,82 @@ final class FlowCnecResultArraySerializer {
         if (!Double.isNaN(commercialFlow)) {
             jsonGenerator.writeNumberField(RaoResultJsonConstants.COMMERCIAL_FLOW, roundValueBasedOnMargin(commercialFlow, margin, 2));
         }
-        if (unit.equals(MEGAWATT) && !Double.isNaN(ptdfZonalSum)) {
+        if (UNITS[unitIndex] == MEGAWATT && !Double.isNaN(ptdfZonalSum)) {
             jsonGenerator.writeNumberField(RaoResultJsonConstants.ZONAL_PTDF_SUM, roundValueBasedOnMargin(ptdfZonalSum, margin, 6));
         }
         jsonGenerator.writeEndObject();
     }
 
-    private static boolean containsAnyResultForFlowCnec(RaoResult raoResult, FlowCnec flowCnec, Crac crac, Unit unit) {
-        if (flowCnec.getState().isPreventive()) {
-            return containsAnyResultForOptimizationState(raoResult, flowCnec, null, unit) ||
-                containsAnyResultForOptimizationState(raoResult, flowCnec, flowCnec.getState().getInstant(), unit);
-        } else {
-            return containsAnyResultForOptimizationState(raoResult, flowCnec, null, unit) ||
-                containsAnyResultForOptimizationState(raoResult, flowCnec, crac.getPreventiveInstant(), unit) ||
-                crac.hasAutoInstant() && containsAnyResultForOptimizationState(raoResult, flowCnec, crac.getInstant(InstantKind.AUTO), unit) ||
-                crac.getInstants(InstantKind.CURATIVE).stream().anyMatch(curativeInstant -> containsAnyResultForOptimizationState(raoResult, flowCnec, curativeInstant, unit));
+    /**
+     * Flat buffer of the results of one FlowCnec, for each optimization instant, unit and side, so that each
+     * result is read only once from the RaoResult. The buffer is re-used from one FlowCnec to the next.
+     */
+    private static final class FlowCnecResults {
+        private final List<Instant> optInstants;
+        private final double[] values;
+
+        private FlowCnecResults(List<Instant> optInstants) {
+            this.optInstants = optInstants;
+            this.values = new double[optInstants.size() * UNITS.length * NUMBER_OF_VALUES];
         }
-    }
 
-    private static boolean containsAnyResultForOptimizationState(RaoResult raoResult, FlowCnec flowCnec, Instant optInstant, Unit unit) {
-        return !Double.isNaN(safeGetMargin(raoResult, flowCnec, optInstant, unit)) ||
-            !Double.isNaN(safeGetRelativeMargin(raoResult, flowCnec, optInstant, unit)) ||
-            containsAnyResultForOptimizationStateAndSide(raoResult, flowCnec, TwoSides.ONE, optInstant, unit) ||
-            containsAnyResultForOptimizationStateAndSide(raoResult, flowCnec, TwoSides.TWO, optInstant, unit);
-    }
+        private void read(RaoResult raoResult, FlowCnec flowCnec, int numberOfInstants) {
+            for (int instantIndex = 0; instantIndex < numberOfInstants; instantIndex++) {
+                Instant optInstant = optInstants.get(instantIndex);
+                double ptdfZonalSumOne = safeGetPtdfZonalSum(raoResult, flowCnec, TwoSides.ONE, optInstant);
+                double ptdfZonalSumTwo = safeGetPtdfZonalSum(raoResult, flowCnec, TwoSides.TWO, optInstant);
+                for (int unitIndex = 0; unitIndex < UNITS.length; unitIndex++) {
+                    Unit unit = UNITS[unitIndex];
+                    int offset = offset(instantIndex, unitIndex);
+                    values[offset + MARGIN] = safeGetMargin(raoResult, flowCnec, optInstant, unit);
+                    values[offset + RELATIVE_MARGIN] = safeGetRelativeMargin(raoResult, flowCnec, optInstant, unit);
+                    for (int sideIndex = 0; sideIndex < SIDES.length; sideIndex++) {
+                        TwoSides side = SIDES[sideIndex];
+                        int sideOffset = sideOffset(instantIndex, unitIndex, sideIndex);
+                        values[sideOffset + FLOW] = safeGetFlow(raoResult, flowCnec, side, optInstant, unit);
+                        values[sideOffset + LOOP_FLOW] = safeGetLoopFlow(raoResult, flowCnec, side, optInstant, unit);
+                        values[sideOffset + COMMERCIAL_FLOW] = safeGetCommercialFlow(raoResult, flowCnec, side, optInstant, unit);
+                        values[sideOffset + PTDF_ZONAL_SUM] = side == TwoSides.ONE ? ptdfZonalSumOne : ptdfZonalSumTwo;
+                    }
+                }
+            }
+        }
+
+        private double get(int instantIndex, int unitIndex, int valueIndex) {
+            return values[offset(instantIndex, unitIndex) + valueIndex];
+        }
+
+        private double get(int instantIndex, int unitIndex, int sideIndex, int valueIndex) {
+            return values[sideOffset(instantIndex, unitIndex, sideIndex) + valueIndex];
+        }
 
-    private static boolean containsAnyResultForOptimizationStateAndSide(RaoResult raoResult, FlowCnec flowCnec, TwoSides side, Instant optInstant, Unit unit) {
-        return !Double.isNaN(safeGetFlow(raoResult, flowCnec, side, optInstant, unit)) ||
-            !Double.isNaN(safeGetLoopFlow(raoResult, flowCnec, side, optInstant, unit)) ||
-            !Double.isNaN(safeGetCommercialFlow(raoResult, flowCnec, side, optInstant, unit)) ||
-            !Double.isNaN(safeGetPtdfZonalSum(raoResult, flowCnec, side, optInstant)) && unit.equals(MEGAWATT);
+        private boolean containsAnyResult(int instantIndex, int unitIndex) {
+            if (!Double.isNaN(get(instantIndex, unitIndex, MARGIN)) || !Double.isNaN(get(instantIndex, unitIndex, RELATIVE_MARGIN))) {
+                return true;
+            }
+            for (int sideIndex = 0; sideIndex < SIDES.length; sideIndex++) {
+                if (containsAnyResult(instantIndex, unitIndex, sideIndex)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean containsAnyResult(int instantIndex, int unitIndex, int sideIndex) {
+            // the sum of zonal PTDFs is only exported in MEGAWATT
+            return !Double.isNaN(get(instantIndex, unitIndex, sideIndex, FLOW))
+                || !Double.isNaN(get(instantIndex, unitIndex, sideIndex, LOOP_FLOW))
+                || !Double.isNaN(get(instantIndex, unitIndex, sideIndex, COMMERCIAL_FLOW))
+                || UNITS[unitIndex] == MEGAWATT && !Double.isNaN(get(instantIndex, unitIndex, sideIndex, PTDF_ZONAL_SUM));
+        }
+
+        private static int offset(int instantIndex, int unitIndex) {
+            return (instantIndex * UNITS.length + unitIndex) * NUMBER_OF_VALUES;
+        }
+
+        private static int sideOffset(int instantIndex, int unitIndex, int sideIndex) {
+            return offset(instantIndex, unitIndex) + 2 + sideIndex * NUMBER_OF_VALUES_PER_SIDE;
+        }
     }
 
     private static double safeGetFlow(RaoResult raoResult, FlowCnec flowCnec, TwoSides side, Instant optInstant, Unit unit) {
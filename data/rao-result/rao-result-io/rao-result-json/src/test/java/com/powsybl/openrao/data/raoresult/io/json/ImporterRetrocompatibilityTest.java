@@ -25,6 +25,7 @@ import com.powsybl.openrao.data.raoresult.api.RaoResult;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.List;
@@ -79,6 +80,16 @@ class ImporterRetrocompatibilityTest {
         assertEquals("JSON", new RaoResultJsonImporter().getFormat());
     }
 
+    @Test
+    void testExists() {
+        RaoResultJsonImporter importer = new RaoResultJsonImporter();
+        assertTrue(importer.exists(getClass().getResourceAsStream("/retrocompatibility/v1.0/rao-result-v1.0.json")));
+        assertTrue(importer.exists(getClass().getResourceAsStream("/retrocompatibility/v1.6/rao-result-v1.6.json")));
+        assertFalse(importer.exists(getClass().getResourceAsStream("/retrocompatibility/v1.6/crac-for-rao-result-v1.6.json")));
+        assertFalse(importer.exists(new ByteArrayInputStream("[]".getBytes())));
+        assertFalse(importer.exists(new ByteArrayInputStream("not a json".getBytes())));
+    }
+
     @Test
     void importV1Point0Test() throws IOException {
 
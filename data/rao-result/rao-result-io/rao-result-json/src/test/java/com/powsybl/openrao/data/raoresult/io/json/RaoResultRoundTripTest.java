@@ -100,6 +100,40 @@ class RaoResultRoundTripTest {
         checkContent(importedRaoResult, crac);
     }
 
+    @Test
+    void gzipJsonRoundTripTest() {
+        Crac crac = ExhaustiveCracCreation.create();
+        RaoResult raoResult = ExhaustiveRaoResultCreation.create(crac);
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        Properties properties = new Properties();
+        properties.setProperty("rao-result.export.json.flows-in-amperes", "true");
+        properties.setProperty("rao-result.export.json.flows-in-megawatts", "true");
+        properties.setProperty("rao-result.export.json.compression", "gzip");
+        new RaoResultJsonExporter().exportData(raoResult, crac, properties, outputStream);
+
+        byte[] compressedRaoResult = outputStream.toByteArray();
+        assertEquals((byte) 0x1f, compressedRaoResult[0]);
+        assertEquals((byte) 0x8b, compressedRaoResult[1]);
+        RaoResultJsonImporter importer = new RaoResultJsonImporter();
+        assertTrue(importer.exists(new ByteArrayInputStream(compressedRaoResult)));
+        RaoResult importedRaoResult = importer.importData(new ByteArrayInputStream(compressedRaoResult), crac);
+        checkContent(importedRaoResult, crac);
+    }
+
+    @Test
+    void unknownCompressionTest() {
+        Crac crac = ExhaustiveCracCreation.create();
+        RaoResult raoResult = ExhaustiveRaoResultCreation.create(crac);
+        Properties properties = new Properties();
+        properties.setProperty("rao-result.export.json.flows-in-megawatts", "true");
+        properties.setProperty("rao-result.export.json.compression", "zip");
+        RaoResultJsonExporter exporter = new RaoResultJsonExporter();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        OpenRaoException exception = assertThrows(OpenRaoException.class, () -> exporter.exportData(raoResult, crac, properties, outputStream));
+        assertEquals("Unknown compression zip for rao-result.export.json.compression, it should be none or gzip.", exception.getMessage());
+    }
+
     private void checkContent(RaoResult raoResult, Crac crac) {
         Instant preventiveInstant = crac.getInstant(PREVENTIVE_INSTANT_ID);
         Instant outageInstant = crac.getInstant(OUTAGE_INSTANT_ID);
@@ -54,18 +54,29 @@ public class LoopFlowComputationImpl implements LoopFlowComputation {
         return buildLoopFlowsFromReferenceFlowAndPtdf(ptdfsAndRefFlows, flowCnecs, network);
     }
 
+    /**
+     * The GLSKs in the main connected component, their sensitivity variable indices and their net positions are
+     * retrieved once, before computing the
+     * flows of the CNECs
+     */
     @Override
     public LoopFlowResult buildLoopFlowsFromReferenceFlowAndPtdf(SystematicSensitivityResult alreadyCalculatedPtdfAndFlows, Set<FlowCnec> flowCnecs, Network network) {
-        LoopFlowResult results = new LoopFlowResult();
         Map<SensitivityVariableSet, Boolean> isInMainComponentMap = computeIsInMainComponentMap(network);
+        List<Map.Entry<EICode, SensitivityVariableSet>> glsksInMainComponent = getGlskStream().filter(entry -> isInMainComponentMap.get(entry.getValue())).toList();
+        int[] glskIndices = glsksInMainComponent.stream().mapToInt(entry -> alreadyCalculatedPtdfAndFlows.getVariableIndex(entry.getValue().getId())).toArray();
+        double[] netPositions = glsksInMainComponent.stream().mapToDouble(entry -> referenceProgram.getGlobalNetPosition(entry.getKey())).toArray();
+
+        LoopFlowResult results = new LoopFlowResult();
         for (FlowCnec flowCnec : flowCnecs) {
-            flowCnec.getMonitoredSides().forEach(side -> {
+            for (TwoSides side : flowCnec.getMonitoredSides()) {
                 double refFlow = alreadyCalculatedPtdfAndFlows.getReferenceFlow(flowCnec, side);
-                double commercialFLow = getGlskStream().filter(entry -> isInMainComponentMap.get(entry.getValue()))
-                    .mapToDouble(entry -> alreadyCalculatedPtdfAndFlows.getSensitivityOnFlow(entry.getValue(), flowCnec, side) * referenceProgram.getGlobalNetPosition(entry.getKey()))
-                    .sum();
-                results.addCnecResult(flowCnec, side, refFlow - commercialFLow, commercialFLow, refFlow);
-            });
+                double[] ptdfs = alreadyCalculatedPtdfAndFlows.getSensitivitiesOnFlow(glskIndices, flowCnec, side);
+                double commercialFlow = 0;
+                for (int i = 0; i < ptdfs.length; i++) {
+                    commercialFlow += ptdfs[i] * netPositions[i];
+                }
+                results.addCnecResult(flowCnec, side, refFlow - commercialFlow, commercialFlow, refFlow);
+            }
         }
         return results;
     }
@@ -9,7 +9,9 @@ package com.powsybl.openrao.loopflowcomputation;
 import com.powsybl.openrao.commons.OpenRaoException;
 import com.powsybl.iidm.network.TwoSides;
 import com.powsybl.glsk.commons.ZonalData;
+import com.powsybl.glsk.commons.ZonalDataImpl;
 import com.powsybl.openrao.data.crac.api.Crac;
+import com.powsybl.openrao.data.crac.api.cnec.FlowCnec;
 import com.powsybl.openrao.data.crac.loopflowextension.LoopFlowThresholdImpl;
 import com.powsybl.openrao.data.refprog.referenceprogram.ReferenceProgram;
 import com.powsybl.openrao.sensitivityanalysis.SystematicSensitivityResult;
@@ -21,11 +23,16 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 
 /**
  * @author Pengbo Wang {@literal <pengbo.wang at rte-international.com>}
@@ -268,4 +275,92 @@ class LoopFlowComputationImplTest {
         assertEquals(80., loopFlowResult.getReferenceFlow(crac.getFlowCnec("FR-DE"), TwoSides.TWO), DOUBLE_TOLERANCE);
         assertEquals(80., loopFlowResult.getReferenceFlow(crac.getFlowCnec("DE-NL"), TwoSides.TWO), DOUBLE_TOLERANCE);
     }
+
+    @Test
+    void testSameResultsAsMapBasedComputation() {
+        // NL has no GLSK, the PTDFs of FR are all zero and DE is not in the main connected component
+        Map<String, SensitivityVariableSet> glsks = new HashMap<>();
+        ZonalData<SensitivityVariableSet> exampleGlsk = ExampleGenerator.glskProvider();
+        for (String area : Set.of("10YFR-RTE------C", "10YBE----------2", "10YCB-GERMANY--8")) {
+            glsks.put(area, exampleGlsk.getData(area));
+        }
+        ZonalData<SensitivityVariableSet> glsk = new ZonalDataImpl<>(glsks);
+        ReferenceProgram referenceProgram = ExampleGenerator.referenceProgram();
+
+        SystematicSensitivityResult ptdfsAndFlows = Mockito.mock(SystematicSensitivityResult.class);
+        Mockito.when(ptdfsAndFlows.getReferenceFlow(any(FlowCnec.class), any(TwoSides.class)))
+            .thenAnswer(invocation -> 10. * invocation.getArgument(0, FlowCnec.class).getId().length() + invocation.getArgument(1, TwoSides.class).ordinal());
+        Mockito.when(ptdfsAndFlows.getSensitivityOnFlow(anyString(), any(FlowCnec.class), any(TwoSides.class)))
+            .thenAnswer(invocation -> {
+                String glskId = invocation.getArgument(0, String.class);
+                if (glskId.equals("10YFR-RTE------C")) {
+                    return 0.;
+                }
+                int hash = glskId.hashCode() ^ invocation.getArgument(1, FlowCnec.class).getId().hashCode();
+                return Math.floorMod(hash, 17) / 10. - 0.8 + invocation.getArgument(2, TwoSides.class).ordinal() * 0.05;
+            });
+        mockIndexedSensitivities(ptdfsAndFlows);
+
+        Network network = Mockito.mock(Network.class);
+        Generator gen = Mockito.mock(Generator.class);
+        Generator isolatedGen = Mockito.mock(Generator.class);
+        Load load = Mockito.mock(Load.class);
+        Mockito.when(network.getGenerator(any())).thenReturn(gen);
+        Mockito.when(network.getGenerator("Generator DE")).thenReturn(isolatedGen);
+        Mockito.when(network.getLoad(any())).thenReturn(load);
+        Mockito.doReturn(mockInjection(true)).when(gen).getTerminal();
+        Mockito.doReturn(mockInjection(false)).when(isolatedGen).getTerminal();
+        Mockito.doReturn(mockInjection(true)).when(load).getTerminal();
+
+        LoopFlowComputationImpl loopFlowComputation = new LoopFlowComputationImpl(glsk, referenceProgram);
+        LoopFlowResult loopFlowResult = loopFlowComputation.buildLoopFlowsFromReferenceFlowAndPtdf(ptdfsAndFlows, crac.getFlowCnecs(), network);
+        LoopFlowResult expectedLoopFlowResult = buildLoopFlowsWithMaps(loopFlowComputation, referenceProgram, ptdfsAndFlows, crac.getFlowCnecs(), network);
+
+        for (FlowCnec flowCnec : crac.getFlowCnecs()) {
+            for (TwoSides side : flowCnec.getMonitoredSides()) {
+                assertEquals(expectedLoopFlowResult.getLoopFlow(flowCnec, side), loopFlowResult.getLoopFlow(flowCnec, side), 1e-9);
+                assertEquals(expectedLoopFlowResult.getCommercialFlow(flowCnec, side), loopFlowResult.getCommercialFlow(flowCnec, side), 1e-9);
+                assertEquals(expectedLoopFlowResult.getReferenceFlow(flowCnec, side), loopFlowResult.getReferenceFlow(flowCnec, side), 1e-9);
+            }
+        }
+    }
+
+    /**
+     * Former computation of the loop-flows, which went through the map of GLSKs for each CNEC and side
+     */
+    private static LoopFlowResult buildLoopFlowsWithMaps(LoopFlowComputationImpl loopFlowComputation, ReferenceProgram referenceProgram, SystematicSensitivityResult ptdfsAndFlows, Set<FlowCnec> flowCnecs, Network network) {
+        Map<SensitivityVariableSet, Boolean> isInMainComponentMap = new HashMap<>();
+        loopFlowComputation.glskMap.values().forEach(linearGlsk -> isInMainComponentMap.putIfAbsent(linearGlsk, LoopFlowComputationImpl.isInMainComponent(linearGlsk, network)));
+        LoopFlowResult results = new LoopFlowResult();
+        for (FlowCnec flowCnec : flowCnecs) {
+            flowCnec.getMonitoredSides().forEach(side -> {
+                double refFlow = ptdfsAndFlows.getReferenceFlow(flowCnec, side);
+                double commercialFlow = loopFlowComputation.glskMap.entrySet().stream().filter(entry -> isInMainComponentMap.get(entry.getValue()))
+                    .mapToDouble(entry -> ptdfsAndFlows.getSensitivityOnFlow(entry.getValue(), flowCnec, side) * referenceProgram.getGlobalNetPosition(entry.getKey()))
+                    .sum();
+                results.addCnecResult(flowCnec, side, refFlow - commercialFlow, commercialFlow, refFlow);
+            });
+        }
+        return results;
+    }
+
+    /**
+     * Answers the getters by GLSK and by variable indices with the sensitivities mocked by variable id
+     */
+    private static void mockIndexedSensitivities(SystematicSensitivityResult sensitivityResult) {
+        List<String> variableIds = new ArrayList<>();
+        Mockito.when(sensitivityResult.getVariableIndex(anyString())).thenAnswer(invocation -> {
+            String variableId = invocation.getArgument(0, String.class);
+            if (!variableIds.contains(variableId)) {
+                variableIds.add(variableId);
+            }
+            return variableIds.indexOf(variableId);
+        });
+        Mockito.when(sensitivityResult.getSensitivityOnFlow(any(SensitivityVariableSet.class), any(FlowCnec.class), any(TwoSides.class)))
+            .thenAnswer(invocation -> sensitivityResult.getSensitivityOnFlow(invocation.getArgument(0, SensitivityVariableSet.class).getId(), invocation.getArgument(1, FlowCnec.class), invocation.getArgument(2, TwoSides.class)));
+        Mockito.when(sensitivityResult.getSensitivitiesOnFlow(any(int[].class), any(FlowCnec.class), any(TwoSides.class)))
+            .thenAnswer(invocation -> Arrays.stream(invocation.getArgument(0, int[].class))
+                .mapToDouble(variableIndex -> sensitivityResult.getSensitivityOnFlow(variableIds.get(variableIndex), invocation.getArgument(1, FlowCnec.class), invocation.getArgument(2, TwoSides.class)))
+                .toArray());
+    }
 }
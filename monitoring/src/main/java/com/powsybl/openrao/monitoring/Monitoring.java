@@ -18,6 +18,7 @@ import com.powsybl.loadflow.LoadFlowParameters;
 import com.powsybl.loadflow.LoadFlowResult;
 import com.powsybl.openrao.commons.OpenRaoException;
 import com.powsybl.openrao.commons.PhysicalParameter;
+import com.powsybl.openrao.commons.RandomizedString;
 import com.powsybl.openrao.commons.Unit;
 import com.powsybl.openrao.data.crac.api.Crac;
 import com.powsybl.openrao.data.crac.api.RemedialAction;
@@ -26,6 +27,7 @@ import com.powsybl.openrao.data.crac.api.cnec.Cnec;
 import com.powsybl.openrao.data.crac.api.cnec.CnecValue;
 import com.powsybl.openrao.data.crac.api.networkaction.NetworkAction;
 import com.powsybl.openrao.data.crac.api.usagerule.OnConstraint;
+import com.powsybl.openrao.data.crac.impl.AngleAndVoltageCnecEvaluator;
 import com.powsybl.openrao.data.crac.impl.AngleCnecValue;
 import com.powsybl.openrao.data.crac.impl.VoltageCnecValue;
 import com.powsybl.openrao.data.raoresult.api.RaoResult;
@@ -51,11 +53,15 @@ public class Monitoring {
 
     private final String loadFlowProvider;
     private final LoadFlowParameters loadFlowParameters;
+    // used for load-flows computed on networks which already hold the results of a converged AC load-flow
+    private final LoadFlowParameters warmStartLoadFlowParameters;
     Map<PhysicalParameter, Unit> parameterToUnitMap = new HashMap<>();
 
     public Monitoring(String loadFlowProvider, LoadFlowParameters loadFlowParameters) {
         this.loadFlowProvider = loadFlowProvider;
         this.loadFlowParameters = loadFlowParameters;
+        this.warmStartLoadFlowParameters = loadFlowParameters.isDc() || loadFlowParameters.getVoltageInitMode() == LoadFlowParameters.VoltageInitMode.PREVIOUS_VALUES ?
+            null : loadFlowParameters.copy().setVoltageInitMode(LoadFlowParameters.VoltageInitMode.PREVIOUS_VALUES);
         parameterToUnitMap.put(PhysicalParameter.ANGLE, Unit.DEGREE);
         parameterToUnitMap.put(PhysicalParameter.VOLTAGE, Unit.KILOVOLT);
     }
@@ -76,56 +82,101 @@ public class Monitoring {
         return new RaoResultWithVoltageMonitoring(monitoringInput.getRaoResult(), new Monitoring(loadFlowProvider, loadFlowParameters).runMonitoring(monitoringInput, numberOfLoadFlowsInParallel));
     }
 
+    /**
+     * Main function : runs AngleMonitoring and VoltageMonitoring computations on all AngleCnecs and VoltageCnecs
+     * defined in the CRAC, computing a single load-flow per state for both of them.
+     * The monitoring input must contain the scalable zonal data needed by AngleMonitoring (see
+     * {@link MonitoringInput#buildWithAngle}).
+     * Returns an RaoResult enhanced with both AngleMonitoringResult and VoltageMonitoringResult: it is a
+     * RaoResultWithVoltageMonitoring built on top of a RaoResultWithAngleMonitoring.
+     */
+    public static RaoResult runAngleAndVoltageAndUpdateRaoResult(String loadFlowProvider, LoadFlowParameters loadFlowParameters, int numberOfLoadFlowsInParallel, MonitoringInput monitoringInput) {
+        Map<PhysicalParameter, MonitoringResult> monitoringResults = new Monitoring(loadFlowProvider, loadFlowParameters)
+            .runMonitoring(monitoringInput, List.of(PhysicalParameter.ANGLE, PhysicalParameter.VOLTAGE), numberOfLoadFlowsInParallel);
+        RaoResult raoResultWithAngleMonitoring = new RaoResultWithAngleMonitoring(monitoringInput.getRaoResult(), monitoringResults.get(PhysicalParameter.ANGLE));
+        return new RaoResultWithVoltageMonitoring(raoResultWithAngleMonitoring, monitoringResults.get(PhysicalParameter.VOLTAGE));
+    }
+
     public MonitoringResult runMonitoring(MonitoringInput monitoringInput, int numberOfLoadFlowsInParallel) {
         PhysicalParameter physicalParameter = monitoringInput.getPhysicalParameter();
+        return runMonitoring(monitoringInput, List.of(physicalParameter), numberOfLoadFlowsInParallel).get(physicalParameter);
+    }
+
+    /**
+     * Monitors the CNECs of several physical parameters at once. A single load-flow is computed per state for all
+     * of them; it is only computed again for the physical parameters whose CNECs require remedial actions.
+     * The remedial actions applied for one physical parameter are not seen by the other ones: when several physical
+     * parameters are monitored, they are applied on temporary variants, and the network is only modified by the
+     * optimal remedial actions of the preventive state.
+     */
+    public Map<PhysicalParameter, MonitoringResult> runMonitoring(MonitoringInput monitoringInput, List<PhysicalParameter> physicalParameters, int numberOfLoadFlowsInParallel) {
         Network inputNetwork = monitoringInput.getNetwork();
         Crac crac = monitoringInput.getCrac();
         RaoResult raoResult = monitoringInput.getRaoResult();
+        String monitoredPhysicalParameters = physicalParameters.stream().map(PhysicalParameter::toString).collect(Collectors.joining(" and "));
 
-        MonitoringResult monitoringResult = new MonitoringResult(physicalParameter, Collections.emptySet(), Collections.emptyMap(), Cnec.SecurityStatus.SECURE);
+        Map<PhysicalParameter, MonitoringResult> monitoringResults = new EnumMap<>(PhysicalParameter.class);
+        physicalParameters.forEach(physicalParameter -> monitoringResults.put(physicalParameter, new MonitoringResult(physicalParameter, Collections.emptySet(), Collections.emptyMap(), Cnec.SecurityStatus.SECURE)));
 
-        BUSINESS_LOGS.info("----- {} monitoring [start]", physicalParameter);
-        Set<Cnec> cnecs = crac.getCnecs(physicalParameter);
-        if (cnecs.isEmpty()) {
-            BUSINESS_WARNS.warn("No Cnecs of type '{}' defined.", physicalParameter);
-            BUSINESS_LOGS.info("----- {} monitoring [end]", physicalParameter);
-            return monitoringResult;
+        BUSINESS_LOGS.info("----- {} monitoring [start]", monitoredPhysicalParameters);
+        List<PhysicalParameter> physicalParametersWithCnecs = new ArrayList<>();
+        for (PhysicalParameter physicalParameter : physicalParameters) {
+            if (crac.getCnecs(physicalParameter).isEmpty()) {
+                BUSINESS_WARNS.warn("No Cnecs of type '{}' defined.", physicalParameter);
+            } else {
+                physicalParametersWithCnecs.add(physicalParameter);
+            }
+        }
+        if (physicalParametersWithCnecs.isEmpty()) {
+            BUSINESS_LOGS.info("----- {} monitoring [end]", monitoredPhysicalParameters);
+            return monitoringResults;
         }
 
         // I) Preventive state
         State preventiveState = crac.getPreventiveState();
+        // The networks of the pool are copies of the preventive network: if its load-flow converged, the load-flows
+        // of the contingency states start from its voltages and angles
+        boolean preventiveLoadFlowConverged;
         if (Objects.nonNull(preventiveState)) {
             applyOptimalRemedialActions(preventiveState, inputNetwork, raoResult);
-            Set<Cnec> preventiveStateCnecs = crac.getCnecs(physicalParameter, preventiveState);
-            MonitoringResult preventiveStateMonitoringResult = monitorCnecs(preventiveState, preventiveStateCnecs, inputNetwork, monitoringInput);
-            preventiveStateMonitoringResult.printConstraints().forEach(BUSINESS_LOGS::info);
-            monitoringResult.combine(preventiveStateMonitoringResult);
+            Map<PhysicalParameter, MonitoringResult> preventiveMonitoringResults = monitorState(preventiveState, inputNetwork, monitoringInput, physicalParametersWithCnecs, false);
+            preventiveLoadFlowConverged = preventiveMonitoringResults.values().stream().noneMatch(result -> result.getStatus().equals(Cnec.SecurityStatus.FAILURE));
+            combineStateMonitoringResults(monitoringResults, preventiveMonitoringResults);
+        } else {
+            preventiveLoadFlowConverged = false;
         }
 
         // II) Curative states
-        Set<State> contingencyStates = crac.getCnecs(physicalParameter).stream().map(Cnec::getState).filter(state -> !state.isPreventive()).collect(Collectors.toSet());
-        if (contingencyStates.isEmpty()) {
-            BUSINESS_LOGS.info("----- {} monitoring [end]", physicalParameter);
-            return monitoringResult;
+        Map<State, List<PhysicalParameter>> physicalParametersPerContingencyState = new HashMap<>();
+        physicalParametersWithCnecs.forEach(physicalParameter -> crac.getCnecs(physicalParameter).stream()
+            .map(Cnec::getState)
+            .filter(state -> !state.isPreventive())
+            .distinct()
+            .forEach(state -> physicalParametersPerContingencyState.computeIfAbsent(state, s -> new ArrayList<>()).add(physicalParameter)));
+        if (physicalParametersPerContingencyState.isEmpty()) {
+            BUSINESS_LOGS.info("----- {} monitoring [end]", monitoredPhysicalParameters);
+            return monitoringResults;
         }
 
-        try (AbstractNetworkPool networkPool = AbstractNetworkPool.create(inputNetwork, inputNetwork.getVariantManager().getWorkingVariantId(), Math.min(numberOfLoadFlowsInParallel, contingencyStates.size()), true)) {
-            List<ForkJoinTask<Object>> tasks = contingencyStates.stream().map(state ->
+        try (AbstractNetworkPool networkPool = AbstractNetworkPool.create(inputNetwork, inputNetwork.getVariantManager().getWorkingVariantId(), Math.min(numberOfLoadFlowsInParallel, physicalParametersPerContingencyState.size()), true)) {
+            List<ForkJoinTask<Object>> tasks = physicalParametersPerContingencyState.entrySet().stream().map(stateAndPhysicalParameters ->
                 networkPool.submit(() -> {
                     Network networkClone = networkPool.getAvailableNetwork();
+                    State state = stateAndPhysicalParameters.getKey();
+                    List<PhysicalParameter> statePhysicalParameters = stateAndPhysicalParameters.getValue();
 
                     Contingency contingency = state.getContingency().orElseThrow();
                     if (!contingency.isValid(networkClone)) {
-                        monitoringResult.combine(makeFailedMonitoringResultForStateWithNaNCnecRsults(monitoringInput, physicalParameter, state, "Unable to apply contingency " + contingency.getId()));
+                        Map<PhysicalParameter, MonitoringResult> failedMonitoringResults = new EnumMap<>(PhysicalParameter.class);
+                        statePhysicalParameters.forEach(physicalParameter -> failedMonitoringResults.put(physicalParameter,
+                            makeFailedMonitoringResultForStateWithNaNCnecRsults(monitoringInput, physicalParameter, state, "Unable to apply contingency " + contingency.getId())));
+                        combineStateMonitoringResults(monitoringResults, failedMonitoringResults);
                         networkPool.releaseUsedNetwork(networkClone);
                         return null;
                     }
                     contingency.toModification().apply(networkClone, (ComputationManager) null);
                     applyOptimalRemedialActionsOnContingencyState(state, networkClone, crac, raoResult);
-                    Set<Cnec> currentStateCnecs = crac.getCnecs(physicalParameter, state);
-                    MonitoringResult currentStateMonitoringResult = monitorCnecs(state, currentStateCnecs, networkClone, monitoringInput);
-                    currentStateMonitoringResult.printConstraints().forEach(BUSINESS_LOGS::info);
-                    monitoringResult.combine(currentStateMonitoringResult);
+                    combineStateMonitoringResults(monitoringResults, monitorState(state, networkClone, monitoringInput, statePhysicalParameters, preventiveLoadFlowConverged));
                     networkPool.releaseUsedNetwork(networkClone);
                     return null;
                 })).toList();
@@ -142,35 +193,88 @@ public class Monitoring {
             Thread.currentThread().interrupt();
         }
 
-        BUSINESS_LOGS.info("----- {} monitoring [end]", physicalParameter);
-        monitoringResult.printConstraints().forEach(BUSINESS_LOGS::info);
-        return monitoringResult;
+        BUSINESS_LOGS.info("----- {} monitoring [end]", monitoredPhysicalParameters);
+        monitoringResults.values().forEach(monitoringResult -> monitoringResult.printConstraints().forEach(BUSINESS_LOGS::info));
+        return monitoringResults;
     }
 
-    private MonitoringResult monitorCnecs(State state, Set<Cnec> cnecs, Network network, MonitoringInput monitoringInput) {
-        PhysicalParameter physicalParameter = monitoringInput.getPhysicalParameter();
-        Unit unit = parameterToUnitMap.get(physicalParameter);
-        Set<CnecResult> cnecResults = new HashSet<>();
-        BUSINESS_LOGS.info("-- '{}' Monitoring at state '{}' [start]", physicalParameter, state);
-        boolean lfSuccess = computeLoadFlow(network);
+    private static void combineStateMonitoringResults(Map<PhysicalParameter, MonitoringResult> monitoringResults, Map<PhysicalParameter, MonitoringResult> stateMonitoringResults) {
+        synchronized (monitoringResults) {
+            stateMonitoringResults.forEach((physicalParameter, stateMonitoringResult) -> {
+                stateMonitoringResult.printConstraints().forEach(BUSINESS_LOGS::info);
+                monitoringResults.get(physicalParameter).combine(stateMonitoringResult);
+            });
+        }
+    }
+
+    /**
+     * Computes a load-flow on the network, and monitors the CNECs of the given physical parameters on the state.
+     * If warmStart is true, the network must hold the results of a converged load-flow, used as a starting point.
+     * When several physical parameters are monitored, the CNECs of each of them are monitored on a temporary variant
+     * if remedial actions might be applied to secure them: the network of the state is left unchanged, so that the
+     * remedial actions applied for one physical parameter are seen neither by the other ones, nor by the contingency
+     * states whose networks are copied from the preventive one.
+     */
+    private Map<PhysicalParameter, MonitoringResult> monitorState(State state, Network network, MonitoringInput monitoringInput, List<PhysicalParameter> physicalParameters, boolean warmStart) {
+        Map<PhysicalParameter, MonitoringResult> stateMonitoringResults = new EnumMap<>(PhysicalParameter.class);
+        physicalParameters.forEach(physicalParameter -> BUSINESS_LOGS.info("-- '{}' Monitoring at state '{}' [start]", physicalParameter, state));
+        boolean lfSuccess = computeLoadFlow(network, warmStart);
         if (!lfSuccess) {
             String failureReason = "Load-flow computation failed at state {}. Skipping this state." + state;
-            return makeFailedMonitoringResultForStateWithNaNCnecRsults(monitoringInput, physicalParameter, state, failureReason);
+            physicalParameters.forEach(physicalParameter -> stateMonitoringResults.put(physicalParameter, makeFailedMonitoringResultForStateWithNaNCnecRsults(monitoringInput, physicalParameter, state, failureReason)));
+            return stateMonitoringResults;
+        }
+        boolean severalPhysicalParameters = physicalParameters.size() > 1;
+        for (PhysicalParameter physicalParameter : physicalParameters) {
+            Set<Cnec> cnecs = monitoringInput.getCrac().getCnecs(physicalParameter, state);
+            AngleAndVoltageCnecEvaluator cnecEvaluator = new AngleAndVoltageCnecEvaluator(cnecs, parameterToUnitMap.get(physicalParameter));
+            cnecEvaluator.evaluate(network);
+            if (severalPhysicalParameters && cnecEvaluator.hasNegativeMargin()) {
+                stateMonitoringResults.put(physicalParameter, monitorCnecsOnTemporaryVariant(state, cnecs, cnecEvaluator, network, monitoringInput, physicalParameter));
+            } else {
+                stateMonitoringResults.put(physicalParameter, monitorCnecs(state, cnecs, cnecEvaluator, network, monitoringInput, physicalParameter));
+            }
+            BUSINESS_LOGS.info("-- '{}' Monitoring at state '{}' [end]", physicalParameter, state);
         }
+        return stateMonitoringResults;
+    }
+
+    private MonitoringResult monitorCnecsOnTemporaryVariant(State state, Set<Cnec> cnecs, AngleAndVoltageCnecEvaluator cnecEvaluator, Network network, MonitoringInput monitoringInput, PhysicalParameter physicalParameter) {
+        String initialVariant = network.getVariantManager().getWorkingVariantId();
+        String temporaryVariant = RandomizedString.getRandomizedString("Monitoring", network.getVariantManager().getVariantIds(), 10);
+        network.getVariantManager().cloneVariant(initialVariant, temporaryVariant);
+        network.getVariantManager().setWorkingVariant(temporaryVariant);
+        try {
+            return monitorCnecs(state, cnecs, cnecEvaluator, network, monitoringInput, physicalParameter);
+        } finally {
+            network.getVariantManager().setWorkingVariant(initialVariant);
+            network.getVariantManager().removeVariant(temporaryVariant);
+        }
+    }
+
+    /**
+     * Monitors the CNECs of a physical parameter on a network on which a load-flow has already been computed, and
+     * which has already been evaluated by the cnecEvaluator.
+     * Remedial actions are applied to secure the CNECs with a negative margin, in which case a new load-flow is
+     * computed.
+     */
+    private MonitoringResult monitorCnecs(State state, Set<Cnec> cnecs, AngleAndVoltageCnecEvaluator cnecEvaluator, Network network, MonitoringInput monitoringInput, PhysicalParameter physicalParameter) {
+        Unit unit = parameterToUnitMap.get(physicalParameter);
+        Set<CnecResult> cnecResults = new HashSet<>();
         List<AppliedNetworkActionsResult> appliedNetworkActionsResultList = new ArrayList<>();
         cnecs.forEach(cnec -> {
-            if (cnec.computeMargin(network, unit) < 0) {
+            if (cnecEvaluator.getMargin(cnec) < 0) {
                 // For Cnecs with overshoot, get associated remedial actions
                 Set<NetworkAction> availableNetworkActions = getNetworkActionsAssociatedToCnec(state, monitoringInput.getCrac(), cnec, physicalParameter);
                 // if there is any RA(s) available apply it/them
                 if (!availableNetworkActions.isEmpty()) {
-                    AppliedNetworkActionsResult appliedNetworkActionsResult = applyNetworkActions(network, availableNetworkActions, cnec.getId(), monitoringInput);
+                    AppliedNetworkActionsResult appliedNetworkActionsResult = applyNetworkActions(network, availableNetworkActions, cnec.getId(), monitoringInput, physicalParameter);
                     if (!appliedNetworkActionsResult.getAppliedNetworkActions().isEmpty()) {
                         appliedNetworkActionsResultList.add(appliedNetworkActionsResult);
                     }
                 }
             }
-            CnecResult cnecResult = new CnecResult(cnec, unit, cnec.computeValue(network, unit), cnec.computeMargin(network, unit), cnec.computeSecurityStatus(network, unit));
+            CnecResult cnecResult = new CnecResult(cnec, unit, cnecEvaluator.getValue(cnec), cnecEvaluator.getMargin(cnec), cnecEvaluator.getSecurityStatus(cnec));
             cnecResults.add(cnecResult);
         });
 
@@ -178,19 +282,21 @@ public class Monitoring {
 
         // If some action were applied, recompute a loadflow
         if (appliedNetworkActionsResultList.stream().map(AppliedNetworkActionsResult::getAppliedNetworkActions).findAny().isPresent()) {
-            lfSuccess = computeLoadFlow(network);
+            // the network still holds the results of the load-flow computed before applying the remedial actions
+            boolean lfSuccess = computeLoadFlow(network, true);
             if (!lfSuccess) {
                 String failureReason = "Load-flow computation failed at state {} after applying RAs. Skipping this state." + state;
                 return makeFailedMonitoringResultForState(physicalParameter, state, failureReason, cnecResults);
             }
             // Re-compute all voltage/angle values
+            cnecEvaluator.evaluate(network);
             cnecResults.clear();
             cnecs.forEach(cnec -> {
                 CnecResult cnecResult = new CnecResult(cnec,
                     unit,
-                    cnec.computeValue(network, unit),
-                    cnec.computeMargin(network, unit),
-                    cnec.computeSecurityStatus(network, unit));
+                    cnecEvaluator.getValue(cnec),
+                    cnecEvaluator.getMargin(cnec),
+                    cnecEvaluator.getSecurityStatus(cnec));
                 cnecResults.add(cnecResult);
             });
         }
@@ -203,7 +309,6 @@ public class Monitoring {
                     .toArray(Cnec.SecurityStatus[]::new));
         }
 
-        BUSINESS_LOGS.info("-- '{}' Monitoring at state '{}' [end]", physicalParameter, state);
         return new MonitoringResult(physicalParameter,
             cnecResults,
             Map.of(state, appliedNetworkActionsResultList.stream().flatMap(r -> r.getAppliedNetworkActions().stream()).collect(Collectors.toSet())),
@@ -252,11 +357,28 @@ public class Monitoring {
     /**
      * Runs a LoadFlow computation
      * Returns false if loadFlow has not converged.
+     * If warmStart is true, the voltages and angles of the network are used as a starting point, and the load-flow is
+     * computed again with the initial parameters if it does not converge or if the provider fails.
      */
-    private boolean computeLoadFlow(Network network) {
+    boolean computeLoadFlow(Network network, boolean warmStart) {
         TECHNICAL_LOGS.info("Load-flow computation [start]");
-        LoadFlowResult loadFlowResult = LoadFlow.find(loadFlowProvider)
-            .run(network, loadFlowParameters);
+        LoadFlowResult loadFlowResult = null;
+        if (warmStart && warmStartLoadFlowParameters != null) {
+            try {
+                loadFlowResult = LoadFlow.find(loadFlowProvider).run(network, warmStartLoadFlowParameters);
+                if (!loadFlowResult.isFullyConverged()) {
+                    TECHNICAL_LOGS.info("Warm-started load-flow did not converge, it is computed again from the initial values");
+                    loadFlowResult = null;
+                }
+            } catch (Exception e) {
+                TECHNICAL_LOGS.info("Warm-started load-flow failed ({}), it is computed again from the initial values", e.getMessage());
+                loadFlowResult = null;
+            }
+        }
+        if (loadFlowResult == null) {
+            loadFlowResult = LoadFlow.find(loadFlowProvider)
+                .run(network, loadFlowParameters);
+        }
         if (loadFlowResult.isFailed()) {
             BUSINESS_WARNS.warn("LoadFlow error.");
         }
@@ -291,10 +413,10 @@ public class Monitoring {
         }).map(NetworkAction.class::cast).collect(Collectors.toSet());
     }
 
-    private AppliedNetworkActionsResult applyNetworkActions(Network network, Set<NetworkAction> availableNetworkActions, String cnecId, MonitoringInput monitoringInput) {
+    private AppliedNetworkActionsResult applyNetworkActions(Network network, Set<NetworkAction> availableNetworkActions, String cnecId, MonitoringInput monitoringInput, PhysicalParameter physicalParameter) {
         AppliedNetworkActionsResult appliedNetworkActionsResult;
         Set<RemedialAction> appliedNetworkActions = new TreeSet<>(Comparator.comparing(RemedialAction::getId));
-        if (monitoringInput.getPhysicalParameter().equals(PhysicalParameter.VOLTAGE)) {
+        if (physicalParameter.equals(PhysicalParameter.VOLTAGE)) {
             for (NetworkAction na : availableNetworkActions) {
                 na.apply(network);
                 appliedNetworkActions.add(na);
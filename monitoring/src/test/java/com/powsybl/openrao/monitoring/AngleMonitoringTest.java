@@ -15,6 +15,7 @@ import com.powsybl.iidm.modification.scalable.Scalable;
 import com.powsybl.iidm.network.ImportConfig;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.loadflow.LoadFlowParameters;
+import com.powsybl.openrao.commons.MinOrMax;
 import com.powsybl.openrao.commons.OpenRaoException;
 import com.powsybl.openrao.commons.PhysicalParameter;
 import com.powsybl.openrao.commons.Unit;
@@ -27,6 +28,7 @@ import com.powsybl.openrao.data.crac.api.State;
 import com.powsybl.openrao.data.crac.api.cnec.AngleCnec;
 import com.powsybl.openrao.data.crac.api.cnec.Cnec;
 import com.powsybl.openrao.data.crac.api.cnec.CnecValue;
+import com.powsybl.openrao.data.crac.api.cnec.VoltageCnec;
 import com.powsybl.openrao.data.crac.api.networkaction.ActionType;
 import com.powsybl.openrao.data.crac.api.networkaction.NetworkAction;
 import com.powsybl.openrao.data.crac.api.parameters.CracCreationParameters;
@@ -141,6 +143,41 @@ class AngleMonitoringTest {
             .add();
     }
 
+    private VoltageCnec addVoltageCnec(String id, String instantId, String contingency, String networkElement, Double min, Double max) {
+        return crac.newVoltageCnec()
+            .withId(id)
+            .withInstant(instantId)
+            .withContingency(contingency)
+            .withNetworkElement(networkElement)
+            .withMonitored()
+            .newThreshold().withUnit(Unit.KILOVOLT).withMin(min).withMax(max).add()
+            .add();
+    }
+
+    /**
+     * The preventive angle and voltage CNECs both trigger a remedial action on LD2, and the curative angle CNEC is
+     * secure without remedial action. Neither preventive remedial action must be seen by the other physical parameter
+     * nor by the curative state.
+     */
+    private void setUpAngleAndVoltageCnecsWithPreventiveRas() {
+        setUpCracFactory("network.xiidm");
+        acPrev = addAngleCnec("acPrev", PREVENTIVE_INSTANT_ID, null, "VL1", "VL2", -2., 500.);
+        addVoltageCnec("vcPrev", PREVENTIVE_INSTANT_ID, null, "VL2", 390., 500.);
+        crac.newContingency().withId("coL1").withContingencyElement("L1", ContingencyElementType.LINE).add();
+        acCur1 = addAngleCnec("acCur1", CURATIVE_INSTANT_ID, "coL1", "VL1", "VL2", -10., null);
+        addVoltageCnec("vcCur1", CURATIVE_INSTANT_ID, "coL1", "VL2", 300., 500.);
+        crac.newNetworkAction()
+            .withId("Angle injection LD2")
+            .newLoadAction().withNetworkElement("LD2").withActivePowerValue(50.).add()
+            .newOnConstraintUsageRule().withInstant(PREVENTIVE_INSTANT_ID).withCnec("acPrev").withUsageMethod(UsageMethod.AVAILABLE).add()
+            .add();
+        crac.newNetworkAction()
+            .withId("Voltage injection LD2")
+            .newLoadAction().withNetworkElement("LD2").withActivePowerValue(0.).add()
+            .newOnConstraintUsageRule().withInstant(PREVENTIVE_INSTANT_ID).withCnec("vcPrev").withUsageMethod(UsageMethod.AVAILABLE).add()
+            .add();
+    }
+
     private void runAngleMonitoring(ZonalData<Scalable> scalableZonalData) {
         MonitoringInput monitoringInput = new MonitoringInput.MonitoringInputBuilder().withCrac(crac).withNetwork(network).withRaoResult(raoResult).withPhysicalParameter(PhysicalParameter.ANGLE).withScalableZonalData(scalableZonalData).build();
         angleMonitoringResult = new Monitoring("OpenLoadFlow", loadFlowParameters).runMonitoring(monitoringInput, 1);
@@ -364,5 +401,36 @@ class AngleMonitoringTest {
         assertFalse(raoResultWithAngleMonitoring.isSecure());
     }
 
-}
+    @Test
+    void testAngleRasAreNotSeenByVoltageMonitoring() {
+        setUpAngleAndVoltageCnecsWithPreventiveRas();
+        ZonalData<Scalable> scalableZonalData = CimGlskDocument.importGlsk(getClass().getResourceAsStream("/GlskB45test.xml")).getZonalScalable(network);
+        MonitoringInput monitoringInput = new MonitoringInput.MonitoringInputBuilder().withCrac(crac).withNetwork(network).withRaoResult(raoResult).withPhysicalParameter(PhysicalParameter.ANGLE).withScalableZonalData(scalableZonalData).build();
+
+        Map<PhysicalParameter, MonitoringResult> monitoringResults = new Monitoring("OpenLoadFlow", loadFlowParameters)
+            .runMonitoring(monitoringInput, List.of(PhysicalParameter.ANGLE, PhysicalParameter.VOLTAGE), 1);
+
+        assertEquals(Set.of("Angle injection LD2"), monitoringResults.get(PhysicalParameter.ANGLE).getAppliedRas("preventive"));
+        assertEquals(Set.of("Voltage injection LD2"), monitoringResults.get(PhysicalParameter.VOLTAGE).getAppliedRas("preventive"));
+        // the preventive remedial actions of both physical parameters were applied on temporary variants
+        assertEquals(100., network.getLoad("LD2").getP0(), 1e-6);
+        double acCur1Value = monitoringResults.get(PhysicalParameter.ANGLE).getCnecResults().stream().filter(cr -> cr.getId().equals("acCur1"))
+            .map(CnecResult::getValue).map(AngleCnecValue.class::cast).findFirst().orElseThrow().value();
+        assertEquals(-7.71, acCur1Value, 0.01);
+    }
 
+    @Test
+    void testRunAngleAndVoltageAndUpdateRaoResult() {
+        setUpAngleAndVoltageCnecsWithPreventiveRas();
+        ZonalData<Scalable> scalableZonalData = CimGlskDocument.importGlsk(getClass().getResourceAsStream("/GlskB45test.xml")).getZonalScalable(network);
+        MonitoringInput monitoringInput = new MonitoringInput.MonitoringInputBuilder().withCrac(crac).withNetwork(network).withRaoResult(raoResult).withPhysicalParameter(PhysicalParameter.ANGLE).withScalableZonalData(scalableZonalData).build();
+
+        RaoResult raoResultWithAngleAndVoltageMonitoring = Monitoring.runAngleAndVoltageAndUpdateRaoResult("OpenLoadFlow", loadFlowParameters, 1, monitoringInput);
+
+        assertEquals(Set.of(crac.getNetworkAction("Angle injection LD2"), crac.getNetworkAction("Voltage injection LD2")),
+            raoResultWithAngleAndVoltageMonitoring.getActivatedNetworkActionsDuringState(crac.getPreventiveState()));
+        assertEquals(-7.71, raoResultWithAngleAndVoltageMonitoring.getAngle(curativeInstant, acCur1, Unit.DEGREE), 0.01);
+        double vcCur1Voltage = raoResultWithAngleAndVoltageMonitoring.getMinVoltage(curativeInstant, crac.getVoltageCnec("vcCur1"), MinOrMax.MIN, Unit.KILOVOLT);
+        assertFalse(Double.isNaN(vcCur1Voltage));
+    }
+}
@@ -6,9 +6,12 @@
  */
 package com.powsybl.openrao.monitoring;
 
+import com.powsybl.commons.PowsyblException;
 import com.powsybl.contingency.ContingencyElementType;
 import com.powsybl.iidm.network.Network;
+import com.powsybl.loadflow.LoadFlow;
 import com.powsybl.loadflow.LoadFlowParameters;
+import com.powsybl.loadflow.LoadFlowResult;
 import com.powsybl.openrao.commons.MinOrMax;
 import com.powsybl.openrao.commons.OpenRaoException;
 import com.powsybl.openrao.commons.PhysicalParameter;
@@ -29,12 +32,18 @@ import com.powsybl.openrao.monitoring.results.CnecResult;
 import com.powsybl.openrao.monitoring.results.MonitoringResult;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatcher;
+import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -276,6 +285,34 @@ class VoltageMonitoringTest {
             voltageMonitoringResult.printConstraints());
     }
 
+    @Test
+    void testAngleAndVoltageMonitoredTogether() {
+        addVoltageCnec("vc1", CURATIVE_INSTANT_ID, "coL1", "VL2", 375., 395.);
+        addVoltageCnec("vc2", CURATIVE_INSTANT_ID, "coL2", "VL3", 375., 395.);
+        crac.newAngleCnec()
+            .withId("ac1")
+            .withInstant(CURATIVE_INSTANT_ID)
+            .withContingency("coL1")
+            .withImportingNetworkElement("VL1")
+            .withExportingNetworkElement("VL2")
+            .withMonitored()
+            .newThreshold().withUnit(Unit.DEGREE).withMin(-180.).withMax(180.).add()
+            .add();
+
+        MonitoringInput monitoringInput = MonitoringInput.buildWithAngle(network, crac, raoResult, null).build();
+        Map<PhysicalParameter, MonitoringResult> monitoringResults = new Monitoring("OpenLoadFlow", loadFlowParameters)
+            .runMonitoring(monitoringInput, List.of(PhysicalParameter.ANGLE, PhysicalParameter.VOLTAGE), 1);
+
+        assertEquals(Cnec.SecurityStatus.SECURE, monitoringResults.get(PhysicalParameter.ANGLE).getStatus());
+        assertEquals(1, monitoringResults.get(PhysicalParameter.ANGLE).getCnecResults().size());
+        voltageMonitoringResult = monitoringResults.get(PhysicalParameter.VOLTAGE);
+        assertEquals(Cnec.SecurityStatus.HIGH_AND_LOW_CONSTRAINTS, voltageMonitoringResult.getStatus());
+        assertEquals(List.of("Some VOLTAGE Cnecs are not secure:",
+                "Network element VL2 at state coL1 - curative has a min voltage of 368.12 kV and a max voltage of 368.12 kV.",
+                "Network element VL3 at state coL2 - curative has a min voltage of 400.0 kV and a max voltage of 400.0 kV."),
+            voltageMonitoringResult.printConstraints());
+    }
+
     @Test
     void testCurativeStatesConstraintsSolvedByCras() {
         // Same as previous case, except here applied CRAs revert the contingencies
@@ -572,5 +609,70 @@ class VoltageMonitoringTest {
         assertFalse(raoResultWithVoltageMonitoring.isSecure());
     }
 
-}
+    @Test
+    void testWarmStartedLoadFlowAndFallback() {
+        ArgumentMatcher<LoadFlowParameters> isWarmStart = parameters -> parameters != loadFlowParameters
+            && parameters.getVoltageInitMode() == LoadFlowParameters.VoltageInitMode.PREVIOUS_VALUES;
+        LoadFlowResult convergedResult = Mockito.mock(LoadFlowResult.class);
+        when(convergedResult.isFullyConverged()).thenReturn(true);
+        LoadFlowResult divergedResult = Mockito.mock(LoadFlowResult.class);
+        LoadFlow.Runner runner = Mockito.mock(LoadFlow.Runner.class);
+        when(runner.run(same(network), same(loadFlowParameters))).thenReturn(convergedResult);
+        Monitoring monitoring = new Monitoring("OpenLoadFlow", loadFlowParameters);
+
+        try (MockedStatic<LoadFlow> loadFlowMockedStatic = Mockito.mockStatic(LoadFlow.class)) {
+            loadFlowMockedStatic.when(() -> LoadFlow.find("OpenLoadFlow")).thenReturn(runner);
+
+            // without warm start, the load-flow is computed once with the initial parameters
+            assertTrue(monitoring.computeLoadFlow(network, false));
+            verify(runner, never()).run(same(network), argThat(isWarmStart));
+            verify(runner).run(network, loadFlowParameters);
+
+            // converged warm-started load-flow: no other computation
+            Mockito.clearInvocations(runner);
+            when(runner.run(same(network), argThat(isWarmStart))).thenReturn(convergedResult);
+            assertTrue(monitoring.computeLoadFlow(network, true));
+            verify(runner).run(same(network), argThat(isWarmStart));
+            verify(runner, never()).run(network, loadFlowParameters);
+
+            // diverged warm-started load-flow: computed again with the initial parameters
+            Mockito.clearInvocations(runner);
+            when(runner.run(same(network), argThat(isWarmStart))).thenReturn(divergedResult);
+            assertTrue(monitoring.computeLoadFlow(network, true));
+            verify(runner).run(same(network), argThat(isWarmStart));
+            verify(runner).run(network, loadFlowParameters);
+
+            // failed warm-started load-flow: computed again with the initial parameters
+            Mockito.clearInvocations(runner);
+            when(runner.run(same(network), argThat(isWarmStart))).thenThrow(new PowsyblException("Warm start failed"));
+            assertTrue(monitoring.computeLoadFlow(network, true));
+            verify(runner).run(network, loadFlowParameters);
+
+            // both load-flows diverge
+            Mockito.clearInvocations(runner);
+            when(runner.run(same(network), same(loadFlowParameters))).thenReturn(divergedResult);
+            assertFalse(monitoring.computeLoadFlow(network, true));
+            verify(runner).run(network, loadFlowParameters);
+        }
+    }
 
+    @Test
+    void testNoWarmStartWithDcOrPreviousValuesParameters() {
+        LoadFlowResult convergedResult = Mockito.mock(LoadFlowResult.class);
+        when(convergedResult.isFullyConverged()).thenReturn(true);
+        LoadFlow.Runner runner = Mockito.mock(LoadFlow.Runner.class);
+        when(runner.run(same(network), any(LoadFlowParameters.class))).thenReturn(convergedResult);
+        LoadFlowParameters dcParameters = new LoadFlowParameters().setDc(true);
+        LoadFlowParameters previousValuesParameters = new LoadFlowParameters().setVoltageInitMode(LoadFlowParameters.VoltageInitMode.PREVIOUS_VALUES);
+
+        try (MockedStatic<LoadFlow> loadFlowMockedStatic = Mockito.mockStatic(LoadFlow.class)) {
+            loadFlowMockedStatic.when(() -> LoadFlow.find("OpenLoadFlow")).thenReturn(runner);
+
+            assertTrue(new Monitoring("OpenLoadFlow", dcParameters).computeLoadFlow(network, true));
+            verify(runner).run(network, dcParameters);
+            assertTrue(new Monitoring("OpenLoadFlow", previousValuesParameters).computeLoadFlow(network, true));
+            verify(runner).run(network, previousValuesParameters);
+            Mockito.verifyNoMoreInteractions(runner);
+        }
+    }
+}
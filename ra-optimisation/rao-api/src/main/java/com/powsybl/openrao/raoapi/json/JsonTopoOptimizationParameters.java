@@ -14,6 +14,7 @@ import com.fasterxml.jackson.core.JsonParser;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 import static com.powsybl.openrao.raoapi.RaoParametersCommons.*;
 
@@ -44,6 +45,12 @@ final class JsonTopoOptimizationParameters {
         jsonGenerator.writeNumberField(ABSOLUTE_MINIMUM_IMPACT_THRESHOLD, parameters.getTopoOptimizationParameters().getAbsoluteMinImpactThreshold());
         jsonGenerator.writeBooleanField(SKIP_ACTIONS_FAR_FROM_MOST_LIMITING_ELEMENT, parameters.getTopoOptimizationParameters().getSkipActionsFarFromMostLimitingElement());
         jsonGenerator.writeNumberField(MAX_NUMBER_OF_BOUNDARIES_FOR_SKIPPING_ACTIONS, parameters.getTopoOptimizationParameters().getMaxNumberOfBoundariesForSkippingActions());
+        jsonGenerator.writeBooleanField(ADAPTIVE_ACTIONS_PRIORITIZATION, parameters.getTopoOptimizationParameters().getAdaptiveActionsPrioritization());
+        Optional<Integer> maxNumberOfLeavesAfterPreScreening = parameters.getTopoOptimizationParameters().getMaxNumberOfLeavesAfterPreScreening();
+        if (maxNumberOfLeavesAfterPreScreening.isPresent()) {
+            jsonGenerator.writeNumberField(MAX_NUMBER_OF_LEAVES_AFTER_PRE_SCREENING, maxNumberOfLeavesAfterPreScreening.get());
+        }
+        jsonGenerator.writeBooleanField(TIME_BUDGETED_SEARCH_TREE, parameters.getTopoOptimizationParameters().getTimeBudgetedSearchTree());
         jsonGenerator.writeEndObject();
     }
 
@@ -81,6 +88,18 @@ final class JsonTopoOptimizationParameters {
                     jsonParser.nextToken();
                     raoParameters.getTopoOptimizationParameters().setMaxNumberOfBoundariesForSkippingActions(jsonParser.getIntValue());
                     break;
+                case ADAPTIVE_ACTIONS_PRIORITIZATION:
+                    jsonParser.nextToken();
+                    raoParameters.getTopoOptimizationParameters().setAdaptiveActionsPrioritization(jsonParser.getBooleanValue());
+                    break;
+                case MAX_NUMBER_OF_LEAVES_AFTER_PRE_SCREENING:
+                    jsonParser.nextToken();
+                    raoParameters.getTopoOptimizationParameters().setMaxNumberOfLeavesAfterPreScreening(jsonParser.getIntValue());
+                    break;
+                case TIME_BUDGETED_SEARCH_TREE:
+                    jsonParser.nextToken();
+                    raoParameters.getTopoOptimizationParameters().setTimeBudgetedSearchTree(jsonParser.getBooleanValue());
+                    break;
                 default:
                     throw new OpenRaoException(String.format("Cannot deserialize topological optimization parameters: unexpected field in %s (%s)", TOPOLOGICAL_ACTIONS_OPTIMIZATION, jsonParser.getCurrentName()));
             }
@@ -27,6 +27,8 @@ public class TopoOptimizationParameters {
     private static final double DEFAULT_ABSOLUTE_MIN_IMPACT_THRESHOLD = 0;
     private static final boolean DEFAULT_SKIP_ACTIONS_FAR_FROM_MOST_LIMITING_ELEMENT = false;
     private static final int DEFAULT_MAX_NUMBER_OF_BOUNDARIES_FOR_SKIPPING_ACTIONS = 2;
+    private static final boolean DEFAULT_ADAPTIVE_ACTIONS_PRIORITIZATION = false;
+    private static final boolean DEFAULT_TIME_BUDGETED_SEARCH_TREE = false;
     // Attributes
     private int maxPreventiveSearchTreeDepth = DEFAULT_MAX_SEARCH_TREE_DEPTH;
     private int maxAutoSearchTreeDepth = DEFAULT_MAX_SEARCH_TREE_DEPTH;
@@ -36,6 +38,10 @@ public class TopoOptimizationParameters {
     private double absoluteMinImpactThreshold = DEFAULT_ABSOLUTE_MIN_IMPACT_THRESHOLD;
     private boolean skipActionsFarFromMostLimitingElement = DEFAULT_SKIP_ACTIONS_FAR_FROM_MOST_LIMITING_ELEMENT;
     private int maxNumberOfBoundariesForSkippingActions = DEFAULT_MAX_NUMBER_OF_BOUNDARIES_FOR_SKIPPING_ACTIONS;
+    private boolean adaptiveActionsPrioritization = DEFAULT_ADAPTIVE_ACTIONS_PRIORITIZATION;
+    // no pre-screening if null
+    private Integer maxNumberOfLeavesAfterPreScreening = null;
+    private boolean timeBudgetedSearchTree = DEFAULT_TIME_BUDGETED_SEARCH_TREE;
 
     public void setMaxPreventiveSearchTreeDepth(int maxPreventiveSearchTreeDepth) {
         this.maxPreventiveSearchTreeDepth = maxPreventiveSearchTreeDepth;
@@ -82,6 +88,23 @@ public class TopoOptimizationParameters {
         }
     }
 
+    public void setAdaptiveActionsPrioritization(boolean adaptiveActionsPrioritization) {
+        this.adaptiveActionsPrioritization = adaptiveActionsPrioritization;
+    }
+
+    public void setMaxNumberOfLeavesAfterPreScreening(int maxNumberOfLeavesAfterPreScreening) {
+        if (maxNumberOfLeavesAfterPreScreening < 1) {
+            BUSINESS_WARNS.warn("The value {} provided for max number of leaves after pre-screening is smaller than 1. It will be set to 1.", maxNumberOfLeavesAfterPreScreening);
+            this.maxNumberOfLeavesAfterPreScreening = 1;
+        } else {
+            this.maxNumberOfLeavesAfterPreScreening = maxNumberOfLeavesAfterPreScreening;
+        }
+    }
+
+    public void setTimeBudgetedSearchTree(boolean timeBudgetedSearchTree) {
+        this.timeBudgetedSearchTree = timeBudgetedSearchTree;
+    }
+
     public int getMaxPreventiveSearchTreeDepth() {
         return maxPreventiveSearchTreeDepth;
     }
@@ -110,6 +133,22 @@ public class TopoOptimizationParameters {
         return maxNumberOfBoundariesForSkippingActions;
     }
 
+    public boolean getAdaptiveActionsPrioritization() {
+        return adaptiveActionsPrioritization;
+    }
+
+    /**
+     * Returns the maximum number of leaves evaluated at each depth of the search tree after pre-screening, or an
+     * empty optional if the network actions combinations are not pre-screened
+     */
+    public Optional<Integer> getMaxNumberOfLeavesAfterPreScreening() {
+        return Optional.ofNullable(maxNumberOfLeavesAfterPreScreening);
+    }
+
+    public boolean getTimeBudgetedSearchTree() {
+        return timeBudgetedSearchTree;
+    }
+
     public List<List<String>> getPredefinedCombinations() {
         return predefinedCombinations;
     }
@@ -127,6 +166,9 @@ public class TopoOptimizationParameters {
                     parameters.setAbsoluteMinImpactThreshold(config.getDoubleProperty(ABSOLUTE_MINIMUM_IMPACT_THRESHOLD, DEFAULT_ABSOLUTE_MIN_IMPACT_THRESHOLD));
                     parameters.setSkipActionsFarFromMostLimitingElement(config.getBooleanProperty(SKIP_ACTIONS_FAR_FROM_MOST_LIMITING_ELEMENT, DEFAULT_SKIP_ACTIONS_FAR_FROM_MOST_LIMITING_ELEMENT));
                     parameters.setMaxNumberOfBoundariesForSkippingActions(config.getIntProperty(MAX_NUMBER_OF_BOUNDARIES_FOR_SKIPPING_ACTIONS, DEFAULT_MAX_NUMBER_OF_BOUNDARIES_FOR_SKIPPING_ACTIONS));
+                    parameters.setAdaptiveActionsPrioritization(config.getBooleanProperty(ADAPTIVE_ACTIONS_PRIORITIZATION, DEFAULT_ADAPTIVE_ACTIONS_PRIORITIZATION));
+                    config.getOptionalIntProperty(MAX_NUMBER_OF_LEAVES_AFTER_PRE_SCREENING).ifPresent(parameters::setMaxNumberOfLeavesAfterPreScreening);
+                    parameters.setTimeBudgetedSearchTree(config.getBooleanProperty(TIME_BUDGETED_SEARCH_TREE, DEFAULT_TIME_BUDGETED_SEARCH_TREE));
                 });
         return parameters;
     }
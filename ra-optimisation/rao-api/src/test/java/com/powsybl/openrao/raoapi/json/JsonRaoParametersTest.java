@@ -78,6 +78,7 @@ class JsonRaoParametersTest extends AbstractSerDeTest {
         parameters.getTopoOptimizationParameters().setRelativeMinImpactThreshold(0.1);
         parameters.getTopoOptimizationParameters().setAbsoluteMinImpactThreshold(20);
         parameters.getTopoOptimizationParameters().setPredefinedCombinations(List.of(List.of("na-id-1", "na-id-2"), List.of("na-id-1", "na-id-3", "na-id-4")));
+        parameters.getTopoOptimizationParameters().setMaxNumberOfLeavesAfterPreScreening(20);
         // Multi-threading parameters
         parameters.getMultithreadingParameters().setContingencyScenariosInParallel(15);
         parameters.getMultithreadingParameters().setPreventiveLeavesInParallel(21);
@@ -101,6 +101,9 @@ class RaoParametersConfigTest {
         topoActionsModuleConfig.setStringProperty("absolute-minimum-impact-threshold", Objects.toString(22));
         topoActionsModuleConfig.setStringProperty("skip-actions-far-from-most-limiting-element", Objects.toString(true));
         topoActionsModuleConfig.setStringProperty("max-number-of-boundaries-for-skipping-actions", Objects.toString(3333));
+        topoActionsModuleConfig.setStringProperty("adaptive-actions-prioritization", Objects.toString(true));
+        topoActionsModuleConfig.setStringProperty("max-number-of-leaves-after-pre-screening", Objects.toString(20));
+        topoActionsModuleConfig.setStringProperty("time-budgeted-search-tree", Objects.toString(true));
         RaoParameters parameters = new RaoParameters();
         RaoParameters.load(parameters, platformCfg);
         TopoOptimizationParameters params = parameters.getTopoOptimizationParameters();
@@ -112,6 +115,9 @@ class RaoParametersConfigTest {
         assertEquals(22, params.getAbsoluteMinImpactThreshold(), DOUBLE_TOLERANCE);
         assertTrue(params.getSkipActionsFarFromMostLimitingElement());
         assertEquals(3333, params.getMaxNumberOfBoundariesForSkippingActions(), DOUBLE_TOLERANCE);
+        assertTrue(params.getAdaptiveActionsPrioritization());
+        assertEquals(Optional.of(20), params.getMaxNumberOfLeavesAfterPreScreening());
+        assertTrue(params.getTimeBudgetedSearchTree());
     }
 
     @Test
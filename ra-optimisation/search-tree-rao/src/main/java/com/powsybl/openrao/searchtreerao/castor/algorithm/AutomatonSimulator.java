@@ -64,7 +64,7 @@ import static com.powsybl.openrao.searchtreerao.commons.RaoUtil.applyRemedialAct
  */
 public final class AutomatonSimulator {
     private static final double DOUBLE_NON_NULL = 1e-12;
-    private static final int MAX_NUMBER_OF_SENSI_IN_AUTO_SETPOINT_SHIFT = 10;
+    private static final int MAX_NUMBER_OF_AUTO_SETPOINT_SHIFTS = 10;
     public static final double SENSI_UNDER_ESTIMATOR_MIN = 0.5;
     private static final double SENSI_UNDER_ESTIMATOR_DECREMENT = 0.15;
 
@@ -562,7 +562,12 @@ public final class AutomatonSimulator {
      * -- OR setpoints have been shifted as far as possible in one direction
      * -- OR the direction in which the shift is performed switches
      * -- OR too many iterations have been performed
-     * After every setpoint shift, a new sensitivity analysis is performed.
+     * Setpoint shifts are predicted linearly with the last computed sensitivities. After a first shift to secure a CNEC,
+     * only the flows on the CNECs of the automaton state are computed to check its effect. The sensitivities are computed
+     * again only when the same CNEC has to be secured twice in a row, i.e. when the response of the network is not
+     * linear: in that case, a full sensitivity analysis is directly run after each further shift.
+     * If the flows cannot be computed after a shift, this shift is undone and the last complete result is returned.
+     * The returned result must then be completed by a full sensitivity analysis if range actions were activated.
      * This function returns a pair of a prePerimeterResult, and a map of activated range actions during the shift, with their
      * newly computed setpoints, both used to compute an AutomatonPerimeterResult.
      */
@@ -600,11 +605,21 @@ public final class AutomatonSimulator {
         double direction = 0;
         FlowCnec previouslyShiftedCnec = null;
         double sensitivityUnderestimator = 1;
+        boolean sensitivitiesAreUpToDate = true;
         while (!flowCnecsWithNegativeMargin.isEmpty()) {
             FlowCnec toBeShiftedCnec = flowCnecsWithNegativeMargin.get(0).getLeft();
 
             sensitivityUnderestimator = updateSensitivityUnderestimator(toBeShiftedCnec, previouslyShiftedCnec, sensitivityUnderestimator);
 
+            // The previous shift did not secure the CNEC as predicted: the sensitivities are refreshed
+            if (sensitivityUnderestimator < 1 && !sensitivitiesAreUpToDate) {
+                automatonRangeActionOptimizationSensitivityAnalysisOutput = preAutoPerimeterSensitivityAnalysis.runBasedOnInitialResults(network, crac, initialFlowResult, operatorsNotSharingCras, null);
+                if (automatonRangeActionOptimizationSensitivityAnalysisOutput.getSensitivityStatus(automatonState) == ComputationStatus.FAILURE) {
+                    return new RangeAutomatonSimulationResult(automatonRangeActionOptimizationSensitivityAnalysisOutput, activatedRangeActionsWithSetpoint.keySet(), activatedRangeActionsWithSetpoint);
+                }
+                sensitivitiesAreUpToDate = true;
+            }
+
             TwoSides side = flowCnecsWithNegativeMargin.get(0).getRight();
             double sensitivityValue = computeTotalSensitivityValue(alignedRangeActions, sensitivityUnderestimator, automatonRangeActionOptimizationSensitivityAnalysisOutput, toBeShiftedCnec, side);
 
@@ -628,7 +643,7 @@ public final class AutomatonSimulator {
             }
             // Compare direction with previous shift
             // If direction == 0, then the RA is at one of its bounds
-            if (direction == 0 || direction != safeDiffSignum(optimalSetpoint, currentSetpoint) || iteration > MAX_NUMBER_OF_SENSI_IN_AUTO_SETPOINT_SHIFT) {
+            if (direction == 0 || direction != safeDiffSignum(optimalSetpoint, currentSetpoint) || iteration > MAX_NUMBER_OF_AUTO_SETPOINT_SHIFTS) {
                 return new RangeAutomatonSimulationResult(automatonRangeActionOptimizationSensitivityAnalysisOutput, activatedRangeActionsWithSetpoint.keySet(), activatedRangeActionsWithSetpoint);
             }
 
@@ -639,12 +654,26 @@ public final class AutomatonSimulator {
                 toBeShiftedCnec.getId(), side,
                 String.format(Locale.ENGLISH, "%.2f", cnecMargin));
 
+            Map<RangeAction<?>, Double> previouslyActivatedRangeActionsWithSetpoint = new HashMap<>(activatedRangeActionsWithSetpoint);
             applyAllRangeActions(alignedRangeActions, network, optimalSetpoint, activatedRangeActionsWithSetpoint);
 
-            automatonRangeActionOptimizationSensitivityAnalysisOutput = preAutoPerimeterSensitivityAnalysis.runBasedOnInitialResults(network, crac, initialFlowResult, operatorsNotSharingCras, null);
-            // If sensitivity analysis fails, stop shifting and return all applied range actions
-            if (automatonRangeActionOptimizationSensitivityAnalysisOutput.getSensitivityStatus(automatonState) == ComputationStatus.FAILURE) {
-                return new RangeAutomatonSimulationResult(automatonRangeActionOptimizationSensitivityAnalysisOutput, activatedRangeActionsWithSetpoint.keySet(), activatedRangeActionsWithSetpoint);
+            if (toBeShiftedCnec.equals(previouslyShiftedCnec)) {
+                // The response of the network is not linear: the sensitivities will most likely be needed for the next
+                // shift, so they are computed right away rather than after a flows-only computation
+                PrePerimeterResult postShiftResult = preAutoPerimeterSensitivityAnalysis.runBasedOnInitialResults(network, crac, initialFlowResult, operatorsNotSharingCras, null);
+                if (postShiftResult.getSensitivityStatus(automatonState) == ComputationStatus.FAILURE) {
+                    return undoLastShift(alignedRangeActions, network, currentSetpoint, automatonRangeActionOptimizationSensitivityAnalysisOutput, previouslyActivatedRangeActionsWithSetpoint);
+                }
+                automatonRangeActionOptimizationSensitivityAnalysisOutput = postShiftResult;
+                sensitivitiesAreUpToDate = true;
+            } else {
+                PrePerimeterResult postShiftFlows = preAutoPerimeterSensitivityAnalysis.runFlowsOnlyOnCnecsBasedOnInitialResults(network, crac, initialFlowResult, operatorsNotSharingCras, crac.getFlowCnecs(automatonState));
+                if (postShiftFlows.getSensitivityStatus(automatonState) == ComputationStatus.FAILURE) {
+                    return undoLastShift(alignedRangeActions, network, currentSetpoint, automatonRangeActionOptimizationSensitivityAnalysisOutput, previouslyActivatedRangeActionsWithSetpoint);
+                }
+                // Sensitivities of the last sensitivity analysis are kept for the next shift
+                automatonRangeActionOptimizationSensitivityAnalysisOutput = new PrePerimeterSensitivityResultImpl(postShiftFlows, automatonRangeActionOptimizationSensitivityAnalysisOutput, postShiftFlows, postShiftFlows);
+                sensitivitiesAreUpToDate = false;
             }
             RaoLogger.logMostLimitingElementsResults(TECHNICAL_LOGS, automatonRangeActionOptimizationSensitivityAnalysisOutput, Set.of(automatonState), raoParameters.getObjectiveFunctionParameters().getType(), numberLoggedElementsDuringRao);
             flowCnecsWithNegativeMargin = getCnecsWithNegativeMarginWithoutExcludedCnecs(flowCnecs, flowCnecsToBeExcluded, automatonRangeActionOptimizationSensitivityAnalysisOutput);
@@ -654,6 +683,17 @@ public final class AutomatonSimulator {
         return new RangeAutomatonSimulationResult(automatonRangeActionOptimizationSensitivityAnalysisOutput, activatedRangeActionsWithSetpoint.keySet(), activatedRangeActionsWithSetpoint);
     }
 
+    /**
+     * Called when the flows could not be computed after a shift: the range actions are set back to their setpoint
+     * before the shift, and the last complete result, computed before the shift, is returned.
+     */
+    private static RangeAutomatonSimulationResult undoLastShift(List<RangeAction<?>> alignedRangeActions, Network network, double setpointBeforeShift, PrePerimeterResult lastCompleteResult, Map<RangeAction<?>, Double> activatedRangeActionsWithSetpointBeforeShift) {
+        BUSINESS_WARNS.warn("Flows could not be computed after shifting range action(s) {}: the shift is undone.",
+            alignedRangeActions.stream().map(Identifiable::getId).collect(Collectors.joining(", ")));
+        alignedRangeActions.forEach(rangeAction -> rangeAction.apply(network, setpointBeforeShift));
+        return new RangeAutomatonSimulationResult(lastCompleteResult, activatedRangeActionsWithSetpointBeforeShift.keySet(), activatedRangeActionsWithSetpointBeforeShift);
+    }
+
     private static void applyAllRangeActions(List<RangeAction<?>> alignedRangeActions, Network network, double optimalSetpoint, Map<RangeAction<?>, Double> activatedRangeActionsWithSetpoint) {
         for (RangeAction<?> rangeAction : alignedRangeActions) {
             rangeAction.apply(network, optimalSetpoint);
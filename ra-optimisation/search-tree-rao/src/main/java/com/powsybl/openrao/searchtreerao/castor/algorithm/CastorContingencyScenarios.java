@@ -27,7 +27,10 @@ import com.powsybl.openrao.searchtreerao.searchtree.inputs.SearchTreeInput;
 import com.powsybl.openrao.searchtreerao.searchtree.parameters.SearchTreeParameters;
 import com.powsybl.openrao.sensitivityanalysis.AppliedRemedialActions;
 import com.powsybl.openrao.util.AbstractNetworkPool;
+import com.powsybl.openrao.util.ParallelismBudget;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.*;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -56,6 +59,7 @@ public class CastorContingencyScenarios {
     private final TreeParameters automatonTreeParameters;
     private final TreeParameters curativeTreeParameters;
     private final PrePerimeterResult initialSensitivityOutput;
+    private final Instant timeBudgetEndInstant;
 
     public CastorContingencyScenarios(Crac crac,
                                       RaoParameters raoParameters,
@@ -63,7 +67,8 @@ public class CastorContingencyScenarios {
                                       StateTree stateTree,
                                       TreeParameters automatonTreeParameters,
                                       TreeParameters curativeTreeParameters,
-                                      PrePerimeterResult initialSensitivityOutput) {
+                                      PrePerimeterResult initialSensitivityOutput,
+                                      Instant timeBudgetEndInstant) {
         this.crac = crac;
         this.raoParameters = raoParameters;
         this.toolProvider = toolProvider;
@@ -71,6 +76,7 @@ public class CastorContingencyScenarios {
         this.automatonTreeParameters = automatonTreeParameters;
         this.curativeTreeParameters = curativeTreeParameters;
         this.initialSensitivityOutput = initialSensitivityOutput;
+        this.timeBudgetEndInstant = timeBudgetEndInstant;
     }
 
     public Map<State, OptimizationResult> optimizeContingencyScenarios(Network network,
@@ -83,11 +89,21 @@ public class CastorContingencyScenarios {
         network.getVariantManager().setWorkingVariant(newVariant);
         // Create an automaton simulator
         AutomatonSimulator automatonSimulator = new AutomatonSimulator(crac, raoParameters, toolProvider, initialSensitivityOutput, prePerimeterSensitivityOutput, stateTree.getOperatorsNotSharingCras(), NUMBER_LOGGED_ELEMENTS_DURING_RAO);
+        Duration scenarioTimeBudget = getScenarioTimeBudget();
+        // The curative search trees share the threads that the static split would give to their leaves. Once all
+        // the scenarios have started, these threads and the ones of the scenarios which are over are lent to the
+        // search trees of the remaining scenarios.
+        int contingencyScenariosInParallel = raoParameters.getMultithreadingParameters().getContingencyScenariosInParallel();
+        int curativeLeavesInParallel = raoParameters.getMultithreadingParameters().getCurativeLeavesInParallel();
+        ParallelismBudget parallelismBudget = new ParallelismBudget(contingencyScenariosInParallel * (curativeLeavesInParallel - 1), curativeLeavesInParallel - 1);
+        AtomicInteger scenariosToStart = new AtomicInteger(stateTree.getContingencyScenarios().size());
         // Go through all contingency scenarios
-        try (AbstractNetworkPool networkPool = AbstractNetworkPool.create(network, newVariant, raoParameters.getMultithreadingParameters().getContingencyScenariosInParallel(), true)) {
+        // Network copies are created in the background, the first scenarios are optimized while the other copies are created
+        try (AbstractNetworkPool networkPool = AbstractNetworkPool.create(network, newVariant, raoParameters.getMultithreadingParameters().getContingencyScenariosInParallel(), false, true)) {
+            networkPool.initClones(stateTree.getContingencyScenarios().size());
             AtomicInteger remainingScenarios = new AtomicInteger(stateTree.getContingencyScenarios().size());
             List<ForkJoinTask<Object>> tasks = stateTree.getContingencyScenarios().stream().map(optimizedScenario ->
-                networkPool.submit(() -> runScenario(prePerimeterSensitivityOutput, automatonsOnly, optimizedScenario, networkPool, automatonSimulator, contingencyScenarioResults, remainingScenarios))
+                networkPool.submit(() -> runScenario(prePerimeterSensitivityOutput, automatonsOnly, optimizedScenario, networkPool, automatonSimulator, contingencyScenarioResults, remainingScenarios, scenarioTimeBudget, parallelismBudget, scenariosToStart))
             ).toList();
             for (ForkJoinTask<Object> task : tasks) {
                 try {
@@ -103,9 +119,26 @@ public class CastorContingencyScenarios {
         return contingencyScenarioResults;
     }
 
-    private Object runScenario(PrePerimeterResult prePerimeterSensitivityOutput, boolean automatonsOnly, ContingencyScenario optimizedScenario, AbstractNetworkPool networkPool, AutomatonSimulator automatonSimulator, Map<State, OptimizationResult> contingencyScenarioResults, AtomicInteger remainingScenarios) throws InterruptedException {
+    /**
+     * Each contingency scenario gets an equal share of the remaining time, the scenarios being optimized by batches of
+     * contingency-scenarios-in-parallel
+     */
+    private Duration getScenarioTimeBudget() {
+        if (timeBudgetEndInstant == null) {
+            return null;
+        }
+        int contingencyScenariosInParallel = Math.max(1, raoParameters.getMultithreadingParameters().getContingencyScenariosInParallel());
+        int numberOfBatches = Math.max(1, (stateTree.getContingencyScenarios().size() + contingencyScenariosInParallel - 1) / contingencyScenariosInParallel);
+        return Duration.between(Instant.now(), timeBudgetEndInstant).dividedBy(numberOfBatches);
+    }
+
+    private Object runScenario(PrePerimeterResult prePerimeterSensitivityOutput, boolean automatonsOnly, ContingencyScenario optimizedScenario, AbstractNetworkPool networkPool, AutomatonSimulator automatonSimulator, Map<State, OptimizationResult> contingencyScenarioResults, AtomicInteger remainingScenarios, Duration scenarioTimeBudget, ParallelismBudget parallelismBudget, AtomicInteger scenariosToStart) throws InterruptedException {
         Network networkClone = networkPool.getAvailableNetwork(); //This is where the threads actually wait for available networks
+        if (scenariosToStart.decrementAndGet() == 0) {
+            parallelismBudget.removeMaxThreadsPerRequest();
+        }
         TECHNICAL_LOGS.info("Optimizing scenario post-contingency {}.", optimizedScenario.getContingency().getId());
+        Instant scenarioDeadline = getScenarioDeadline(scenarioTimeBudget);
 
         // Init variables
         Optional<State> automatonState = optimizedScenario.getAutomatonState();
@@ -150,7 +183,7 @@ public class CastorContingencyScenarios {
                 }
                 prePerimeterResultPerPerimeter.put(curativePerimeter.getRaOptimisationState(), previousPerimeterResult);
                 if (allPreviousPerimetersSucceded) {
-                    OptimizationResult curativeResult = optimizeCurativePerimeter(curativePerimeter, networkClone, previousPerimeterResult, resultsPerPerimeter, prePerimeterResultPerPerimeter);
+                    OptimizationResult curativeResult = optimizeCurativePerimeter(curativePerimeter, networkClone, previousPerimeterResult, resultsPerPerimeter, prePerimeterResultPerPerimeter, scenarioDeadline, parallelismBudget);
                     allPreviousPerimetersSucceded = curativeResult.getSensitivityStatus() == DEFAULT;
                     contingencyScenarioResults.put(curativeState, curativeResult);
                     applyRemedialActions(networkClone, curativeResult, curativeState);
@@ -164,10 +197,22 @@ public class CastorContingencyScenarios {
             }
         }
         TECHNICAL_LOGS.debug("Remaining post-contingency scenarios to optimize: {}", remainingScenarios.decrementAndGet());
+        if (scenariosToStart.get() == 0) {
+            // no other scenario will use this thread, it can evaluate the leaves of the remaining scenarios
+            parallelismBudget.release(1);
+        }
         networkPool.releaseUsedNetwork(networkClone);
         return null;
     }
 
+    private Instant getScenarioDeadline(Duration scenarioTimeBudget) {
+        if (scenarioTimeBudget == null) {
+            return null;
+        }
+        Instant scenarioDeadline = Instant.now().plus(scenarioTimeBudget);
+        return scenarioDeadline.isBefore(timeBudgetEndInstant) ? scenarioDeadline : timeBudgetEndInstant;
+    }
+
     private PrePerimeterSensitivityAnalysis getPreCurativePerimeterSensitivityAnalysis(Perimeter curativePerimeter) {
         Set<FlowCnec> flowCnecsInSensi = crac.getFlowCnecs(curativePerimeter.getRaOptimisationState());
         Set<RangeAction<?>> rangeActionsInSensi = new HashSet<>(crac.getPotentiallyAvailableRangeActions(curativePerimeter.getRaOptimisationState()));
@@ -181,7 +226,9 @@ public class CastorContingencyScenarios {
                                                          Network network,
                                                          PrePerimeterResult prePerimeterSensitivityOutput,
                                                          Map<State, OptimizationResult> resultsPerPerimeter,
-                                                         Map<State, PrePerimeterResult> prePerimeterResultPerPerimeter) {
+                                                         Map<State, PrePerimeterResult> prePerimeterResultPerPerimeter,
+                                                         Instant deadline,
+                                                         ParallelismBudget parallelismBudget) {
         State curativeState = curativePerimeter.getRaOptimisationState();
         TECHNICAL_LOGS.info("Optimizing curative state {}.", curativeState.getId());
 
@@ -228,6 +275,8 @@ public class CastorContingencyScenarios {
             .withObjectiveFunction(objectiveFunction)
             .withToolProvider(toolProvider)
             .withOutageInstant(crac.getOutageInstant())
+            .withDeadline(deadline)
+            .withParallelismBudget(parallelismBudget)
             .build();
 
         OptimizationResult result = new SearchTree(searchTreeInput, searchTreeParameters, false).run().join();
@@ -30,6 +30,7 @@ import com.powsybl.openrao.searchtreerao.searchtree.parameters.SearchTreeParamet
 import com.powsybl.openrao.sensitivityanalysis.AppliedRemedialActions;
 import com.powsybl.iidm.network.Network;
 
+import java.time.Duration;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
 import java.util.concurrent.*;
@@ -79,7 +80,8 @@ public class CastorFullOptimization {
             crac.getFlowCnecs(),
             crac.getRangeActions(),
             raoParameters,
-            toolProvider);
+            toolProvider,
+            Math.max(1, raoParameters.getMultithreadingParameters().getContingencyScenariosInParallel()));
 
         PrePerimeterResult initialOutput;
         initialOutput = prePerimeterSensitivityAnalysis.runInitialSensitivityAnalysis(network, crac);
@@ -153,7 +155,7 @@ public class CastorFullOptimization {
         }
 
         BUSINESS_LOGS.info("----- Post-contingency perimeters optimization [start]");
-        CastorContingencyScenarios castorContingencyScenarios = new CastorContingencyScenarios(crac, raoParameters, toolProvider, stateTree, automatonTreeParameters, curativeTreeParameters, initialOutput);
+        CastorContingencyScenarios castorContingencyScenarios = new CastorContingencyScenarios(crac, raoParameters, toolProvider, stateTree, automatonTreeParameters, curativeTreeParameters, initialOutput, getTimeBudgetEndInstant());
         Map<State, OptimizationResult> postContingencyResults = castorContingencyScenarios.optimizeContingencyScenarios(network, preCurativeSensitivityAnalysisOutput, false);
         BUSINESS_LOGS.info("----- Post-contingency perimeters optimization [end]");
 
@@ -181,6 +183,30 @@ public class CastorFullOptimization {
         return postCheckResults(mergedRaoResults, initialOutput, raoParameters.getObjectiveFunctionParameters());
     }
 
+    /**
+     * Returns the target end instant if the search trees should respect it, null otherwise
+     */
+    private java.time.Instant getTimeBudgetEndInstant() {
+        return raoParameters.getTopoOptimizationParameters().getTimeBudgetedSearchTree() ? targetEndInstant : null;
+    }
+
+    /**
+     * The remaining time is shared between the preventive perimeter and the batches of contingency scenarios
+     * optimized in parallel
+     */
+    private java.time.Instant getPreventiveDeadline(StateTree stateTree) {
+        java.time.Instant timeBudgetEndInstant = getTimeBudgetEndInstant();
+        if (timeBudgetEndInstant == null) {
+            return null;
+        }
+        int contingencyScenariosInParallel = Math.max(1, raoParameters.getMultithreadingParameters().getContingencyScenariosInParallel());
+        int numberOfBatches = (stateTree.getContingencyScenarios().size() + contingencyScenariosInParallel - 1) / contingencyScenariosInParallel;
+        java.time.Instant now = java.time.Instant.now();
+        java.time.Instant preventiveDeadline = now.plus(Duration.between(now, timeBudgetEndInstant).dividedBy(1L + numberOfBatches));
+        TECHNICAL_LOGS.info("Time budget of the preventive perimeter ends at {}", preventiveDeadline);
+        return preventiveDeadline;
+    }
+
     private boolean shouldStopOptimisationIfPreventiveUnsecure(double preventiveOptimalCost) {
         return raoParameters.getObjectiveFunctionParameters().getPreventiveStopCriterion().equals(ObjectiveFunctionParameters.PreventiveStopCriterion.SECURE)
                 && preventiveOptimalCost > 0
@@ -269,6 +295,7 @@ public class CastorFullOptimization {
             .withObjectiveFunction(ObjectiveFunction.create().build(optPerimeter.getFlowCnecs(), optPerimeter.getLoopFlowCnecs(), initialResult, initialResult, Collections.emptySet(), raoParameters))
             .withToolProvider(toolProvider)
             .withOutageInstant(crac.getOutageInstant())
+            .withDeadline(getPreventiveDeadline(stateTree))
             .build();
 
         OptimizationResult optResult = new SearchTree(searchTreeInput, searchTreeParameters, true).run().join();
@@ -68,7 +68,8 @@ public class CastorOneStateOnly {
                 raoInput.getCrac().getFlowCnecs(raoInput.getOptimizedState()),
                 raoInput.getCrac().getRangeActions(raoInput.getOptimizedState(), UsageMethod.AVAILABLE),
                 raoParameters,
-                toolProvider);
+                toolProvider,
+                Math.max(1, raoParameters.getMultithreadingParameters().getContingencyScenariosInParallel()));
 
         PrePerimeterResult initialResults;
         initialResults = prePerimeterSensitivityAnalysis.runInitialSensitivityAnalysis(raoInput.getNetwork(), raoInput.getCrac());
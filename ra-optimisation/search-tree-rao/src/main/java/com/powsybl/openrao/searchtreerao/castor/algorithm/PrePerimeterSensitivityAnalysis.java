@@ -21,6 +21,7 @@ import com.powsybl.openrao.searchtreerao.result.impl.RangeActionSetpointResultIm
 import com.powsybl.openrao.sensitivityanalysis.AppliedRemedialActions;
 import com.powsybl.iidm.network.Network;
 
+import java.util.Collections;
 import java.util.Set;
 
 /**
@@ -37,6 +38,7 @@ public class PrePerimeterSensitivityAnalysis {
     private final Set<RangeAction<?>> rangeActions;
     private final RaoParameters raoParameters;
     private final ToolProvider toolProvider;
+    private final int statesWithRaInParallel;
 
     // built internally
     private SensitivityComputer sensitivityComputer;
@@ -46,10 +48,24 @@ public class PrePerimeterSensitivityAnalysis {
                                            Set<RangeAction<?>> rangeActions,
                                            RaoParameters raoParameters,
                                            ToolProvider toolProvider) {
+        this(flowCnecs, rangeActions, raoParameters, toolProvider, 1);
+    }
+
+    /**
+     * statesWithRaInParallel is the number of states with applied remedial actions whose sensitivities are computed
+     * in parallel. It must only be greater than 1 when no other computation runs at the same time, for instance
+     * for the analyses of the whole CRAC run between the perimeters of the RAO.
+     */
+    public PrePerimeterSensitivityAnalysis(Set<FlowCnec> flowCnecs,
+                                           Set<RangeAction<?>> rangeActions,
+                                           RaoParameters raoParameters,
+                                           ToolProvider toolProvider,
+                                           int statesWithRaInParallel) {
         this.flowCnecs = flowCnecs;
         this.rangeActions = rangeActions;
         this.raoParameters = raoParameters;
         this.toolProvider = toolProvider;
+        this.statesWithRaInParallel = statesWithRaInParallel;
     }
 
     public PrePerimeterResult runInitialSensitivityAnalysis(Network network, Crac crac) {
@@ -73,19 +89,72 @@ public class PrePerimeterSensitivityAnalysis {
                                                        FlowResult initialFlowResult,
                                                        Set<String> operatorsNotSharingCras,
                                                        AppliedRemedialActions appliedCurativeRemedialActions) {
+        sensitivityComputer = buildSensiBuilderBasedOnInitialResults(crac, initialFlowResult, appliedCurativeRemedialActions, rangeActions).build();
+        objectiveFunction = ObjectiveFunction.create().build(flowCnecs, toolProvider.getLoopFlowCnecs(flowCnecs), initialFlowResult, initialFlowResult, operatorsNotSharingCras, raoParameters);
 
-        SensitivityComputer.SensitivityComputerBuilder sensitivityComputerBuilder = buildSensiBuilder()
-            .withOutageInstant(crac.getOutageInstant());
+        return runAndGetResult(network, objectiveFunction);
+    }
+
+    /**
+     * Same as {@link #runBasedOnInitialResults}, but only the flows and the margins of the CNECs are computed: no
+     * sensitivity factor is defined on the range actions, so the returned result does not contain any sensitivity
+     * value. It is meant for the computation of the final flows, once all the remedial actions have been optimized.
+     */
+    public PrePerimeterResult runFlowsOnlyBasedOnInitialResults(Network network,
+                                                                Crac crac,
+                                                                FlowResult initialFlowResult,
+                                                                Set<String> operatorsNotSharingCras,
+                                                                AppliedRemedialActions appliedRemedialActions) {
+        sensitivityComputer = buildSensiBuilderBasedOnInitialResults(crac, initialFlowResult, appliedRemedialActions, Collections.emptySet()).build();
+        objectiveFunction = ObjectiveFunction.create().build(flowCnecs, toolProvider.getLoopFlowCnecs(flowCnecs), initialFlowResult, initialFlowResult, operatorsNotSharingCras, raoParameters);
+
+        return runAndGetResult(network, objectiveFunction);
+    }
+
+    /**
+     * Computes the flows and the margins of a subset of the CNECs of the analysis only, without any sensitivity
+     * factor. It is meant to check the effect of a setpoint change predicted with previously computed sensitivities.
+     * The internal sensitivity computer and objective function are left untouched.
+     */
+    public PrePerimeterResult runFlowsOnlyOnCnecsBasedOnInitialResults(Network network,
+                                                                       Crac crac,
+                                                                       FlowResult initialFlowResult,
+                                                                       Set<String> operatorsNotSharingCras,
+                                                                       Set<FlowCnec> flowCnecsToCompute) {
+        SensitivityComputer flowsOnlyComputer = buildSensiBuilderBasedOnInitialResults(crac, initialFlowResult, null, Collections.emptySet(), flowCnecsToCompute).build();
+        ObjectiveFunction flowsOnlyObjectiveFunction = ObjectiveFunction.create().build(flowCnecsToCompute, toolProvider.getLoopFlowCnecs(flowCnecsToCompute), initialFlowResult, initialFlowResult, operatorsNotSharingCras, raoParameters);
+
+        return runAndGetResult(network, flowsOnlyComputer, flowsOnlyObjectiveFunction);
+    }
+
+    private SensitivityComputer.SensitivityComputerBuilder buildSensiBuilderBasedOnInitialResults(Crac crac,
+                                                                                                 FlowResult initialFlowResult,
+                                                                                                 AppliedRemedialActions appliedCurativeRemedialActions,
+                                                                                                 Set<RangeAction<?>> sensitivityRangeActions) {
+        return buildSensiBuilderBasedOnInitialResults(crac, initialFlowResult, appliedCurativeRemedialActions, sensitivityRangeActions, flowCnecs);
+    }
+
+    private SensitivityComputer.SensitivityComputerBuilder buildSensiBuilderBasedOnInitialResults(Crac crac,
+                                                                                                 FlowResult initialFlowResult,
+                                                                                                 AppliedRemedialActions appliedCurativeRemedialActions,
+                                                                                                 Set<RangeAction<?>> sensitivityRangeActions,
+                                                                                                 Set<FlowCnec> sensitivityFlowCnecs) {
+        SensitivityComputer.SensitivityComputerBuilder sensitivityComputerBuilder = SensitivityComputer.create()
+            .withToolProvider(toolProvider)
+            .withCnecs(sensitivityFlowCnecs)
+            .withRangeActions(sensitivityRangeActions)
+            .withOutageInstant(crac.getOutageInstant())
+            .withStatesWithRaInParallel(statesWithRaInParallel);
         if (raoParameters.hasExtension(LoopFlowParametersExtension.class)) {
             if (raoParameters.getExtension(LoopFlowParametersExtension.class).getPtdfApproximation().shouldUpdatePtdfWithTopologicalChange()) {
-                sensitivityComputerBuilder.withCommercialFlowsResults(toolProvider.getLoopFlowComputation(), toolProvider.getLoopFlowCnecs(flowCnecs));
+                sensitivityComputerBuilder.withCommercialFlowsResults(toolProvider.getLoopFlowComputation(), toolProvider.getLoopFlowCnecs(sensitivityFlowCnecs));
             } else {
                 sensitivityComputerBuilder.withCommercialFlowsResults(initialFlowResult);
             }
         }
         if (raoParameters.getObjectiveFunctionParameters().getType().relativePositiveMargins()) {
             if (raoParameters.getExtension(RelativeMarginsParametersExtension.class).getPtdfApproximation().shouldUpdatePtdfWithTopologicalChange()) {
-                sensitivityComputerBuilder.withPtdfsResults(toolProvider.getAbsolutePtdfSumsComputation(), flowCnecs);
+                sensitivityComputerBuilder.withPtdfsResults(toolProvider.getAbsolutePtdfSumsComputation(), sensitivityFlowCnecs);
             } else {
                 sensitivityComputerBuilder.withPtdfsResults(initialFlowResult);
             }
@@ -94,11 +163,7 @@ public class PrePerimeterSensitivityAnalysis {
             // for 2nd preventive initial sensi
             sensitivityComputerBuilder.withAppliedRemedialActions(appliedCurativeRemedialActions);
         }
-        sensitivityComputer = sensitivityComputerBuilder.build();
-
-        objectiveFunction = ObjectiveFunction.create().build(flowCnecs, toolProvider.getLoopFlowCnecs(flowCnecs), initialFlowResult, initialFlowResult, operatorsNotSharingCras, raoParameters);
-
-        return runAndGetResult(network, objectiveFunction);
+        return sensitivityComputerBuilder;
     }
 
     public ObjectiveFunction getObjectiveFunction() {
@@ -113,9 +178,13 @@ public class PrePerimeterSensitivityAnalysis {
     }
 
     private PrePerimeterResult runAndGetResult(Network network, ObjectiveFunction objectiveFunction) {
-        sensitivityComputer.compute(network);
-        FlowResult flowResult = sensitivityComputer.getBranchResult(network);
-        SensitivityResult sensitivityResult = sensitivityComputer.getSensitivityResult();
+        return runAndGetResult(network, sensitivityComputer, objectiveFunction);
+    }
+
+    private PrePerimeterResult runAndGetResult(Network network, SensitivityComputer computer, ObjectiveFunction objectiveFunction) {
+        computer.compute(network);
+        FlowResult flowResult = computer.getBranchResult(network);
+        SensitivityResult sensitivityResult = computer.getSensitivityResult();
         RangeActionSetpointResult rangeActionSetpointResult = RangeActionSetpointResultImpl.buildWithSetpointsFromNetwork(network, rangeActions);
         ObjectiveFunctionResult objectiveFunctionResult = getResult(objectiveFunction, flowResult);
         return new PrePerimeterSensitivityResultImpl(
@@ -24,51 +24,61 @@ import java.util.*;
  *  @author Baptiste Seguinot {@literal <baptiste.seguinot at rte-france.com>}
  */
 public class AbsolutePtdfSumsComputation {
-    private final ZonalData<SensitivityVariableSet> glskProvider;
-    private final List<ZoneToZonePtdfDefinition> zTozPtdfs;
+    // zones of the zone-to-zone PTDF definitions which have a GLSK, each zone appearing once
+    private final SensitivityVariableSet[] zoneGlsks;
+    // for each zone-to-zone PTDF definition, indices in zoneGlsks and weights of its zone-to-slack PTDFs having a GLSK
+    private final int[][] zTozZoneIndices;
+    private final double[][] zTozWeights;
 
     public AbsolutePtdfSumsComputation(ZonalData<SensitivityVariableSet> glskProvider, List<ZoneToZonePtdfDefinition> zTozPtdfs) {
-        this.glskProvider = glskProvider;
-        this.zTozPtdfs = zTozPtdfs;
+        Map<EICode, Integer> zoneIndices = new HashMap<>();
+        List<SensitivityVariableSet> glsks = new ArrayList<>();
+        zTozPtdfs.stream().flatMap(zToz -> zToz.getEiCodes().stream()).forEach(eiCode -> {
+            if (!zoneIndices.containsKey(eiCode)) {
+                SensitivityVariableSet linearGlsk = glskProvider.getData(eiCode.getAreaCode());
+                if (linearGlsk != null) {
+                    zoneIndices.put(eiCode, glsks.size());
+                    glsks.add(linearGlsk);
+                }
+            }
+        });
+        zoneGlsks = glsks.toArray(new SensitivityVariableSet[0]);
+        zTozZoneIndices = new int[zTozPtdfs.size()][];
+        zTozWeights = new double[zTozPtdfs.size()][];
+        for (int i = 0; i < zTozPtdfs.size(); i++) {
+            List<ZoneToZonePtdfDefinition.WeightedZoneToSlackPtdf> zoneToSlackPtdfs = zTozPtdfs.get(i).getZoneToSlackPtdfs().stream()
+                .filter(zToS -> zoneIndices.containsKey(zToS.getEiCode()))
+                .toList();
+            zTozZoneIndices[i] = zoneToSlackPtdfs.stream().mapToInt(zToS -> zoneIndices.get(zToS.getEiCode())).toArray();
+            zTozWeights[i] = zoneToSlackPtdfs.stream().mapToDouble(ZoneToZonePtdfDefinition.WeightedZoneToSlackPtdf::getWeight).toArray();
+        }
     }
 
     public Map<FlowCnec, Map<TwoSides, Double>> computeAbsolutePtdfSums(Set<FlowCnec> flowCnecs, SystematicSensitivityResult sensitivityResult) {
         Map<FlowCnec, Map<TwoSides, Double>> ptdfSums = new HashMap<>();
-        List<EICode> eiCodesInPtdfs = zTozPtdfs.stream().flatMap(zToz -> zToz.getEiCodes().stream()).toList();
-
+        int[] zoneGlskIndices = Arrays.stream(zoneGlsks).mapToInt(zoneGlsk -> sensitivityResult.getVariableIndex(zoneGlsk.getId())).toArray();
         for (FlowCnec flowCnec : flowCnecs) {
-            flowCnec.getMonitoredSides().forEach(side -> {
-                Map<EICode, Double> ptdfMap = buildZoneToSlackPtdfMap(flowCnec, side, glskProvider, eiCodesInPtdfs, sensitivityResult);
-                double sumOfZToZPtdf = zTozPtdfs.stream().mapToDouble(zToz -> Math.abs(computeZToZPtdf(zToz, ptdfMap))).sum();
-                ptdfSums.computeIfAbsent(flowCnec, k -> new EnumMap<>(TwoSides.class)).put(side, sumOfZToZPtdf);
-            });
-        }
-        return ptdfSums;
-    }
-
-    private Map<EICode, Double> buildZoneToSlackPtdfMap(FlowCnec flowCnec, TwoSides side, ZonalData<SensitivityVariableSet> glsks, List<EICode> eiCodesInBoundaries, SystematicSensitivityResult sensitivityResult) {
-        Map<EICode, Double> ptdfs = new HashMap<>();
-        for (EICode eiCode : eiCodesInBoundaries) {
-            SensitivityVariableSet linearGlsk = glsks.getData(eiCode.getAreaCode());
-            if (linearGlsk != null) {
-                ptdfs.put(eiCode, sensitivityResult.getSensitivityOnFlow(linearGlsk, flowCnec, side));
+            for (TwoSides side : flowCnec.getMonitoredSides()) {
+                double[] zoneToSlackPtdfs = sensitivityResult.getSensitivitiesOnFlow(zoneGlskIndices, flowCnec, side);
+                ptdfSums.computeIfAbsent(flowCnec, k -> new EnumMap<>(TwoSides.class)).put(side, computeSumOfZToZPtdfs(zoneToSlackPtdfs));
             }
         }
-        return ptdfs;
+        return ptdfSums;
     }
 
-    private double computeZToZPtdf(ZoneToZonePtdfDefinition zToz, Map<EICode, Double> zToSlackPtdfMap) {
-
-        List<Double> zoneToSlackPtdf = zToz.getZoneToSlackPtdfs().stream()
-            .filter(zToS -> zToSlackPtdfMap.containsKey(zToS.getEiCode()))
-            .map(zToS -> zToS.getWeight() * zToSlackPtdfMap.get(zToS.getEiCode()))
-            .toList();
-
-        if (zoneToSlackPtdf.size() < 2) {
+    private double computeSumOfZToZPtdfs(double[] zoneToSlackPtdfs) {
+        double sum = 0;
+        for (int i = 0; i < zTozZoneIndices.length; i++) {
+            int[] zoneIndices = zTozZoneIndices[i];
             // the boundary should at least contains two zoneToSlack PTDFs
-            return 0.0;
-        } else {
-            return zoneToSlackPtdf.stream().mapToDouble(v -> v).sum();
+            if (zoneIndices.length >= 2) {
+                double zToZPtdf = 0;
+                for (int j = 0; j < zoneIndices.length; j++) {
+                    zToZPtdf += zTozWeights[i][j] * zoneToSlackPtdfs[zoneIndices[j]];
+                }
+                sum += Math.abs(zToZPtdf);
+            }
         }
+        return sum;
     }
 }
@@ -27,8 +27,12 @@ import com.powsybl.glsk.commons.ZonalData;
 import com.powsybl.glsk.commons.ZonalDataImpl;
 import com.powsybl.iidm.network.Country;
 import com.powsybl.iidm.network.Network;
+import com.powsybl.sensitivity.SensitivityAnalysisParameters;
 import com.powsybl.sensitivity.SensitivityVariableSet;
+import com.powsybl.sensitivity.json.JsonSensitivityAnalysisParameters;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -42,6 +46,7 @@ public final class ToolProvider {
     private ZonalData<SensitivityVariableSet> glskProvider;
     private AbsolutePtdfSumsComputation absolutePtdfSumsComputation;
     private LoopFlowComputation loopFlowComputation;
+    private NetworkLocationCache networkLocationCache;
 
     private ToolProvider() {
         // Should not be used
@@ -55,6 +60,13 @@ public final class ToolProvider {
         return loopFlowComputation;
     }
 
+    /**
+     * Locations of the elements of the network, shared by all the perimeters of the RAO
+     */
+    public NetworkLocationCache getNetworkLocationCache() {
+        return networkLocationCache;
+    }
+
     private boolean hasLoopFlowExtension(FlowCnec cnec) {
         return !Objects.isNull(cnec.getExtension(LoopFlowThreshold.class));
     }
@@ -63,7 +75,7 @@ public final class ToolProvider {
         LoopFlowParametersExtension loopFlowParameters = raoParameters.getExtension(LoopFlowParametersExtension.class);
         if (raoParameters.hasExtension(LoopFlowParametersExtension.class) && !loopFlowParameters.getCountries().isEmpty()) {
             return allCnecs.stream()
-                .filter(cnec -> hasLoopFlowExtension(cnec) && cnecIsInCountryList(cnec, network, loopFlowParameters.getCountries()))
+                .filter(cnec -> hasLoopFlowExtension(cnec) && isInCountryList(networkLocationCache.getLocation(cnec, cnec::getLocation), loopFlowParameters.getCountries()))
                 .collect(Collectors.toSet());
         } else {
             return allCnecs.stream()
@@ -73,7 +85,11 @@ public final class ToolProvider {
     }
 
     static boolean cnecIsInCountryList(Cnec<?> cnec, Network network, Set<Country> loopflowCountries) {
-        return cnec.getLocation(network).stream().anyMatch(country -> country.isPresent() && loopflowCountries.contains(country.get()));
+        return isInCountryList(cnec.getLocation(network), loopflowCountries);
+    }
+
+    private static boolean isInCountryList(Set<Optional<Country>> location, Set<Country> loopflowCountries) {
+        return location.stream().anyMatch(country -> country.isPresent() && loopflowCountries.contains(country.get()));
     }
 
     public SystematicSensitivityInterface getSystematicSensitivityInterface(Set<FlowCnec> cnecs,
@@ -89,12 +105,23 @@ public final class ToolProvider {
                                                                             boolean computeLoopFlows,
                                                                             AppliedRemedialActions appliedRemedialActions,
                                                                             Instant outageInstant) {
+        return getSystematicSensitivityInterface(cnecs, rangeActions, computePtdfs, computeLoopFlows, appliedRemedialActions, outageInstant, 1);
+    }
+
+    public SystematicSensitivityInterface getSystematicSensitivityInterface(Set<FlowCnec> cnecs,
+                                                                            Set<RangeAction<?>> rangeActions,
+                                                                            boolean computePtdfs,
+                                                                            boolean computeLoopFlows,
+                                                                            AppliedRemedialActions appliedRemedialActions,
+                                                                            Instant outageInstant,
+                                                                            int statesWithRaInParallel) {
 
         SystematicSensitivityInterface.SystematicSensitivityInterfaceBuilder builder = SystematicSensitivityInterface.builder()
             .withSensitivityProviderName(raoParameters.getLoadFlowAndSensitivityParameters().getSensitivityProvider())
             .withParameters(raoParameters.getLoadFlowAndSensitivityParameters().getSensitivityWithLoadFlowParameters())
             .withRangeActionSensitivities(rangeActions, cnecs, Collections.singleton(Unit.MEGAWATT))
             .withAppliedRemedialActions(appliedRemedialActions)
+            .withStatesWithRaInParallel(statesWithRaInParallel)
             .withOutageInstant(outageInstant);
 
         if (!raoParameters.getLoadFlowAndSensitivityParameters().getSensitivityWithLoadFlowParameters().getLoadFlowParameters().isDc()) {
@@ -115,6 +142,47 @@ public final class ToolProvider {
         return builder.build();
     }
 
+    /**
+     * Returns a systematic sensitivity interface which only computes the flows of the given CNECs in MEGAWATT, with
+     * a DC load-flow. It is much faster than the interface used to evaluate the leaves, and is meant to pre-screen
+     * remedial actions.
+     */
+    public SystematicSensitivityInterface getDcFlowsSystematicSensitivityInterface(Set<FlowCnec> cnecs,
+                                                                                   AppliedRemedialActions appliedRemedialActions,
+                                                                                   Instant outageInstant) {
+        return getDcFlowsSystematicSensitivityInterface(cnecs, appliedRemedialActions, outageInstant, getDcSensitivityParameters());
+    }
+
+    /**
+     * Same as {@link #getDcFlowsSystematicSensitivityInterface(Set, AppliedRemedialActions, Instant)}, with DC
+     * sensitivity parameters built beforehand by {@link #getDcSensitivityParameters()}, so that they can be shared by
+     * several interfaces.
+     */
+    public SystematicSensitivityInterface getDcFlowsSystematicSensitivityInterface(Set<FlowCnec> cnecs,
+                                                                                   AppliedRemedialActions appliedRemedialActions,
+                                                                                   Instant outageInstant,
+                                                                                   SensitivityAnalysisParameters dcSensitivityParameters) {
+        return SystematicSensitivityInterface.builder()
+            .withSensitivityProviderName(raoParameters.getLoadFlowAndSensitivityParameters().getSensitivityProvider())
+            .withParameters(dcSensitivityParameters)
+            .withRangeActionSensitivities(Collections.emptySet(), cnecs, Collections.singleton(Unit.MEGAWATT))
+            .withAppliedRemedialActions(appliedRemedialActions)
+            .withOutageInstant(outageInstant)
+            .build();
+    }
+
+    /**
+     * Returns a copy of the sensitivity analysis parameters of the RAO, including their extensions and those of their
+     * load-flow parameters, in which only the load-flow is switched to DC
+     */
+    public SensitivityAnalysisParameters getDcSensitivityParameters() {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        JsonSensitivityAnalysisParameters.write(raoParameters.getLoadFlowAndSensitivityParameters().getSensitivityWithLoadFlowParameters(), outputStream);
+        SensitivityAnalysisParameters dcSensitivityParameters = JsonSensitivityAnalysisParameters.read(new ByteArrayInputStream(outputStream.toByteArray()));
+        dcSensitivityParameters.getLoadFlowParameters().setDc(true);
+        return dcSensitivityParameters;
+    }
+
     Set<String> getEicForObjectiveFunction() {
         if (!raoParameters.hasExtension(RelativeMarginsParametersExtension.class)) {
             throw new OpenRaoException("No relative margins parameters were defined");
@@ -191,6 +259,7 @@ public final class ToolProvider {
             toolProvider.glskProvider = glskProvider;
             toolProvider.loopFlowComputation = loopFlowComputation;
             toolProvider.absolutePtdfSumsComputation = absolutePtdfSumsComputation;
+            toolProvider.networkLocationCache = new NetworkLocationCache(network);
             return toolProvider;
         }
     }
@@ -28,16 +28,23 @@ public class NetworkActionParameters {
     private final boolean skipNetworkActionFarFromMostLimitingElements;
     private final int maxNumberOfBoundariesForSkippingNetworkActions;
 
+    private final boolean adaptiveNetworkActionPrioritization;
+    private final int maxNumberOfLeavesAfterPreScreening;
+
     public NetworkActionParameters(List<NetworkActionCombination> predefinedCombinations,
                                    double absoluteNetworkActionMinimumImpactThreshold,
                                    double relativeNetworkActionMinimumImpactThreshold,
                                    boolean skipNetworkActionFarFromMostLimitingElements,
-                                   int maxNumberOfBoundariesForSkippingNetworkActions) {
+                                   int maxNumberOfBoundariesForSkippingNetworkActions,
+                                   boolean adaptiveNetworkActionPrioritization,
+                                   int maxNumberOfLeavesAfterPreScreening) {
         this.predefinedCombinations = predefinedCombinations;
         this.absoluteNetworkActionMinimumImpactThreshold = absoluteNetworkActionMinimumImpactThreshold;
         this.relativeNetworkActionMinimumImpactThreshold = relativeNetworkActionMinimumImpactThreshold;
         this.skipNetworkActionFarFromMostLimitingElements = skipNetworkActionFarFromMostLimitingElements;
         this.maxNumberOfBoundariesForSkippingNetworkActions = maxNumberOfBoundariesForSkippingNetworkActions;
+        this.adaptiveNetworkActionPrioritization = adaptiveNetworkActionPrioritization;
+        this.maxNumberOfLeavesAfterPreScreening = maxNumberOfLeavesAfterPreScreening;
     }
 
     public List<NetworkActionCombination> getNetworkActionCombinations() {
@@ -60,12 +67,23 @@ public class NetworkActionParameters {
         return maxNumberOfBoundariesForSkippingNetworkActions;
     }
 
+    public boolean useAdaptiveNetworkActionPrioritization() {
+        return adaptiveNetworkActionPrioritization;
+    }
+
+    public int getMaxNumberOfLeavesAfterPreScreening() {
+        return maxNumberOfLeavesAfterPreScreening;
+    }
+
     public static NetworkActionParameters buildFromRaoParameters(TopoOptimizationParameters topoOptimizationParameters, Crac crac) {
         return new NetworkActionParameters(computePredefinedCombinations(crac, topoOptimizationParameters),
                 topoOptimizationParameters.getAbsoluteMinImpactThreshold(),
                 topoOptimizationParameters.getRelativeMinImpactThreshold(),
                 topoOptimizationParameters.getSkipActionsFarFromMostLimitingElement(),
-                topoOptimizationParameters.getMaxNumberOfBoundariesForSkippingActions());
+                topoOptimizationParameters.getMaxNumberOfBoundariesForSkippingActions(),
+                topoOptimizationParameters.getAdaptiveActionsPrioritization(),
+                // without pre-screening, all the leaves are evaluated
+                topoOptimizationParameters.getMaxNumberOfLeavesAfterPreScreening().orElse(Integer.MAX_VALUE));
     }
 
     public void addNetworkActionCombination(NetworkActionCombination networkActionCombination) {
@@ -87,12 +105,12 @@ public class NetworkActionParameters {
             return false;
         }
         NetworkActionParameters that = (NetworkActionParameters) o;
-        return Double.compare(that.absoluteNetworkActionMinimumImpactThreshold, absoluteNetworkActionMinimumImpactThreshold) == 0 && Double.compare(that.relativeNetworkActionMinimumImpactThreshold, relativeNetworkActionMinimumImpactThreshold) == 0 && skipNetworkActionFarFromMostLimitingElements == that.skipNetworkActionFarFromMostLimitingElements && maxNumberOfBoundariesForSkippingNetworkActions == that.maxNumberOfBoundariesForSkippingNetworkActions && Objects.equals(predefinedCombinations, that.predefinedCombinations);
+        return Double.compare(that.absoluteNetworkActionMinimumImpactThreshold, absoluteNetworkActionMinimumImpactThreshold) == 0 && Double.compare(that.relativeNetworkActionMinimumImpactThreshold, relativeNetworkActionMinimumImpactThreshold) == 0 && skipNetworkActionFarFromMostLimitingElements == that.skipNetworkActionFarFromMostLimitingElements && maxNumberOfBoundariesForSkippingNetworkActions == that.maxNumberOfBoundariesForSkippingNetworkActions && adaptiveNetworkActionPrioritization == that.adaptiveNetworkActionPrioritization && maxNumberOfLeavesAfterPreScreening == that.maxNumberOfLeavesAfterPreScreening && Objects.equals(predefinedCombinations, that.predefinedCombinations);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(predefinedCombinations, absoluteNetworkActionMinimumImpactThreshold, relativeNetworkActionMinimumImpactThreshold, skipNetworkActionFarFromMostLimitingElements, maxNumberOfBoundariesForSkippingNetworkActions);
+        return Objects.hash(predefinedCombinations, absoluteNetworkActionMinimumImpactThreshold, relativeNetworkActionMinimumImpactThreshold, skipNetworkActionFarFromMostLimitingElements, maxNumberOfBoundariesForSkippingNetworkActions, adaptiveNetworkActionPrioritization, maxNumberOfLeavesAfterPreScreening);
     }
 
     public static List<NetworkActionCombination> computePredefinedCombinations(Crac crac, TopoOptimizationParameters topoOptimizationParameters) {
@@ -10,23 +10,16 @@ package com.powsybl.openrao.searchtreerao.linearoptimisation.algorithms;
 import com.powsybl.openrao.commons.OpenRaoException;
 import com.powsybl.openrao.commons.Unit;
 import com.powsybl.openrao.data.crac.api.State;
-import com.powsybl.openrao.data.crac.api.cnec.FlowCnec;
 import com.powsybl.openrao.data.crac.api.rangeaction.PstRangeAction;
 import com.powsybl.openrao.data.crac.api.rangeaction.RangeAction;
-import com.powsybl.iidm.network.TwoSides;
-import com.powsybl.openrao.searchtreerao.commons.RaoUtil;
 import com.powsybl.openrao.searchtreerao.commons.optimizationperimeters.OptimizationPerimeter;
 import com.powsybl.openrao.searchtreerao.result.api.*;
 import com.powsybl.openrao.searchtreerao.result.impl.RangeActionActivationResultImpl;
 
 import com.powsybl.iidm.network.Network;
 import com.powsybl.iidm.network.ValidationException;
-import org.apache.commons.lang3.tuple.Pair;
 
 import java.util.*;
-import java.util.stream.Collectors;
-
-import static com.powsybl.openrao.commons.Unit.MEGAWATT;
 
 /**
  * @author Joris Mancini {@literal <joris.mancini at rte-france.com>}
@@ -40,8 +33,9 @@ public final class BestTapFinder {
     /**
      * This function computes the best tap positions for PstRangeActions that were optimized in the linear problem.
      * It is a little smarter than just rounding the optimal angle to the closest tap position:
-     * if the optimal angle is close to the limit between two tap positions, it will chose the one that maximizes the
-     * minimum margin on the 10 most limiting elements (pre-optim)
+     * if the optimal angle of some PSTs is close to the limit between two tap positions, it will chose the combination
+     * of taps of all the PSTs of the state that maximizes the minimum margin on the 10 most limiting elements
+     * (pre-optim), taking into account the interactions between the PSTs.
      * If virtual costs are an important part of the optimization, it is highly recommended to use APPROXIMATED_INTEGERS
      * taps in the linear optimization, rather than relying on the best tap finder to round the taps.
      *
@@ -64,108 +58,111 @@ public final class BestTapFinder {
                                                      RangeActionActivationResultImpl roundedResult,
                                                      Unit unit) {
         for (State state : optimizationContext.getRangeActionOptimizationStates()) {
-
-            Map<PstRangeAction, Map<Integer, Double>> minMarginPerTap = new HashMap<>();
-
+            Set<RangeAction<?>> activatedRangeActions = linearProblemResult.getActivatedRangeActions(state);
+            Map<PstRangeAction, Double> optimizedAngles = new LinkedHashMap<>();
             optimizationContext.getRangeActionsPerState().get(state).stream()
                 .filter(PstRangeAction.class::isInstance)
                 .map(PstRangeAction.class::cast)
-                .forEach(pstRangeAction -> minMarginPerTap.put(pstRangeAction, computeMinMarginsForBestTaps(network, pstRangeAction, linearProblemResult.getOptimizedSetpoint(pstRangeAction, state), linearOptimizationResult, unit)));
-
-            Map<String, Integer> bestTapPerPstGroup = computeBestTapPerPstGroup(minMarginPerTap);
-
-            for (RangeAction<?> rangeAction : optimizationContext.getRangeActionsPerState().get(state)) {
-                if (rangeAction instanceof PstRangeAction pstRangeAction && linearProblemResult.getActivatedRangeActions(state).contains(rangeAction)) {
-                    Optional<String> optGroupId = pstRangeAction.getGroupId();
-                    if (optGroupId.isPresent()) {
-                        roundedResult.putResult(pstRangeAction, state, pstRangeAction.convertTapToAngle(bestTapPerPstGroup.get(optGroupId.get())));
-                    } else {
-                        int bestTap = minMarginPerTap.get(pstRangeAction).entrySet().stream().max(Comparator.comparing(Map.Entry<Integer, Double>::getValue)).orElseThrow().getKey();
-                        roundedResult.putResult(pstRangeAction, state, pstRangeAction.convertTapToAngle(bestTap));
-                    }
-                }
-            }
+                .filter(activatedRangeActions::contains)
+                .sorted(Comparator.comparing(PstRangeAction::getId))
+                .forEach(pstRangeAction -> optimizedAngles.put(pstRangeAction, linearProblemResult.getOptimizedSetpoint(pstRangeAction, state)));
+
+            computeBestTaps(network, optimizedAngles, linearOptimizationResult, unit)
+                .forEach((pstRangeAction, tap) -> roundedResult.putResult(pstRangeAction, state, pstRangeAction.convertTapToAngle(tap)));
         }
     }
 
     /**
-     * This function computes, for every group of PSTs, the common tap position that maximizes the minimum margin
+     * This function computes the best tap positions of a set of PSTs optimized in the same state, using the optimal
+     * angles computed by the linear problem.
+     * The PSTs of a same group share the same tap. For every PST, or group of PSTs, the candidate taps are the closest
+     * tap and, if the angle is close enough to the limit between two tap positions, the second closest one.
+     * The flows on the most limiting CNECs are estimated with the sensitivities for every combination of candidate
+     * taps, and the combination maximizing the minimum margin is returned. If too many combinations exist, a greedy
+     * search starting from the closest taps is performed instead.
      *
-     * @param minMarginPerTap: a map containing for each PstRangeAction, a map with tap positions and resulting minimum margin
-     * @return a map containing for each group ID, the best common tap position for the PSTs
+     * @param optimizedAngles:          the optimal angles of the PSTs computed by the linear problem
+     * @param linearOptimizationResult: allows to get flow & sensitivity values, as well as most limiting flow CNECs
+     * @param unit:                     the unit of the evaluators (MW or A)
+     * @return a map containing the best tap position of each PST
      */
-    static Map<String, Integer> computeBestTapPerPstGroup(Map<PstRangeAction, Map<Integer, Double>> minMarginPerTap) {
-        Map<String, Integer> bestTapPerPstGroup = new HashMap<>();
-        Set<PstRangeAction> pstRangeActions = minMarginPerTap.keySet();
-        Set<String> pstGroups = pstRangeActions.stream().map(PstRangeAction::getGroupId).filter(Optional::isPresent).map(Optional::get).collect(Collectors.toSet());
-        for (String pstGroup : pstGroups) {
-            Set<PstRangeAction> pstsOfGroup = pstRangeActions.stream()
-                .filter(pstRangeAction -> pstRangeAction.getGroupId().isPresent() && pstRangeAction.getGroupId().get().equals(pstGroup))
-                .collect(Collectors.toSet());
-            Map<Integer, Double> groupMinMarginPerTap = new HashMap<>();
-            for (PstRangeAction pstRangeAction : pstsOfGroup) {
-                Map<Integer, Double> pstMinMarginPerTap = minMarginPerTap.get(pstRangeAction);
-                for (Map.Entry<Integer, Double> entry : pstMinMarginPerTap.entrySet()) {
-                    int tap = entry.getKey();
-                    if (groupMinMarginPerTap.containsKey(tap)) {
-                        groupMinMarginPerTap.put(tap, Math.min(entry.getValue(), groupMinMarginPerTap.get(tap)));
-                    } else {
-                        groupMinMarginPerTap.put(tap, entry.getValue());
-                    }
-                }
-            }
-            int bestGroupTap = groupMinMarginPerTap.entrySet().stream().max(Comparator.comparing(Map.Entry<Integer, Double>::getValue)).orElseThrow().getKey();
-            bestTapPerPstGroup.put(pstGroup, bestGroupTap);
+    static Map<PstRangeAction, Integer> computeBestTaps(Network network,
+                                                        Map<PstRangeAction, Double> optimizedAngles,
+                                                        LinearOptimizationResult linearOptimizationResult,
+                                                        Unit unit) {
+        // One tap variable per group of PSTs, or per PST if it does not belong to any group
+        Map<String, List<PstRangeAction>> pstsPerTapVariable = new LinkedHashMap<>();
+        optimizedAngles.keySet().forEach(pstRangeAction -> pstsPerTapVariable
+            .computeIfAbsent(pstRangeAction.getGroupId().orElse(pstRangeAction.getId()), k -> new ArrayList<>())
+            .add(pstRangeAction));
+        List<List<PstRangeAction>> tapVariables = new ArrayList<>(pstsPerTapVariable.values());
+        int[][] candidateTaps = new int[tapVariables.size()][];
+        for (int v = 0; v < tapVariables.size(); v++) {
+            candidateTaps[v] = computeCandidateTaps(tapVariables.get(v), optimizedAngles);
         }
-        return bestTapPerPstGroup;
+
+        int[] bestChoice = new int[tapVariables.size()];
+        if (Arrays.stream(candidateTaps).anyMatch(taps -> taps.length > 1)) {
+            bestChoice = new TapCombinationEvaluator(network, tapVariables, candidateTaps, linearOptimizationResult, unit).findBestCombination();
+        }
+
+        Map<PstRangeAction, Integer> bestTaps = new LinkedHashMap<>();
+        for (int v = 0; v < tapVariables.size(); v++) {
+            int bestTap = candidateTaps[v][bestChoice[v]];
+            tapVariables.get(v).forEach(pstRangeAction -> bestTaps.put(pstRangeAction, bestTap));
+        }
+        return bestTaps;
+    }
+
+    /**
+     * Returns the candidate taps of a PST, or of a group of PSTs sharing the same tap, the closest tap of the first
+     * PST being the first one. Taps which are out of the range of one of the PSTs are discarded.
+     */
+    private static int[] computeCandidateTaps(List<PstRangeAction> pstsOfTapVariable, Map<PstRangeAction, Double> optimizedAngles) {
+        Set<Integer> candidateTaps = new LinkedHashSet<>();
+        pstsOfTapVariable.forEach(pstRangeAction -> candidateTaps.addAll(computeCandidateTaps(pstRangeAction, optimizedAngles.get(pstRangeAction))));
+        int defaultTap = candidateTaps.iterator().next();
+        return candidateTaps.stream()
+            .filter(tap -> tap == defaultTap || pstsOfTapVariable.stream().allMatch(pstRangeAction -> isTapInRange(pstRangeAction, tap)))
+            .mapToInt(Integer::intValue)
+            .toArray();
     }
 
     /**
-     * This function computes the best tap positions for an optimized PST range action, using the optimal angle
+     * This function computes the candidate tap positions for an optimized PST range action, using the optimal angle
      * computed by the linear problem
      * It first chooses the closest tap position to the angle, then the second closest one, if the angle is close enough
      * (15% threshold) to the limit between two tap positions
-     * It computes the minimum margin among the most limiting cnecs for both tap positions and returns them in a map
-     * Exceptions:
-     * - if the closest tap position is at a min or max limit, and the angle is close to the angle limit, then only
-     * the closest tap is returned. The margin is not computed but replaced with Double.MAX_VALUE
-     * - if the angle is not close enough to the limit between two tap positions, only the closest tap is returned
-     * with a Double.MAX_VALUE margin
+     * Exception: if the closest tap position is at a min or max limit, and the angle is close to the angle limit, then
+     * only the closest tap is returned.
      *
-     * @param pstRangeAction:           the PstRangeAction for which we need the best taps and margins
-     * @param angle:                    the optimal angle computed by the linear problem
-     * @param linearOptimizationResult: allows to get flow & sensitivity values, as well as most limiting flow CNECs
-     * @param unit:                     the unit of the evaluators (MW or A)
-     * @return a map containing the minimum margin for each best tap position (one or two taps)
+     * @param pstRangeAction: the PstRangeAction for which we need the candidate taps
+     * @param angle:          the optimal angle computed by the linear problem
+     * @return a list containing the closest tap position, and possibly the second closest one
      */
-    static Map<Integer, Double> computeMinMarginsForBestTaps(Network network,
-                                                             PstRangeAction pstRangeAction,
-                                                             double angle,
-                                                             LinearOptimizationResult linearOptimizationResult,
-                                                             Unit unit) {
+    static List<Integer> computeCandidateTaps(PstRangeAction pstRangeAction, double angle) {
         int closestTap = pstRangeAction.convertAngleToTap(angle);
         double closestAngle = pstRangeAction.convertTapToAngle(closestTap);
 
         Integer otherTap = findOtherTap(pstRangeAction, angle, closestTap, closestAngle);
-
-        // Default case
-        if (otherTap == null) {
-            return Map.of(closestTap, Double.MAX_VALUE);
-        }
-
-        double otherAngle = pstRangeAction.convertTapToAngle(otherTap);
-        double approxLimitAngle = 0.5 * (closestAngle + otherAngle);
-        if (Math.abs(angle - approxLimitAngle) / Math.abs(closestAngle - otherAngle) < 0.15) {
-            // Angle is too close to the limit between two tap positions
-            // Chose the tap that maximizes the margin on the most limiting element
-            Pair<Double, Double> margins = computeMinMargins(network, pstRangeAction, closestAngle, otherAngle, linearOptimizationResult, unit);
-            if (margins.getRight() > margins.getLeft()) {
-                return Map.of(closestTap, margins.getLeft(), otherTap, margins.getRight());
+        if (otherTap != null) {
+            double otherAngle = pstRangeAction.convertTapToAngle(otherTap);
+            double approxLimitAngle = 0.5 * (closestAngle + otherAngle);
+            if (Math.abs(angle - approxLimitAngle) / Math.abs(closestAngle - otherAngle) < 0.15) {
+                // Angle is too close to the limit between two tap positions
+                return List.of(closestTap, otherTap);
             }
         }
+        return List.of(closestTap);
+    }
 
-        // Default case
-        return Map.of(closestTap, Double.MAX_VALUE);
+    private static boolean isTapInRange(PstRangeAction pstRangeAction, int tap) {
+        try {
+            pstRangeAction.convertTapToAngle(tap);
+            return true;
+        } catch (OpenRaoException | ValidationException e) {
+            return false;
+        }
     }
 
     /**
@@ -210,38 +207,4 @@ public final class BestTapFinder {
         }
         return otherTap;
     }
-
-    /**
-     * This method estimates the minimum margin upon a given set of cnecs, for two angles of a given PST
-     *
-     * @param pstRangeAction:           the PstRangeAction that we should test on two angles
-     * @param angle1:                   the first angle for the PST
-     * @param angle2:                   the second angle for the PST
-     * @param linearOptimizationResult: allows to get flow & sensitivity values, as well as most limiting flow CNECs
-     * @param unit:                     the unit of the evalutors (MW or A)
-     * @return a pair of two minimum margins (margin for angle1, margin for angle2)
-     */
-    static Pair<Double, Double> computeMinMargins(Network network,
-                                                  PstRangeAction pstRangeAction,
-                                                  double angle1,
-                                                  double angle2,
-                                                  LinearOptimizationResult linearOptimizationResult,
-                                                  Unit unit) {
-        double minMargin1 = Double.MAX_VALUE;
-        double minMargin2 = Double.MAX_VALUE;
-        for (FlowCnec flowCnec : linearOptimizationResult.getMostLimitingElements(10)) {
-            for (TwoSides side : flowCnec.getMonitoredSides()) {
-                double sensitivity = linearOptimizationResult.getSensitivityValue(flowCnec, side, pstRangeAction, MEGAWATT);
-                double currentSetPoint = pstRangeAction.getCurrentSetpoint(network);
-                double referenceFlow = linearOptimizationResult.getFlow(flowCnec, side, unit) * RaoUtil.getFlowUnitMultiplier(flowCnec, side, unit, MEGAWATT);
-
-                double flow1 = sensitivity * (angle1 - currentSetPoint) + referenceFlow;
-                double flow2 = sensitivity * (angle2 - currentSetPoint) + referenceFlow;
-
-                minMargin1 = Math.min(minMargin1, flowCnec.computeMargin(flow1, side, MEGAWATT));
-                minMargin2 = Math.min(minMargin2, flowCnec.computeMargin(flow2, side, MEGAWATT));
-            }
-        }
-        return Pair.of(minMargin1, minMargin2);
-    }
 }
@@ -25,6 +25,7 @@ import com.powsybl.openrao.sensitivityanalysis.AppliedRemedialActions;
 import com.powsybl.iidm.network.Network;
 import org.apache.commons.lang3.tuple.Pair;
 
+import java.time.Instant;
 import java.util.Locale;
 
 import static com.powsybl.openrao.commons.logs.OpenRaoLoggerProvider.*;
@@ -57,6 +58,12 @@ public final class IteratingLinearOptimizer {
         linearProblem.fill(input.getPreOptimizationFlowResult(), input.getPreOptimizationSensitivityResult());
 
         for (int iteration = 1; iteration <= parameters.getMaxNumberOfIterations(); iteration++) {
+            if (iteration > 1 && isDeadlineReached(input)) {
+                // the solution of the previous iteration is kept, it is feasible but may not be optimal
+                TECHNICAL_LOGS.info("Iteration {}: time budget exhausted, best solution found so far is kept", iteration);
+                bestResult.setStatus(LinearProblemStatus.FEASIBLE);
+                return bestResult;
+            }
             LinearProblemStatus solveStatus = solveLinearProblem(linearProblem, iteration);
             bestResult.setNbOfIteration(iteration);
             if (solveStatus == LinearProblemStatus.FEASIBLE) {
@@ -108,6 +115,10 @@ public final class IteratingLinearOptimizer {
         return bestResult;
     }
 
+    private static boolean isDeadlineReached(IteratingLinearOptimizerInput input) {
+        return input.getDeadline() != null && !Instant.now().isBefore(input.getDeadline());
+    }
+
     private static SensitivityComputer runSensitivityAnalysis(SensitivityComputer sensitivityComputer, int iteration, RangeActionActivationResult currentRangeActionActivationResult, IteratingLinearOptimizerInput input, IteratingLinearOptimizerParameters parameters) {
         SensitivityComputer tmpSensitivityComputer = sensitivityComputer;
         if (input.getOptimizationPerimeter() instanceof GlobalOptimizationPerimeter) {
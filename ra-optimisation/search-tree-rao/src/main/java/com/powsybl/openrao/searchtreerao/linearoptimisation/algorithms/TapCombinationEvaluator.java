@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.powsybl.openrao.searchtreerao.linearoptimisation.algorithms;
+
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.TwoSides;
+import com.powsybl.openrao.commons.Unit;
+import com.powsybl.openrao.data.crac.api.cnec.FlowCnec;
+import com.powsybl.openrao.data.crac.api.rangeaction.PstRangeAction;
+import com.powsybl.openrao.searchtreerao.commons.RaoUtil;
+import com.powsybl.openrao.searchtreerao.result.api.LinearOptimizationResult;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static com.powsybl.openrao.commons.Unit.MEGAWATT;
+
+/**
+ * Linear estimation of the minimum margin on the most limiting CNECs for combinations of PST taps.
+ * <p>
+ * The reference flows, thresholds and flow variations of every candidate tap are gathered once in primitive
+ * arrays, so that many combinations of taps can be evaluated at a low cost. A tap variable is either a PST or a
+ * group of PSTs sharing the same tap. The first candidate tap of each variable is its default choice.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+final class TapCombinationEvaluator {
+    private static final int NUMBER_OF_MOST_LIMITING_ELEMENTS = 10;
+    private static final int MAX_NUMBER_OF_EXHAUSTIVELY_EVALUATED_COMBINATIONS = 4096;
+
+    private final int[] numberOfCandidates;
+    // flow on each (CNEC, side) when every variable which has a single candidate tap is set to it
+    private final double[] baseFlows;
+    private final double[] lowerBounds;
+    private final double[] upperBounds;
+    // flowVariations[v][c][r]: variation of the flow on (CNEC, side) r when variable v is set to its candidate tap c
+    private final double[][][] flowVariations;
+
+    TapCombinationEvaluator(Network network,
+                            List<List<PstRangeAction>> tapVariables,
+                            int[][] candidateTaps,
+                            LinearOptimizationResult linearOptimizationResult,
+                            Unit unit) {
+        List<FlowCnec> cnecPerRow = new ArrayList<>();
+        List<TwoSides> sidePerRow = new ArrayList<>();
+        for (FlowCnec flowCnec : linearOptimizationResult.getMostLimitingElements(NUMBER_OF_MOST_LIMITING_ELEMENTS)) {
+            for (TwoSides side : flowCnec.getMonitoredSides()) {
+                cnecPerRow.add(flowCnec);
+                sidePerRow.add(side);
+            }
+        }
+        int numberOfRows = cnecPerRow.size();
+
+        baseFlows = new double[numberOfRows];
+        lowerBounds = new double[numberOfRows];
+        upperBounds = new double[numberOfRows];
+        for (int r = 0; r < numberOfRows; r++) {
+            FlowCnec flowCnec = cnecPerRow.get(r);
+            TwoSides side = sidePerRow.get(r);
+            baseFlows[r] = linearOptimizationResult.getFlow(flowCnec, side, unit) * RaoUtil.getFlowUnitMultiplier(flowCnec, side, unit, MEGAWATT);
+            lowerBounds[r] = flowCnec.getLowerBound(side, MEGAWATT).orElse(Double.NEGATIVE_INFINITY);
+            upperBounds[r] = flowCnec.getUpperBound(side, MEGAWATT).orElse(Double.POSITIVE_INFINITY);
+        }
+
+        numberOfCandidates = new int[tapVariables.size()];
+        flowVariations = new double[tapVariables.size()][][];
+        for (int v = 0; v < tapVariables.size(); v++) {
+            numberOfCandidates[v] = candidateTaps[v].length;
+            flowVariations[v] = new double[candidateTaps[v].length][numberOfRows];
+            for (PstRangeAction pstRangeAction : tapVariables.get(v)) {
+                double currentSetpoint = pstRangeAction.getCurrentSetpoint(network);
+                double[] angleVariations = new double[candidateTaps[v].length];
+                for (int c = 0; c < candidateTaps[v].length; c++) {
+                    angleVariations[c] = pstRangeAction.convertTapToAngle(candidateTaps[v][c]) - currentSetpoint;
+                }
+                for (int r = 0; r < numberOfRows; r++) {
+                    double sensitivity = linearOptimizationResult.getSensitivityValue(cnecPerRow.get(r), sidePerRow.get(r), pstRangeAction, MEGAWATT);
+                    for (int c = 0; c < candidateTaps[v].length; c++) {
+                        flowVariations[v][c][r] += sensitivity * angleVariations[c];
+                    }
+                }
+            }
+            if (numberOfCandidates[v] == 1) {
+                for (int r = 0; r < numberOfRows; r++) {
+                    baseFlows[r] += flowVariations[v][0][r];
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns, for each variable, the index of the candidate tap of the combination maximizing the minimum margin.
+     * All the combinations are evaluated if they are not too many, otherwise a greedy search is performed. Other
+     * candidates are only chosen if they strictly improve the minimum margin.
+     */
+    int[] findBestCombination() {
+        int[] freeVariables = IntStream.range(0, numberOfCandidates.length).filter(v -> numberOfCandidates[v] > 1).toArray();
+        long numberOfCombinations = 1;
+        for (int v : freeVariables) {
+            numberOfCombinations = Math.min(numberOfCombinations * numberOfCandidates[v], Integer.MAX_VALUE);
+        }
+        return numberOfCombinations <= MAX_NUMBER_OF_EXHAUSTIVELY_EVALUATED_COMBINATIONS ?
+            findBestCombinationExhaustively(freeVariables) : findBestCombinationGreedily(freeVariables);
+    }
+
+    private double computeMinMargin(int[] choice, int[] freeVariables) {
+        double minMargin = Double.MAX_VALUE;
+        for (int r = 0; r < baseFlows.length; r++) {
+            double flow = baseFlows[r];
+            for (int v : freeVariables) {
+                flow += flowVariations[v][choice[v]][r];
+            }
+            minMargin = Math.min(minMargin, Math.min(flow - lowerBounds[r], upperBounds[r] - flow));
+        }
+        return minMargin;
+    }
+
+    private int[] findBestCombinationExhaustively(int[] freeVariables) {
+        int[] choice = new int[numberOfCandidates.length];
+        int[] bestChoice = choice.clone();
+        double bestMinMargin = computeMinMargin(choice, freeVariables);
+        while (nextCombination(choice, freeVariables)) {
+            double minMargin = computeMinMargin(choice, freeVariables);
+            if (minMargin > bestMinMargin) {
+                bestMinMargin = minMargin;
+                bestChoice = choice.clone();
+            }
+        }
+        return bestChoice;
+    }
+
+    /**
+     * Moves to the next combination of candidate taps, in mixed radix order. Returns false once all combinations
+     * have been enumerated.
+     */
+    private boolean nextCombination(int[] choice, int[] freeVariables) {
+        for (int v : freeVariables) {
+            choice[v]++;
+            if (choice[v] < numberOfCandidates[v]) {
+                return true;
+            }
+            choice[v] = 0;
+        }
+        return false;
+    }
+
+    private int[] findBestCombinationGreedily(int[] freeVariables) {
+        int[] choice = new int[numberOfCandidates.length];
+        double bestMinMargin = computeMinMargin(choice, freeVariables);
+        boolean improved = true;
+        while (improved) {
+            improved = false;
+            int bestVariable = -1;
+            int bestCandidate = -1;
+            for (int v : freeVariables) {
+                int currentCandidate = choice[v];
+                for (int c = 0; c < numberOfCandidates[v]; c++) {
+                    if (c == currentCandidate) {
+                        continue;
+                    }
+                    choice[v] = c;
+                    double minMargin = computeMinMargin(choice, freeVariables);
+                    if (minMargin > bestMinMargin) {
+                        bestMinMargin = minMargin;
+                        bestVariable = v;
+                        bestCandidate = c;
+                    }
+                }
+                choice[v] = currentCandidate;
+            }
+            if (bestVariable >= 0) {
+                choice[bestVariable] = bestCandidate;
+                improved = true;
+            }
+        }
+        return choice;
+    }
+}
@@ -36,6 +36,11 @@ public class ContinuousRangeActionGroupFiller implements ProblemFiller {
         buildRangeActionGroupConstraint(linearProblem);
     }
 
+    @Override
+    public void updateBetweenSensiIteration(LinearProblem linearProblem, FlowResult flowResult, SensitivityResult sensitivityResult, RangeActionActivationResult rangeActionActivationResult) {
+        // nothing to do
+    }
+
     @Override
     public void updateBetweenMipIteration(LinearProblem linearProblem, RangeActionActivationResult rangeActionActivationResult) {
         // nothing to do
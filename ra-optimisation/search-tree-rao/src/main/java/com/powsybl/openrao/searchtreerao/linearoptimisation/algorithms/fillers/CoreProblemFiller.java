@@ -89,6 +89,15 @@ public class CoreProblemFiller implements ProblemFiller {
 
     }
 
+    @Override
+    public void updateBetweenSensiIteration(LinearProblem linearProblem, FlowResult flowResult, SensitivityResult sensitivityResult, RangeActionActivationResult rangeActionActivationResult) {
+        Set<FlowCnec> validFlowCnecs = FillersUtil.getFlowCnecsComputationStatusOk(flowCnecs, sensitivityResult);
+
+        // update constraints
+        updateFlowConstraints(linearProblem, validFlowCnecs, flowResult, sensitivityResult, rangeActionActivationResult);
+        checkAndActivateRangeShrinking(linearProblem, rangeActionActivationResult);
+    }
+
     @Override
     public void updateBetweenMipIteration(LinearProblem linearProblem, RangeActionActivationResult rangeActionActivationResult) {
         // nothing to do
@@ -146,6 +155,20 @@ public class CoreProblemFiller implements ProblemFiller {
         }));
     }
 
+    /**
+     * Update the flow constraint of each Cnec c with the new reference flows and sensitivities, without
+     * re-creating it.
+     */
+    private void updateFlowConstraints(LinearProblem linearProblem, Set<FlowCnec> validFlowCnecs, FlowResult flowResult, SensitivityResult sensitivityResult, RangeActionActivationResult rangeActionActivationResult) {
+        validFlowCnecs.forEach(cnec -> cnec.getMonitoredSides().forEach(side -> {
+            double referenceFlow = flowResult.getFlow(cnec, side, unit) * RaoUtil.getFlowUnitMultiplier(cnec, side, unit, Unit.MEGAWATT);
+            linearProblem.getFlowConstraint(cnec, side).setBounds(referenceFlow, referenceFlow);
+
+            // update sensitivity coefficients
+            addImpactOfRangeActionOnCnec(linearProblem, sensitivityResult, cnec, side, rangeActionActivationResult);
+        }));
+    }
+
     private void addImpactOfRangeActionOnCnec(LinearProblem linearProblem, SensitivityResult sensitivityResult, FlowCnec cnec, TwoSides side, RangeActionActivationResult rangeActionActivationResult) {
         OpenRaoMPConstraint flowConstraint = linearProblem.getFlowConstraint(cnec, side);
 
@@ -154,29 +177,38 @@ public class CoreProblemFiller implements ProblemFiller {
             .toList();
 
         Set<RangeAction<?>> alreadyConsideredAction = new HashSet<>();
+        List<RangeAction<?>> rangeActions = new ArrayList<>();
+        List<State> rangeActionStates = new ArrayList<>();
 
         for (State state : statesBeforeCnec) {
             // Impact of range action on cnec is only added on the last instant on which rangeAction is available
             for (RangeAction<?> rangeAction : optimizationContext.getRangeActionsPerState().get(state)) {
                 // todo: make that cleaner, it is ugly
                 if (!alreadyConsideredAction.contains(rangeAction)) {
-                    addImpactOfRangeActionOnCnec(linearProblem, sensitivityResult, rangeAction, state, cnec, side, flowConstraint, rangeActionActivationResult);
+                    rangeActions.add(rangeAction);
+                    rangeActionStates.add(state);
                     alreadyConsideredAction.addAll(getAvailableRangeActionsOnSameAction(rangeAction));
                 }
 
             }
         }
+
+        // the sensitivities of the cnec to all its range actions are read at once
+        double[] sensitivities = sensitivityResult.getSensitivityValues(cnec, side, rangeActions, Unit.MEGAWATT);
+        for (int i = 0; i < rangeActions.size(); i++) {
+            addImpactOfRangeActionOnCnec(linearProblem, sensitivities[i], rangeActions.get(i), rangeActionStates.get(i), flowConstraint, rangeActionActivationResult);
+        }
     }
 
-    private void addImpactOfRangeActionOnCnec(LinearProblem linearProblem, SensitivityResult sensitivityResult, RangeAction<?> rangeAction, State state, FlowCnec cnec, TwoSides side, OpenRaoMPConstraint flowConstraint, RangeActionActivationResult rangeActionActivationResult) {
-        double sensitivity = sensitivityResult.getSensitivityValue(cnec, side, rangeAction, Unit.MEGAWATT);
+    private void addImpactOfRangeActionOnCnec(LinearProblem linearProblem, double sensitivity, RangeAction<?> rangeAction, State state, OpenRaoMPConstraint flowConstraint, RangeActionActivationResult rangeActionActivationResult) {
+        OpenRaoMPVariable setPointVariable = linearProblem.getRangeActionSetpointVariable(rangeAction, state);
 
         if (!isRangeActionSensitivityAboveThreshold(rangeAction, Math.abs(sensitivity))) {
-            // don't consider this RA's impact on this CNEC
+            // don't consider this RA's impact on this CNEC, and remove the impact set at a previous iteration if any
+            flowConstraint.setCoefficient(setPointVariable, 0);
             return;
         }
 
-        OpenRaoMPVariable setPointVariable = linearProblem.getRangeActionSetpointVariable(rangeAction, state);
         double currentSetPoint = rangeActionActivationResult.getOptimizedSetpoint(rangeAction, state);
 
         flowConstraint.setLb(flowConstraint.lb() - sensitivity * currentSetPoint);
@@ -421,4 +453,9 @@ public class CoreProblemFiller implements ProblemFiller {
             }
         ));
     }
+
+    @Override
+    public Set<FlowCnec> getFlowCnecs() {
+        return flowCnecs;
+    }
 }
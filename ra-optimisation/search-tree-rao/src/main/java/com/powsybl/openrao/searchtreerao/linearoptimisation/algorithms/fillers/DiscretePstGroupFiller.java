@@ -40,6 +40,11 @@ public class DiscretePstGroupFiller implements ProblemFiller {
         ));
     }
 
+    @Override
+    public void updateBetweenSensiIteration(LinearProblem linearProblem, FlowResult flowResult, SensitivityResult sensitivityResult, RangeActionActivationResult rangeActionActivationResult) {
+        updateBetweenMipIteration(linearProblem, rangeActionActivationResult);
+    }
+
     @Override
     public void updateBetweenMipIteration(LinearProblem linearProblem, RangeActionActivationResult rangeActionActivationResult) {
         pstRangeActions.forEach((state, rangeActionSet) -> rangeActionSet.forEach(rangeAction ->
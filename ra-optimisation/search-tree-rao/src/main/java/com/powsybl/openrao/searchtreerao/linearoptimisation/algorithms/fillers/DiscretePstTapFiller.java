@@ -54,6 +54,12 @@ public class DiscretePstTapFiller implements ProblemFiller {
         }
     }
 
+    @Override
+    public void updateBetweenSensiIteration(LinearProblem linearProblem, FlowResult flowResult, SensitivityResult sensitivityResult, RangeActionActivationResult rangeActionActivationResult) {
+        iteration++;
+        update(linearProblem, rangeActionActivationResult);
+    }
+
     @Override
     public void updateBetweenMipIteration(LinearProblem linearProblem, RangeActionActivationResult rangeActionActivationResult) {
         update(linearProblem, rangeActionActivationResult);
@@ -59,6 +59,25 @@ public class MaxLoopFlowFiller implements ProblemFiller {
         buildLoopFlowConstraintsAndUpdateObjectiveFunction(linearProblem, getValidLoopFlowCnecs(sensitivityResult), flowResultToUse);
     }
 
+    @Override
+    public void updateBetweenSensiIteration(LinearProblem linearProblem, FlowResult flowResult, SensitivityResult sensitivityResult, RangeActionActivationResult rangeActionActivationResult) {
+        if (!loopFlowPtdfApproximationLevel.shouldUpdatePtdfWithPstChange()) {
+            return;
+        }
+        // only the commercial flows, which define the bounds of the loop-flow constraints, have changed
+        for (FlowCnec cnec : getValidLoopFlowCnecs(sensitivityResult)) {
+            for (TwoSides side : cnec.getMonitoredSides()) {
+                double loopFlowUpperBound = getLoopFlowUpperBound(cnec, side);
+                if (loopFlowUpperBound == Double.POSITIVE_INFINITY) {
+                    continue;
+                }
+                double commercialFlow = flowResult.getCommercialFlow(cnec, side, Unit.MEGAWATT);
+                linearProblem.getMaxLoopFlowConstraint(cnec, side, LinearProblem.BoundExtension.LOWER_BOUND).setLb(-loopFlowUpperBound + commercialFlow);
+                linearProblem.getMaxLoopFlowConstraint(cnec, side, LinearProblem.BoundExtension.UPPER_BOUND).setUb(loopFlowUpperBound + commercialFlow);
+            }
+        }
+    }
+
     @Override
     public void updateBetweenMipIteration(LinearProblem linearProblem, RangeActionActivationResult rangeActionActivationResult) {
         // nothing to do
@@ -145,4 +164,9 @@ public class MaxLoopFlowFiller implements ProblemFiller {
         return Math.max(Math.abs(initialLoopFlow),
             Math.max(loopFlowThreshold, Math.abs(initialLoopFlow) + loopFlowAcceptableAugmentation) - loopFlowConstraintAdjustmentCoefficient) + 0.01;
     }
+
+    @Override
+    public Set<FlowCnec> getFlowCnecs() {
+        return loopFlowCnecs;
+    }
 }
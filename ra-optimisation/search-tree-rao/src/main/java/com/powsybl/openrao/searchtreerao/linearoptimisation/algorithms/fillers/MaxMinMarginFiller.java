@@ -54,6 +54,11 @@ public class MaxMinMarginFiller implements ProblemFiller {
         fillObjectiveWithMinMargin(linearProblem);
     }
 
+    @Override
+    public void updateBetweenSensiIteration(LinearProblem linearProblem, FlowResult flowResult, SensitivityResult sensitivityResult, RangeActionActivationResult rangeActionActivationResult) {
+        // Margin constraints only depend on the thresholds of the CNECs, nothing to do
+    }
+
     @Override
     public void updateBetweenMipIteration(LinearProblem linearProblem, RangeActionActivationResult rangeActionActivationResult) {
         // Objective does not change, nothing to do
@@ -126,5 +131,8 @@ public class MaxMinMarginFiller implements ProblemFiller {
         linearProblem.getObjective().setCoefficient(minimumMarginVariable, -1);
     }
 
+    @Override
+    public Set<FlowCnec> getFlowCnecs() {
+        return optimizedCnecs;
+    }
 }
-
@@ -63,6 +63,17 @@ public class MaxMinRelativeMarginFiller extends MaxMinMarginFiller {
         fillObjectiveWithMinRelMargin(linearProblem);
     }
 
+    @Override
+    public void updateBetweenSensiIteration(LinearProblem linearProblem, FlowResult flowResult, SensitivityResult sensitivityResult, RangeActionActivationResult rangeActionActivationResult) {
+        if (!ptdfApproximationLevel.shouldUpdatePtdfWithPstChange()) {
+            return;
+        }
+        Set<FlowCnec> validFlowCnecs = FillersUtil.getFlowCnecsComputationStatusOk(optimizedCnecs, sensitivityResult);
+        validFlowCnecs.forEach(cnec -> cnec.getMonitoredSides().forEach(side ->
+            setOrUpdateRelativeMarginCoefficients(linearProblem, flowResult, cnec, side)
+        ));
+    }
+
     private void updateMinimumNegativeMarginDefinition(LinearProblem linearProblem) {
         OpenRaoMPVariable minimumMarginVariable = linearProblem.getMinimumMarginVariable();
         OpenRaoMPVariable minRelMarginSignBinaryVariable = linearProblem.getMinimumRelativeMarginSignBinaryVariable();
@@ -134,10 +145,11 @@ public class MaxMinRelativeMarginFiller extends MaxMinMarginFiller {
             OpenRaoMPConstraint minimumMarginNegative;
             try {
                 minimumMarginNegative = linearProblem.getMinimumRelativeMarginConstraint(cnec, side, LinearProblem.MarginExtension.BELOW_THRESHOLD);
+                shiftUpperBoundWithRelMarginCoef(minimumMarginNegative, minRelMarginVariable, unitConversionCoefficient * relMarginCoef);
             } catch (OpenRaoException ignored) {
                 minimumMarginNegative = linearProblem.addMinimumRelativeMarginConstraint(-linearProblem.infinity(), linearProblem.infinity(), cnec, side, LinearProblem.MarginExtension.BELOW_THRESHOLD);
+                minimumMarginNegative.setUb(-minFlow.get() + unitConversionCoefficient * relMarginCoef * maxNegativeRelativeRam);
             }
-            minimumMarginNegative.setUb(-minFlow.get() + unitConversionCoefficient * relMarginCoef * maxNegativeRelativeRam);
             minimumMarginNegative.setCoefficient(minRelMarginVariable, unitConversionCoefficient * relMarginCoef);
             minimumMarginNegative.setCoefficient(minRelMarginSignBinaryVariable, unitConversionCoefficient * relMarginCoef * maxNegativeRelativeRam);
             minimumMarginNegative.setCoefficient(flowVariable, -1);
@@ -146,16 +158,27 @@ public class MaxMinRelativeMarginFiller extends MaxMinMarginFiller {
             OpenRaoMPConstraint minimumMarginPositive;
             try {
                 minimumMarginPositive = linearProblem.getMinimumRelativeMarginConstraint(cnec, side, LinearProblem.MarginExtension.ABOVE_THRESHOLD);
+                shiftUpperBoundWithRelMarginCoef(minimumMarginPositive, minRelMarginVariable, unitConversionCoefficient * relMarginCoef);
             } catch (OpenRaoException ignored) {
                 minimumMarginPositive = linearProblem.addMinimumRelativeMarginConstraint(-linearProblem.infinity(), linearProblem.infinity(), cnec, side, LinearProblem.MarginExtension.ABOVE_THRESHOLD);
+                minimumMarginPositive.setUb(maxFlow.get() + unitConversionCoefficient * relMarginCoef * maxNegativeRelativeRam);
             }
-            minimumMarginPositive.setUb(maxFlow.get() + unitConversionCoefficient * relMarginCoef * maxNegativeRelativeRam);
             minimumMarginPositive.setCoefficient(minRelMarginVariable, unitConversionCoefficient * relMarginCoef);
             minimumMarginPositive.setCoefficient(minRelMarginSignBinaryVariable, unitConversionCoefficient * relMarginCoef * maxNegativeRelativeRam);
             minimumMarginPositive.setCoefficient(flowVariable, 1);
         }
     }
 
+    /**
+     * When updating an existing constraint, only shift its upper bound by the variation of the term depending on the
+     * relative margin coefficient, so that relaxations added by other fillers (e.g. for unoptimized CNECs) are kept.
+     * The coefficient of the minimum relative margin variable in the constraint is the previous value of this term.
+     */
+    private void shiftUpperBoundWithRelMarginCoef(OpenRaoMPConstraint constraint, OpenRaoMPVariable minRelMarginVariable, double newRelMarginCoef) {
+        double previousRelMarginCoef = constraint.getCoefficient(minRelMarginVariable);
+        constraint.setUb(constraint.ub() + (newRelMarginCoef - previousRelMarginCoef) * maxNegativeRelativeRam);
+    }
+
     private void fillObjectiveWithMinRelMargin(LinearProblem linearProblem) {
         OpenRaoMPVariable minRelMarginVariable = linearProblem.getMinimumRelativeMarginVariable();
         linearProblem.getObjective().setCoefficient(minRelMarginVariable, -1);
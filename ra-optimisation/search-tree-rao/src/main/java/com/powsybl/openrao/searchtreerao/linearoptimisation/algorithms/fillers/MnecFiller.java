@@ -54,6 +54,11 @@ public class MnecFiller implements ProblemFiller {
         fillObjectiveWithMnecPenaltyCost(linearProblem, validMonitoredCnecs);
     }
 
+    @Override
+    public void updateBetweenSensiIteration(LinearProblem linearProblem, FlowResult flowResult, SensitivityResult sensitivityResult, RangeActionActivationResult rangeActionActivationResult) {
+        // MNEC constraints only depend on the initial flows, nothing to do
+    }
+
     @Override
     public void updateBetweenMipIteration(LinearProblem linearProblem, RangeActionActivationResult rangeActionActivationResult) {
         // nothing to do
@@ -98,4 +103,9 @@ public class MnecFiller implements ProblemFiller {
                     RaoUtil.getFlowUnitMultiplier(mnec, side, MEGAWATT, unit) * mnecViolationCost / mnec.getMonitoredSides().size())
             ));
     }
+
+    @Override
+    public Set<FlowCnec> getFlowCnecs() {
+        return monitoredCnecs;
+    }
 }
@@ -7,11 +7,14 @@
 
 package com.powsybl.openrao.searchtreerao.linearoptimisation.algorithms.fillers;
 
+import com.powsybl.openrao.data.crac.api.cnec.FlowCnec;
 import com.powsybl.openrao.searchtreerao.linearoptimisation.algorithms.linearproblem.LinearProblem;
 import com.powsybl.openrao.searchtreerao.result.api.FlowResult;
 import com.powsybl.openrao.searchtreerao.result.api.RangeActionActivationResult;
 import com.powsybl.openrao.searchtreerao.result.api.SensitivityResult;
 
+import java.util.Set;
+
 /**
  * @author Pengbo Wang {@literal <pengbo.wang at rte-international.com>}
  */
@@ -19,5 +22,18 @@ public interface ProblemFiller {
 
     void fill(LinearProblem linearProblem, FlowResult flowResult, SensitivityResult sensitivityResult, RangeActionActivationResult rangeActionActivationResult);
 
+    /**
+     * Update the coefficients and bounds of the variables and constraints created by the filler, after a new
+     * sensitivity computation. The structure of the problem (set of variables and constraints) must not change.
+     */
+    void updateBetweenSensiIteration(LinearProblem linearProblem, FlowResult flowResult, SensitivityResult sensitivityResult, RangeActionActivationResult rangeActionActivationResult);
+
     void updateBetweenMipIteration(LinearProblem linearProblem, RangeActionActivationResult rangeActionActivationResult);
+
+    /**
+     * Flow CNECs of the filler, which are left out of the problem when the sensitivity computation fails on their state
+     */
+    default Set<FlowCnec> getFlowCnecs() {
+        return Set.of();
+    }
 }
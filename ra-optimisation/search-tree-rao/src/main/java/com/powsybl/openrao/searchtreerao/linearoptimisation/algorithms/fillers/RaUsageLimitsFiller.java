@@ -82,6 +82,11 @@ public class RaUsageLimitsFiller implements ProblemFiller {
         });
     }
 
+    @Override
+    public void updateBetweenSensiIteration(LinearProblem linearProblem, FlowResult flowResult, SensitivityResult sensitivityResult, RangeActionActivationResult rangeActionActivationResult) {
+        updateBetweenMipIteration(linearProblem, rangeActionActivationResult);
+    }
+
     @Override
     public void updateBetweenMipIteration(LinearProblem linearProblem, RangeActionActivationResult rangeActionActivationResult) {
         rangeActions.forEach((state, rangeActionSet) -> {
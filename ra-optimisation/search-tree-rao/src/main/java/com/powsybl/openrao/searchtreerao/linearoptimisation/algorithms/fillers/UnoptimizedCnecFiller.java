@@ -65,6 +65,11 @@ public class UnoptimizedCnecFiller implements ProblemFiller {
         updateMinimumMarginConstraints(linearProblem, validFlowCnecs);
     }
 
+    @Override
+    public void updateBetweenSensiIteration(LinearProblem linearProblem, FlowResult flowResult, SensitivityResult sensitivityResult, RangeActionActivationResult rangeActionActivationResult) {
+        // constraints only depend on the pre-perimeter margins, nothing to do
+    }
+
     @Override
     public void updateBetweenMipIteration(LinearProblem linearProblem, RangeActionActivationResult rangeActionActivationResult) {
         // nothing to do
@@ -199,4 +204,9 @@ public class UnoptimizedCnecFiller implements ProblemFiller {
         constraint.setCoefficient(optimizeCnecBinaryVariable, bigM);
         constraint.setUb(constraint.ub() + bigM);
     }
+
+    @Override
+    public Set<FlowCnec> getFlowCnecs() {
+        return flowCnecs;
+    }
 }
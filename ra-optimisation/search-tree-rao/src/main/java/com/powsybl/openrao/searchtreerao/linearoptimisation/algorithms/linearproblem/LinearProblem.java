@@ -8,6 +8,7 @@
 package com.powsybl.openrao.searchtreerao.linearoptimisation.algorithms.linearproblem;
 
 import com.powsybl.openrao.data.crac.api.State;
+import com.powsybl.openrao.data.raoresult.api.ComputationStatus;
 import com.powsybl.openrao.data.crac.api.cnec.FlowCnec;
 import com.powsybl.iidm.network.TwoSides;
 import com.powsybl.openrao.data.crac.api.rangeaction.PstRangeAction;
@@ -20,8 +21,11 @@ import com.powsybl.openrao.searchtreerao.result.api.RangeActionActivationResult;
 import com.powsybl.openrao.searchtreerao.result.api.SensitivityResult;
 
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
-import static com.powsybl.openrao.searchtreerao.linearoptimisation.algorithms.linearproblem.LinearProblemIdGenerator.*;
+import static com.powsybl.openrao.searchtreerao.linearoptimisation.algorithms.linearproblem.LinearProblemKey.Element.*;
+import static com.powsybl.openrao.searchtreerao.linearoptimisation.algorithms.linearproblem.LinearProblemKey.*;
 
 /**
  * @author Pengbo Wang {@literal <pengbo.wang at rte-international.com>}
@@ -36,6 +40,8 @@ public final class LinearProblem {
     private final RangeActionActivationResult raActivationFromParentLeaf;
     private final double relativeMipGap;
     private final String solverSpecificParameters;
+    private final Set<State> flowCnecStates;
+    private Set<State> statesWithFailedSensitivity = Set.of();
 
     public enum AbsExtension {
         POSITIVE,
@@ -88,6 +94,11 @@ public final class LinearProblem {
         this.raActivationFromParentLeaf = raActivationFromParentLeaf;
         this.relativeMipGap = relativeMipGap;
         this.solverSpecificParameters = solverSpecificParameters;
+        // states of the CNECs that the fillers filter out of the problem when their sensitivity computation fails
+        this.flowCnecStates = fillerList.stream()
+            .flatMap(problemFiller -> problemFiller.getFlowCnecs().stream())
+            .map(FlowCnec::getState)
+            .collect(Collectors.toSet());
         this.solver.setMinimization();
     }
 
@@ -96,13 +107,31 @@ public final class LinearProblem {
     }
 
     public void fill(FlowResult flowResult, SensitivityResult sensitivityResult) {
+        statesWithFailedSensitivity = getStatesWithFailedSensitivity(sensitivityResult);
         fillerList.forEach(problemFiller -> problemFiller.fill(this, flowResult, sensitivityResult, raActivationFromParentLeaf));
     }
 
+    /**
+     * Update the problem with the results of a new sensitivity computation.
+     * As long as the states on which the sensitivity computation failed are the same, the set of variables and
+     * constraints does not change: the fillers only update coefficients and bounds, and the MPSolver model is kept.
+     * Otherwise, the CNECs to consider in the problem have changed, and the problem is rebuilt from scratch.
+     */
     public void updateBetweenSensiIteration(FlowResult flowResult, SensitivityResult sensitivityResult, RangeActionActivationResult rangeActionActivationResult) {
-        // TODO: only reset if failed states have changed? Then we need access to all CRAC states in order to query the sensitivity result
-        this.solver.resetModel();
-        fillerList.forEach(problemFiller -> problemFiller.fill(this, flowResult, sensitivityResult, rangeActionActivationResult));
+        Set<State> newStatesWithFailedSensitivity = getStatesWithFailedSensitivity(sensitivityResult);
+        if (newStatesWithFailedSensitivity.equals(statesWithFailedSensitivity)) {
+            fillerList.forEach(problemFiller -> problemFiller.updateBetweenSensiIteration(this, flowResult, sensitivityResult, rangeActionActivationResult));
+        } else {
+            statesWithFailedSensitivity = newStatesWithFailedSensitivity;
+            this.solver.resetModel();
+            fillerList.forEach(problemFiller -> problemFiller.fill(this, flowResult, sensitivityResult, rangeActionActivationResult));
+        }
+    }
+
+    private Set<State> getStatesWithFailedSensitivity(SensitivityResult sensitivityResult) {
+        return flowCnecStates.stream()
+            .filter(state -> sensitivityResult.getSensitivityStatus(state) == ComputationStatus.FAILURE)
+            .collect(Collectors.toSet());
     }
 
     public void updateBetweenMipIteration(RangeActionActivationResult rangeActionActivationResult) {
@@ -132,324 +161,324 @@ public final class LinearProblem {
     }
 
     public OpenRaoMPVariable addFlowVariable(double lb, double ub, FlowCnec cnec, TwoSides side) {
-        return solver.makeNumVar(lb, ub, flowVariableId(cnec, side));
+        return solver.makeNumVar(lb, ub, ofFlowCnec(FLOW_VARIABLE, cnec, side));
     }
 
     public OpenRaoMPVariable getFlowVariable(FlowCnec cnec, TwoSides side) {
-        return solver.getVariable(flowVariableId(cnec, side));
+        return solver.getVariable(ofFlowCnec(FLOW_VARIABLE, cnec, side));
     }
 
     public OpenRaoMPConstraint addFlowConstraint(double lb, double ub, FlowCnec cnec, TwoSides side) {
-        return solver.makeConstraint(lb, ub, flowConstraintId(cnec, side));
+        return solver.makeConstraint(lb, ub, ofFlowCnec(FLOW_CONSTRAINT, cnec, side));
     }
 
     public OpenRaoMPConstraint getFlowConstraint(FlowCnec cnec, TwoSides side) {
-        return solver.getConstraint(flowConstraintId(cnec, side));
+        return solver.getConstraint(ofFlowCnec(FLOW_CONSTRAINT, cnec, side));
     }
 
     public OpenRaoMPVariable addRangeActionSetpointVariable(double lb, double ub, RangeAction<?> rangeAction, State state) {
-        return solver.makeNumVar(lb, ub, rangeActionSetpointVariableId(rangeAction, state));
+        return solver.makeNumVar(lb, ub, ofRangeAction(RANGE_ACTION_SETPOINT_VARIABLE, rangeAction, state));
     }
 
     public OpenRaoMPVariable getRangeActionSetpointVariable(RangeAction<?> rangeAction, State state) {
-        return solver.getVariable(rangeActionSetpointVariableId(rangeAction, state));
+        return solver.getVariable(ofRangeAction(RANGE_ACTION_SETPOINT_VARIABLE, rangeAction, state));
     }
 
     public OpenRaoMPConstraint addRangeActionRelativeSetpointConstraint(double lb, double ub, RangeAction<?> rangeAction, State state, RaRangeShrinking raRangeShrinking) {
-        return solver.makeConstraint(lb, ub, rangeActionRelativeSetpointConstraintId(rangeAction, state, raRangeShrinking));
+        return solver.makeConstraint(lb, ub, ofRangeAction(RANGE_ACTION_RELATIVE_SETPOINT_CONSTRAINT, rangeAction, state, raRangeShrinking));
     }
 
     public OpenRaoMPConstraint addPstRelativeTapConstraint(double lb, double ub, PstRangeAction pstRangeAction, State state) {
-        return solver.makeConstraint(lb, ub, pstRangeActionRelativeTapConstraintId(pstRangeAction, state));
+        return solver.makeConstraint(lb, ub, ofRangeAction(PST_RELATIVE_TAP_CONSTRAINT, pstRangeAction, state));
     }
 
     public OpenRaoMPConstraint getPstRelativeTapConstraint(PstRangeAction pstRangeAction, State state) {
-        return solver.getConstraint(pstRangeActionRelativeTapConstraintId(pstRangeAction, state));
+        return solver.getConstraint(ofRangeAction(PST_RELATIVE_TAP_CONSTRAINT, pstRangeAction, state));
     }
 
     public OpenRaoMPConstraint getRangeActionRelativeSetpointConstraint(RangeAction<?> rangeAction, State state, RaRangeShrinking raRangeShrinking) {
-        return solver.getConstraint(rangeActionRelativeSetpointConstraintId(rangeAction, state, raRangeShrinking));
+        return solver.getConstraint(ofRangeAction(RANGE_ACTION_RELATIVE_SETPOINT_CONSTRAINT, rangeAction, state, raRangeShrinking));
     }
 
     public OpenRaoMPVariable addRangeActionVariationBinary(RangeAction<?> rangeAction, State state) {
-        return solver.makeBoolVar(rangeActionBinaryVariableId(rangeAction, state));
+        return solver.makeBoolVar(ofRangeAction(RANGE_ACTION_VARIATION_BINARY, rangeAction, state));
     }
 
     public OpenRaoMPVariable getRangeActionVariationBinary(RangeAction<?> rangeAction, State state) {
-        return solver.getVariable(rangeActionBinaryVariableId(rangeAction, state));
+        return solver.getVariable(ofRangeAction(RANGE_ACTION_VARIATION_BINARY, rangeAction, state));
     }
 
     public OpenRaoMPVariable addPstTapVariationVariable(double lb, double ub, PstRangeAction rangeAction, State state, VariationDirectionExtension variation) {
-        return solver.makeIntVar(lb, ub, pstTapVariableVariationId(rangeAction, state, variation));
+        return solver.makeIntVar(lb, ub, ofRangeAction(PST_TAP_VARIATION_VARIABLE, rangeAction, state, variation));
     }
 
     public OpenRaoMPVariable getPstTapVariationVariable(PstRangeAction rangeAction, State state, VariationDirectionExtension variation) {
-        return solver.getVariable(pstTapVariableVariationId(rangeAction, state, variation));
+        return solver.getVariable(ofRangeAction(PST_TAP_VARIATION_VARIABLE, rangeAction, state, variation));
     }
 
     public OpenRaoMPVariable addPstTapVariationBinary(PstRangeAction rangeAction, State state, VariationDirectionExtension variation) {
-        return solver.makeBoolVar(pstTapBinaryVariationInDirectionId(rangeAction, state, variation));
+        return solver.makeBoolVar(ofRangeAction(PST_TAP_VARIATION_BINARY, rangeAction, state, variation));
     }
 
     public OpenRaoMPVariable getPstTapVariationBinary(PstRangeAction rangeAction, State state, VariationDirectionExtension variation) {
-        return solver.getVariable(pstTapBinaryVariationInDirectionId(rangeAction, state, variation));
+        return solver.getVariable(ofRangeAction(PST_TAP_VARIATION_BINARY, rangeAction, state, variation));
     }
 
     public OpenRaoMPConstraint addTapToAngleConversionConstraint(double lb, double ub, PstRangeAction rangeAction, State state) {
-        return solver.makeConstraint(lb, ub, tapToAngleConversionConstraintId(rangeAction, state));
+        return solver.makeConstraint(lb, ub, ofRangeAction(TAP_TO_ANGLE_CONVERSION_CONSTRAINT, rangeAction, state));
     }
 
     public OpenRaoMPConstraint getTapToAngleConversionConstraint(PstRangeAction rangeAction, State state) {
-        return solver.getConstraint(tapToAngleConversionConstraintId(rangeAction, state));
+        return solver.getConstraint(ofRangeAction(TAP_TO_ANGLE_CONVERSION_CONSTRAINT, rangeAction, state));
     }
 
     public OpenRaoMPConstraint addUpOrDownPstVariationConstraint(PstRangeAction rangeAction, State state) {
-        return solver.makeConstraint(upOrDownPstVariationConstraintId(rangeAction, state));
+        return solver.makeConstraint(ofRangeAction(UP_OR_DOWN_PST_VARIATION_CONSTRAINT, rangeAction, state));
     }
 
     public OpenRaoMPConstraint getUpOrDownPstVariationConstraint(PstRangeAction rangeAction, State state) {
-        return solver.getConstraint(upOrDownPstVariationConstraintId(rangeAction, state));
+        return solver.getConstraint(ofRangeAction(UP_OR_DOWN_PST_VARIATION_CONSTRAINT, rangeAction, state));
     }
 
     public OpenRaoMPConstraint addIsVariationConstraint(double lb, double ub, RangeAction<?> rangeAction, State state) {
-        return solver.makeConstraint(lb, ub, isVariationConstraintId(rangeAction, state));
+        return solver.makeConstraint(lb, ub, ofRangeAction(IS_VARIATION_CONSTRAINT, rangeAction, state));
     }
 
     public OpenRaoMPConstraint getIsVariationConstraint(RangeAction<?> rangeAction, State state) {
-        return solver.getConstraint(isVariationConstraintId(rangeAction, state));
+        return solver.getConstraint(ofRangeAction(IS_VARIATION_CONSTRAINT, rangeAction, state));
     }
 
     public OpenRaoMPConstraint addIsVariationInDirectionConstraint(double lb, double ub, RangeAction<?> rangeAction, State state, VariationReferenceExtension reference, VariationDirectionExtension direction) {
-        return solver.makeConstraint(lb, ub, isVariationInDirectionConstraintId(rangeAction, state, reference, direction));
+        return solver.makeConstraint(lb, ub, ofRangeAction(IS_VARIATION_IN_DIRECTION_CONSTRAINT, rangeAction, state, reference, direction));
     }
 
     public OpenRaoMPConstraint getIsVariationInDirectionConstraint(RangeAction<?> rangeAction, State state, VariationReferenceExtension reference, VariationDirectionExtension direction) {
-        return solver.getConstraint(isVariationInDirectionConstraintId(rangeAction, state, reference, direction));
+        return solver.getConstraint(ofRangeAction(IS_VARIATION_IN_DIRECTION_CONSTRAINT, rangeAction, state, reference, direction));
     }
 
     public OpenRaoMPVariable addRangeActionGroupSetpointVariable(double lb, double ub, String rangeActionGroupId, State state) {
-        return solver.makeNumVar(lb, ub, rangeActionGroupSetpointVariableId(rangeActionGroupId, state));
+        return solver.makeNumVar(lb, ub, ofString(RANGE_ACTION_GROUP_SETPOINT_VARIABLE, rangeActionGroupId, state));
     }
 
     public OpenRaoMPVariable getRangeActionGroupSetpointVariable(String rangeActionGroupId, State state) {
-        return solver.getVariable(rangeActionGroupSetpointVariableId(rangeActionGroupId, state));
+        return solver.getVariable(ofString(RANGE_ACTION_GROUP_SETPOINT_VARIABLE, rangeActionGroupId, state));
     }
 
     public OpenRaoMPVariable addPstGroupTapVariable(double lb, double ub, String rangeActionGroupId, State state) {
-        return solver.makeNumVar(lb, ub, pstGroupTapVariableId(rangeActionGroupId, state));
+        return solver.makeNumVar(lb, ub, ofString(PST_GROUP_TAP_VARIABLE, rangeActionGroupId, state));
     }
 
     public OpenRaoMPVariable getPstGroupTapVariable(String rangeActionGroupId, State state) {
-        return solver.getVariable(pstGroupTapVariableId(rangeActionGroupId, state));
+        return solver.getVariable(ofString(PST_GROUP_TAP_VARIABLE, rangeActionGroupId, state));
     }
 
     public OpenRaoMPConstraint addRangeActionGroupSetpointConstraint(double lb, double ub, RangeAction<?> rangeAction, State state) {
-        return solver.makeConstraint(lb, ub, rangeActionGroupSetpointConstraintId(rangeAction, state));
+        return solver.makeConstraint(lb, ub, ofRangeAction(RANGE_ACTION_GROUP_SETPOINT_CONSTRAINT, rangeAction, state));
     }
 
     public OpenRaoMPConstraint getRangeActionGroupSetpointConstraint(RangeAction<?> rangeAction, State state) {
-        return solver.getConstraint(rangeActionGroupSetpointConstraintId(rangeAction, state));
+        return solver.getConstraint(ofRangeAction(RANGE_ACTION_GROUP_SETPOINT_CONSTRAINT, rangeAction, state));
     }
 
     public OpenRaoMPConstraint addPstGroupTapConstraint(double lb, double ub, PstRangeAction rangeAction, State state) {
-        return solver.makeConstraint(lb, ub, pstGroupTapConstraintId(rangeAction, state));
+        return solver.makeConstraint(lb, ub, ofRangeAction(PST_GROUP_TAP_CONSTRAINT, rangeAction, state));
     }
 
     public OpenRaoMPConstraint getPstGroupTapConstraint(PstRangeAction rangeAction, State state) {
-        return solver.getConstraint(pstGroupTapConstraintId(rangeAction, state));
+        return solver.getConstraint(ofRangeAction(PST_GROUP_TAP_CONSTRAINT, rangeAction, state));
     }
 
     public OpenRaoMPVariable addAbsoluteRangeActionVariationVariable(double lb, double ub, RangeAction<?> rangeAction, State state) {
-        return solver.makeNumVar(lb, ub, absoluteRangeActionVariationVariableId(rangeAction, state));
+        return solver.makeNumVar(lb, ub, ofRangeAction(ABSOLUTE_RANGE_ACTION_VARIATION_VARIABLE, rangeAction, state));
     }
 
     public OpenRaoMPVariable getAbsoluteRangeActionVariationVariable(RangeAction<?> rangeAction, State state) {
-        return solver.getVariable(absoluteRangeActionVariationVariableId(rangeAction, state));
+        return solver.getVariable(ofRangeAction(ABSOLUTE_RANGE_ACTION_VARIATION_VARIABLE, rangeAction, state));
     }
 
     public OpenRaoMPConstraint addAbsoluteRangeActionVariationConstraint(double lb, double ub, RangeAction<?> rangeAction, State state, AbsExtension positiveOrNegative) {
-        return solver.makeConstraint(lb, ub, absoluteRangeActionVariationConstraintId(rangeAction, state, positiveOrNegative));
+        return solver.makeConstraint(lb, ub, ofRangeAction(ABSOLUTE_RANGE_ACTION_VARIATION_CONSTRAINT, rangeAction, state, positiveOrNegative));
     }
 
     public OpenRaoMPConstraint getAbsoluteRangeActionVariationConstraint(RangeAction<?> rangeAction, State state, AbsExtension positiveOrNegative) {
-        return solver.getConstraint(absoluteRangeActionVariationConstraintId(rangeAction, state, positiveOrNegative));
+        return solver.getConstraint(ofRangeAction(ABSOLUTE_RANGE_ACTION_VARIATION_CONSTRAINT, rangeAction, state, positiveOrNegative));
     }
 
     public OpenRaoMPConstraint addMinimumMarginConstraint(double lb, double ub, FlowCnec cnec, TwoSides side, MarginExtension belowOrAboveThreshold) {
-        return solver.makeConstraint(lb, ub, minimumMarginConstraintId(cnec, side, belowOrAboveThreshold));
+        return solver.makeConstraint(lb, ub, ofFlowCnec(MINIMUM_MARGIN_CONSTRAINT, cnec, side, belowOrAboveThreshold));
     }
 
     public OpenRaoMPConstraint getMinimumMarginConstraint(FlowCnec cnec, TwoSides side, MarginExtension belowOrAboveThreshold) {
-        return solver.getConstraint(minimumMarginConstraintId(cnec, side, belowOrAboveThreshold));
+        return solver.getConstraint(ofFlowCnec(MINIMUM_MARGIN_CONSTRAINT, cnec, side, belowOrAboveThreshold));
     }
 
     public OpenRaoMPConstraint addMinimumRelMarginSignDefinitionConstraint(double lb, double ub) {
-        return solver.makeConstraint(lb, ub, minimumRelMarginSignDefinitionConstraintId());
+        return solver.makeConstraint(lb, ub, of(MINIMUM_RELATIVE_MARGIN_SIGN_DEFINITION_CONSTRAINT));
     }
 
     public OpenRaoMPConstraint getMinimumRelMarginSignDefinitionConstraint() {
-        return solver.getConstraint(minimumRelMarginSignDefinitionConstraintId());
+        return solver.getConstraint(of(MINIMUM_RELATIVE_MARGIN_SIGN_DEFINITION_CONSTRAINT));
     }
 
     public OpenRaoMPConstraint addMinimumRelMarginSetToZeroConstraint(double lb, double ub) {
-        return solver.makeConstraint(lb, ub, minimumRelativeMarginSetToZeroConstraintId());
+        return solver.makeConstraint(lb, ub, of(MINIMUM_RELATIVE_MARGIN_SET_TO_ZERO_CONSTRAINT));
     }
 
     public OpenRaoMPConstraint getMinimumRelMarginSetToZeroConstraint() {
-        return solver.getConstraint(minimumRelativeMarginSetToZeroConstraintId());
+        return solver.getConstraint(of(MINIMUM_RELATIVE_MARGIN_SET_TO_ZERO_CONSTRAINT));
     }
 
     public OpenRaoMPConstraint addMinimumRelativeMarginConstraint(double lb, double ub, FlowCnec cnec, TwoSides side, MarginExtension belowOrAboveThreshold) {
-        return solver.makeConstraint(lb, ub, minimumRelativeMarginConstraintId(cnec, side, belowOrAboveThreshold));
+        return solver.makeConstraint(lb, ub, ofFlowCnec(MINIMUM_RELATIVE_MARGIN_CONSTRAINT, cnec, side, belowOrAboveThreshold));
     }
 
     public OpenRaoMPConstraint getMinimumRelativeMarginConstraint(FlowCnec cnec, TwoSides side, MarginExtension belowOrAboveThreshold) {
-        return solver.getConstraint(minimumRelativeMarginConstraintId(cnec, side, belowOrAboveThreshold));
+        return solver.getConstraint(ofFlowCnec(MINIMUM_RELATIVE_MARGIN_CONSTRAINT, cnec, side, belowOrAboveThreshold));
     }
 
     public OpenRaoMPVariable addMinimumMarginVariable(double lb, double ub) {
-        return solver.makeNumVar(lb, ub, minimumMarginVariableId());
+        return solver.makeNumVar(lb, ub, of(MINIMUM_MARGIN_VARIABLE));
     }
 
     public OpenRaoMPVariable getMinimumMarginVariable() {
-        return solver.getVariable(minimumMarginVariableId());
+        return solver.getVariable(of(MINIMUM_MARGIN_VARIABLE));
     }
 
     public OpenRaoMPVariable addMinimumRelativeMarginVariable(double lb, double ub) {
-        return solver.makeNumVar(lb, ub, minimumRelativeMarginVariableId());
+        return solver.makeNumVar(lb, ub, of(MINIMUM_RELATIVE_MARGIN_VARIABLE));
     }
 
     public OpenRaoMPVariable getMinimumRelativeMarginVariable() {
-        return solver.getVariable(minimumRelativeMarginVariableId());
+        return solver.getVariable(of(MINIMUM_RELATIVE_MARGIN_VARIABLE));
     }
 
     public OpenRaoMPVariable addMinimumRelativeMarginSignBinaryVariable() {
-        return solver.makeBoolVar(minimumRelativeMarginSignBinaryVariableId());
+        return solver.makeBoolVar(of(MINIMUM_RELATIVE_MARGIN_SIGN_BINARY_VARIABLE));
     }
 
     public OpenRaoMPVariable getMinimumRelativeMarginSignBinaryVariable() {
-        return solver.getVariable(minimumRelativeMarginSignBinaryVariableId());
+        return solver.getVariable(of(MINIMUM_RELATIVE_MARGIN_SIGN_BINARY_VARIABLE));
     }
 
     //Begin MaxLoopFlowFiller section
     public OpenRaoMPConstraint addMaxLoopFlowConstraint(double lb, double ub, FlowCnec cnec, TwoSides side, BoundExtension lbOrUb) {
-        return solver.makeConstraint(lb, ub, maxLoopFlowConstraintId(cnec, side, lbOrUb));
+        return solver.makeConstraint(lb, ub, ofFlowCnec(MAX_LOOP_FLOW_CONSTRAINT, cnec, side, lbOrUb));
     }
 
     public OpenRaoMPConstraint getMaxLoopFlowConstraint(FlowCnec cnec, TwoSides side, BoundExtension lbOrUb) {
-        return solver.getConstraint(maxLoopFlowConstraintId(cnec, side, lbOrUb));
+        return solver.getConstraint(ofFlowCnec(MAX_LOOP_FLOW_CONSTRAINT, cnec, side, lbOrUb));
     }
 
     public OpenRaoMPVariable addLoopflowViolationVariable(double lb, double ub, FlowCnec cnec, TwoSides side) {
-        return solver.makeNumVar(lb, ub, loopflowViolationVariableId(cnec, side));
+        return solver.makeNumVar(lb, ub, ofFlowCnec(LOOP_FLOW_VIOLATION_VARIABLE, cnec, side));
     }
 
     public OpenRaoMPVariable getLoopflowViolationVariable(FlowCnec cnec, TwoSides side) {
-        return solver.getVariable(loopflowViolationVariableId(cnec, side));
+        return solver.getVariable(ofFlowCnec(LOOP_FLOW_VIOLATION_VARIABLE, cnec, side));
     }
 
     public OpenRaoMPVariable addMnecViolationVariable(double lb, double ub, FlowCnec mnec, TwoSides side) {
-        return solver.makeNumVar(lb, ub, mnecViolationVariableId(mnec, side));
+        return solver.makeNumVar(lb, ub, ofFlowCnec(MNEC_VIOLATION_VARIABLE, mnec, side));
     }
 
     public OpenRaoMPVariable getMnecViolationVariable(FlowCnec mnec, TwoSides side) {
-        return solver.getVariable(mnecViolationVariableId(mnec, side));
+        return solver.getVariable(ofFlowCnec(MNEC_VIOLATION_VARIABLE, mnec, side));
     }
 
     public OpenRaoMPConstraint addMnecFlowConstraint(double lb, double ub, FlowCnec mnec, TwoSides side, MarginExtension belowOrAboveThreshold) {
-        return solver.makeConstraint(lb, ub, mnecFlowConstraintId(mnec, side, belowOrAboveThreshold));
+        return solver.makeConstraint(lb, ub, ofFlowCnec(MNEC_FLOW_CONSTRAINT, mnec, side, belowOrAboveThreshold));
     }
 
     public OpenRaoMPConstraint getMnecFlowConstraint(FlowCnec mnec, TwoSides side, MarginExtension belowOrAboveThreshold) {
-        return solver.getConstraint(mnecFlowConstraintId(mnec, side, belowOrAboveThreshold));
+        return solver.getConstraint(ofFlowCnec(MNEC_FLOW_CONSTRAINT, mnec, side, belowOrAboveThreshold));
     }
 
     public OpenRaoMPVariable addOptimizeCnecBinaryVariable(FlowCnec cnec, TwoSides side) {
-        return solver.makeIntVar(0, 1, optimizeCnecBinaryVariableId(cnec, side));
+        return solver.makeIntVar(0, 1, ofFlowCnec(OPTIMIZE_CNEC_BINARY_VARIABLE, cnec, side));
     }
 
     public OpenRaoMPVariable getOptimizeCnecBinaryVariable(FlowCnec cnec, TwoSides side) {
-        return solver.getVariable(optimizeCnecBinaryVariableId(cnec, side));
+        return solver.getVariable(ofFlowCnec(OPTIMIZE_CNEC_BINARY_VARIABLE, cnec, side));
     }
 
     public OpenRaoMPConstraint addDontOptimizeCnecConstraint(double lb, double ub, FlowCnec cnec, TwoSides side, MarginExtension belowOrAboveThreshold) {
-        return solver.makeConstraint(lb, ub, dontOptimizeCnecConstraintId(cnec, side, belowOrAboveThreshold));
+        return solver.makeConstraint(lb, ub, ofFlowCnec(DONT_OPTIMIZE_CNEC_CONSTRAINT, cnec, side, belowOrAboveThreshold));
     }
 
     public OpenRaoMPConstraint getDontOptimizeCnecConstraint(FlowCnec cnec, TwoSides side, MarginExtension belowOrAboveThreshold) {
-        return solver.getConstraint(dontOptimizeCnecConstraintId(cnec, side, belowOrAboveThreshold));
+        return solver.getConstraint(ofFlowCnec(DONT_OPTIMIZE_CNEC_CONSTRAINT, cnec, side, belowOrAboveThreshold));
     }
 
     public OpenRaoMPConstraint addMaxRaConstraint(double lb, double ub, State state) {
-        return solver.makeConstraint(lb, ub, maxRaConstraintId(state));
+        return solver.makeConstraint(lb, ub, ofState(MAX_RA_CONSTRAINT, state));
     }
 
     public OpenRaoMPConstraint getMaxRaConstraint(State state) {
-        return solver.getConstraint(maxRaConstraintId(state));
+        return solver.getConstraint(ofState(MAX_RA_CONSTRAINT, state));
     }
 
     public OpenRaoMPConstraint addMaxTsoConstraint(double lb, double ub, State state) {
-        return solver.makeConstraint(lb, ub, maxTsoConstraintId(state));
+        return solver.makeConstraint(lb, ub, ofState(MAX_TSO_CONSTRAINT, state));
     }
 
     public OpenRaoMPConstraint getMaxTsoConstraint(State state) {
-        return solver.getConstraint(maxTsoConstraintId(state));
+        return solver.getConstraint(ofState(MAX_TSO_CONSTRAINT, state));
     }
 
     public OpenRaoMPConstraint addMaxRaPerTsoConstraint(double lb, double ub, String operator, State state) {
-        return solver.makeConstraint(lb, ub, maxRaPerTsoConstraintId(operator, state));
+        return solver.makeConstraint(lb, ub, ofString(MAX_RA_PER_TSO_CONSTRAINT, operator, state));
     }
 
     public OpenRaoMPConstraint getMaxRaPerTsoConstraint(String operator, State state) {
-        return solver.getConstraint(maxRaPerTsoConstraintId(operator, state));
+        return solver.getConstraint(ofString(MAX_RA_PER_TSO_CONSTRAINT, operator, state));
     }
 
     public OpenRaoMPConstraint addMaxPstPerTsoConstraint(double lb, double ub, String operator, State state) {
-        return solver.makeConstraint(lb, ub, maxPstPerTsoConstraintId(operator, state));
+        return solver.makeConstraint(lb, ub, ofString(MAX_PST_PER_TSO_CONSTRAINT, operator, state));
     }
 
     public OpenRaoMPConstraint getMaxPstPerTsoConstraint(String operator, State state) {
-        return solver.getConstraint(maxPstPerTsoConstraintId(operator, state));
+        return solver.getConstraint(ofString(MAX_PST_PER_TSO_CONSTRAINT, operator, state));
     }
 
     public OpenRaoMPVariable addTsoRaUsedVariable(double lb, double ub, String operator, State state) {
-        return solver.makeNumVar(lb, ub, tsoRaUsedVariableId(operator, state));
+        return solver.makeNumVar(lb, ub, ofString(TSO_RA_USED_VARIABLE, operator, state));
     }
 
     public OpenRaoMPVariable getTsoRaUsedVariable(String operator, State state) {
-        return solver.getVariable(tsoRaUsedVariableId(operator, state));
+        return solver.getVariable(ofString(TSO_RA_USED_VARIABLE, operator, state));
     }
 
     public OpenRaoMPConstraint addTsoRaUsedConstraint(double lb, double ub, String operator, RangeAction<?> rangeAction, State state) {
-        return solver.makeConstraint(lb, ub, tsoRaUsedConstraintId(operator, rangeAction, state));
+        return solver.makeConstraint(lb, ub, ofOperator(TSO_RA_USED_CONSTRAINT, operator, rangeAction, state));
     }
 
     public OpenRaoMPConstraint getTsoRaUsedConstraint(String operator, RangeAction<?> rangeAction, State state) {
-        return solver.getConstraint(tsoRaUsedConstraintId(operator, rangeAction, state));
+        return solver.getConstraint(ofOperator(TSO_RA_USED_CONSTRAINT, operator, rangeAction, state));
     }
 
     public OpenRaoMPVariable addPstAbsoluteVariationFromInitialTapVariable(PstRangeAction pstRangeAction, State state) {
-        return solver.makeIntVar(0, infinity(), pstAbsoluteVariationFromInitialTapVariableId(pstRangeAction, state));
+        return solver.makeIntVar(0, infinity(), ofRangeAction(PST_ABSOLUTE_VARIATION_FROM_INITIAL_TAP_VARIABLE, pstRangeAction, state));
     }
 
     public OpenRaoMPVariable getPstAbsoluteVariationFromInitialTapVariable(PstRangeAction pstRangeAction, State state) {
-        return solver.getVariable(pstAbsoluteVariationFromInitialTapVariableId(pstRangeAction, state));
+        return solver.getVariable(ofRangeAction(PST_ABSOLUTE_VARIATION_FROM_INITIAL_TAP_VARIABLE, pstRangeAction, state));
     }
 
     public OpenRaoMPConstraint addPstAbsoluteVariationFromInitialTapConstraint(double lb, double ub, PstRangeAction pstRangeAction, State state, AbsExtension positiveOrNegative) {
-        return solver.makeConstraint(lb, ub, pstAbsoluteVariationFromInitialTapConstraintId(pstRangeAction, state, positiveOrNegative));
+        return solver.makeConstraint(lb, ub, ofRangeAction(PST_ABSOLUTE_VARIATION_FROM_INITIAL_TAP_CONSTRAINT, pstRangeAction, state, positiveOrNegative));
     }
 
     public OpenRaoMPConstraint getPstAbsoluteVariationFromInitialTapConstraint(PstRangeAction pstRangeAction, State state, AbsExtension positiveOrNegative) {
-        return solver.getConstraint(pstAbsoluteVariationFromInitialTapConstraintId(pstRangeAction, state, positiveOrNegative));
+        return solver.getConstraint(ofRangeAction(PST_ABSOLUTE_VARIATION_FROM_INITIAL_TAP_CONSTRAINT, pstRangeAction, state, positiveOrNegative));
     }
 
     public OpenRaoMPConstraint addTsoMaxElementaryActionsConstraint(double lb, double ub, String operator, State state) {
-        return solver.makeConstraint(lb, ub, maxElementaryActionsPerTsoConstraintId(operator, state));
+        return solver.makeConstraint(lb, ub, ofString(MAX_ELEMENTARY_ACTIONS_PER_TSO_CONSTRAINT, operator, state));
     }
 
     public OpenRaoMPConstraint getTsoMaxElementaryActionsConstraint(String operator, State state) {
-        return solver.getConstraint(maxElementaryActionsPerTsoConstraintId(operator, state));
+        return solver.getConstraint(ofString(MAX_ELEMENTARY_ACTIONS_PER_TSO_CONSTRAINT, operator, state));
     }
 
     public double infinity() {
@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.powsybl.openrao.searchtreerao.linearoptimisation.algorithms.linearproblem;
+
+import com.powsybl.iidm.network.TwoSides;
+import com.powsybl.openrao.data.crac.api.State;
+import com.powsybl.openrao.data.crac.api.cnec.FlowCnec;
+import com.powsybl.openrao.data.crac.api.rangeaction.PstRangeAction;
+import com.powsybl.openrao.data.crac.api.rangeaction.RangeAction;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+import static com.powsybl.openrao.searchtreerao.linearoptimisation.algorithms.linearproblem.LinearProblemIdGenerator.*;
+
+/**
+ * Typed key of a variable or a constraint of the {@link OpenRaoMPSolver}.
+ * <p>
+ * The key is made of the kind of element and of the ids of the objects it relates to (CNEC, range action,
+ * state, operator...), so that looking up a variable or a constraint does not require to build its name.
+ * The human-readable name, given by {@link LinearProblemIdGenerator}, is only built when it is actually needed.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+final class LinearProblemKey {
+
+    enum Element {
+        FLOW_VARIABLE(k -> flowVariableId(k.flowCnec(), k.firstExtension())),
+        FLOW_CONSTRAINT(k -> flowConstraintId(k.flowCnec(), k.firstExtension())),
+        RANGE_ACTION_SETPOINT_VARIABLE(k -> rangeActionSetpointVariableId(k.rangeAction(), k.state)),
+        RANGE_ACTION_RELATIVE_SETPOINT_CONSTRAINT(k -> rangeActionRelativeSetpointConstraintId(k.rangeAction(), k.state, k.firstExtension())),
+        PST_RELATIVE_TAP_CONSTRAINT(k -> pstRangeActionRelativeTapConstraintId(k.pstRangeAction(), k.state)),
+        RANGE_ACTION_VARIATION_BINARY(k -> rangeActionBinaryVariableId(k.rangeAction(), k.state)),
+        PST_TAP_VARIATION_VARIABLE(k -> pstTapVariableVariationId(k.rangeAction(), k.state, k.firstExtension())),
+        PST_TAP_VARIATION_BINARY(k -> pstTapBinaryVariationInDirectionId(k.rangeAction(), k.state, k.firstExtension())),
+        TAP_TO_ANGLE_CONVERSION_CONSTRAINT(k -> tapToAngleConversionConstraintId(k.rangeAction(), k.state)),
+        UP_OR_DOWN_PST_VARIATION_CONSTRAINT(k -> upOrDownPstVariationConstraintId(k.rangeAction(), k.state)),
+        IS_VARIATION_CONSTRAINT(k -> isVariationConstraintId(k.rangeAction(), k.state)),
+        IS_VARIATION_IN_DIRECTION_CONSTRAINT(k -> isVariationInDirectionConstraintId(k.rangeAction(), k.state, k.firstExtension(), k.secondExtension())),
+        RANGE_ACTION_GROUP_SETPOINT_VARIABLE(k -> rangeActionGroupSetpointVariableId(k.firstId, k.state)),
+        PST_GROUP_TAP_VARIABLE(k -> pstGroupTapVariableId(k.firstId, k.state)),
+        RANGE_ACTION_GROUP_SETPOINT_CONSTRAINT(k -> rangeActionGroupSetpointConstraintId(k.rangeAction(), k.state)),
+        PST_GROUP_TAP_CONSTRAINT(k -> pstGroupTapConstraintId(k.rangeAction(), k.state)),
+        ABSOLUTE_RANGE_ACTION_VARIATION_VARIABLE(k -> absoluteRangeActionVariationVariableId(k.rangeAction(), k.state)),
+        ABSOLUTE_RANGE_ACTION_VARIATION_CONSTRAINT(k -> absoluteRangeActionVariationConstraintId(k.rangeAction(), k.state, k.firstExtension())),
+        MINIMUM_MARGIN_CONSTRAINT(k -> minimumMarginConstraintId(k.flowCnec(), k.firstExtension(), k.secondExtension())),
+        MINIMUM_MARGIN_VARIABLE(k -> minimumMarginVariableId()),
+        MINIMUM_RELATIVE_MARGIN_VARIABLE(k -> minimumRelativeMarginVariableId()),
+        MINIMUM_RELATIVE_MARGIN_CONSTRAINT(k -> minimumRelativeMarginConstraintId(k.flowCnec(), k.firstExtension(), k.secondExtension())),
+        MINIMUM_RELATIVE_MARGIN_SIGN_BINARY_VARIABLE(k -> minimumRelativeMarginSignBinaryVariableId()),
+        MINIMUM_RELATIVE_MARGIN_SIGN_DEFINITION_CONSTRAINT(k -> minimumRelMarginSignDefinitionConstraintId()),
+        MINIMUM_RELATIVE_MARGIN_SET_TO_ZERO_CONSTRAINT(k -> minimumRelativeMarginSetToZeroConstraintId()),
+        MAX_LOOP_FLOW_CONSTRAINT(k -> maxLoopFlowConstraintId(k.flowCnec(), k.firstExtension(), k.secondExtension())),
+        LOOP_FLOW_VIOLATION_VARIABLE(k -> loopflowViolationVariableId(k.flowCnec(), k.firstExtension())),
+        MNEC_VIOLATION_VARIABLE(k -> mnecViolationVariableId(k.flowCnec(), k.firstExtension())),
+        MNEC_FLOW_CONSTRAINT(k -> mnecFlowConstraintId(k.flowCnec(), k.firstExtension(), k.secondExtension())),
+        OPTIMIZE_CNEC_BINARY_VARIABLE(k -> optimizeCnecBinaryVariableId(k.flowCnec(), k.firstExtension())),
+        DONT_OPTIMIZE_CNEC_CONSTRAINT(k -> dontOptimizeCnecConstraintId(k.flowCnec(), k.firstExtension(), k.secondExtension())),
+        MAX_RA_CONSTRAINT(k -> maxRaConstraintId(k.state)),
+        MAX_TSO_CONSTRAINT(k -> maxTsoConstraintId(k.state)),
+        MAX_RA_PER_TSO_CONSTRAINT(k -> maxRaPerTsoConstraintId(k.firstId, k.state)),
+        MAX_PST_PER_TSO_CONSTRAINT(k -> maxPstPerTsoConstraintId(k.firstId, k.state)),
+        TSO_RA_USED_VARIABLE(k -> tsoRaUsedVariableId(k.firstId, k.state)),
+        TSO_RA_USED_CONSTRAINT(k -> tsoRaUsedConstraintId(k.firstId, k.operatorRangeAction, k.state)),
+        PST_ABSOLUTE_VARIATION_FROM_INITIAL_TAP_VARIABLE(k -> pstAbsoluteVariationFromInitialTapVariableId(k.pstRangeAction(), k.state)),
+        PST_ABSOLUTE_VARIATION_FROM_INITIAL_TAP_CONSTRAINT(k -> pstAbsoluteVariationFromInitialTapConstraintId(k.pstRangeAction(), k.state, k.firstExtension())),
+        MAX_ELEMENTARY_ACTIONS_PER_TSO_CONSTRAINT(k -> maxElementaryActionsPerTsoConstraintId(k.firstId, k.state)),
+        NAMED(k -> k.firstId);
+
+        private final Function<LinearProblemKey, String> nameBuilder;
+
+        Element(Function<LinearProblemKey, String> nameBuilder) {
+            this.nameBuilder = nameBuilder;
+        }
+    }
+
+    private final Element element;
+    private final Object first;
+    private final String firstId;
+    private final RangeAction<?> operatorRangeAction;
+    private final String operatorRangeActionId;
+    private final State state;
+    private final String stateId;
+    private final Enum<?> firstExtension;
+    private final Enum<?> secondExtension;
+    private final int hash;
+
+    private LinearProblemKey(Element element, Object first, String firstId, RangeAction<?> operatorRangeAction, State state, Enum<?> firstExtension, Enum<?> secondExtension) {
+        this.element = element;
+        this.first = first;
+        this.firstId = firstId;
+        this.operatorRangeAction = operatorRangeAction;
+        this.operatorRangeActionId = operatorRangeAction == null ? null : operatorRangeAction.getId();
+        this.state = state;
+        this.stateId = state == null ? null : state.getId();
+        this.firstExtension = firstExtension;
+        this.secondExtension = secondExtension;
+        this.hash = computeHash();
+    }
+
+    static LinearProblemKey of(Element element) {
+        return new LinearProblemKey(element, null, null, null, null, null, null);
+    }
+
+    static LinearProblemKey ofName(String name) {
+        return new LinearProblemKey(Element.NAMED, name, name, null, null, null, null);
+    }
+
+    static LinearProblemKey ofState(Element element, State state) {
+        return new LinearProblemKey(element, null, null, null, state, null, null);
+    }
+
+    static LinearProblemKey ofFlowCnec(Element element, FlowCnec flowCnec, TwoSides side) {
+        return ofFlowCnec(element, flowCnec, side, null);
+    }
+
+    static LinearProblemKey ofFlowCnec(Element element, FlowCnec flowCnec, TwoSides side, Enum<?> extension) {
+        return new LinearProblemKey(element, flowCnec, flowCnec.getId(), null, null, side, extension);
+    }
+
+    static LinearProblemKey ofRangeAction(Element element, RangeAction<?> rangeAction, State state) {
+        return ofRangeAction(element, rangeAction, state, null, null);
+    }
+
+    static LinearProblemKey ofRangeAction(Element element, RangeAction<?> rangeAction, State state, Enum<?> firstExtension) {
+        return ofRangeAction(element, rangeAction, state, firstExtension, null);
+    }
+
+    static LinearProblemKey ofRangeAction(Element element, RangeAction<?> rangeAction, State state, Enum<?> firstExtension, Enum<?> secondExtension) {
+        return new LinearProblemKey(element, rangeAction, rangeAction.getId(), null, state, firstExtension, secondExtension);
+    }
+
+    /**
+     * Key of an element identified by a string (range action group id, operator...) and a state
+     */
+    static LinearProblemKey ofString(Element element, String id, State state) {
+        return new LinearProblemKey(element, id, id, null, state, null, null);
+    }
+
+    static LinearProblemKey ofOperator(Element element, String operator, RangeAction<?> rangeAction, State state) {
+        return new LinearProblemKey(element, operator, operator, rangeAction, state, null, null);
+    }
+
+    boolean isNamed() {
+        return element == Element.NAMED;
+    }
+
+    private FlowCnec flowCnec() {
+        return (FlowCnec) first;
+    }
+
+    private RangeAction<?> rangeAction() {
+        return (RangeAction<?>) first;
+    }
+
+    private PstRangeAction pstRangeAction() {
+        return (PstRangeAction) first;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <E extends Enum<E>> E firstExtension() {
+        return (E) firstExtension;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <E extends Enum<E>> E secondExtension() {
+        return (E) secondExtension;
+    }
+
+    private int computeHash() {
+        int result = element.ordinal();
+        result = 31 * result + Objects.hashCode(firstId);
+        result = 31 * result + Objects.hashCode(operatorRangeActionId);
+        result = 31 * result + Objects.hashCode(stateId);
+        result = 31 * result + ordinalOrZero(firstExtension);
+        return 31 * result + ordinalOrZero(secondExtension);
+    }
+
+    private static int ordinalOrZero(Enum<?> extension) {
+        return extension == null ? 0 : extension.ordinal() + 1;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        LinearProblemKey other = (LinearProblemKey) o;
+        return hash == other.hash
+            && element == other.element
+            && firstExtension == other.firstExtension
+            && secondExtension == other.secondExtension
+            && Objects.equals(firstId, other.firstId)
+            && Objects.equals(stateId, other.stateId)
+            && Objects.equals(operatorRangeActionId, other.operatorRangeActionId);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    /**
+     * Human-readable name of the variable or constraint, as given by {@link LinearProblemIdGenerator}
+     */
+    @Override
+    public String toString() {
+        return element.nameBuilder.apply(this);
+    }
+}
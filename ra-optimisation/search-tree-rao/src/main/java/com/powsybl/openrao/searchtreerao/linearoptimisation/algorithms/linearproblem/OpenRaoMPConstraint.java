@@ -14,13 +14,15 @@ import com.google.ortools.linearsolver.MPConstraint;
  */
 public class OpenRaoMPConstraint {
     private final MPConstraint mpConstraint;
+    private final LinearProblemKey key;
 
-    protected OpenRaoMPConstraint(MPConstraint mpConstraint) {
+    protected OpenRaoMPConstraint(MPConstraint mpConstraint, LinearProblemKey key) {
         this.mpConstraint = mpConstraint;
+        this.key = key;
     }
 
     public String name() {
-        return mpConstraint.name();
+        return key.toString();
     }
 
     public double getCoefficient(OpenRaoMPVariable variable) {
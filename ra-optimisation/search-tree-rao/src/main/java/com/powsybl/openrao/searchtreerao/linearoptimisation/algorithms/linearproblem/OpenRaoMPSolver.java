@@ -15,9 +15,9 @@ import com.powsybl.openrao.commons.logs.OpenRaoLoggerProvider;
 import com.powsybl.openrao.raoapi.parameters.RangeActionsOptimizationParameters;
 import com.powsybl.openrao.searchtreerao.result.api.LinearProblemStatus;
 
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
-import java.util.TreeMap;
 
 /**
  * Encapsulates OR-Tools' MPSolver objects in order to round up doubles
@@ -47,10 +47,14 @@ public class OpenRaoMPSolver {
     private MPSolver mpSolver;
     private final MPSolverParameters solveConfiguration;
     private String solverSpecificParameters;
-    Map<String, OpenRaoMPConstraint> constraints = new TreeMap<>();
-    Map<String, OpenRaoMPVariable> variables = new TreeMap<>();
+    Map<LinearProblemKey, OpenRaoMPConstraint> constraints = new HashMap<>();
+    Map<LinearProblemKey, OpenRaoMPVariable> variables = new HashMap<>();
+    // keys by name, only built when a variable or a constraint is looked up by its name
+    private Map<String, LinearProblemKey> constraintKeysByName;
+    private Map<String, LinearProblemKey> variableKeysByName;
     OpenRaoMPObjective objective;
     private boolean objectiveMinimization = true;
+    private boolean exportReadableNames;
 
     public OpenRaoMPSolver(String optProblemName, RangeActionsOptimizationParameters.Solver solver) {
         this.solver = solver;
@@ -61,8 +65,12 @@ public class OpenRaoMPSolver {
 
     public void resetModel() {
         this.mpSolver = new MPSolver(optProblemName, getOrToolsProblemType(solver));
-        constraints = new TreeMap<>();
-        variables = new TreeMap<>();
+        constraints = new HashMap<>();
+        variables = new HashMap<>();
+        constraintKeysByName = null;
+        variableKeysByName = null;
+        // names are only given to the OR-Tools objects when the solver logs are enabled, as building them is costly
+        exportReadableNames = OpenRaoLoggerProvider.TECHNICAL_LOGS.isTraceEnabled();
         this.objective = new OpenRaoMPObjective(mpSolver.objective());
         setSolverSpecificParametersAsString(solverSpecificParameters);
         if (objectiveMinimization) {
@@ -91,28 +99,76 @@ public class OpenRaoMPSolver {
         return mpSolver;
     }
 
+    /**
+     * Looks up a constraint by its name. The constraints created with a typed key are found by the name given by
+     * {@link LinearProblemIdGenerator}.
+     */
     public boolean hasConstraint(String name) {
-        return constraints.containsKey(name);
+        return constraintKey(name) != null;
+    }
+
+    boolean hasConstraint(LinearProblemKey key) {
+        return constraints.containsKey(key);
     }
 
     public OpenRaoMPConstraint getConstraint(String name) {
-        if (hasConstraint(name)) {
-            return constraints.get(name);
-        } else {
+        LinearProblemKey key = constraintKey(name);
+        if (key == null) {
             throw new OpenRaoException(String.format("Constraint %s has not been created yet", name));
         }
+        return constraints.get(key);
     }
 
+    OpenRaoMPConstraint getConstraint(LinearProblemKey key) {
+        OpenRaoMPConstraint constraint = constraints.get(key);
+        if (constraint == null) {
+            throw new OpenRaoException(String.format("Constraint %s has not been created yet", key));
+        }
+        return constraint;
+    }
+
+    /**
+     * Looks up a variable by its name. The variables created with a typed key are found by the name given by
+     * {@link LinearProblemIdGenerator}.
+     */
     public boolean hasVariable(String name) {
-        return variables.containsKey(name);
+        return variableKey(name) != null;
+    }
+
+    boolean hasVariable(LinearProblemKey key) {
+        return variables.containsKey(key);
     }
 
     public OpenRaoMPVariable getVariable(String name) {
-        if (hasVariable(name)) {
-            return variables.get(name);
-        } else {
+        LinearProblemKey key = variableKey(name);
+        if (key == null) {
             throw new OpenRaoException(String.format("Variable %s has not been created yet", name));
         }
+        return variables.get(key);
+    }
+
+    OpenRaoMPVariable getVariable(LinearProblemKey key) {
+        OpenRaoMPVariable variable = variables.get(key);
+        if (variable == null) {
+            throw new OpenRaoException(String.format("Variable %s has not been created yet", key));
+        }
+        return variable;
+    }
+
+    private LinearProblemKey constraintKey(String name) {
+        if (constraintKeysByName == null) {
+            constraintKeysByName = new HashMap<>();
+            constraints.keySet().forEach(key -> constraintKeysByName.put(key.toString(), key));
+        }
+        return constraintKeysByName.get(name);
+    }
+
+    private LinearProblemKey variableKey(String name) {
+        if (variableKeysByName == null) {
+            variableKeysByName = new HashMap<>();
+            variables.keySet().forEach(key -> variableKeysByName.put(key.toString(), key));
+        }
+        return variableKeysByName.get(name);
     }
 
     public OpenRaoMPObjective getObjective() {
@@ -120,42 +176,90 @@ public class OpenRaoMPSolver {
     }
 
     public OpenRaoMPVariable makeNumVar(double lb, double ub, String name) {
-        return makeVar(lb, ub, false, name);
+        checkNewVariableName(name);
+        return makeNumVar(lb, ub, LinearProblemKey.ofName(name));
+    }
+
+    OpenRaoMPVariable makeNumVar(double lb, double ub, LinearProblemKey key) {
+        return makeVar(lb, ub, false, key);
     }
 
     public OpenRaoMPVariable makeIntVar(double lb, double ub, String name) {
-        return makeVar(lb, ub, true, name);
+        checkNewVariableName(name);
+        return makeIntVar(lb, ub, LinearProblemKey.ofName(name));
+    }
+
+    OpenRaoMPVariable makeIntVar(double lb, double ub, LinearProblemKey key) {
+        return makeVar(lb, ub, true, key);
     }
 
     public OpenRaoMPVariable makeBoolVar(String name) {
-        return makeVar(0, 1, true, name);
+        checkNewVariableName(name);
+        return makeBoolVar(LinearProblemKey.ofName(name));
     }
 
-    private OpenRaoMPVariable makeVar(double lb, double ub, boolean integer, String name) {
-        if (hasVariable(name)) {
-            throw new OpenRaoException(String.format("Variable %s already exists", name));
+    OpenRaoMPVariable makeBoolVar(LinearProblemKey key) {
+        return makeVar(0, 1, true, key);
+    }
+
+    private OpenRaoMPVariable makeVar(double lb, double ub, boolean integer, LinearProblemKey key) {
+        if (hasVariable(key)) {
+            throw new OpenRaoException(String.format("Variable %s already exists", key));
         }
         double roundedLb = roundDouble(lb);
         double roundedUb = roundDouble(ub);
-        OpenRaoMPVariable variable = new OpenRaoMPVariable(mpSolver.makeVar(roundedLb, roundedUb, integer, name));
-        variables.put(name, variable);
+        OpenRaoMPVariable variable = new OpenRaoMPVariable(mpSolver.makeVar(roundedLb, roundedUb, integer, orToolsName(key)), key);
+        variables.put(key, variable);
+        if (variableKeysByName != null) {
+            variableKeysByName.put(key.toString(), key);
+        }
         return variable;
     }
 
+    private void checkNewVariableName(String name) {
+        if (hasVariable(name)) {
+            throw new OpenRaoException(String.format("Variable %s already exists", name));
+        }
+    }
+
     public OpenRaoMPConstraint makeConstraint(double lb, double ub, String name) {
-        if (hasConstraint(name)) {
-            throw new OpenRaoException(String.format("Constraint %s already exists", name));
+        checkNewConstraintName(name);
+        return makeConstraint(lb, ub, LinearProblemKey.ofName(name));
+    }
+
+    OpenRaoMPConstraint makeConstraint(double lb, double ub, LinearProblemKey key) {
+        if (hasConstraint(key)) {
+            throw new OpenRaoException(String.format("Constraint %s already exists", key));
         } else {
             double roundedLb = roundDouble(lb);
             double roundedUb = roundDouble(ub);
-            OpenRaoMPConstraint constraint = new OpenRaoMPConstraint(mpSolver.makeConstraint(roundedLb, roundedUb, name));
-            constraints.put(name, constraint);
+            OpenRaoMPConstraint constraint = new OpenRaoMPConstraint(mpSolver.makeConstraint(roundedLb, roundedUb, orToolsName(key)), key);
+            constraints.put(key, constraint);
+            if (constraintKeysByName != null) {
+                constraintKeysByName.put(key.toString(), key);
+            }
             return constraint;
         }
     }
 
+    private void checkNewConstraintName(String name) {
+        if (hasConstraint(name)) {
+            throw new OpenRaoException(String.format("Constraint %s already exists", name));
+        }
+    }
+
     public OpenRaoMPConstraint makeConstraint(String name) {
-        return makeConstraint(-infinity(), infinity(), name);
+        checkNewConstraintName(name);
+        return makeConstraint(LinearProblemKey.ofName(name));
+    }
+
+    OpenRaoMPConstraint makeConstraint(LinearProblemKey key) {
+        return makeConstraint(-infinity(), infinity(), key);
+    }
+
+    private String orToolsName(LinearProblemKey key) {
+        // OR-Tools generates its own names for unnamed variables and constraints
+        return key.isNamed() || exportReadableNames ? key.toString() : "";
     }
 
     public boolean setSolverSpecificParametersAsString(String solverSpecificParameters) {
@@ -14,13 +14,15 @@ import com.google.ortools.linearsolver.MPVariable;
  */
 public class OpenRaoMPVariable {
     private final MPVariable mpVariable;
+    private final LinearProblemKey key;
 
-    protected OpenRaoMPVariable(MPVariable mpVariable) {
+    protected OpenRaoMPVariable(MPVariable mpVariable, LinearProblemKey key) {
         this.mpVariable = mpVariable;
+        this.key = key;
     }
 
     public String name() {
-        return mpVariable.name();
+        return key.toString();
     }
 
     public double lb() {
@@ -41,6 +41,7 @@ public class IteratingLinearOptimizerInput {
 
     private final ToolProvider toolProvider;
     private final Instant outageInstant;
+    private final java.time.Instant deadline;
 
     public IteratingLinearOptimizerInput(Network network,
                                          OptimizationPerimeter optimizationPerimeter,
@@ -53,7 +54,8 @@ public class IteratingLinearOptimizerInput {
                                          RangeActionActivationResult raActivationFromParentLeaf,
                                          ObjectiveFunction objectiveFunction,
                                          ToolProvider toolProvider,
-                                         Instant outageInstant) {
+                                         Instant outageInstant,
+                                         java.time.Instant deadline) {
         this.network = network;
         this.optimizationPerimeter = optimizationPerimeter;
         this.initialFlowResult = initialFlowResult;
@@ -66,6 +68,7 @@ public class IteratingLinearOptimizerInput {
         this.objectiveFunction = objectiveFunction;
         this.toolProvider = toolProvider;
         this.outageInstant = outageInstant;
+        this.deadline = deadline;
     }
 
     public Network getNetwork() {
@@ -116,6 +119,13 @@ public class IteratingLinearOptimizerInput {
         return outageInstant;
     }
 
+    /**
+     * Instant after which no new iteration should be started, or null if the optimization has no time limit
+     */
+    public java.time.Instant getDeadline() {
+        return deadline;
+    }
+
     public static IteratingLinearOptimizerInputBuilder create() {
         return new IteratingLinearOptimizerInputBuilder();
     }
@@ -133,6 +143,7 @@ public class IteratingLinearOptimizerInput {
         private ObjectiveFunction objectiveFunction;
         private ToolProvider toolProvider;
         private Instant outageInstant;
+        private java.time.Instant deadline;
 
         public IteratingLinearOptimizerInputBuilder withNetwork(Network network) {
             this.network = network;
@@ -194,6 +205,11 @@ public class IteratingLinearOptimizerInput {
             return this;
         }
 
+        public IteratingLinearOptimizerInputBuilder withDeadline(java.time.Instant deadline) {
+            this.deadline = deadline;
+            return this;
+        }
+
         public IteratingLinearOptimizerInput build() {
             return new IteratingLinearOptimizerInput(network,
                 optimizationPerimeter,
@@ -206,7 +222,8 @@ public class IteratingLinearOptimizerInput {
                 raActivationFromParentLeaf,
                 objectiveFunction,
                 toolProvider,
-                outageInstant);
+                outageInstant,
+                deadline);
         }
     }
 }
@@ -15,6 +15,7 @@ import com.powsybl.openrao.data.crac.api.rangeaction.RangeAction;
 import com.powsybl.openrao.data.raoresult.api.ComputationStatus;
 import com.powsybl.sensitivity.SensitivityVariableSet;
 
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -30,5 +31,12 @@ public interface SensitivityResult {
 
     double getSensitivityValue(FlowCnec flowCnec, TwoSides side, RangeAction<?> rangeAction, Unit unit);
 
+    /**
+     * Sensitivities of the flow of a FlowCnec on the given side to each of the range actions, in the order of the list
+     */
+    default double[] getSensitivityValues(FlowCnec flowCnec, TwoSides side, List<RangeAction<?>> rangeActions, Unit unit) {
+        return rangeActions.stream().mapToDouble(rangeAction -> getSensitivityValue(flowCnec, side, rangeAction, unit)).toArray();
+    }
+
     double getSensitivityValue(FlowCnec flowCnec, TwoSides side, SensitivityVariableSet linearGlsk, Unit unit);
 }
@@ -72,6 +72,11 @@ public class PrePerimeterSensitivityResultImpl implements PrePerimeterResult {
         return sensitivityResult.getSensitivityValue(flowCnec, side, rangeAction, unit);
     }
 
+    @Override
+    public double[] getSensitivityValues(FlowCnec flowCnec, TwoSides side, List<RangeAction<?>> rangeActions, Unit unit) {
+        return sensitivityResult.getSensitivityValues(flowCnec, side, rangeActions, unit);
+    }
+
     @Override
     public double getSensitivityValue(FlowCnec flowCnec, TwoSides side, SensitivityVariableSet linearGlsk, Unit unit) {
         return sensitivityResult.getSensitivityValue(flowCnec, side, linearGlsk, unit);
@@ -92,6 +97,11 @@ public class PrePerimeterSensitivityResultImpl implements PrePerimeterResult {
         return flowResult.getMargin(flowCnec, unit);
     }
 
+    @Override
+    public double getMargin(FlowCnec flowCnec, TwoSides side, Unit unit) {
+        return flowResult.getMargin(flowCnec, side, unit);
+    }
+
     @Override
     public double getRelativeMargin(FlowCnec flowCnec, Unit unit) {
         return flowResult.getRelativeMargin(flowCnec, unit);
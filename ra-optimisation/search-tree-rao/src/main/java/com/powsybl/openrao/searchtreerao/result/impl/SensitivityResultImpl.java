@@ -18,6 +18,7 @@ import com.powsybl.openrao.searchtreerao.result.api.SensitivityResult;
 import com.powsybl.openrao.sensitivityanalysis.SystematicSensitivityResult;
 import com.powsybl.sensitivity.SensitivityVariableSet;
 
+import java.util.List;
 import java.util.Set;
 
 import static java.lang.String.format;
@@ -62,6 +63,15 @@ public class SensitivityResultImpl implements SensitivityResult {
         }
     }
 
+    @Override
+    public double[] getSensitivityValues(FlowCnec flowCnec, TwoSides side, List<RangeAction<?>> rangeActions, Unit unit) {
+        if (unit == Unit.MEGAWATT) {
+            return systematicSensitivityResult.getSensitivitiesOnFlow(rangeActions, flowCnec, side);
+        } else {
+            throw new OpenRaoException(format("Unhandled unit for sensitivity value on range action : %s.", unit));
+        }
+    }
+
     @Override
     public double getSensitivityValue(FlowCnec flowCnec, TwoSides side, SensitivityVariableSet linearGlsk, Unit unit) {
         if (unit == Unit.MEGAWATT) {
@@ -9,6 +9,8 @@ package com.powsybl.openrao.searchtreerao.searchtree.algorithms;
 import com.powsybl.iidm.network.Country;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.openrao.commons.CountryGraph;
+import com.powsybl.openrao.commons.NetworkLocationCache;
+import com.powsybl.openrao.data.crac.api.cnec.FlowCnec;
 import com.powsybl.openrao.data.crac.api.networkaction.NetworkAction;
 import com.powsybl.openrao.searchtreerao.commons.NetworkActionCombination;
 import com.powsybl.openrao.searchtreerao.result.api.OptimizationResult;
@@ -24,14 +26,16 @@ import static com.powsybl.openrao.commons.logs.OpenRaoLoggerProvider.TECHNICAL_L
  * @author Thomas Bouquet {@literal <thomas.bouquet at rte-france.com>}
  */
 public class FarFromMostLimitingElementFilter implements NetworkActionCombinationFilter {
-    private final Network network;
-    private final CountryGraph countryGraph;
+    private final NetworkLocationCache networkLocationCache;
     private final boolean filterFarElements;
     private final int maxNumberOfBoundariesForSkippingNetworkActions;
 
     public FarFromMostLimitingElementFilter(Network network, boolean filterFarElements, int maxNumberOfBoundariesForSkippingNetworkActions) {
-        this.network = network;
-        countryGraph = new CountryGraph(network);
+        this(new NetworkLocationCache(network), filterFarElements, maxNumberOfBoundariesForSkippingNetworkActions);
+    }
+
+    public FarFromMostLimitingElementFilter(NetworkLocationCache networkLocationCache, boolean filterFarElements, int maxNumberOfBoundariesForSkippingNetworkActions) {
+        this.networkLocationCache = networkLocationCache;
         this.filterFarElements = filterFarElements;
         this.maxNumberOfBoundariesForSkippingNetworkActions = maxNumberOfBoundariesForSkippingNetworkActions;
     }
@@ -47,6 +51,7 @@ public class FarFromMostLimitingElementFilter implements NetworkActionCombinatio
         }
 
         Set<Optional<Country>> worstCnecLocation = getOptimizedMostLimitingElementsLocation(optimizationResult);
+        CountryGraph countryGraph = networkLocationCache.getCountryGraph();
 
         Set<NetworkActionCombination> filteredNaCombinations = naCombinations.stream()
             .filter(naCombination -> naCombination.getNetworkActionSet().stream().anyMatch(na -> isNetworkActionCloseToLocations(na, worstCnecLocation, countryGraph)))
@@ -60,13 +65,21 @@ public class FarFromMostLimitingElementFilter implements NetworkActionCombinatio
 
     Set<Optional<Country>> getOptimizedMostLimitingElementsLocation(OptimizationResult optimizationResult) {
         Set<Optional<Country>> locations = new HashSet<>();
-        optimizationResult.getMostLimitingElements(1).forEach(element -> locations.addAll(element.getLocation(network)));
+        optimizationResult.getMostLimitingElements(1).forEach(element -> locations.addAll(getLocation(element)));
         for (String virtualCost : optimizationResult.getVirtualCostNames()) {
-            optimizationResult.getCostlyElements(virtualCost, Integer.MAX_VALUE).forEach(element -> locations.addAll(element.getLocation(network)));
+            optimizationResult.getCostlyElements(virtualCost, Integer.MAX_VALUE).forEach(element -> locations.addAll(getLocation(element)));
         }
         return locations;
     }
 
+    private Set<Optional<Country>> getLocation(FlowCnec flowCnec) {
+        return networkLocationCache.getLocation(flowCnec, flowCnec::getLocation);
+    }
+
+    private Set<Optional<Country>> getLocation(NetworkAction networkAction) {
+        return networkLocationCache.getLocation(networkAction, networkAction::getLocation);
+    }
+
     /**
      * Says if a network action is close to a given set of countries, respecting the maximum number of boundaries
      */
@@ -74,7 +87,7 @@ public class FarFromMostLimitingElementFilter implements NetworkActionCombinatio
         if (locations.stream().anyMatch(Optional::isEmpty)) {
             return true;
         }
-        Set<Optional<Country>> networkActionCountries = networkAction.getLocation(network);
+        Set<Optional<Country>> networkActionCountries = getLocation(networkAction);
         if (networkActionCountries.stream().anyMatch(Optional::isEmpty)) {
             return true;
         }
@@ -88,4 +101,22 @@ public class FarFromMostLimitingElementFilter implements NetworkActionCombinatio
         }
         return false;
     }
+
+    /**
+     * Returns the smallest number of boundaries between a network action and a given set of countries, or 0 if one of
+     * the locations is unknown
+     */
+    int getNumberOfBoundaries(NetworkAction networkAction, Set<Optional<Country>> locations) {
+        Set<Optional<Country>> networkActionCountries = getLocation(networkAction);
+        if (locations.stream().anyMatch(Optional::isEmpty) || networkActionCountries.stream().anyMatch(Optional::isEmpty)) {
+            return 0;
+        }
+        int numberOfBoundaries = Integer.MAX_VALUE;
+        for (Optional<Country> location : locations) {
+            for (Optional<Country> networkActionCountry : networkActionCountries) {
+                numberOfBoundaries = Math.min(numberOfBoundaries, networkLocationCache.getCountryGraph().getNumberOfBoundaries(location.orElseThrow(), networkActionCountry.orElseThrow()));
+            }
+        }
+        return numberOfBoundaries;
+    }
 }
@@ -204,6 +204,7 @@ public class Leaf implements OptimizationResult {
                     .withObjectiveFunction(searchTreeInput.getObjectiveFunction())
                     .withToolProvider(searchTreeInput.getToolProvider())
                     .withOutageInstant(searchTreeInput.getOutageInstant())
+                    .withDeadline(searchTreeInput.getDeadline())
                     .build();
 
             // build parameters
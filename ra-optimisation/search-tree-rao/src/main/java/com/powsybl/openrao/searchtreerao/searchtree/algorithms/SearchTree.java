@@ -11,14 +11,17 @@ import com.powsybl.openrao.commons.Unit;
 import com.powsybl.openrao.commons.logs.OpenRaoLogger;
 import com.powsybl.openrao.data.crac.api.State;
 import com.powsybl.openrao.data.crac.api.cnec.FlowCnec;
+import com.powsybl.iidm.network.Country;
 import com.powsybl.iidm.network.TwoSides;
 import com.powsybl.openrao.data.crac.api.networkaction.NetworkAction;
 import com.powsybl.openrao.searchtreerao.commons.NetworkActionCombination;
 import com.powsybl.openrao.searchtreerao.commons.RaoLogger;
 import com.powsybl.openrao.searchtreerao.commons.SensitivityComputer;
+import com.powsybl.openrao.searchtreerao.commons.adapter.BranchResultAdapterImpl;
 import com.powsybl.openrao.searchtreerao.commons.optimizationperimeters.GlobalOptimizationPerimeter;
 import com.powsybl.openrao.searchtreerao.commons.optimizationperimeters.OptimizationPerimeter;
 import com.powsybl.openrao.searchtreerao.commons.parameters.TreeParameters;
+import com.powsybl.openrao.searchtreerao.result.api.FlowResult;
 import com.powsybl.openrao.searchtreerao.result.api.OptimizationResult;
 import com.powsybl.openrao.searchtreerao.result.api.PrePerimeterResult;
 import com.powsybl.openrao.searchtreerao.result.api.RangeActionActivationResult;
@@ -26,12 +29,17 @@ import com.powsybl.openrao.searchtreerao.result.impl.RangeActionActivationResult
 import com.powsybl.openrao.searchtreerao.searchtree.inputs.SearchTreeInput;
 import com.powsybl.openrao.searchtreerao.searchtree.parameters.SearchTreeParameters;
 import com.powsybl.openrao.sensitivityanalysis.AppliedRemedialActions;
+import com.powsybl.openrao.sensitivityanalysis.SystematicSensitivityInterface;
+import com.powsybl.openrao.sensitivityanalysis.SystematicSensitivityResult;
 import com.powsybl.openrao.util.AbstractNetworkPool;
+import com.powsybl.openrao.util.ParallelismBudget;
 import com.google.common.hash.Hashing;
 import com.powsybl.iidm.network.Network;
+import com.powsybl.sensitivity.SensitivityAnalysisParameters;
 import org.apache.commons.lang3.NotImplementedException;
 
 import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.*;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -58,6 +66,7 @@ public class SearchTree {
     private static final int NUMBER_LOGGED_ELEMENTS_DURING_TREE = 2;
     private static final int NUMBER_LOGGED_ELEMENTS_END_TREE = 5;
     private static final int NUMBER_LOGGED_VIRTUAL_COSTLY_ELEMENTS = 10;
+    private static final int NUMBER_PRE_SCREENED_ELEMENTS = 10;
 
     /**
      * attribute defined in constructor of the search tree class
@@ -77,9 +86,22 @@ public class SearchTree {
     private Leaf rootLeaf;
     private Leaf optimalLeaf;
     private Leaf previousDepthOptimalLeaf;
+    // number of leaves evaluated at the same time, which can grow between two depths when threads are lent by the budget
+    private int leavesInParallel;
+    private int borrowedThreads;
 
     private Optional<NetworkActionCombination> combinationFulfillingStopCriterion = Optional.empty();
 
+    /**
+     * attributes used for the adaptive prioritization of the network action combinations: the best cost improvement
+     * brought by each network action during the current depth, and the scores of the combinations of the current depth,
+     * computed once before the evaluation of the depth so that the ordering is consistent
+     */
+
+    private final Map<NetworkAction, Double> currentDepthCostImprovements = new ConcurrentHashMap<>();
+    private Map<NetworkActionCombination, Double> previousDepthCostImprovementScores = new HashMap<>();
+    private Map<NetworkActionCombination, Integer> numberOfBoundariesScores = new HashMap<>();
+
     public SearchTree(SearchTreeInput input,
                       SearchTreeParameters parameters,
                       boolean verbose) {
@@ -166,11 +188,31 @@ public class SearchTree {
             return;
         }
 
-        int leavesInParallel = Math.min(input.getOptimizationPerimeter().getNetworkActions().size(), parameters.getTreeParameters().leavesInParallel());
+        int numberOfNetworkActions = input.getOptimizationPerimeter().getNetworkActions().size();
+        ParallelismBudget parallelismBudget = input.getParallelismBudget();
+        int maxLeavesInParallel;
+        if (parallelismBudget == null) {
+            maxLeavesInParallel = Math.min(numberOfNetworkActions, parameters.getTreeParameters().leavesInParallel());
+            leavesInParallel = maxLeavesInParallel;
+        } else {
+            // The shared budget overrides the leaves-in-parallel tree parameter: the thread of the search tree evaluates
+            // one leaf, and the other ones are borrowed from the budget before each depth, as they become available.
+            // The pool is sized for the whole budget, the number of network copies limits the leaves actually evaluated.
+            maxLeavesInParallel = Math.min(numberOfNetworkActions, 1 + parallelismBudget.getNumberOfThreads());
+            leavesInParallel = 1;
+        }
+        borrowedThreads = 0;
         TECHNICAL_LOGS.debug("Evaluating {} leaves in parallel", leavesInParallel);
-        try (AbstractNetworkPool networkPool = makeOpenRaoNetworkPool(input.getNetwork(), leavesInParallel)) {
+        try (AbstractNetworkPool networkPool = makeOpenRaoNetworkPool(input.getNetwork(), maxLeavesInParallel)) {
             while (depth < parameters.getTreeParameters().maximumSearchDepth() && hasImproved && !stopCriterionReached(optimalLeaf)) {
+                if (isDeadlineReached()) {
+                    topLevelLogger.info("Time budget has been exhausted, exiting search tree");
+                    break;
+                }
                 TECHNICAL_LOGS.info("Search depth {} [start]", depth + 1);
+                if (parallelismBudget != null) {
+                    borrowAvailableThreads(parallelismBudget, maxLeavesInParallel);
+                }
                 previousDepthOptimalLeaf = optimalLeaf;
                 updateOptimalLeafWithNextDepthBestLeaf(networkPool);
                 hasImproved = previousDepthOptimalLeaf != optimalLeaf; // It means this depth evaluation has improved the global cost
@@ -192,6 +234,19 @@ public class SearchTree {
         } catch (InterruptedException e) {
             TECHNICAL_LOGS.warn("A computation thread was interrupted");
             Thread.currentThread().interrupt();
+        } finally {
+            if (parallelismBudget != null) {
+                parallelismBudget.release(borrowedThreads);
+            }
+        }
+    }
+
+    private void borrowAvailableThreads(ParallelismBudget parallelismBudget, int maxLeavesInParallel) {
+        int newThreads = parallelismBudget.tryAcquire(maxLeavesInParallel - leavesInParallel, borrowedThreads);
+        if (newThreads > 0) {
+            borrowedThreads += newThreads;
+            leavesInParallel += newThreads;
+            TECHNICAL_LOGS.debug("Evaluating {} leaves in parallel", leavesInParallel);
         }
     }
 
@@ -200,11 +255,13 @@ public class SearchTree {
      */
     private void updateOptimalLeafWithNextDepthBestLeaf(AbstractNetworkPool networkPool) throws InterruptedException {
 
+        Set<NetworkActionCombination> naCombinations = bloomer.bloom(optimalLeaf, input.getOptimizationPerimeter().getNetworkActions());
+        updateNetworkActionCombinationScores(naCombinations);
         TreeSet<NetworkActionCombination> naCombinationsSorted = new TreeSet<>(this::deterministicNetworkActionCombinationComparison);
-        naCombinationsSorted.addAll(bloomer.bloom(optimalLeaf, input.getOptimizationPerimeter().getNetworkActions()));
+        naCombinationsSorted.addAll(preScreenNetworkActionCombinations(naCombinations, networkPool));
         int numberOfCombinations = naCombinationsSorted.size();
 
-        networkPool.initClones(numberOfCombinations);
+        networkPool.initClones(Math.min(numberOfCombinations, leavesInParallel));
         if (naCombinationsSorted.isEmpty()) {
             TECHNICAL_LOGS.info("No more network action available");
             return;
@@ -224,24 +281,125 @@ public class SearchTree {
         }
     }
 
+    /**
+     * If there are more network action combinations than the maximum number of leaves to evaluate, keeps only the
+     * combinations with the best minimum margin on the most limiting elements of the optimal leaf. This margin is
+     * estimated with a DC load-flow on the network on which the combination is applied, which is much faster than the
+     * evaluation of a leaf.
+     */
+    Set<NetworkActionCombination> preScreenNetworkActionCombinations(Set<NetworkActionCombination> naCombinations, AbstractNetworkPool networkPool) throws InterruptedException {
+        int maxNumberOfLeaves = parameters.getNetworkActionParameters().getMaxNumberOfLeavesAfterPreScreening();
+        if (naCombinations.size() <= maxNumberOfLeaves) {
+            return naCombinations;
+        }
+        TECHNICAL_LOGS.info("Pre-screening {} network action combinations", naCombinations.size());
+        Set<FlowCnec> preScreenedCnecs = new HashSet<>(optimalLeaf.getMostLimitingElements(NUMBER_PRE_SCREENED_ELEMENTS));
+        Map<NetworkActionCombination, Double> estimatedMinMargins = preScreenedCnecs.isEmpty() ? Map.of() : estimateMinMargins(naCombinations, preScreenedCnecs, networkPool);
+        Set<NetworkActionCombination> preScreenedNaCombinations = naCombinations.stream()
+            .sorted(Comparator.<NetworkActionCombination>comparingDouble(naCombination -> estimatedMinMargins.getOrDefault(naCombination, Double.NEGATIVE_INFINITY))
+                .reversed()
+                .thenComparing(this::deterministicNetworkActionCombinationComparison))
+            .limit(maxNumberOfLeaves)
+            .collect(Collectors.toSet());
+        TECHNICAL_LOGS.info("{} network action combinations have been filtered out by the pre-screening", naCombinations.size() - preScreenedNaCombinations.size());
+        return preScreenedNaCombinations;
+    }
+
+    /**
+     * Estimates the minimum margin on the given CNECs of each network action combination, with a DC load-flow on the
+     * network on which the network actions of the previous depth optimal leaf, then the combination, are applied.
+     * The combinations whose margin could not be estimated are not in the returned map.
+     */
+    Map<NetworkActionCombination, Double> estimateMinMargins(Set<NetworkActionCombination> naCombinations, Set<FlowCnec> preScreenedCnecs, AbstractNetworkPool networkPool) throws InterruptedException {
+        // the sensitivity interfaces are built once for all the combinations of the depth
+        SensitivityAnalysisParameters dcSensitivityParameters = input.getToolProvider().getDcSensitivityParameters();
+        SystematicSensitivityInterface dcFlowsInterface = input.getToolProvider().getDcFlowsSystematicSensitivityInterface(
+            preScreenedCnecs, getPreviousDepthAppliedRemedialActionsBeforeNewLeafEvaluation(previousDepthOptimalLeaf), input.getOutageInstant(), dcSensitivityParameters);
+        SystematicSensitivityInterface dcFlowsInterfaceWithoutRangeActions = input.getToolProvider().getDcFlowsSystematicSensitivityInterface(
+            preScreenedCnecs, input.getPreOptimizationAppliedRemedialActions(), input.getOutageInstant(), dcSensitivityParameters);
+        Map<NetworkActionCombination, Double> estimatedMinMargins = new ConcurrentHashMap<>();
+        networkPool.initClones(Math.min(naCombinations.size(), leavesInParallel));
+        List<ForkJoinTask<Object>> tasks = naCombinations.stream().map(naCombination ->
+            networkPool.submit(() -> estimateMinMargin(networkPool, naCombination, preScreenedCnecs, dcFlowsInterface, dcFlowsInterfaceWithoutRangeActions, estimatedMinMargins))
+        ).toList();
+        for (ForkJoinTask<Object> task : tasks) {
+            try {
+                task.get();
+            } catch (ExecutionException e) {
+                throw new OpenRaoException(e);
+            }
+        }
+        return estimatedMinMargins;
+    }
+
+    private Object estimateMinMargin(AbstractNetworkPool networkPool, NetworkActionCombination naCombination, Set<FlowCnec> preScreenedCnecs,
+                                     SystematicSensitivityInterface dcFlowsInterface, SystematicSensitivityInterface dcFlowsInterfaceWithoutRangeActions,
+                                     Map<NetworkActionCombination, Double> estimatedMinMargins) throws InterruptedException {
+        if (isDeadlineReached()) {
+            // the combinations which have not been pre-screened are ranked last
+            TECHNICAL_LOGS.debug("Skipping {} pre-screening because the time budget has been exhausted.", naCombination.getConcatenatedId());
+            return null;
+        }
+        Network networkClone = networkPool.getAvailableNetwork();
+        try {
+            boolean shouldRangeActionBeRemoved = bloomer.shouldRangeActionsBeRemovedToApplyNa(naCombination, optimalLeaf);
+            applyRangeActionsBeforeNewLeafEvaluation(networkClone, shouldRangeActionBeRemoved);
+            // as in the leaves, the network actions of the previous depth optimal leaf are applied before the combination
+            previousDepthOptimalLeaf.getActivatedNetworkActions().forEach(networkAction -> networkAction.apply(networkClone));
+            naCombination.getNetworkActionSet().forEach(networkAction -> networkAction.apply(networkClone));
+            SystematicSensitivityResult result = (shouldRangeActionBeRemoved ? dcFlowsInterfaceWithoutRangeActions : dcFlowsInterface).run(networkClone);
+            if (result.getStatus() != SystematicSensitivityResult.SensitivityComputationStatus.FAILURE) {
+                FlowResult flowResult = BranchResultAdapterImpl.create().build().getResult(result, networkClone);
+                estimatedMinMargins.put(naCombination, preScreenedCnecs.stream()
+                    .mapToDouble(flowCnec -> flowResult.getMargin(flowCnec, Unit.MEGAWATT))
+                    .filter(margin -> !Double.isNaN(margin))
+                    .min().orElse(Double.NEGATIVE_INFINITY));
+            }
+        } catch (Exception e) {
+            TECHNICAL_LOGS.warn("Cannot pre-screen remedial action combination {}: {}", naCombination.getConcatenatedId(), e.getMessage());
+        }
+        networkPool.releaseUsedNetwork(networkClone);
+        return null;
+    }
+
+    /**
+     * Computes the scores used to prioritize the network action combinations of the next depth, if the adaptive
+     * prioritization is activated:
+     * <ul>
+     * <li>the best cost improvement brought by the network actions of the combination at the previous depth</li>
+     * <li>the number of boundaries between the combination and the most limiting elements of the optimal leaf</li>
+     * </ul>
+     */
+    void updateNetworkActionCombinationScores(Set<NetworkActionCombination> naCombinations) {
+        if (!parameters.getNetworkActionParameters().useAdaptiveNetworkActionPrioritization()) {
+            return;
+        }
+        Map<NetworkAction, Double> previousDepthCostImprovements = new HashMap<>(currentDepthCostImprovements);
+        currentDepthCostImprovements.clear();
+        Set<Optional<Country>> mostLimitingElementsLocation = bloomer.getMostLimitingElementsLocation(optimalLeaf);
+        previousDepthCostImprovementScores = new HashMap<>();
+        numberOfBoundariesScores = new HashMap<>();
+        for (NetworkActionCombination naCombination : naCombinations) {
+            previousDepthCostImprovementScores.put(naCombination, naCombination.getNetworkActionSet().stream()
+                .mapToDouble(na -> previousDepthCostImprovements.getOrDefault(na, Double.NEGATIVE_INFINITY))
+                .max().orElse(Double.NEGATIVE_INFINITY));
+            numberOfBoundariesScores.put(naCombination, bloomer.getNumberOfBoundaries(naCombination, mostLimitingElementsLocation));
+        }
+    }
+
+    void recordCostImprovement(NetworkActionCombination naCombination, Leaf leaf) {
+        double costImprovement = previousDepthOptimalLeaf.getCost() - leaf.getCost();
+        naCombination.getNetworkActionSet().forEach(na -> currentDepthCostImprovements.merge(na, costImprovement, Math::max));
+    }
+
     private Object optimizeOneLeaf(AbstractNetworkPool networkPool, NetworkActionCombination naCombination, AtomicInteger remainingLeaves) throws InterruptedException {
         Network networkClone = networkPool.getAvailableNetwork(); //This is where the threads actually wait for available networks
         try {
-            if (combinationFulfillingStopCriterion.isEmpty() || deterministicNetworkActionCombinationComparison(naCombination, combinationFulfillingStopCriterion.get()) < 0) {
+            if (isDeadlineReached()) {
+                topLevelLogger.info("Skipping {} optimization because the time budget has been exhausted.", naCombination.getConcatenatedId());
+            } else if (combinationFulfillingStopCriterion.isEmpty() || deterministicNetworkActionCombinationComparison(naCombination, combinationFulfillingStopCriterion.get()) < 0) {
                 boolean shouldRangeActionBeRemoved = bloomer.shouldRangeActionsBeRemovedToApplyNa(naCombination, optimalLeaf);
-                if (shouldRangeActionBeRemoved) {
-                    // Remove parentLeaf range actions to respect every maxRa or maxOperator limitation
-                    input.getOptimizationPerimeter().getRangeActions().forEach(ra ->
-                        ra.apply(networkClone, input.getPrePerimeterResult().getRangeActionSetpointResult().getSetpoint(ra))
-                    );
-                } else {
-                    // Apply range actions that have been changed by the previous leaf on the network to start next depth leaves
-                    // from previous optimal leaf starting point
-                    previousDepthOptimalLeaf.getRangeActions()
-                        .forEach(ra ->
-                            ra.apply(networkClone, previousDepthOptimalLeaf.getOptimizedSetpoint(ra, input.getOptimizationPerimeter().getMainOptimizationState()))
-                        );
-                }
+                applyRangeActionsBeforeNewLeafEvaluation(networkClone, shouldRangeActionBeRemoved);
                 optimizeNextLeafAndUpdate(naCombination, shouldRangeActionBeRemoved, networkClone);
 
             } else {
@@ -255,6 +413,22 @@ public class SearchTree {
         return null;
     }
 
+    private void applyRangeActionsBeforeNewLeafEvaluation(Network networkClone, boolean shouldRangeActionBeRemoved) {
+        if (shouldRangeActionBeRemoved) {
+            // Remove parentLeaf range actions to respect every maxRa or maxOperator limitation
+            input.getOptimizationPerimeter().getRangeActions().forEach(ra ->
+                ra.apply(networkClone, input.getPrePerimeterResult().getRangeActionSetpointResult().getSetpoint(ra))
+            );
+        } else {
+            // Apply range actions that have been changed by the previous leaf on the network to start next depth leaves
+            // from previous optimal leaf starting point
+            previousDepthOptimalLeaf.getRangeActions()
+                .forEach(ra ->
+                    ra.apply(networkClone, previousDepthOptimalLeaf.getOptimizedSetpoint(ra, input.getOptimizationPerimeter().getMainOptimizationState()))
+                );
+        }
+    }
+
     int deterministicNetworkActionCombinationComparison(NetworkActionCombination ra1, NetworkActionCombination ra2) {
         // 1. First priority given to combinations detected during RAO
         int comp1 = compareIsDetectedDuringRao(ra1, ra2);
@@ -266,12 +440,17 @@ public class SearchTree {
         if (comp2 != 0) {
             return comp2;
         }
-        // 3. Third priority given to large combinations
-        int comp3 = compareSize(ra1, ra2);
+        // 3. Third priority given to the most promising combinations, if adaptive prioritization is activated
+        int comp3 = compareAdaptiveScores(ra1, ra2);
         if (comp3 != 0) {
             return comp3;
         }
-        // 4. Last priority is random but deterministic
+        // 4. Fourth priority given to large combinations
+        int comp4 = compareSize(ra1, ra2);
+        if (comp4 != 0) {
+            return comp4;
+        }
+        // 5. Last priority is random but deterministic
         return Integer.compare(Hashing.crc32().hashString(ra1.getConcatenatedId(), StandardCharsets.UTF_8).hashCode(),
                 Hashing.crc32().hashString(ra2.getConcatenatedId(), StandardCharsets.UTF_8).hashCode());
     }
@@ -290,6 +469,20 @@ public class SearchTree {
         return -Boolean.compare(this.bloomer.hasPreDefinedNetworkActionCombination(ra1), this.bloomer.hasPreDefinedNetworkActionCombination(ra2));
     }
 
+    /**
+     * Prioritizes the network action combination whose network actions brought the best cost improvement at the
+     * previous depth, then the one closest to the most limiting elements
+     */
+    private int compareAdaptiveScores(NetworkActionCombination ra1, NetworkActionCombination ra2) {
+        int costImprovementComparison = -Double.compare(
+            previousDepthCostImprovementScores.getOrDefault(ra1, Double.NEGATIVE_INFINITY),
+            previousDepthCostImprovementScores.getOrDefault(ra2, Double.NEGATIVE_INFINITY));
+        if (costImprovementComparison != 0) {
+            return costImprovementComparison;
+        }
+        return Integer.compare(numberOfBoundariesScores.getOrDefault(ra1, Integer.MAX_VALUE), numberOfBoundariesScores.getOrDefault(ra2, Integer.MAX_VALUE));
+    }
+
     /**
      * Prioritizes the bigger network action combination
      */
@@ -326,6 +519,9 @@ public class SearchTree {
             if (!stopCriterionReached(leaf)) {
                 if (combinationFulfillingStopCriterion.isPresent() && deterministicNetworkActionCombinationComparison(naCombination, combinationFulfillingStopCriterion.get()) > 0) {
                     topLevelLogger.info("Skipping {} optimization because earlier combination fulfills stop criterion.", naCombination.getConcatenatedId());
+                } else if (isDeadlineReached()) {
+                    // the evaluated leaf can still be selected as the best leaf found so far
+                    topLevelLogger.info("Skipping {} linear optimization because the time budget has been exhausted.", naCombination.getConcatenatedId());
                 } else {
                     optimizeLeaf(leaf);
 
@@ -335,6 +531,9 @@ public class SearchTree {
             } else {
                 topLevelLogger.info("Optimized {}", leaf);
             }
+            if (parameters.getNetworkActionParameters().useAdaptiveNetworkActionPrioritization()) {
+                recordCostImprovement(naCombination, leaf);
+            }
             updateOptimalLeaf(leaf, naCombination);
         } else {
             topLevelLogger.info("Could not evaluate {}", leaf);
@@ -414,6 +613,14 @@ public class SearchTree {
         }
     }
 
+    /**
+     * Says if the time budget of the search tree is exhausted. In that case, the leaves which have not been evaluated
+     * yet are skipped, and the best leaf found so far is returned.
+     */
+    boolean isDeadlineReached() {
+        return input.getDeadline() != null && !Instant.now().isBefore(input.getDeadline());
+    }
+
     /**
      * This method evaluates stop criterion on the leaf.
      *
@@ -7,6 +7,8 @@
 
 package com.powsybl.openrao.searchtreerao.searchtree.algorithms;
 
+import com.powsybl.iidm.network.Country;
+import com.powsybl.openrao.commons.NetworkLocationCache;
 import com.powsybl.openrao.data.crac.api.RaUsageLimits;
 import com.powsybl.openrao.data.crac.api.RemedialAction;
 import com.powsybl.openrao.data.crac.api.State;
@@ -14,6 +16,7 @@ import com.powsybl.openrao.data.crac.api.networkaction.NetworkAction;
 import com.powsybl.openrao.data.crac.api.rangeaction.PstRangeAction;
 import com.powsybl.openrao.data.crac.api.rangeaction.RangeAction;
 import com.powsybl.openrao.searchtreerao.commons.NetworkActionCombination;
+import com.powsybl.openrao.searchtreerao.commons.ToolProvider;
 import com.powsybl.openrao.searchtreerao.result.api.OptimizationResult;
 import com.powsybl.openrao.searchtreerao.searchtree.inputs.SearchTreeInput;
 import com.powsybl.openrao.searchtreerao.searchtree.parameters.SearchTreeParameters;
@@ -27,19 +30,24 @@ import java.util.stream.Collectors;
 public final class SearchTreeBloomer {
     private final List<NetworkActionCombination> preDefinedNaCombinations;
     private final List<NetworkActionCombinationFilter> networkActionCombinationFilters;
+    private final FarFromMostLimitingElementFilter farFromMostLimitingElementFilter;
     private final SearchTreeInput input;
     private final SearchTreeParameters parameters;
 
     public SearchTreeBloomer(SearchTreeInput input, SearchTreeParameters parameters) {
         RaUsageLimits raUsageLimits = parameters.getRaLimitationParameters().getOrDefault(input.getOptimizationPerimeter().getMainOptimizationState().getInstant(), new RaUsageLimits());
         this.preDefinedNaCombinations = parameters.getNetworkActionParameters().getNetworkActionCombinations();
+        NetworkLocationCache networkLocationCache = Optional.ofNullable(input.getToolProvider())
+            .map(ToolProvider::getNetworkLocationCache)
+            .orElseGet(() -> new NetworkLocationCache(input.getNetwork()));
+        this.farFromMostLimitingElementFilter = new FarFromMostLimitingElementFilter(networkLocationCache, parameters.getNetworkActionParameters().skipNetworkActionFarFromMostLimitingElements(), parameters.getNetworkActionParameters().getMaxNumberOfBoundariesForSkippingNetworkActions());
         this.networkActionCombinationFilters = List.of(
             new AlreadyAppliedNetworkActionsFilter(),
             new AlreadyTestedCombinationsFilter(preDefinedNaCombinations),
             new MaximumNumberOfRemedialActionsFilter(raUsageLimits.getMaxRa()),
             new MaximumNumberOfRemedialActionPerTsoFilter(raUsageLimits.getMaxTopoPerTso(), raUsageLimits.getMaxRaPerTso()),
             new MaximumNumberOfTsosFilter(raUsageLimits.getMaxTso()),
-            new FarFromMostLimitingElementFilter(input.getNetwork(), parameters.getNetworkActionParameters().skipNetworkActionFarFromMostLimitingElements(), parameters.getNetworkActionParameters().getMaxNumberOfBoundariesForSkippingNetworkActions()),
+            farFromMostLimitingElementFilter,
             new ElementaryActionsCompatibilityFilter(),
             new MaximumNumberOfElementaryActionsFilter(raUsageLimits.getMaxElementaryActionsPerTso())
         );
@@ -87,6 +95,22 @@ public final class SearchTreeBloomer {
         return networkActionCombinations;
     }
 
+    /**
+     * Returns the location of the most limiting elements of a leaf, as defined in {@link FarFromMostLimitingElementFilter}
+     */
+    Set<Optional<Country>> getMostLimitingElementsLocation(OptimizationResult optimizationResult) {
+        return farFromMostLimitingElementFilter.getOptimizedMostLimitingElementsLocation(optimizationResult);
+    }
+
+    /**
+     * Returns the smallest number of boundaries between the network actions of a combination and a set of countries
+     */
+    int getNumberOfBoundaries(NetworkActionCombination naCombination, Set<Optional<Country>> locations) {
+        return naCombination.getNetworkActionSet().stream()
+            .mapToInt(networkAction -> farFromMostLimitingElementFilter.getNumberOfBoundaries(networkAction, locations))
+            .min().orElse(Integer.MAX_VALUE);
+    }
+
     /**
      * This method checks if range action must be removed before applying a network action combination.
      * If so, parentLeafRangeActions must be removed before applying the combination.
@@ -14,6 +14,7 @@ import com.powsybl.openrao.searchtreerao.commons.optimizationperimeters.Optimiza
 import com.powsybl.openrao.searchtreerao.result.api.FlowResult;
 import com.powsybl.openrao.searchtreerao.result.api.PrePerimeterResult;
 import com.powsybl.openrao.sensitivityanalysis.AppliedRemedialActions;
+import com.powsybl.openrao.util.ParallelismBudget;
 import com.powsybl.iidm.network.Network;
 
 /**
@@ -32,6 +33,8 @@ public final class SearchTreeInput {
     private final ObjectiveFunction objectiveFunction;
     private final ToolProvider toolProvider;
     private final Instant outageInstant;
+    private final java.time.Instant deadline;
+    private final ParallelismBudget parallelismBudget;
 
     private SearchTreeInput(Network network,
                             OptimizationPerimeter optimizationPerimeter,
@@ -40,7 +43,9 @@ public final class SearchTreeInput {
                             AppliedRemedialActions preOptimizationAppliedRemedialActions,
                             ObjectiveFunction objectiveFunction,
                             ToolProvider toolProvider,
-                            Instant outageInstant) {
+                            Instant outageInstant,
+                            java.time.Instant deadline,
+                            ParallelismBudget parallelismBudget) {
         this.network = network;
         this.optimizationPerimeter = optimizationPerimeter;
         this.initialFlowResult = initialFlowResult;
@@ -49,6 +54,8 @@ public final class SearchTreeInput {
         this.objectiveFunction = objectiveFunction;
         this.toolProvider = toolProvider;
         this.outageInstant = outageInstant;
+        this.deadline = deadline;
+        this.parallelismBudget = parallelismBudget;
     }
 
     public Network getNetwork() {
@@ -83,6 +90,21 @@ public final class SearchTreeInput {
         return outageInstant;
     }
 
+    /**
+     * Instant after which the search tree should stop and return its best leaf, or null if it has no time limit
+     */
+    public java.time.Instant getDeadline() {
+        return deadline;
+    }
+
+    /**
+     * Threads which can be borrowed to evaluate leaves in parallel, or null if the number of leaves in parallel is
+     * given by the tree parameters only
+     */
+    public ParallelismBudget getParallelismBudget() {
+        return parallelismBudget;
+    }
+
     public static SearchTreeInputBuilder create() {
         return new SearchTreeInputBuilder();
     }
@@ -97,6 +119,8 @@ public final class SearchTreeInput {
         private ObjectiveFunction objectiveFunction;
         private ToolProvider toolProvider;
         private Instant outageInstant;
+        private java.time.Instant deadline;
+        private ParallelismBudget parallelismBudget;
 
         public SearchTreeInputBuilder withNetwork(Network network) {
             this.network = network;
@@ -138,6 +162,16 @@ public final class SearchTreeInput {
             return this;
         }
 
+        public SearchTreeInputBuilder withDeadline(java.time.Instant deadline) {
+            this.deadline = deadline;
+            return this;
+        }
+
+        public SearchTreeInputBuilder withParallelismBudget(ParallelismBudget parallelismBudget) {
+            this.parallelismBudget = parallelismBudget;
+            return this;
+        }
+
         public SearchTreeInput build() {
             return new SearchTreeInput(network,
                 optimizationPerimeter,
@@ -146,7 +180,9 @@ public final class SearchTreeInput {
                 preOptimizationAppliedNetworkActions,
                 objectiveFunction,
                 toolProvider,
-                outageInstant);
+                outageInstant,
+                deadline,
+                parallelismBudget);
         }
     }
 }
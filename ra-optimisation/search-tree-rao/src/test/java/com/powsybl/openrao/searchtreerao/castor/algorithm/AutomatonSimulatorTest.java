@@ -239,6 +239,7 @@ class AutomatonSimulatorTest {
         mockedPreAutoPerimeterSensitivityAnalysis = mock(PrePerimeterSensitivityAnalysis.class);
         mockedPrePerimeterResult = mock(PrePerimeterResult.class);
         when(mockedPreAutoPerimeterSensitivityAnalysis.runBasedOnInitialResults(any(), any(), any(), any(), any())).thenReturn(mockedPrePerimeterResult);
+        when(mockedPreAutoPerimeterSensitivityAnalysis.runFlowsOnlyOnCnecsBasedOnInitialResults(any(), any(), any(), any(), any())).thenReturn(mockedPrePerimeterResult);
 
         FlowResult mockedFlowResult = mock(FlowResult.class);
         when(mockedPrePerimeterResult.getFlowResult()).thenReturn(mockedFlowResult);
@@ -465,6 +466,10 @@ class AutomatonSimulatorTest {
             automatonSimulator.shiftRangeActionsUntilFlowCnecsSecure(List.of(ara1, ara2), Set.of(cnec), network, mockedPreAutoPerimeterSensitivityAnalysis, mockedPrePerimeterResult, autoState);
         assertEquals(3.1, shiftResult.rangeActionsWithSetpoint().get(ara1), DOUBLE_TOLERANCE);
         assertEquals(3.1, shiftResult.rangeActionsWithSetpoint().get(ara2), DOUBLE_TOLERANCE);
+        // only flows are computed after the first shift; once the same CNEC has to be shifted again, the sensitivities
+        // are refreshed before the second shift and directly computed after it
+        verify(mockedPreAutoPerimeterSensitivityAnalysis, times(1)).runFlowsOnlyOnCnecsBasedOnInitialResults(any(), any(), any(), any(), any());
+        verify(mockedPreAutoPerimeterSensitivityAnalysis, times(2)).runBasedOnInitialResults(any(), any(), any(), any(), any());
     }
 
     @Test
@@ -550,6 +555,33 @@ class AutomatonSimulatorTest {
         assertEquals(-3.1, shiftResult.rangeActionsWithSetpoint().get(ara2), DOUBLE_TOLERANCE);
     }
 
+    @Test
+    void testShiftRangeActionsUntilFlowCnecsSecureUndoesShiftWhenFlowsFail() {
+        FlowCnec cnec = mock(FlowCnec.class);
+        when(cnec.getMonitoredSides()).thenReturn(Set.of(TwoSides.TWO));
+
+        PrePerimeterResult failedPostShiftFlows = mock(PrePerimeterResult.class);
+        when(failedPostShiftFlows.getSensitivityStatus(autoState)).thenReturn(ComputationStatus.FAILURE);
+        when(mockedPreAutoPerimeterSensitivityAnalysis.runFlowsOnlyOnCnecsBasedOnInitialResults(any(), any(), any(), any(), any())).thenReturn(failedPostShiftFlows);
+
+        when(mockedPrePerimeterResult.getFlow(cnec, TwoSides.TWO, Unit.MEGAWATT)).thenReturn(-1100.);
+        when(mockedPrePerimeterResult.getMargin(cnec, Unit.MEGAWATT)).thenReturn(-100.);
+        when(mockedPrePerimeterResult.getMargin(cnec, TwoSides.TWO, Unit.MEGAWATT)).thenReturn(-100.);
+        when(mockedPrePerimeterResult.getSensitivityValue(cnec, TwoSides.TWO, ara1, Unit.MEGAWATT)).thenReturn(50.);
+        when(mockedPrePerimeterResult.getSensitivityValue(cnec, TwoSides.TWO, ara2, Unit.MEGAWATT)).thenReturn(50.);
+        double initialSetpoint = ara1.getCurrentSetpoint(network);
+
+        AutomatonSimulator.RangeAutomatonSimulationResult shiftResult =
+            automatonSimulator.shiftRangeActionsUntilFlowCnecsSecure(List.of(ara1, ara2), Set.of(cnec), network, mockedPreAutoPerimeterSensitivityAnalysis, mockedPrePerimeterResult, autoState);
+        // the shift is undone and the last complete result is returned
+        assertSame(mockedPrePerimeterResult, shiftResult.perimeterResult());
+        assertTrue(shiftResult.activatedRangeActions().isEmpty());
+        assertTrue(shiftResult.rangeActionsWithSetpoint().isEmpty());
+        assertEquals(initialSetpoint, ara1.getCurrentSetpoint(network), DOUBLE_TOLERANCE);
+        assertEquals(initialSetpoint, ara2.getCurrentSetpoint(network), DOUBLE_TOLERANCE);
+        verify(mockedPreAutoPerimeterSensitivityAnalysis, never()).runBasedOnInitialResults(any(), any(), any(), any(), any());
+    }
+
     @Test
     void testSimulateRangeAutomatons() {
         State curativeState = mock(State.class);
@@ -38,6 +38,7 @@ import java.util.Map;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 
@@ -84,7 +85,7 @@ class PrePerimeterSensitivityAnalysisTest {
         SystematicSensitivityInterface sensitivityInterface = Mockito.mock(SystematicSensitivityInterface.class);
         when(sensitivityInterface.run(network)).thenReturn(sensitivityResult);
         when(sensitivityResult.getStatus()).thenReturn(SystematicSensitivityResult.SensitivityComputationStatus.SUCCESS);
-        when(toolProvider.getSystematicSensitivityInterface(any(), any(), eq(withPtdf), eq(withLf), any(), any())).thenReturn(sensitivityInterface);
+        when(toolProvider.getSystematicSensitivityInterface(any(), any(), eq(withPtdf), eq(withLf), any(), any(), anyInt())).thenReturn(sensitivityInterface);
     }
 
     @Test
@@ -158,4 +159,19 @@ class PrePerimeterSensitivityAnalysisTest {
         assertNotNull(result.getSensitivityResult());
         assertEquals(Map.of(cnec, Map.of(TwoSides.ONE, 0.987)), result.getFlowResult().getPtdfZonalSums());
     }
+
+    @Test
+    void testRunFlowsOnly() {
+        raoParameters.getObjectiveFunctionParameters().setType(ObjectiveFunctionParameters.ObjectiveFunctionType.MAX_MIN_MARGIN_IN_AMPERE);
+        SystematicSensitivityResult sensitivityResult = Mockito.mock(SystematicSensitivityResult.class);
+        SystematicSensitivityInterface sensitivityInterface = Mockito.mock(SystematicSensitivityInterface.class);
+        when(sensitivityInterface.run(network)).thenReturn(sensitivityResult);
+        when(sensitivityResult.getStatus()).thenReturn(SystematicSensitivityResult.SensitivityComputationStatus.SUCCESS);
+        // no sensitivity factor is defined on the range actions
+        when(toolProvider.getSystematicSensitivityInterface(any(), eq(Collections.emptySet()), eq(false), eq(false), any(), any(), anyInt())).thenReturn(sensitivityInterface);
+
+        PrePerimeterResult result = prePerimeterSensitivityAnalysis.runFlowsOnlyBasedOnInitialResults(network, crac, optimizationResult, Collections.emptySet(), new AppliedRemedialActions());
+        assertNotNull(result.getFlowResult());
+        assertEquals(crac.getRangeActions(), result.getRangeActions());
+    }
 }
@@ -24,7 +24,10 @@ import org.mockito.Mockito;
 import org.mockito.stubbing.Answer;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -43,13 +46,13 @@ class AbsolutePtdfSumsComputationTest {
     public void setUp() {
 
         systematicSensitivityResult = Mockito.mock(SystematicSensitivityResult.class);
-        Mockito.when(systematicSensitivityResult.getSensitivityOnFlow(Mockito.any(SensitivityVariableSet.class), Mockito.any(FlowCnec.class), Mockito.any(TwoSides.class)))
+        Mockito.when(systematicSensitivityResult.getSensitivityOnFlow(Mockito.anyString(), Mockito.any(FlowCnec.class), Mockito.any(TwoSides.class)))
             .thenAnswer(
                 (Answer<Double>) invocation -> {
-                    SensitivityVariableSet linearGlsk = (SensitivityVariableSet) invocation.getArguments()[0];
+                    String glskId = (String) invocation.getArguments()[0];
                     FlowCnec branchCnec = (FlowCnec) invocation.getArguments()[1];
                     if (branchCnec.getId().contains("cnec1")) {
-                        return switch (linearGlsk.getId().substring(0, EICode.EIC_LENGTH)) {
+                        return switch (glskId.substring(0, EICode.EIC_LENGTH)) {
                             case "10YFR-RTE------C", "22Y201903144---9" -> 0.1;
                             case "10YBE----------2" -> 0.2;
                             case "10YCB-GERMANY--8" -> 0.3;
@@ -57,7 +60,7 @@ class AbsolutePtdfSumsComputationTest {
                             default -> 0.;
                         };
                     } else if (branchCnec.getId().contains("cnec2")) {
-                        return switch (linearGlsk.getId().substring(0, EICode.EIC_LENGTH)) {
+                        return switch (glskId.substring(0, EICode.EIC_LENGTH)) {
                             case "10YFR-RTE------C", "10YBE----------2" -> 0.3;
                             case "10YCB-GERMANY--8" -> 0.2;
                             case "22Y201903145---4" -> 0.1;
@@ -68,6 +71,7 @@ class AbsolutePtdfSumsComputationTest {
                         return 0.;
                     }
                 });
+        mockIndexedSensitivities(systematicSensitivityResult);
     }
 
     @Test
@@ -117,4 +121,78 @@ class AbsolutePtdfSumsComputationTest {
         assertEquals(0.5, ptdfSums.get(crac.getFlowCnec("cnec1basecase")).get(TwoSides.TWO), DOUBLE_TOLERANCE); // abs(0.1 - 0.2) + abs(0.1 - 0.3) + abs(0.3 - 0.2) + abs(0.2 - 0.3) = 0.1 + 0.2 + 0.1 + 0.1
         assertEquals(0.3, ptdfSums.get(crac.getFlowCnec("cnec2basecase")).get(TwoSides.ONE), DOUBLE_TOLERANCE); // abs(0.3 - 0.3) + abs(0.3 - 0.2) + abs(0.2 - 0.3) + abs(0.3 - 0.2) = 0 + 0.1 + 0.1 + 0.1
     }
+
+    @Test
+    void testSameResultsAsMapBasedComputation() {
+        Network network = NetworkImportsUtil.import12NodesNetwork();
+        ZonalData<SensitivityVariableSet> glskProvider = UcteGlskDocument.importGlsk(getClass().getResourceAsStream("/glsk/glsk_proportional_12nodes_with_alegro.xml"))
+                .getZonalGlsks(network, Instant.parse("2016-07-28T22:30:00Z"));
+        Crac crac = CommonCracCreation.create(Set.of(TwoSides.ONE, TwoSides.TWO));
+        List<ZoneToZonePtdfDefinition> boundaries = Arrays.asList(
+                new ZoneToZonePtdfDefinition("{FR}-{BE}"),
+                new ZoneToZonePtdfDefinition("{FR}-{DE}"),
+                new ZoneToZonePtdfDefinition("{DE}-{BE}"),
+                new ZoneToZonePtdfDefinition("{BE}-{22Y201903144---9}-{DE}+{22Y201903145---4}"),
+                new ZoneToZonePtdfDefinition("{BE}-{22Y201903144---0}-{DE}+{22Y201903144---1}"), // two zones without GLSK
+                new ZoneToZonePtdfDefinition("{FR}-{ES}")); // ES has no GLSK
+        // all the PTDFs of the CNECs which are neither cnec1 nor cnec2 are zero
+
+        AbsolutePtdfSumsComputation absolutePtdfSumsComputation = new AbsolutePtdfSumsComputation(glskProvider, boundaries);
+        Map<FlowCnec, Map<TwoSides, Double>> ptdfSums = absolutePtdfSumsComputation.computeAbsolutePtdfSums(crac.getFlowCnecs(), systematicSensitivityResult);
+        Map<FlowCnec, Map<TwoSides, Double>> expectedPtdfSums = computeAbsolutePtdfSumsWithMaps(glskProvider, boundaries, crac.getFlowCnecs(), systematicSensitivityResult);
+
+        assertEquals(expectedPtdfSums.keySet(), ptdfSums.keySet());
+        expectedPtdfSums.forEach((flowCnec, expectedSums) -> {
+            assertEquals(expectedSums.keySet(), ptdfSums.get(flowCnec).keySet());
+            expectedSums.forEach((side, expectedSum) -> assertEquals(expectedSum, ptdfSums.get(flowCnec).get(side), 1e-9));
+        });
+    }
+
+    /**
+     * Former computation of the PTDF sums, which built a map of zone-to-slack PTDFs for each CNEC and side
+     */
+    private static Map<FlowCnec, Map<TwoSides, Double>> computeAbsolutePtdfSumsWithMaps(ZonalData<SensitivityVariableSet> glskProvider, List<ZoneToZonePtdfDefinition> zTozPtdfs, Set<FlowCnec> flowCnecs, SystematicSensitivityResult sensitivityResult) {
+        Map<FlowCnec, Map<TwoSides, Double>> ptdfSums = new HashMap<>();
+        List<EICode> eiCodesInPtdfs = zTozPtdfs.stream().flatMap(zToz -> zToz.getEiCodes().stream()).toList();
+        for (FlowCnec flowCnec : flowCnecs) {
+            flowCnec.getMonitoredSides().forEach(side -> {
+                Map<EICode, Double> ptdfMap = new HashMap<>();
+                for (EICode eiCode : eiCodesInPtdfs) {
+                    SensitivityVariableSet linearGlsk = glskProvider.getData(eiCode.getAreaCode());
+                    if (linearGlsk != null) {
+                        ptdfMap.put(eiCode, sensitivityResult.getSensitivityOnFlow(linearGlsk, flowCnec, side));
+                    }
+                }
+                double sumOfZToZPtdf = zTozPtdfs.stream().mapToDouble(zToz -> {
+                    List<Double> zoneToSlackPtdfs = zToz.getZoneToSlackPtdfs().stream()
+                        .filter(zToS -> ptdfMap.containsKey(zToS.getEiCode()))
+                        .map(zToS -> zToS.getWeight() * ptdfMap.get(zToS.getEiCode()))
+                        .toList();
+                    return zoneToSlackPtdfs.size() < 2 ? 0. : Math.abs(zoneToSlackPtdfs.stream().mapToDouble(v -> v).sum());
+                }).sum();
+                ptdfSums.computeIfAbsent(flowCnec, k -> new EnumMap<>(TwoSides.class)).put(side, sumOfZToZPtdf);
+            });
+        }
+        return ptdfSums;
+    }
+
+    /**
+     * Answers the getters by GLSK and by variable indices with the sensitivities mocked by variable id
+     */
+    private static void mockIndexedSensitivities(SystematicSensitivityResult sensitivityResult) {
+        List<String> variableIds = new ArrayList<>();
+        Mockito.when(sensitivityResult.getVariableIndex(Mockito.anyString())).thenAnswer(invocation -> {
+            String variableId = invocation.getArgument(0, String.class);
+            if (!variableIds.contains(variableId)) {
+                variableIds.add(variableId);
+            }
+            return variableIds.indexOf(variableId);
+        });
+        Mockito.when(sensitivityResult.getSensitivityOnFlow(Mockito.any(SensitivityVariableSet.class), Mockito.any(FlowCnec.class), Mockito.any(TwoSides.class)))
+            .thenAnswer(invocation -> sensitivityResult.getSensitivityOnFlow(invocation.getArgument(0, SensitivityVariableSet.class).getId(), invocation.getArgument(1, FlowCnec.class), invocation.getArgument(2, TwoSides.class)));
+        Mockito.when(sensitivityResult.getSensitivitiesOnFlow(Mockito.any(int[].class), Mockito.any(FlowCnec.class), Mockito.any(TwoSides.class)))
+            .thenAnswer(invocation -> Arrays.stream(invocation.getArgument(0, int[].class))
+                .mapToDouble(variableIndex -> sensitivityResult.getSensitivityOnFlow(variableIds.get(variableIndex), invocation.getArgument(1, FlowCnec.class), invocation.getArgument(2, TwoSides.class)))
+                .toArray());
+    }
 }
@@ -23,6 +23,8 @@ import com.powsybl.openrao.raoapi.parameters.RaoParameters;
 import com.powsybl.openrao.sensitivityanalysis.SystematicSensitivityInterface;
 import com.powsybl.iidm.network.Country;
 import com.powsybl.iidm.network.Network;
+import com.powsybl.loadflow.LoadFlowParameters;
+import com.powsybl.sensitivity.SensitivityAnalysisParameters;
 import com.powsybl.sensitivity.SensitivityVariableSet;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -99,6 +101,24 @@ class ToolProviderTest {
         assertEquals(Set.of("10YFR-RTE------C", "10YES-REE------0", "10YBE----------2"), toolProvider.getEicForObjectiveFunction());
     }
 
+    @Test
+    void testGetDcSensitivityParameters() {
+        SensitivityAnalysisParameters sensitivityParameters = raoParameters.getLoadFlowAndSensitivityParameters().getSensitivityWithLoadFlowParameters();
+        sensitivityParameters.setFlowFlowSensitivityValueThreshold(0.05);
+        sensitivityParameters.getLoadFlowParameters().setDc(false).setBalanceType(LoadFlowParameters.BalanceType.PROPORTIONAL_TO_LOAD);
+        ToolProvider toolProvider = ToolProvider.create()
+                .withNetwork(network)
+                .withRaoParameters(raoParameters)
+                .build();
+
+        SensitivityAnalysisParameters dcSensitivityParameters = toolProvider.getDcSensitivityParameters();
+        assertTrue(dcSensitivityParameters.getLoadFlowParameters().isDc());
+        assertEquals(0.05, dcSensitivityParameters.getFlowFlowSensitivityValueThreshold(), 1e-6);
+        assertEquals(LoadFlowParameters.BalanceType.PROPORTIONAL_TO_LOAD, dcSensitivityParameters.getLoadFlowParameters().getBalanceType());
+        // the parameters of the RAO are not modified
+        assertFalse(sensitivityParameters.getLoadFlowParameters().isDc());
+    }
+
     @Test
     void testGetEicForLoopFlows() {
         ReferenceProgram referenceProgram = Mockito.mock(ReferenceProgram.class);
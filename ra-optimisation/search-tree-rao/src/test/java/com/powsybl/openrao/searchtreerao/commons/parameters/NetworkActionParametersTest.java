@@ -43,6 +43,8 @@ class NetworkActionParametersTest {
         raoParameters.getTopoOptimizationParameters().setRelativeMinImpactThreshold(0.01);
         raoParameters.getTopoOptimizationParameters().setSkipActionsFarFromMostLimitingElement(true);
         raoParameters.getTopoOptimizationParameters().setMaxNumberOfBoundariesForSkippingActions(4);
+        raoParameters.getTopoOptimizationParameters().setAdaptiveActionsPrioritization(true);
+        raoParameters.getTopoOptimizationParameters().setMaxNumberOfLeavesAfterPreScreening(10);
 
         NetworkActionParameters nap = NetworkActionParameters.buildFromRaoParameters(raoParameters.getTopoOptimizationParameters(), crac);
 
@@ -55,6 +57,8 @@ class NetworkActionParametersTest {
         assertEquals(0.01, nap.getRelativeNetworkActionMinimumImpactThreshold(), 1e-6);
         assertTrue(nap.skipNetworkActionFarFromMostLimitingElements());
         assertEquals(4, nap.getMaxNumberOfBoundariesForSkippingNetworkActions());
+        assertTrue(nap.useAdaptiveNetworkActionPrioritization());
+        assertEquals(10, nap.getMaxNumberOfLeavesAfterPreScreening());
 
         Set<NetworkAction> naSet = Set.of(Mockito.mock(NetworkAction.class), Mockito.mock(NetworkAction.class));
         NetworkActionCombination naCombination = new NetworkActionCombination(naSet);
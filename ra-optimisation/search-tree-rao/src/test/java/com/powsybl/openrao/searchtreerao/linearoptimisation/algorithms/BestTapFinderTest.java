@@ -101,26 +101,20 @@ class BestTapFinderTest {
         when(pstRangeAction.convertAngleToTap(setPoint)).thenReturn(tapPosition);
     }
 
-    private void setMarginsForTap(PstRangeAction pstRangeAction, int tap, double marginForCnec1, double marginForCnec2) {
-        mockMarginOnCnec1(pstRangeAction, tap, marginForCnec1);
-        mockMarginOnCnec2(pstRangeAction, tap, marginForCnec2);
+    private void setLowerBounds(double lowerBoundOnCnec1, double lowerBoundOnCnec2) {
+        when(cnec1.getLowerBound(TwoSides.ONE, Unit.MEGAWATT)).thenReturn(Optional.of(lowerBoundOnCnec1));
+        when(cnec2.getLowerBound(TwoSides.TWO, Unit.MEGAWATT)).thenReturn(Optional.of(lowerBoundOnCnec2));
     }
 
-    private void mockMarginOnCnec1(PstRangeAction pstRangeAction, int tap, double margin) {
-        double flow = REF_FLOW_1 + (pstRangeAction.convertTapToAngle(tap) - INITIAL_PST_SET_POINT) * SENSI_1;
-        when(cnec1.computeMargin(flow, TwoSides.ONE, Unit.MEGAWATT)).thenReturn(margin);
+    private void setUpperBounds(double upperBoundOnCnec1, double upperBoundOnCnec2) {
+        when(cnec1.getUpperBound(TwoSides.ONE, Unit.MEGAWATT)).thenReturn(Optional.of(upperBoundOnCnec1));
+        when(cnec2.getUpperBound(TwoSides.TWO, Unit.MEGAWATT)).thenReturn(Optional.of(upperBoundOnCnec2));
     }
 
-    private void mockMarginOnCnec2(PstRangeAction pstRangeAction, int tap, double margin) {
-        double flow = REF_FLOW_2 + (pstRangeAction.convertTapToAngle(tap) - INITIAL_PST_SET_POINT) * SENSI_2;
-        when(cnec2.computeMargin(flow, TwoSides.TWO, Unit.MEGAWATT)).thenReturn(margin);
-    }
-
-    private Map<Integer, Double> computeMinMarginsForBestTaps(double startingSetPoint) {
-        return BestTapFinder.computeMinMarginsForBestTaps(
+    private Map<PstRangeAction, Integer> computeBestTaps(Map<PstRangeAction, Double> optimizedAngles) {
+        return BestTapFinder.computeBestTaps(
             network,
-            pstRangeAction,
-            startingSetPoint,
+            optimizedAngles,
             linearOptimizationResult,
             Unit.MEGAWATT
         );
@@ -157,124 +151,97 @@ class BestTapFinderTest {
         return pst;
     }
 
-    @Test
-    void testMarginWhenTheSetPointIsTooFarFromTheMiddle() {
-        // Set point is really close to tap 1, so there is no computation and margin is considered the best for tap 1
-        double startingSetPoint = 0.8;
-        setClosestTapPosition(pstRangeAction, startingSetPoint, 1);
-        setMarginsForTap(pstRangeAction, 1, 100, 120);
-        setMarginsForTap(pstRangeAction, 2, 150, 50);
+    // With a PST set point of 1.2, the flows are the following for each tap:
+    // tap 1 (0.75) : 95.5 MW on cnec1, -382 MW on cnec2
+    // tap 2 (2.5) : 113 MW on cnec1, -452 MW on cnec2
 
-        Map<Integer, Double> marginsForBestTaps = computeMinMarginsForBestTaps(startingSetPoint);
-
-        assertEquals(1, marginsForBestTaps.size());
-        assertEquals(Double.MAX_VALUE, marginsForBestTaps.get(1), DOUBLE_TOLERANCE);
+    @Test
+    void testCandidateTapsWhenTheSetPointIsTooFarFromTheMiddle() {
+        // Set point is really close to tap 1, so the other tap is not considered
+        setClosestTapPosition(pstRangeAction, 0.8, 1);
+        assertEquals(List.of(1), BestTapFinder.computeCandidateTaps(pstRangeAction, 0.8));
     }
 
     @Test
-    void testMarginsWithOtherTapDecreasingTheMinMargin() {
+    void testCandidateTapsCloseToTheMiddle() {
         // Set point is close enough to the middle of the range between tap 1 and 2, so we consider the two taps
-        // The closest tap is still 1, and the next tap worsen the margin so it is not considered
-        double startingSetPoint = 1.5;
-        setClosestTapPosition(pstRangeAction, startingSetPoint, 1);
-        setMarginsForTap(pstRangeAction, 1, 100, 120);
-        setMarginsForTap(pstRangeAction, 2, 150, 50);
-
-        Map<Integer, Double> marginsForBestTaps = computeMinMarginsForBestTaps(startingSetPoint);
+        setClosestTapPosition(pstRangeAction, 1.5, 1);
+        assertEquals(List.of(1, 2), BestTapFinder.computeCandidateTaps(pstRangeAction, 1.5));
+    }
 
-        assertEquals(1, marginsForBestTaps.size());
-        assertEquals(Double.MAX_VALUE, marginsForBestTaps.get(1), DOUBLE_TOLERANCE);
+    @Test
+    void testCandidateTapsOnUpperBound() {
+        // The closest tap is 2 which is the upper bound, the other tap is 1
+        setClosestTapPosition(pstRangeAction, 1.7, 2);
+        assertEquals(List.of(2, 1), BestTapFinder.computeCandidateTaps(pstRangeAction, 1.7));
     }
 
     @Test
-    void testMarginsWithOtherTapIncreasingTheMinMargin() {
-        // Set point is close enough to the middle of the range between tap 1 and 2, so we consider the two taps
-        // The closest tap is still 1, and the other tap increases the margin so it is considered
-        double startingSetPoint = 1.5;
-        setClosestTapPosition(pstRangeAction, startingSetPoint, 1);
-        setMarginsForTap(pstRangeAction, 1, 100, 120);
-        setMarginsForTap(pstRangeAction, 2, 150, 120);
+    void testCandidateTapsOnLowerBound() {
+        // The closest tap is -2 which is the lower bound, the other tap is -1
+        setClosestTapPosition(pstRangeAction, -1.7, -2);
+        assertEquals(List.of(-2, -1), BestTapFinder.computeCandidateTaps(pstRangeAction, -1.7));
+    }
 
-        Map<Integer, Double> marginsForBestTaps = computeMinMarginsForBestTaps(startingSetPoint);
+    @Test
+    void testBestTapWithOtherTapDecreasingTheMinMargin() {
+        // min margin is 104.5 with tap 1 and 48 with tap 2
+        setClosestTapPosition(pstRangeAction, 1.5, 1);
+        setUpperBounds(200, 1000);
+        setLowerBounds(-1000, -500);
 
-        assertEquals(2, marginsForBestTaps.size());
-        assertEquals(100, marginsForBestTaps.get(1), DOUBLE_TOLERANCE);
-        assertEquals(120, marginsForBestTaps.get(2), DOUBLE_TOLERANCE);
+        assertEquals(Map.of(pstRangeAction, 1), computeBestTaps(Map.of(pstRangeAction, 1.5)));
     }
 
     @Test
-    void testMarginsWithOtherTapIncreasingTheMinMarginWithNegativeMargins() {
-        // Set point is close enough to the middle of the range between tap 1 and 2, so we consider the two taps
-        // The closest tap is still 1, and the next tap increase the margin so it is considered
-        double startingSetPoint = 1.5;
-        setClosestTapPosition(pstRangeAction, startingSetPoint, 1);
-        setMarginsForTap(pstRangeAction, 1, -200, -250);
-        setMarginsForTap(pstRangeAction, 2, 100, -120);
+    void testBestTapWithOtherTapIncreasingTheMinMargin() {
+        // min margin is 95.5 with tap 1 and 113 with tap 2
+        setClosestTapPosition(pstRangeAction, 1.5, 1);
+        setLowerBounds(0, -600);
 
-        Map<Integer, Double> marginsForBestTaps = computeMinMarginsForBestTaps(startingSetPoint);
-
-        assertEquals(2, marginsForBestTaps.size());
-        assertEquals(-250, marginsForBestTaps.get(1), DOUBLE_TOLERANCE);
-        assertEquals(-120, marginsForBestTaps.get(2), DOUBLE_TOLERANCE);
+        assertEquals(Map.of(pstRangeAction, 2), computeBestTaps(Map.of(pstRangeAction, 1.5)));
     }
 
     @Test
-    void testMarginsWithOtherTapIncreasingTheMinMarginOnUpperBound() {
-        // Set point is close enough to the middle of the range between tap 1 and 2, so we consider the two taps
-        // The closest tap is 2 which is the upper bound, and the other tap increases the margin so it is considered
-        double startingSetPoint = 1.7;
-        setClosestTapPosition(pstRangeAction, startingSetPoint, 2);
-        setMarginsForTap(pstRangeAction, 1, 140, 150);
-        setMarginsForTap(pstRangeAction, 2, 150, 120);
+    void testBestTapWithOtherTapIncreasingTheMinMarginWithNegativeMargins() {
+        // min margin is -104.5 with tap 1 and -87 with tap 2
+        setClosestTapPosition(pstRangeAction, 1.5, 1);
+        setLowerBounds(200, -400);
 
-        Map<Integer, Double> marginsForBestTaps = computeMinMarginsForBestTaps(startingSetPoint);
-
-        assertEquals(2, marginsForBestTaps.size());
-        assertEquals(140, marginsForBestTaps.get(1), DOUBLE_TOLERANCE);
-        assertEquals(120, marginsForBestTaps.get(2), DOUBLE_TOLERANCE);
+        assertEquals(Map.of(pstRangeAction, 2), computeBestTaps(Map.of(pstRangeAction, 1.5)));
     }
 
     @Test
-    void testMarginsWithOtherTapIncreasingTheMinMarginOnLowerBound() {
-        // Set point is close enough to the middle of the range between tap -1 and -2, so we consider the two taps
-        // The closest tap is -2 which is the lower bound, and the other tap increases the margin so it is considered
-        double startingSetPoint = -1.7;
-        setClosestTapPosition(pstRangeAction, startingSetPoint, -2);
-        setMarginsForTap(pstRangeAction, -1, 140, 150);
-        setMarginsForTap(pstRangeAction, -2, 150, 120);
-
-        Map<Integer, Double> marginsForBestTaps = computeMinMarginsForBestTaps(startingSetPoint);
-
-        assertEquals(2, marginsForBestTaps.size());
-        assertEquals(140, marginsForBestTaps.get(-1), DOUBLE_TOLERANCE);
-        assertEquals(120, marginsForBestTaps.get(-2), DOUBLE_TOLERANCE);
+    void testBestTapOfPstGroup() {
+        // both PSTs of the group move together: min margin is 91 with tap 1 and 96 with tap 2
+        PstRangeAction pst1 = createPstWithGroupId("group1");
+        PstRangeAction pst2 = createPstWithGroupId("group1");
+        setClosestTapPosition(pst1, 1.5, 1);
+        setClosestTapPosition(pst2, 1.5, 1);
+        setLowerBounds(0, -600);
+
+        Map<PstRangeAction, Double> optimizedAngles = new LinkedHashMap<>();
+        optimizedAngles.put(pst1, 1.5);
+        optimizedAngles.put(pst2, 1.5);
+        assertEquals(Map.of(pst1, 2, pst2, 2), computeBestTaps(optimizedAngles));
     }
 
     @Test
-    void testComputeBestTapPerPstGroup() {
+    void testBestTapsTakeInteractionsBetweenPstsIntoAccount() {
+        // Taken separately, each PST would be set to tap 2 (min margin of 98 instead of 95.5 with tap 1)
+        // But the min margin is only 46 if both PSTs are set to tap 2, and 108.5 if only one of them is
         PstRangeAction pst1 = createPst();
-        PstRangeAction pst2 = createPstWithGroupId("group1");
-        PstRangeAction pst3 = createPstWithGroupId("group1");
-        PstRangeAction pst4 = createPstWithGroupId("group2");
-        PstRangeAction pst5 = createPstWithGroupId("group2");
-        PstRangeAction pst6 = createPstWithGroupId("group2");
-        PstRangeAction pst7 = createPstWithGroupId("group2");
-
-        Map<PstRangeAction, Map<Integer, Double>> minMarginPerTap = new HashMap<>();
-        minMarginPerTap.put(pst1, Map.of(3, 100., 4, 500.));
-
-        minMarginPerTap.put(pst2, Map.of(3, 100., 4, 500.));
-        minMarginPerTap.put(pst3, Map.of(3, 110., 4, 50.));
-
-        minMarginPerTap.put(pst4, Map.of(-10, -30., -11, -80.));
-        minMarginPerTap.put(pst5, Map.of(-10, -40., -11, -20.));
-        minMarginPerTap.put(pst6, Map.of(-10, -70., -11, 200.));
-        minMarginPerTap.put(pst7, Map.of(-11, Double.MAX_VALUE));
-
-        Map<String, Integer> bestTapPerPstGroup = BestTapFinder.computeBestTapPerPstGroup(minMarginPerTap);
-        assertEquals(2, bestTapPerPstGroup.size());
-        assertEquals(3, bestTapPerPstGroup.get("group1").intValue());
-        assertEquals(-10, bestTapPerPstGroup.get("group2").intValue());
+        PstRangeAction pst2 = createPst();
+        setClosestTapPosition(pst1, 1.5, 1);
+        setClosestTapPosition(pst2, 1.5, 1);
+        setLowerBounds(0, -550);
+
+        Map<PstRangeAction, Double> optimizedAngles = new LinkedHashMap<>();
+        optimizedAngles.put(pst1, 1.5);
+        optimizedAngles.put(pst2, 1.5);
+        Map<PstRangeAction, Integer> bestTaps = computeBestTaps(optimizedAngles);
+        assertEquals(2, bestTaps.get(pst1).intValue());
+        assertEquals(1, bestTaps.get(pst2).intValue());
     }
 
     @Test
@@ -282,8 +249,7 @@ class BestTapFinderTest {
         double startingSetPoint = 0.;
         double notRoundedSetpoint = 1.7;
         setClosestTapPosition(pstRangeAction, notRoundedSetpoint, 2);
-        setMarginsForTap(pstRangeAction, 1, 140, 150); // Tap 1 should be selected because min margin is 140
-        setMarginsForTap(pstRangeAction, 2, 150, 120);
+        setLowerBounds(0, -500); // Tap 1 should be selected because min margin is 95.5 (48 with tap 2)
 
         RangeAction<?> activatedRangeActionOtherThanPst = Mockito.mock(RangeAction.class);
         when(activatedRangeActionOtherThanPst.getId()).thenReturn("notPst");
@@ -313,8 +279,7 @@ class BestTapFinderTest {
         double startingSetPoint = 0.;
         double notRoundedSetpoint = 1.7;
         setClosestTapPosition(pstRangeAction, notRoundedSetpoint, 2);
-        setMarginsForTap(pstRangeAction, 1, 120, 150);
-        setMarginsForTap(pstRangeAction, 2, 150, 140); // Tap 2 should be selected because min margin is 140
+        setLowerBounds(0, -600); // Tap 2 should be selected because min margin is 113 (95.5 with tap 1)
 
         RangeAction<?> activatedRangeActionOtherThanPst = Mockito.mock(RangeAction.class);
         when(activatedRangeActionOtherThanPst.getId()).thenReturn("notPst");
@@ -345,8 +310,7 @@ class BestTapFinderTest {
         double notRoundedSetpoint = 0.8;
         // Starting point is really close to set point of tap 1 so it will be set to tap 1
         setClosestTapPosition(pstRangeAction, notRoundedSetpoint, 1);
-        setMarginsForTap(pstRangeAction, 1, 120, 150);
-        setMarginsForTap(pstRangeAction, 2, 150, 140); // Tap 2 would be ignored even if result is better
+        setLowerBounds(0, -600); // Tap 2 would be ignored even if result is better
 
         RangeAction<?> activatedRangeActionOtherThanPst = Mockito.mock(RangeAction.class);
         when(activatedRangeActionOtherThanPst.getId()).thenReturn("notPst");
@@ -375,19 +339,15 @@ class BestTapFinderTest {
     void testUpdatedRangeActionResultWithGroups() {
         double startingSetPoint = 0.;
         double notRoundedSetpoint = 0.8;
-        setClosestTapPosition(pstRangeAction, notRoundedSetpoint, 2);
-        setMarginsForTap(pstRangeAction, 1, 120, 150);
-        setMarginsForTap(pstRangeAction, 2, 150, 140); // Tap 2 should be selected because min margin is 140
+        setClosestTapPosition(pstRangeAction, notRoundedSetpoint, 2); // Tap 2 is the only candidate
 
         PstRangeAction pstGroup1 = createPstWithGroupId("group1");
         PstRangeAction pstGroup2 = createPstWithGroupId("group1");
         double groupNotRoundedSetpoint = -0.4;
         setClosestTapPosition(pstGroup1, groupNotRoundedSetpoint, -1);
-        setMarginsForTap(pstGroup1, -1, 120, 150);
-        setMarginsForTap(pstGroup1, 0, 150, 140); // Tap 0 should be selected because min margin is 140
         setClosestTapPosition(pstGroup2, groupNotRoundedSetpoint, -1);
-        setMarginsForTap(pstGroup2, -1, 120, 150);
-        setMarginsForTap(pstGroup2, 0, 150, 140); // Tap 0 should be selected because min margin is 140
+        // With pstRangeAction on tap 2, tap 0 should be selected for the group because min margin is 89 (74 with tap -1)
+        setLowerBounds(0, -600);
 
         rangeActionSetpointResult = new RangeActionSetpointResultImpl(Map.of(
             pstRangeAction, startingSetPoint,
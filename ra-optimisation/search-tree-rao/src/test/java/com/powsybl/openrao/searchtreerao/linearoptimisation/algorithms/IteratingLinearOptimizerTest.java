@@ -285,6 +285,23 @@ class IteratingLinearOptimizerTest {
         assertEquals(5, result.getOptimizedSetpoint(rangeAction, optimizedState), DOUBLE_TOLERANCE);
     }
 
+    @Test
+    void deadlineReachedKeepsBestIteration() {
+        // the first iteration is always run, the following ones only before the deadline
+        when(input.getDeadline()).thenReturn(java.time.Instant.now().minusSeconds(1));
+        mockLinearProblem(Collections.nCopies(5, LinearProblemStatus.OPTIMAL), List.of(1., 2., 3., 4., 5.));
+        mockFunctionalCost(100., 90., 80., 70., 60., 50.);
+        prepareLinearProblemBuilder();
+
+        LinearOptimizationResult result = IteratingLinearOptimizer.optimize(input, parameters);
+
+        assertEquals(LinearProblemStatus.FEASIBLE, result.getStatus());
+        assertEquals(1, ((IteratingLinearOptimizationResultImpl) result).getNbOfIteration());
+        assertEquals(90, result.getFunctionalCost(), DOUBLE_TOLERANCE);
+        assertEquals(1, result.getOptimizedSetpoint(rangeAction, optimizedState), DOUBLE_TOLERANCE);
+        verify(linearProblem, times(1)).solve();
+    }
+
     @Test
     void optimizeWithInfeasibility() {
         mockLinearProblem(List.of(LinearProblemStatus.OPTIMAL, LinearProblemStatus.INFEASIBLE), List.of(1.));
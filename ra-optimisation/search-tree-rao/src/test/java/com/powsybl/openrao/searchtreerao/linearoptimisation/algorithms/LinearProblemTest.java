@@ -13,8 +13,12 @@ import com.powsybl.openrao.data.crac.api.cnec.FlowCnec;
 import com.powsybl.iidm.network.TwoSides;
 import com.powsybl.openrao.data.crac.api.rangeaction.PstRangeAction;
 import com.powsybl.openrao.raoapi.parameters.RangeActionsOptimizationParameters;
+import com.powsybl.openrao.searchtreerao.linearoptimisation.algorithms.fillers.ProblemFiller;
 import com.powsybl.openrao.searchtreerao.linearoptimisation.algorithms.linearproblem.LinearProblem;
 import com.powsybl.openrao.searchtreerao.linearoptimisation.algorithms.linearproblem.LinearProblemBuilder;
+import com.powsybl.openrao.searchtreerao.result.api.FlowResult;
+import com.powsybl.openrao.searchtreerao.result.api.RangeActionActivationResult;
+import com.powsybl.openrao.searchtreerao.result.api.SensitivityResult;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -242,4 +246,22 @@ class LinearProblemTest {
     void objectiveTest() {
         assertNotNull(linearProblem.getObjective());
     }
+
+    @Test
+    void updateBetweenSensiIterationKeepsModelTest() {
+        ProblemFiller filler = Mockito.mock(ProblemFiller.class);
+        FlowResult flowResult = Mockito.mock(FlowResult.class);
+        SensitivityResult sensitivityResult = Mockito.mock(SensitivityResult.class);
+        RangeActionActivationResult rangeActionActivationResult = Mockito.mock(RangeActionActivationResult.class);
+        linearProblem = new LinearProblemBuilder().withSolver(RangeActionsOptimizationParameters.Solver.SCIP).withProblemFiller(filler).build();
+
+        linearProblem.fill(flowResult, sensitivityResult);
+        linearProblem.addFlowVariable(LB, UB, cnec, TwoSides.ONE);
+        linearProblem.updateBetweenSensiIteration(flowResult, sensitivityResult, rangeActionActivationResult);
+
+        // the problem has not been rebuilt: the fillers only updated it
+        Mockito.verify(filler, Mockito.times(1)).fill(Mockito.eq(linearProblem), Mockito.any(), Mockito.any(), Mockito.any());
+        Mockito.verify(filler, Mockito.times(1)).updateBetweenSensiIteration(linearProblem, flowResult, sensitivityResult, rangeActionActivationResult);
+        assertNotNull(linearProblem.getFlowVariable(cnec, TwoSides.ONE));
+    }
 }
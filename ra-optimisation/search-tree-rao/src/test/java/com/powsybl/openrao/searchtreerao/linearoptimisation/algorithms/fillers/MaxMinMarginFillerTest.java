@@ -18,6 +18,7 @@ import com.powsybl.openrao.searchtreerao.linearoptimisation.algorithms.linearpro
 import com.powsybl.openrao.searchtreerao.linearoptimisation.algorithms.linearproblem.OpenRaoMPVariable;
 import com.powsybl.openrao.searchtreerao.linearoptimisation.algorithms.linearproblem.LinearProblem;
 import com.powsybl.openrao.searchtreerao.linearoptimisation.algorithms.linearproblem.LinearProblemBuilder;
+import com.powsybl.openrao.searchtreerao.result.api.LinearProblemStatus;
 import com.powsybl.openrao.searchtreerao.result.api.RangeActionSetpointResult;
 import com.powsybl.openrao.searchtreerao.result.impl.RangeActionSetpointResultImpl;
 import org.junit.jupiter.api.BeforeEach;
@@ -31,6 +32,7 @@ import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
 
 /**
  * @author Joris Mancini{@literal <joris.mancini at rte-france.com>}
@@ -162,6 +164,38 @@ class MaxMinMarginFillerTest extends AbstractFillerTest {
         assertEquals(5, linearProblem.numConstraints());
     }
 
+    @Test
+    void updateGivesSameSolutionAsRebuild() {
+        createMaxMinMarginFiller(Unit.MEGAWATT);
+        buildLinearProblem();
+        assertEquals(LinearProblemStatus.OPTIMAL, linearProblem.solve());
+        double firstIterationMargin = linearProblem.getMinimumMarginVariable().solutionValue();
+
+        // new sensitivity computation: the existing problem is updated in place
+        when(flowResult.getFlow(cnec1, TwoSides.ONE, Unit.MEGAWATT)).thenReturn(REF_FLOW_CNEC1_IT2);
+        when(sensitivityResult.getSensitivityValue(cnec1, TwoSides.ONE, pstRangeAction, Unit.MEGAWATT)).thenReturn(SENSI_CNEC1_IT2);
+        linearProblem.updateBetweenSensiIteration(flowResult, sensitivityResult, getInitialRangeActionActivationResult());
+        assertEquals(LinearProblemStatus.OPTIMAL, linearProblem.solve());
+
+        LinearProblem rebuiltLinearProblem = new LinearProblemBuilder()
+            .withProblemFiller(coreProblemFiller)
+            .withProblemFiller(maxMinMarginFiller)
+            .withSolver(RangeActionsOptimizationParameters.Solver.SCIP)
+            .withInitialRangeActionActivationResult(getInitialRangeActionActivationResult())
+            .build();
+        rebuiltLinearProblem.fill(flowResult, sensitivityResult);
+        assertEquals(LinearProblemStatus.OPTIMAL, rebuiltLinearProblem.solve());
+
+        State state = cnec1.getState();
+        assertEquals(rebuiltLinearProblem.numVariables(), linearProblem.numVariables());
+        assertEquals(rebuiltLinearProblem.numConstraints(), linearProblem.numConstraints());
+        assertEquals(rebuiltLinearProblem.getMinimumMarginVariable().solutionValue(), linearProblem.getMinimumMarginVariable().solutionValue(), DOUBLE_TOLERANCE);
+        assertEquals(rebuiltLinearProblem.getRangeActionSetpointVariable(pstRangeAction, state).solutionValue(), linearProblem.getRangeActionSetpointVariable(pstRangeAction, state).solutionValue(), DOUBLE_TOLERANCE);
+        assertEquals(rebuiltLinearProblem.getFlowVariable(cnec1, TwoSides.ONE).solutionValue(), linearProblem.getFlowVariable(cnec1, TwoSides.ONE).solutionValue(), DOUBLE_TOLERANCE);
+        // the update has actually changed the problem
+        assertNotEquals(firstIterationMargin, linearProblem.getMinimumMarginVariable().solutionValue(), DOUBLE_TOLERANCE);
+    }
+
     @Test
     void fillWithMissingFlowVariables() {
         createMaxMinMarginFiller(Unit.MEGAWATT);
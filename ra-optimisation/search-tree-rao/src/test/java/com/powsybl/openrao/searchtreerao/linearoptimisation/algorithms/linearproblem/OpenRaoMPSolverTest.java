@@ -9,11 +9,14 @@ package com.powsybl.openrao.searchtreerao.linearoptimisation.algorithms.linearpr
 import com.google.ortools.linearsolver.MPConstraint;
 import com.google.ortools.linearsolver.MPSolver;
 import com.google.ortools.linearsolver.MPVariable;
+import com.powsybl.iidm.network.TwoSides;
 import com.powsybl.openrao.commons.OpenRaoException;
+import com.powsybl.openrao.data.crac.api.cnec.FlowCnec;
 import com.powsybl.openrao.raoapi.parameters.RangeActionsOptimizationParameters;
 import com.powsybl.openrao.searchtreerao.result.api.LinearProblemStatus;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -300,6 +303,52 @@ class OpenRaoMPSolverTest {
         // can't test XPRESS because we need the link to the library
     }
 
+    @Test
+    void testTypedKeys() {
+        FlowCnec cnec = Mockito.mock(FlowCnec.class);
+        Mockito.when(cnec.getId()).thenReturn("cnec");
+        FlowCnec otherInstanceOfCnec = Mockito.mock(FlowCnec.class);
+        Mockito.when(otherInstanceOfCnec.getId()).thenReturn("cnec");
+
+        LinearProblemKey key = LinearProblemKey.ofFlowCnec(LinearProblemKey.Element.FLOW_VARIABLE, cnec, TwoSides.ONE);
+        OpenRaoMPVariable variable = openRaoMPSolver.makeNumVar(-5, 5, key);
+
+        // lookup relies on ids, not on instances
+        assertEquals(variable, openRaoMPSolver.getVariable(LinearProblemKey.ofFlowCnec(LinearProblemKey.Element.FLOW_VARIABLE, otherInstanceOfCnec, TwoSides.ONE)));
+        assertFalse(openRaoMPSolver.hasVariable(LinearProblemKey.ofFlowCnec(LinearProblemKey.Element.FLOW_VARIABLE, cnec, TwoSides.TWO)));
+        assertFalse(openRaoMPSolver.hasConstraint(LinearProblemKey.ofFlowCnec(LinearProblemKey.Element.FLOW_CONSTRAINT, cnec, TwoSides.ONE)));
+
+        // human-readable name is still available
+        assertEquals("cnec_one_flow_variable", variable.name());
+        Exception e = assertThrows(OpenRaoException.class, () -> openRaoMPSolver.makeNumVar(0, 1, key));
+        assertEquals("Variable cnec_one_flow_variable already exists", e.getMessage());
+        e = assertThrows(OpenRaoException.class, () -> openRaoMPSolver.getConstraint(LinearProblemKey.ofFlowCnec(LinearProblemKey.Element.FLOW_CONSTRAINT, cnec, TwoSides.ONE)));
+        assertEquals("Constraint cnec_one_flow_constraint has not been created yet", e.getMessage());
+    }
+
+    @Test
+    void testLookUpTypedKeysByName() {
+        FlowCnec cnec = Mockito.mock(FlowCnec.class);
+        Mockito.when(cnec.getId()).thenReturn("cnec");
+        OpenRaoMPVariable variable = openRaoMPSolver.makeNumVar(-5, 5, LinearProblemKey.ofFlowCnec(LinearProblemKey.Element.FLOW_VARIABLE, cnec, TwoSides.ONE));
+        assertTrue(openRaoMPSolver.hasVariable("cnec_one_flow_variable"));
+        assertEquals(variable, openRaoMPSolver.getVariable("cnec_one_flow_variable"));
+        assertFalse(openRaoMPSolver.hasConstraint("cnec_one_flow_constraint"));
+
+        // the elements created after a first lookup by name are found too
+        OpenRaoMPConstraint constraint = openRaoMPSolver.makeConstraint(LinearProblemKey.ofFlowCnec(LinearProblemKey.Element.FLOW_CONSTRAINT, cnec, TwoSides.ONE));
+        assertEquals(constraint, openRaoMPSolver.getConstraint("cnec_one_flow_constraint"));
+
+        // a name cannot be given to two elements
+        Exception e = assertThrows(OpenRaoException.class, () -> openRaoMPSolver.makeNumVar(0, 1, "cnec_one_flow_variable"));
+        assertEquals("Variable cnec_one_flow_variable already exists", e.getMessage());
+        e = assertThrows(OpenRaoException.class, () -> openRaoMPSolver.makeConstraint("cnec_one_flow_constraint"));
+        assertEquals("Constraint cnec_one_flow_constraint already exists", e.getMessage());
+
+        openRaoMPSolver.resetModel();
+        assertFalse(openRaoMPSolver.hasVariable("cnec_one_flow_variable"));
+    }
+
     @Test
     void testRoundSmallValues() {
         assertEquals(1e-5, OpenRaoMPSolver.roundDouble(1e-5), 1e-12);
@@ -16,6 +16,8 @@ import com.powsybl.sensitivity.SensitivityVariableSet;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static com.powsybl.iidm.network.TwoSides.ONE;
 import static com.powsybl.openrao.commons.Unit.*;
@@ -46,6 +48,21 @@ class SensitivityResultImplTest {
         assertThrows(OpenRaoException.class, () -> sensitivityResultImpl.getSensitivityValue(cnec, ONE, rangeAction, TAP));
     }
 
+    @Test
+    void testSensitivitiesOnSeveralRangeActions() {
+        SystematicSensitivityResult systematicSensitivityResult = Mockito.mock(SystematicSensitivityResult.class);
+        SensitivityResultImpl sensitivityResultImpl = new SensitivityResultImpl(
+                systematicSensitivityResult
+        );
+
+        List<RangeAction<?>> rangeActions = List.of(Mockito.mock(RangeAction.class), Mockito.mock(RangeAction.class));
+        FlowCnec cnec = Mockito.mock(FlowCnec.class);
+        when(systematicSensitivityResult.getSensitivitiesOnFlow(rangeActions, cnec, ONE)).thenReturn(new double[]{8., -3.});
+
+        assertArrayEquals(new double[]{8., -3.}, sensitivityResultImpl.getSensitivityValues(cnec, ONE, rangeActions, MEGAWATT), DOUBLE_TOLERANCE);
+        assertThrows(OpenRaoException.class, () -> sensitivityResultImpl.getSensitivityValues(cnec, ONE, rangeActions, AMPERE));
+    }
+
     @Test
     void testSensitivitiesOnLinearGLSK() {
         SystematicSensitivityResult systematicSensitivityResult = Mockito.mock(SystematicSensitivityResult.class);
@@ -38,7 +38,11 @@ import com.powsybl.openrao.searchtreerao.result.impl.RangeActionActivationResult
 import com.powsybl.openrao.searchtreerao.searchtree.inputs.SearchTreeInput;
 import com.powsybl.openrao.searchtreerao.searchtree.parameters.SearchTreeParameters;
 import com.powsybl.openrao.sensitivityanalysis.AppliedRemedialActions;
+import com.powsybl.openrao.sensitivityanalysis.SystematicSensitivityInterface;
+import com.powsybl.openrao.sensitivityanalysis.SystematicSensitivityResult;
 import com.powsybl.openrao.util.AbstractNetworkPool;
+import com.powsybl.openrao.util.ParallelismBudget;
+import com.powsybl.iidm.network.Country;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.iidm.network.VariantManager;
 import org.junit.jupiter.api.BeforeEach;
@@ -47,6 +51,7 @@ import org.mockito.Mockito;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static com.powsybl.openrao.commons.logs.OpenRaoLoggerProvider.TECHNICAL_LOGS;
 import static com.powsybl.openrao.searchtreerao.commons.RaoLogger.logRangeActions;
@@ -278,6 +283,25 @@ class SearchTreeTest {
         assertEquals(childLeaf, result);
     }
 
+    @Test
+    void runAndIterateOnTreeWithExhaustedTimeBudget() throws Exception {
+        raoWithoutLoopFlowLimitation();
+        setStopCriterionAtMinObjective();
+        searchTreeWithOneChildLeaf();
+        Leaf childLeaf = Mockito.mock(Leaf.class);
+
+        double rootLeafCostAfterOptim = 4.;
+        double childLeafCostAfterOptim = 3.;
+
+        mockLeafsCosts(rootLeafCostAfterOptim, childLeafCostAfterOptim, childLeaf);
+        when(searchTreeInput.getDeadline()).thenReturn(java.time.Instant.now().minusSeconds(1));
+
+        // the better child leaf is not evaluated, the root leaf is returned as the best leaf found so far
+        OptimizationResult result = searchTree.run().get();
+        assertEquals(rootLeaf, result);
+        Mockito.verify(searchTree, Mockito.never()).createChildLeaf(any(), any(), Mockito.anyBoolean());
+    }
+
     @Test
     void runAndIterateOnTreeWithAWorseChildLeaf() throws Exception {
         raoWithoutLoopFlowLimitation();
@@ -670,4 +694,227 @@ class SearchTreeTest {
                 new NetworkActionCombination(Set.of(na1), false)
         ));
     }
+
+    @Test
+    void testSortNaCombinationsWithAdaptivePrioritization() {
+        when(searchTreeParameters.getNetworkActionParameters().useAdaptiveNetworkActionPrioritization()).thenReturn(true);
+        Mockito.doReturn(rootLeaf).when(searchTree).makeLeaf(optimizationPerimeter, network, prePerimeterResult, appliedRemedialActions);
+        searchTree.initLeaves(searchTreeInput);
+        when(rootLeaf.getCost()).thenReturn(10.);
+        FlowCnec mostLimitingElement = Mockito.mock(FlowCnec.class);
+        when(mostLimitingElement.getLocation(network)).thenReturn(Set.of(Optional.of(Country.FR)));
+        Mockito.doReturn(List.of(mostLimitingElement)).when(rootLeaf).getMostLimitingElements(1);
+
+        NetworkAction na1 = Mockito.mock(NetworkAction.class);
+        NetworkAction na2 = Mockito.mock(NetworkAction.class);
+        NetworkAction na3 = Mockito.mock(NetworkAction.class);
+        NetworkAction na4 = Mockito.mock(NetworkAction.class);
+        when(na3.getLocation(network)).thenReturn(Set.of(Optional.of(Country.FR)));
+        when(na4.getLocation(network)).thenReturn(Set.of(Optional.of(Country.DE)));
+        NetworkActionCombination naCombination1 = new NetworkActionCombination(Set.of(na1), false);
+        NetworkActionCombination naCombination2 = new NetworkActionCombination(Set.of(na2), false);
+        NetworkActionCombination naCombination3 = new NetworkActionCombination(Set.of(na3), false);
+        NetworkActionCombination naCombination4 = new NetworkActionCombination(Set.of(na4), false);
+
+        // cost improvements observed during the previous depth
+        Leaf leaf1 = Mockito.mock(Leaf.class);
+        when(leaf1.getCost()).thenReturn(8.);
+        Leaf leaf2 = Mockito.mock(Leaf.class);
+        when(leaf2.getCost()).thenReturn(2.);
+        searchTree.recordCostImprovement(naCombination1, leaf1);
+        searchTree.recordCostImprovement(naCombination2, leaf2);
+        searchTree.updateNetworkActionCombinationScores(Set.of(naCombination1, naCombination2, naCombination3, naCombination4));
+
+        // 1. Priority given to the combination with the best cost improvement at previous depth
+        assertEquals(-1, searchTree.deterministicNetworkActionCombinationComparison(naCombination2, naCombination1));
+        assertEquals(1, searchTree.deterministicNetworkActionCombinationComparison(naCombination1, naCombination2));
+        assertEquals(-1, searchTree.deterministicNetworkActionCombinationComparison(naCombination1, naCombination3));
+        // 2. Then to the combination closest to the most limiting element
+        assertEquals(-1, searchTree.deterministicNetworkActionCombinationComparison(naCombination3, naCombination4));
+        assertEquals(1, searchTree.deterministicNetworkActionCombinationComparison(naCombination4, naCombination3));
+        // 3. Then to large combinations
+        assertEquals(-1, searchTree.deterministicNetworkActionCombinationComparison(
+            new NetworkActionCombination(Set.of(na3, na4), false), naCombination3));
+
+        // Cost improvements are forgotten at the next depth
+        searchTree.updateNetworkActionCombinationScores(Set.of(naCombination1, naCombination3));
+        assertEquals(1, searchTree.deterministicNetworkActionCombinationComparison(naCombination1, naCombination3));
+    }
+
+    @Test
+    void testPreScreenNetworkActionCombinations() throws Exception {
+        Mockito.doReturn(rootLeaf).when(searchTree).makeLeaf(optimizationPerimeter, network, prePerimeterResult, appliedRemedialActions);
+        searchTree.initLeaves(searchTreeInput);
+        FlowCnec mostLimitingElement = Mockito.mock(FlowCnec.class);
+        when(mostLimitingElement.getMonitoredSides()).thenReturn(Set.of(TwoSides.ONE));
+        when(mostLimitingElement.computeMargin(anyDouble(), eq(TwoSides.ONE), eq(Unit.MEGAWATT))).thenAnswer(invocation -> 100. - (double) invocation.getArgument(0));
+        Mockito.doReturn(List.of(mostLimitingElement)).when(rootLeaf).getMostLimitingElements(anyInt());
+
+        // the DC flow on the most limiting element depends on the network action applied on the network
+        SystematicSensitivityResult result1 = Mockito.mock(SystematicSensitivityResult.class);
+        when(result1.getStatus()).thenReturn(SystematicSensitivityResult.SensitivityComputationStatus.SUCCESS);
+        when(result1.getReferenceFlow(mostLimitingElement, TwoSides.ONE)).thenReturn(80.);
+        SystematicSensitivityResult result2 = Mockito.mock(SystematicSensitivityResult.class);
+        when(result2.getStatus()).thenReturn(SystematicSensitivityResult.SensitivityComputationStatus.SUCCESS);
+        when(result2.getReferenceFlow(mostLimitingElement, TwoSides.ONE)).thenReturn(50.);
+        AtomicReference<SystematicSensitivityResult> result = new AtomicReference<>();
+        NetworkAction na1 = Mockito.mock(NetworkAction.class);
+        NetworkAction na2 = Mockito.mock(NetworkAction.class);
+        when(na1.getId()).thenReturn("na1");
+        when(na2.getId()).thenReturn("na2");
+        when(na1.apply(network)).thenAnswer(invocation -> result.compareAndSet(null, result1));
+        when(na2.apply(network)).thenAnswer(invocation -> result.compareAndSet(null, result2));
+        SystematicSensitivityInterface dcFlowsInterface = Mockito.mock(SystematicSensitivityInterface.class);
+        when(dcFlowsInterface.run(network)).thenAnswer(invocation -> result.getAndSet(null));
+        when(searchTreeInput.getToolProvider().getDcFlowsSystematicSensitivityInterface(any(), any(), any(), any())).thenReturn(dcFlowsInterface);
+
+        NetworkActionCombination naCombination1 = new NetworkActionCombination(Set.of(na1), false);
+        NetworkActionCombination naCombination2 = new NetworkActionCombination(Set.of(na2), false);
+        AbstractNetworkPool networkPool = AbstractNetworkPool.create(network, "ID", 1, true);
+
+        // no pre-screening if the number of combinations is small enough
+        when(searchTreeParameters.getNetworkActionParameters().getMaxNumberOfLeavesAfterPreScreening()).thenReturn(2);
+        assertEquals(Set.of(naCombination1, naCombination2), searchTree.preScreenNetworkActionCombinations(Set.of(naCombination1, naCombination2), networkPool));
+        verify(dcFlowsInterface, never()).run(any());
+
+        // otherwise, the combinations with the best estimated margin are kept
+        when(searchTreeParameters.getNetworkActionParameters().getMaxNumberOfLeavesAfterPreScreening()).thenReturn(1);
+        assertEquals(Set.of(naCombination2), searchTree.preScreenNetworkActionCombinations(Set.of(naCombination1, naCombination2), networkPool));
+        verify(dcFlowsInterface, times(2)).run(network);
+
+        // no load-flow once the time budget is exhausted
+        when(searchTreeInput.getDeadline()).thenReturn(java.time.Instant.now().minusSeconds(1));
+        assertEquals(1, searchTree.preScreenNetworkActionCombinations(Set.of(naCombination1, naCombination2), networkPool).size());
+        verify(dcFlowsInterface, times(2)).run(network);
+    }
+
+    @Test
+    void testPreScreenNetworkActionCombinationsAtSecondDepth() throws Exception {
+        when(searchTreeParameters.getNetworkActionParameters().getNetworkActionCombinations()).thenReturn(List.of());
+        searchTree = Mockito.spy(new SearchTree(searchTreeInput, searchTreeParameters, true));
+        mockNetworkPool(network);
+        raoWithoutLoopFlowLimitation();
+        setStopCriterionAtMinObjective();
+        when(treeParameters.maximumSearchDepth()).thenReturn(2);
+        when(searchTreeParameters.getNetworkActionParameters().getMaxNumberOfLeavesAfterPreScreening()).thenReturn(1);
+        mockRootLeafCost(4.);
+        FlowCnec mostLimitingElement = Mockito.mock(FlowCnec.class);
+        when(mostLimitingElement.getMonitoredSides()).thenReturn(Set.of(TwoSides.ONE));
+        when(mostLimitingElement.computeMargin(anyDouble(), eq(TwoSides.ONE), eq(Unit.MEGAWATT))).thenAnswer(invocation -> 100. - (double) invocation.getArgument(0));
+        Mockito.doReturn(List.of(mostLimitingElement)).when(rootLeaf).getMostLimitingElements(anyInt());
+
+        // the DC flow on the most limiting element depends on all the network actions applied on the network
+        NetworkAction na1 = mockAvailableNetworkAction("na1");
+        NetworkAction na2 = mockAvailableNetworkAction("na2");
+        NetworkAction na3 = mockAvailableNetworkAction("na3");
+        Map<Set<NetworkAction>, Double> dcFlows = Map.of(
+            Set.of(na1), 50., Set.of(na2), 80., Set.of(na3), 90.,
+            Set.of(na1, na2), 60., Set.of(na1, na3), 20.);
+        Set<NetworkAction> appliedNetworkActions = new HashSet<>();
+        for (NetworkAction na : List.of(na1, na2, na3)) {
+            when(na.apply(network)).thenAnswer(invocation -> appliedNetworkActions.add(na));
+        }
+        SystematicSensitivityInterface dcFlowsInterface = Mockito.mock(SystematicSensitivityInterface.class);
+        when(dcFlowsInterface.run(network)).thenAnswer(invocation -> {
+            SystematicSensitivityResult result = Mockito.mock(SystematicSensitivityResult.class);
+            when(result.getStatus()).thenReturn(SystematicSensitivityResult.SensitivityComputationStatus.SUCCESS);
+            when(result.getReferenceFlow(mostLimitingElement, TwoSides.ONE)).thenReturn(dcFlows.get(Set.copyOf(appliedNetworkActions)));
+            appliedNetworkActions.clear();
+            return result;
+        });
+        when(searchTreeInput.getToolProvider().getDcFlowsSystematicSensitivityInterface(any(), any(), any(), any())).thenReturn(dcFlowsInterface);
+        List<Map<NetworkActionCombination, Double>> estimatedMinMargins = new ArrayList<>();
+        Mockito.doAnswer(invocation -> {
+            Map<NetworkActionCombination, Double> margins = (Map<NetworkActionCombination, Double>) invocation.callRealMethod();
+            estimatedMinMargins.add(new HashMap<>(margins));
+            return margins;
+        }).when(searchTree).estimateMinMargins(any(), any(), any());
+
+        Leaf childLeaf1 = Mockito.mock(Leaf.class);
+        when(childLeaf1.getStatus()).thenReturn(Leaf.Status.EVALUATED, Leaf.Status.OPTIMIZED);
+        when(childLeaf1.getCost()).thenReturn(3.);
+        when(childLeaf1.getVirtualCost()).thenReturn(3.);
+        when(childLeaf1.getActivatedNetworkActions()).thenReturn(Set.of(na1));
+        Mockito.doReturn(List.of(mostLimitingElement)).when(childLeaf1).getMostLimitingElements(anyInt());
+        Mockito.doReturn(childLeaf1).when(searchTree).createChildLeaf(any(), eq(new NetworkActionCombination(na1)), eq(false));
+        Leaf childLeaf2 = Mockito.mock(Leaf.class);
+        when(childLeaf2.getStatus()).thenReturn(Leaf.Status.EVALUATED, Leaf.Status.OPTIMIZED);
+        when(childLeaf2.getCost()).thenReturn(2.);
+        when(childLeaf2.getVirtualCost()).thenReturn(2.);
+        when(childLeaf2.getActivatedNetworkActions()).thenReturn(Set.of(na1, na3));
+        Mockito.doReturn(childLeaf2).when(searchTree).createChildLeaf(any(), eq(new NetworkActionCombination(na3)), eq(false));
+
+        OptimizationResult result = searchTree.run().get();
+
+        // at the second depth, the margins are estimated on the network on which na1 has already been applied
+        assertEquals(2, estimatedMinMargins.size());
+        assertEquals(Map.of(new NetworkActionCombination(na1), 50., new NetworkActionCombination(na2), 20., new NetworkActionCombination(na3), 10.), estimatedMinMargins.get(0));
+        assertEquals(Map.of(new NetworkActionCombination(na2), 40., new NetworkActionCombination(na3), 80.), estimatedMinMargins.get(1));
+        assertEquals(childLeaf2, result);
+        verify(searchTree, never()).createChildLeaf(any(), eq(new NetworkActionCombination(na2)), anyBoolean());
+        // the sensitivity interfaces are built once per depth
+        verify(searchTreeInput.getToolProvider(), times(2)).getDcSensitivityParameters();
+    }
+
+    @Test
+    void testBorrowThreadsFreedDuringTheSearch() throws Exception {
+        when(searchTreeParameters.getNetworkActionParameters().getNetworkActionCombinations()).thenReturn(List.of());
+        when(searchTreeParameters.getNetworkActionParameters().getMaxNumberOfLeavesAfterPreScreening()).thenReturn(10);
+        searchTree = Mockito.spy(new SearchTree(searchTreeInput, searchTreeParameters, true));
+        raoWithoutLoopFlowLimitation();
+        setStopCriterionAtMinObjective();
+        when(treeParameters.maximumSearchDepth()).thenReturn(2);
+        mockRootLeafCost(4.);
+        NetworkAction na1 = mockAvailableNetworkAction("na1");
+        mockAvailableNetworkAction("na2");
+        mockAvailableNetworkAction("na3");
+
+        // the 2 threads of the budget are used by another scenario, which ends during the first depth
+        ParallelismBudget parallelismBudget = Mockito.spy(new ParallelismBudget(2, 2));
+        parallelismBudget.tryAcquire(2);
+        when(searchTreeInput.getParallelismBudget()).thenReturn(parallelismBudget);
+        List<Integer> borrowedThreads = new ArrayList<>();
+        Mockito.doAnswer(invocation -> {
+            int threads = (int) invocation.callRealMethod();
+            borrowedThreads.add(threads);
+            return threads;
+        }).when(parallelismBudget).tryAcquire(anyInt(), anyInt());
+        // the pool is sized for the whole budget, whatever the leaves-in-parallel parameter
+        AbstractNetworkPool networkPool = AbstractNetworkPool.create(network, network.getVariantManager().getWorkingVariantId(), 1, true);
+        Mockito.doReturn(networkPool).when(searchTree).makeOpenRaoNetworkPool(network, 3);
+
+        Leaf childLeaf1 = Mockito.mock(Leaf.class);
+        when(childLeaf1.getStatus()).thenReturn(Leaf.Status.EVALUATED, Leaf.Status.OPTIMIZED);
+        when(childLeaf1.getCost()).thenReturn(3.);
+        when(childLeaf1.getVirtualCost()).thenReturn(3.);
+        when(childLeaf1.getActivatedNetworkActions()).thenReturn(Set.of(na1));
+        Mockito.doAnswer(invocation -> {
+            parallelismBudget.release(2);
+            return childLeaf1;
+        }).when(searchTree).createChildLeaf(any(), eq(new NetworkActionCombination(na1)), eq(false));
+        Mockito.doAnswer(invocation -> {
+            Leaf worseLeaf = Mockito.mock(Leaf.class);
+            when(worseLeaf.getStatus()).thenReturn(Leaf.Status.EVALUATED, Leaf.Status.OPTIMIZED);
+            when(worseLeaf.getCost()).thenReturn(5.);
+            when(worseLeaf.getVirtualCost()).thenReturn(5.);
+            return worseLeaf;
+        }).when(searchTree).createChildLeaf(any(), Mockito.argThat(naCombination -> !naCombination.getNetworkActionSet().contains(na1)), eq(false));
+
+        OptimizationResult result = searchTree.run().get();
+
+        assertEquals(childLeaf1, result);
+        // no thread is available at the first depth, the 2 freed ones are borrowed at the second depth
+        assertEquals(List.of(0, 2), borrowedThreads);
+        verify(searchTree).makeOpenRaoNetworkPool(network, 3);
+        assertEquals(2, parallelismBudget.getAvailableThreads());
+    }
+
+    private NetworkAction mockAvailableNetworkAction(String id) {
+        NetworkAction na = Mockito.mock(NetworkAction.class);
+        when(na.getUsageMethod(any())).thenReturn(UsageMethod.AVAILABLE);
+        when(na.getOperator()).thenReturn("operator");
+        when(na.getId()).thenReturn(id);
+        availableNetworkActions.add(na);
+        return na;
+    }
 }
@@ -13,12 +13,22 @@ import com.powsybl.openrao.data.crac.api.Instant;
 import com.powsybl.openrao.data.crac.api.State;
 import com.powsybl.openrao.data.crac.api.cnec.Cnec;
 import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.VariantManager;
 import com.powsybl.sensitivity.SensitivityAnalysis;
 import com.powsybl.sensitivity.SensitivityAnalysisParameters;
 import com.powsybl.sensitivity.SensitivityAnalysisResult;
 import com.powsybl.sensitivity.SensitivityFactor;
+import com.powsybl.sensitivity.SensitivityVariableSet;
 
 import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import static com.powsybl.openrao.commons.logs.OpenRaoLoggerProvider.TECHNICAL_LOGS;
@@ -28,6 +38,13 @@ import static com.powsybl.openrao.commons.logs.OpenRaoLoggerProvider.TECHNICAL_L
  * @author Sebastien Murgey {@literal <sebastien.murgey at rte-france.com>}
  */
 final class SystematicSensitivityAdapter {
+    // shared by all the sensitivity analyses running states with RA in parallel, its idle threads are released after a minute
+    private static final ExecutorService STATES_WITH_RA_EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "sensitivity-states-with-ra");
+        thread.setDaemon(true);
+        return thread;
+    });
+
     private SystematicSensitivityAdapter() {
     }
 
@@ -59,6 +76,20 @@ final class SystematicSensitivityAdapter {
                                                       SensitivityAnalysisParameters sensitivityComputationParameters,
                                                       String sensitivityProvider,
                                                       Instant outageInstant) {
+        return runSensitivity(network, cnecSensitivityProvider, appliedRemedialActions, sensitivityComputationParameters, sensitivityProvider, outageInstant, 1);
+    }
+
+    /**
+     * Runs the sensitivity analysis, with one run for all the states without remedial actions, and one run per state
+     * with remedial actions. The latter are dispatched over statesWithRaInParallel variants of the network.
+     */
+    static SystematicSensitivityResult runSensitivity(Network network,
+                                                      CnecSensitivityProvider cnecSensitivityProvider,
+                                                      AppliedRemedialActions appliedRemedialActions,
+                                                      SensitivityAnalysisParameters sensitivityComputationParameters,
+                                                      String sensitivityProvider,
+                                                      Instant outageInstant,
+                                                      int statesWithRaInParallel) {
         if (appliedRemedialActions == null || appliedRemedialActions.isEmpty(network)) {
             return runSensitivity(network, cnecSensitivityProvider, sensitivityComputationParameters, sensitivityProvider, outageInstant);
         }
@@ -68,10 +99,14 @@ final class SystematicSensitivityAdapter {
         // retrieve sensi information for curative state from auto state to take into account auto RAs.
         // (When auto AND curative RAs are applied, they will both be included in statesWithRa and both sensis
         // are computed.)
-        Set<State> statesWithRa = appliedRemedialActions.getStatesWithRa(network);
+        List<State> statesWithRa = appliedRemedialActions.getStatesWithRa(network).stream().sorted(Comparator.comparing(State::getId)).toList();
         Set<State> statesWithoutRa = cnecSensitivityProvider.getFlowCnecs().stream().map(Cnec::getState).collect(Collectors.toSet());
         statesWithoutRa.removeAll(statesWithRa);
 
+        if (statesWithRa.stream().anyMatch(state -> state.getContingency().isEmpty())) {
+            throw new OpenRaoException("Sensitivity analysis with applied RA does not handle preventive RA.");
+        }
+
         // systematic analysis for states without RA
         TECHNICAL_LOGS.debug("... (1/{}) {} state(s) without RA ", statesWithRa.size() + 1, statesWithoutRa.size());
 
@@ -94,18 +129,36 @@ final class SystematicSensitivityAdapter {
         // systematic analyses for states with RA
         cnecSensitivityProvider.disableFactorsForBaseCaseSituation();
         String workingVariantId = network.getVariantManager().getWorkingVariantId();
+        try {
+            if (statesWithRaInParallel <= 1 || statesWithRa.size() == 1) {
+                runSensitivityForStatesWithRa(network, cnecSensitivityProvider, appliedRemedialActions, sensitivityComputationParameters, sensitivityProvider, statesWithRa, result);
+            } else {
+                runSensitivityForStatesWithRaInParallel(network, cnecSensitivityProvider, appliedRemedialActions, sensitivityComputationParameters, sensitivityProvider, statesWithRa, Math.min(statesWithRaInParallel, statesWithRa.size()), result);
+            }
+        } finally {
+            // enable preventive factors for next iterations
+            cnecSensitivityProvider.enableFactorsForBaseCaseSituation();
+            network.getVariantManager().setWorkingVariant(workingVariantId);
+        }
+
+        TECHNICAL_LOGS.debug("Systematic sensitivity analysis with applied RA [end]");
+
+        return result.postTreatIntensities().postTreatHvdcs(network, cnecSensitivityProvider.getHvdcs());
+    }
+
+    private static void runSensitivityForStatesWithRa(Network network,
+                                                      CnecSensitivityProvider cnecSensitivityProvider,
+                                                      AppliedRemedialActions appliedRemedialActions,
+                                                      SensitivityAnalysisParameters sensitivityComputationParameters,
+                                                      String sensitivityProvider,
+                                                      List<State> statesWithRa,
+                                                      SystematicSensitivityResult result) {
+        String workingVariantId = network.getVariantManager().getWorkingVariantId();
         int counterForLogs = 2;
 
         String variantForState = RandomizedString.getRandomizedString();
         boolean shouldRemoveVariant = false;
         for (State state : statesWithRa) {
-
-            Optional<Contingency> optContingency = state.getContingency();
-
-            if (optContingency.isEmpty()) {
-                throw new OpenRaoException("Sensitivity analysis with applied RA does not handle preventive RA.");
-            }
-
             TECHNICAL_LOGS.debug("... ({}/{}) state with RA {}", counterForLogs, statesWithRa.size() + 1, state.getId());
 
             //TODO: We can save a bit of time by unapplying previous remedial actions here if we find a clean way to do it
@@ -115,7 +168,7 @@ final class SystematicSensitivityAdapter {
 
             appliedRemedialActions.applyOnNetwork(state, network);
 
-            List<Contingency> contingencyList = Collections.singletonList(optContingency.get());
+            List<Contingency> contingencyList = Collections.singletonList(state.getContingency().orElseThrow());
 
             result.completeData(SensitivityAnalysis.find(sensitivityProvider).run(network,
                 network.getVariantManager().getWorkingVariantId(),
@@ -127,15 +180,116 @@ final class SystematicSensitivityAdapter {
         }
 
         if (shouldRemoveVariant) {
+            network.getVariantManager().setWorkingVariant(workingVariantId);
             network.getVariantManager().removeVariant(variantForState);
         }
+    }
 
-        // enable preventive factors for next iterations
-        cnecSensitivityProvider.enableFactorsForBaseCaseSituation();
+    /**
+     * The states with RA are computed concurrently by parallelism workers of a shared executor, each worker working on
+     * its own variant of the network. The working variant is then specific to each thread, and the results are
+     * merged in the order of the states.
+     */
+    private static void runSensitivityForStatesWithRaInParallel(Network network,
+                                                                CnecSensitivityProvider cnecSensitivityProvider,
+                                                                AppliedRemedialActions appliedRemedialActions,
+                                                                SensitivityAnalysisParameters sensitivityComputationParameters,
+                                                                String sensitivityProvider,
+                                                                List<State> statesWithRa,
+                                                                int parallelism,
+                                                                SystematicSensitivityResult result) {
+        VariantManager variantManager = network.getVariantManager();
+        String workingVariantId = variantManager.getWorkingVariantId();
+        boolean multiThreadAccessAllowed = variantManager.isVariantMultiThreadAccessAllowed();
 
-        TECHNICAL_LOGS.debug("Systematic sensitivity analysis with applied RA [end]");
+        // variants are created beforehand, as creating a variant is not thread-safe
+        List<String> variantsForStates = new ArrayList<>(parallelism);
+        for (int i = 0; i < parallelism; i++) {
+            String variantForState = RandomizedString.getRandomizedString("SensitivityWithRa", variantManager.getVariantIds(), 10);
+            variantManager.cloneVariant(workingVariantId, variantForState);
+            variantsForStates.add(variantForState);
+        }
+        variantManager.allowVariantMultiThreadAccess(true);
 
-        network.getVariantManager().setWorkingVariant(workingVariantId);
-        return result.postTreatIntensities().postTreatHvdcs(network, cnecSensitivityProvider.getHvdcs());
+        SensitivityAnalysisResult[] resultsPerState = new SensitivityAnalysisResult[statesWithRa.size()];
+        AtomicInteger nextState = new AtomicInteger();
+        AtomicBoolean failed = new AtomicBoolean(false);
+        CountDownLatch finishedWorkers = new CountDownLatch(parallelism);
+        List<Future<?>> workers = new ArrayList<>(parallelism);
+        try {
+            for (String variantForState : variantsForStates) {
+                workers.add(STATES_WITH_RA_EXECUTOR.submit(() -> {
+                    try {
+                        for (int i = nextState.getAndIncrement(); i < statesWithRa.size() && !failed.get(); i = nextState.getAndIncrement()) {
+                            TECHNICAL_LOGS.debug("... ({}/{}) state with RA {}", i + 2, statesWithRa.size() + 1, statesWithRa.get(i).getId());
+                            resultsPerState[i] = runSensitivityForStateWithRa(network, cnecSensitivityProvider, appliedRemedialActions, sensitivityComputationParameters, sensitivityProvider, statesWithRa.get(i), workingVariantId, variantForState);
+                        }
+                    } catch (RuntimeException e) {
+                        failed.set(true);
+                        throw e;
+                    } finally {
+                        finishedWorkers.countDown();
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+            for (int i = 0; i < statesWithRa.size(); i++) {
+                result.completeData(resultsPerState[i], statesWithRa.get(i).getInstant().getOrder());
+            }
+        } catch (ExecutionException e) {
+            throw new OpenRaoException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OpenRaoException(e);
+        } finally {
+            failed.set(true);
+            awaitWorkers(finishedWorkers, workers.size(), parallelism);
+            variantManager.allowVariantMultiThreadAccess(multiThreadAccessAllowed);
+            variantManager.setWorkingVariant(workingVariantId);
+            variantsForStates.forEach(variantManager::removeVariant);
+        }
+    }
+
+    private static void awaitWorkers(CountDownLatch finishedWorkers, int submittedWorkers, int parallelism) {
+        // workers which could not be submitted will never count down
+        for (int i = submittedWorkers; i < parallelism; i++) {
+            finishedWorkers.countDown();
+        }
+        // variants must not be removed while a computation is still running on them
+        try {
+            finishedWorkers.await(1, TimeUnit.HOURS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static SensitivityAnalysisResult runSensitivityForStateWithRa(Network network,
+                                                                          CnecSensitivityProvider cnecSensitivityProvider,
+                                                                          AppliedRemedialActions appliedRemedialActions,
+                                                                          SensitivityAnalysisParameters sensitivityComputationParameters,
+                                                                          String sensitivityProvider,
+                                                                          State state,
+                                                                          String workingVariantId,
+                                                                          String variantForState) {
+        VariantManager variantManager = network.getVariantManager();
+        // the variant already exists, its content is overwritten without resizing the variant arrays
+        synchronized (variantManager) {
+            variantManager.cloneVariant(workingVariantId, variantForState, true);
+        }
+        variantManager.setWorkingVariant(variantForState);
+        appliedRemedialActions.applyOnNetwork(state, network);
+
+        List<Contingency> contingencyList = Collections.singletonList(state.getContingency().orElseThrow());
+        List<SensitivityFactor> factors;
+        List<SensitivityVariableSet> variableSets;
+        // the sensitivity providers are not thread-safe
+        synchronized (cnecSensitivityProvider) {
+            factors = cnecSensitivityProvider.getContingencyFactors(network, contingencyList);
+            variableSets = cnecSensitivityProvider.getVariableSets();
+        }
+        return SensitivityAnalysis.find(sensitivityProvider).run(network, variantForState, factors, contingencyList, variableSets, sensitivityComputationParameters);
     }
 }
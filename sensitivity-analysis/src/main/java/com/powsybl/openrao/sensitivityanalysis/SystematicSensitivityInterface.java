@@ -51,6 +51,11 @@ public final class SystematicSensitivityInterface {
     private AppliedRemedialActions appliedRemedialActions;
     private Instant outageInstant;
 
+    /**
+     * Number of states with applied remedial actions whose sensitivity analyses are run concurrently
+     */
+    private int statesWithRaInParallel;
+
     /**
      * Builder
      */
@@ -61,6 +66,7 @@ public final class SystematicSensitivityInterface {
         private AppliedRemedialActions appliedRemedialActions;
         private boolean providerInitialised = false;
         private Instant outageInstant;
+        private int statesWithRaInParallel = 1;
 
         private SystematicSensitivityInterfaceBuilder() {
 
@@ -102,6 +108,14 @@ public final class SystematicSensitivityInterface {
             return this;
         }
 
+        public SystematicSensitivityInterfaceBuilder withStatesWithRaInParallel(int statesWithRaInParallel) {
+            if (statesWithRaInParallel < 1) {
+                throw new OpenRaoException("The number of states with applied remedial actions computed in parallel must be strictly positive");
+            }
+            this.statesWithRaInParallel = statesWithRaInParallel;
+            return this;
+        }
+
         public SystematicSensitivityInterfaceBuilder withOutageInstant(Instant outageInstant) {
             if (!outageInstant.isOutage()) {
                 throw new OpenRaoException("Instant provided in the systematic sensitivity builder has to be an outage");
@@ -129,6 +143,7 @@ public final class SystematicSensitivityInterface {
             systematicSensitivityInterface.cnecSensitivityProvider = multipleSensitivityProvider;
             systematicSensitivityInterface.appliedRemedialActions = appliedRemedialActions;
             systematicSensitivityInterface.outageInstant = outageInstant;
+            systematicSensitivityInterface.statesWithRaInParallel = statesWithRaInParallel;
             return systematicSensitivityInterface;
         }
     }
@@ -159,7 +174,7 @@ public final class SystematicSensitivityInterface {
      */
     private SystematicSensitivityResult runWithConfig(Network network) {
         SystematicSensitivityResult tempSystematicSensitivityAnalysisResult = SystematicSensitivityAdapter
-                .runSensitivity(network, cnecSensitivityProvider, appliedRemedialActions, parameters, sensitivityProvider, outageInstant);
+                .runSensitivity(network, cnecSensitivityProvider, appliedRemedialActions, parameters, sensitivityProvider, outageInstant, statesWithRaInParallel);
 
         if (!tempSystematicSensitivityAnalysisResult.isSuccess()) {
             TECHNICAL_LOGS.error("Sensitivity analysis failed: no output data available.");
@@ -28,31 +28,205 @@ import java.util.stream.Collectors;
  */
 public class SystematicSensitivityResult {
 
-    private static class StateResult {
+    /**
+     * Dense storage of the values computed for one state. Network elements (functions) and sensitivity
+     * variables are interned once per {@link SystematicSensitivityResult}. Each state only keeps slots for
+     * the functions it has been computed on, so its value columns are sized to these functions: reference
+     * values are stored per side and slot, and sensitivities per side, variable and slot.
+     */
+    private static final class StateResult {
         private SensitivityComputationStatus status;
-        private final Map<String, Map<TwoSides, Double>> referenceFlows = new HashMap<>();
-        private final Map<String, Map<TwoSides, Double>> referenceIntensities = new HashMap<>();
-        private final Map<String, Map<String, Map<TwoSides, Double>>> flowSensitivities = new HashMap<>();
-        private final Map<String, Map<String, Map<TwoSides, Double>>> intensitySensitivities = new HashMap<>();
+        // sorted indices of the functions of the state, the position of a function being its slot in the columns
+        private int[] functions = new int[0];
+        private final ValueColumn[] referenceFlows = new ValueColumn[TwoSides.values().length];
+        private final ValueColumn[] referenceIntensities = new ValueColumn[TwoSides.values().length];
+        private final ValueColumn[][] flowSensitivities = new ValueColumn[TwoSides.values().length][];
 
         private SensitivityComputationStatus getSensitivityComputationStatus() {
             return status;
         }
 
-        private Map<String, Map<TwoSides, Double>> getReferenceFlows() {
-            return referenceFlows;
+        private int getSlot(int functionIndex) {
+            return Math.max(-1, Arrays.binarySearch(functions, functionIndex));
+        }
+
+        /**
+         * Adds slots for the given functions, the values already stored being moved to the new slots
+         * of their functions
+         */
+        private void addFunctions(BitSet functionIndices) {
+            BitSet allFunctions = (BitSet) functionIndices.clone();
+            Arrays.stream(functions).forEach(allFunctions::set);
+            if (allFunctions.cardinality() == functions.length) {
+                return;
+            }
+            int[] newFunctions = allFunctions.stream().toArray();
+            int[] newSlots = Arrays.stream(functions).map(functionIndex -> Arrays.binarySearch(newFunctions, functionIndex)).toArray();
+            for (TwoSides side : TwoSides.values()) {
+                referenceFlows[side.ordinal()] = remap(referenceFlows[side.ordinal()], newSlots, newFunctions.length);
+                referenceIntensities[side.ordinal()] = remap(referenceIntensities[side.ordinal()], newSlots, newFunctions.length);
+                ValueColumn[] columns = flowSensitivities[side.ordinal()];
+                if (columns != null) {
+                    for (int variableIndex = 0; variableIndex < columns.length; variableIndex++) {
+                        columns[variableIndex] = remap(columns[variableIndex], newSlots, newFunctions.length);
+                    }
+                }
+            }
+            functions = newFunctions;
+        }
+
+        private double getReferenceFlow(int slot, TwoSides side) {
+            ValueColumn column = referenceFlows[side.ordinal()];
+            return column == null || slot < 0 ? 0.0 : column.get(slot);
+        }
+
+        private double getReferenceIntensity(int slot, TwoSides side) {
+            ValueColumn column = referenceIntensities[side.ordinal()];
+            return column == null || slot < 0 ? 0.0 : column.get(slot);
+        }
+
+        private double getFlowSensitivity(int variableIndex, int slot, TwoSides side) {
+            ValueColumn[] columns = flowSensitivities[side.ordinal()];
+            if (columns == null || slot < 0 || variableIndex < 0 || variableIndex >= columns.length || columns[variableIndex] == null) {
+                return 0.0;
+            }
+            return columns[variableIndex].get(slot);
+        }
+
+        private void putReferenceFlowIfAbsent(int slot, TwoSides side, double value) {
+            column(referenceFlows, side).putIfAbsent(slot, value);
         }
 
-        private Map<String, Map<TwoSides, Double>> getReferenceIntensities() {
-            return referenceIntensities;
+        private void putReferenceIntensityIfAbsent(int slot, TwoSides side, double value) {
+            column(referenceIntensities, side).putIfAbsent(slot, value);
+        }
+
+        private void putFlowSensitivityIfAbsent(int variableIndex, int slot, TwoSides side, double value, int expectedVariables) {
+            ValueColumn[] columns = flowSensitivities[side.ordinal()];
+            if (columns == null || variableIndex >= columns.length) {
+                columns = columns == null ? new ValueColumn[Math.max(expectedVariables, variableIndex + 1)] : Arrays.copyOf(columns, Math.max(expectedVariables, variableIndex + 1));
+                flowSensitivities[side.ordinal()] = columns;
+            }
+            if (columns[variableIndex] == null) {
+                columns[variableIndex] = new ValueColumn(functions.length);
+            }
+            columns[variableIndex].putIfAbsent(slot, value);
         }
 
-        private Map<String, Map<String, Map<TwoSides, Double>>> getFlowSensitivities() {
-            return flowSensitivities;
+        private void invertFlowSensitivities(int variableIndex) {
+            for (ValueColumn[] columns : flowSensitivities) {
+                if (columns != null && variableIndex < columns.length && columns[variableIndex] != null) {
+                    columns[variableIndex].invertAll();
+                }
+            }
         }
 
-        private Map<String, Map<String, Map<TwoSides, Double>>> getIntensitySensitivities() {
-            return intensitySensitivities;
+        /**
+         * Sensitivity providers return absolute values for intensities
+         * In case flows are negative, we shall replace this value by its opposite
+         */
+        private void postTreatIntensities() {
+            for (TwoSides side : TwoSides.values()) {
+                ValueColumn flows = referenceFlows[side.ordinal()];
+                ValueColumn intensities = referenceIntensities[side.ordinal()];
+                if (flows == null || intensities == null) {
+                    continue;
+                }
+                flows.forEachDefined((slot, flow) -> {
+                    if (flow < 0) {
+                        intensities.invert(slot);
+                    }
+                });
+            }
+        }
+
+        private ValueColumn column(ValueColumn[] columnsPerSide, TwoSides side) {
+            if (columnsPerSide[side.ordinal()] == null) {
+                columnsPerSide[side.ordinal()] = new ValueColumn(functions.length);
+            }
+            return columnsPerSide[side.ordinal()];
+        }
+
+        private static ValueColumn remap(ValueColumn column, int[] newSlots, int newSize) {
+            if (column == null) {
+                return null;
+            }
+            ValueColumn remappedColumn = new ValueColumn(newSize);
+            column.forEachDefined((slot, value) -> remappedColumn.putIfAbsent(newSlots[slot], value));
+            return remappedColumn;
+        }
+    }
+
+    /**
+     * Array of doubles, with a bitset keeping track of the values which have been set,
+     * so that missing values can be told apart from values equal to 0 or NaN.
+     */
+    private static final class ValueColumn {
+        private final double[] values;
+        private final BitSet defined;
+
+        private ValueColumn(int size) {
+            this.values = new double[size];
+            this.defined = new BitSet(size);
+        }
+
+        private double get(int index) {
+            return defined.get(index) ? values[index] : 0.0;
+        }
+
+        private void putIfAbsent(int index, double value) {
+            if (defined.get(index)) {
+                return;
+            }
+            values[index] = value;
+            defined.set(index);
+        }
+
+        private void invert(int index) {
+            if (defined.get(index)) {
+                values[index] = -values[index];
+            }
+        }
+
+        private void invertAll() {
+            for (int index = defined.nextSetBit(0); index >= 0; index = defined.nextSetBit(index + 1)) {
+                values[index] = -values[index];
+            }
+        }
+
+        private void forEachDefined(IndexedValueConsumer consumer) {
+            for (int index = defined.nextSetBit(0); index >= 0; index = defined.nextSetBit(index + 1)) {
+                consumer.accept(index, values[index]);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface IndexedValueConsumer {
+        void accept(int index, double value);
+    }
+
+    /**
+     * State result of a CNEC and slot of its network element in this state result, memoized so that the
+     * values of a CNEC are read without looking up its state nor its network element again
+     */
+    private record CnecLocation(StateResult stateResult, int slot) {
+        private static final CnecLocation NOT_COMPUTED = new CnecLocation(null, -1);
+
+        private static CnecLocation of(StateResult stateResult, Integer functionIndex) {
+            return stateResult == null || functionIndex == null ? NOT_COMPUTED : new CnecLocation(stateResult, stateResult.getSlot(functionIndex));
+        }
+
+        private double getReferenceFlow(TwoSides side) {
+            return stateResult == null ? 0.0 : stateResult.getReferenceFlow(slot, side);
+        }
+
+        private double getReferenceIntensity(TwoSides side) {
+            return stateResult == null ? 0.0 : stateResult.getReferenceIntensity(slot, side);
+        }
+
+        private double getFlowSensitivity(int variableIndex, TwoSides side) {
+            return stateResult == null ? 0.0 : stateResult.getFlowSensitivity(variableIndex, slot, side);
         }
     }
 
@@ -66,7 +240,12 @@ public class SystematicSensitivityResult {
     private final StateResult nStateResult = new StateResult();
     private final Map<Integer, Map<String, StateResult>> postContingencyResults = new HashMap<>();
 
-    private final Map<Cnec<?>, StateResult> memoizedStateResultPerCnec = new ConcurrentHashMap<>();
+    // locations of the CNECs, by CNEC id
+    private final Map<String, CnecLocation> memoizedLocationPerCnec = new ConcurrentHashMap<>();
+
+    // network elements ids (functions) and sensitivity variables ids are interned, and shared by all state results
+    private final Map<String, Integer> functionIndices = new HashMap<>();
+    private final Map<String, Integer> variableIndices = new HashMap<>();
 
     public SystematicSensitivityResult() {
         this.status = SensitivityComputationStatus.SUCCESS;
@@ -78,6 +257,7 @@ public class SystematicSensitivityResult {
 
     public SystematicSensitivityResult completeData(SensitivityAnalysisResult results, Integer instantOrder) {
         postContingencyResults.putIfAbsent(instantOrder, new HashMap<>());
+        memoizedLocationPerCnec.clear();
         // status set to failure initially, and set to success if we find at least one non NaN value
         this.status = SensitivityComputationStatus.FAILURE;
         if (results == null) {
@@ -86,15 +266,26 @@ public class SystematicSensitivityResult {
 
         boolean anyContingencyFailure = false;
 
-        results.getPreContingencyValues().forEach(sensitivityValue -> fillIndividualValue(sensitivityValue, nStateResult, results.getFactors(), SensitivityAnalysisResult.Status.SUCCESS));
+        List<SensitivityFactor> factors = results.getFactors();
+        int[] functionIndexPerFactor = new int[factors.size()];
+        int[] variableIndexPerFactor = new int[factors.size()];
+        for (int i = 0; i < factors.size(); i++) {
+            functionIndexPerFactor[i] = functionIndices.computeIfAbsent(factors.get(i).getFunctionId(), k -> functionIndices.size());
+            variableIndexPerFactor[i] = variableIndices.computeIfAbsent(factors.get(i).getVariableId(), k -> variableIndices.size());
+        }
+
+        nStateResult.addFunctions(getFunctionIndices(results.getPreContingencyValues(), functionIndexPerFactor));
+        results.getPreContingencyValues().forEach(sensitivityValue -> fillIndividualValue(sensitivityValue, nStateResult, factors, functionIndexPerFactor, variableIndexPerFactor, SensitivityAnalysisResult.Status.SUCCESS));
         for (SensitivityAnalysisResult.SensitivityContingencyStatus contingencyStatus : results.getContingencyStatuses()) {
             if (contingencyStatus.getStatus() == SensitivityAnalysisResult.Status.FAILURE) {
                 anyContingencyFailure = true;
             }
+            List<SensitivityValue> contingencyValues = results.getValues(contingencyStatus.getContingencyId());
             StateResult contingencyStateResult = new StateResult();
             contingencyStateResult.status = contingencyStatus.getStatus().equals(SensitivityAnalysisResult.Status.FAILURE) ? SensitivityComputationStatus.FAILURE : SensitivityComputationStatus.SUCCESS;
-            results.getValues(contingencyStatus.getContingencyId()).forEach(sensitivityValue ->
-                fillIndividualValue(sensitivityValue, contingencyStateResult, results.getFactors(), contingencyStatus.getStatus())
+            contingencyStateResult.addFunctions(getFunctionIndices(contingencyValues, functionIndexPerFactor));
+            contingencyValues.forEach(sensitivityValue ->
+                fillIndividualValue(sensitivityValue, contingencyStateResult, factors, functionIndexPerFactor, variableIndexPerFactor, contingencyStatus.getStatus())
             );
             postContingencyResults.get(instantOrder).put(contingencyStatus.getContingencyId(), contingencyStateResult);
         }
@@ -107,35 +298,16 @@ public class SystematicSensitivityResult {
         return this;
     }
 
-    public SystematicSensitivityResult postTreatIntensities() {
-        postTreatIntensitiesOnState(nStateResult);
-        postContingencyResults.values().forEach(map -> map.values().forEach(this::postTreatIntensitiesOnState));
-        return this;
+    private static BitSet getFunctionIndices(List<SensitivityValue> values, int[] functionIndexPerFactor) {
+        BitSet functionIndices = new BitSet();
+        values.forEach(sensitivityValue -> functionIndices.set(functionIndexPerFactor[sensitivityValue.getFactorIndex()]));
+        return functionIndices;
     }
 
-    /**
-     * Sensitivity providers return absolute values for intensities
-     * In case flows are negative, we shall replace this value by its opposite
-     */
-    private void postTreatIntensitiesOnState(StateResult stateResult) {
-        stateResult.getReferenceFlows()
-            .forEach((neId, sideAndFlow) -> {
-                if (stateResult.getReferenceIntensities().containsKey(neId)) {
-                    sideAndFlow.forEach((side, flow) -> {
-                        if (flow < 0) {
-                            stateResult.getReferenceIntensities().get(neId).put(side, -stateResult.getReferenceIntensities().get(neId).get(side));
-                        }
-                    });
-                }
-                if (stateResult.getIntensitySensitivities().containsKey(neId)) {
-                    sideAndFlow.forEach((side, flow) -> {
-                        if (flow < 0) {
-                            Map<String, Map<TwoSides, Double>> sensitivities = stateResult.getIntensitySensitivities().get(neId);
-                            sensitivities.forEach((actionId, sideToSensi) -> sensitivities.get(actionId).put(side, -sideToSensi.get(side)));
-                        }
-                    });
-                }
-            });
+    public SystematicSensitivityResult postTreatIntensities() {
+        nStateResult.postTreatIntensities();
+        postContingencyResults.values().forEach(map -> map.values().forEach(StateResult::postTreatIntensities));
+        return this;
     }
 
     public SystematicSensitivityResult postTreatHvdcs(Network network, Map<String, HvdcRangeAction> hvdcRangeActions) {
@@ -149,28 +321,15 @@ public class SystematicSensitivityResult {
     private void postTreatHvdcsOnState(Network network, Map<String, HvdcRangeAction> hvdcRangeActions, StateResult stateResult) {
         hvdcRangeActions.forEach((networkElementId, hvdcRangeAction) -> {
             HvdcLine hvdcLine = network.getHvdcLine(networkElementId);
-            if (hvdcLine.getConvertersMode() == HvdcLine.ConvertersMode.SIDE_1_INVERTER_SIDE_2_RECTIFIER) {
-                stateResult.getFlowSensitivities().forEach((cnecId, cnecFlowSensis) -> {
-                    if (cnecFlowSensis.containsKey(networkElementId)) {
-                        cnecFlowSensis.put(networkElementId, invertMapValues(cnecFlowSensis.get(networkElementId)));
-                    }
-                });
-                stateResult.getIntensitySensitivities().forEach((cnecId, cnecIntensitySensis) -> {
-                    if (cnecIntensitySensis.containsKey(networkElementId)) {
-                        cnecIntensitySensis.put(networkElementId, invertMapValues(cnecIntensitySensis.get(networkElementId)));
-                    }
-                });
+            Integer variableIndex = variableIndices.get(networkElementId);
+            if (variableIndex != null && hvdcLine.getConvertersMode() == HvdcLine.ConvertersMode.SIDE_1_INVERTER_SIDE_2_RECTIFIER) {
+                stateResult.invertFlowSensitivities(variableIndex);
             }
         });
     }
 
-    private Map<TwoSides, Double> invertMapValues(Map<TwoSides, Double> map) {
-        Map<TwoSides, Double> invertedMap = new EnumMap<>(TwoSides.class);
-        map.forEach((key, value) -> invertedMap.put(key, -value));
-        return invertedMap;
-    }
-
-    private void fillIndividualValue(SensitivityValue value, StateResult stateResult, List<SensitivityFactor> factors, SensitivityAnalysisResult.Status status) {
+    private void fillIndividualValue(SensitivityValue value, StateResult stateResult, List<SensitivityFactor> factors,
+                                     int[] functionIndexPerFactor, int[] variableIndexPerFactor, SensitivityAnalysisResult.Status status) {
         double reference = status.equals(SensitivityAnalysisResult.Status.FAILURE) ? Double.NaN : value.getFunctionReference();
         double sensitivity = status.equals(SensitivityAnalysisResult.Status.FAILURE) ? Double.NaN : value.getValue();
         SensitivityFactor factor = factors.get(value.getFactorIndex());
@@ -193,18 +352,12 @@ public class SystematicSensitivityResult {
             activePowerCoefficient = -1; // Open RAO always considers flows as seen from Side 1. Sensitivity providers invert side flows.
         }
 
+        int slot = stateResult.getSlot(functionIndexPerFactor[value.getFactorIndex()]);
         if (factor.getFunctionType().equals(SensitivityFunctionType.BRANCH_ACTIVE_POWER_1) || factor.getFunctionType().equals(SensitivityFunctionType.BRANCH_ACTIVE_POWER_2)) {
-            stateResult.getReferenceFlows()
-                .computeIfAbsent(factor.getFunctionId(), k -> new EnumMap<>(TwoSides.class))
-                .putIfAbsent(side, reference * activePowerCoefficient);
-            stateResult.getFlowSensitivities()
-                .computeIfAbsent(factor.getFunctionId(), k -> new HashMap<>())
-                .computeIfAbsent(factor.getVariableId(), k -> new EnumMap<>(TwoSides.class))
-                .putIfAbsent(side, sensitivity * activePowerCoefficient);
+            stateResult.putReferenceFlowIfAbsent(slot, side, reference * activePowerCoefficient);
+            stateResult.putFlowSensitivityIfAbsent(variableIndexPerFactor[value.getFactorIndex()], slot, side, sensitivity * activePowerCoefficient, variableIndices.size());
         } else if (factor.getFunctionType().equals(SensitivityFunctionType.BRANCH_CURRENT_1) || factor.getFunctionType().equals(SensitivityFunctionType.BRANCH_CURRENT_2)) {
-            stateResult.getReferenceIntensities()
-                .computeIfAbsent(factor.getFunctionId(), k -> new EnumMap<>(TwoSides.class))
-                .putIfAbsent(side, reference);
+            stateResult.putReferenceIntensityIfAbsent(slot, side, reference);
         }
     }
 
@@ -247,79 +400,85 @@ public class SystematicSensitivityResult {
     }
 
     public double getReferenceFlow(FlowCnec cnec, TwoSides side) {
-        StateResult stateResult = getCnecStateResult(cnec);
-        if (stateResult == null ||
-                !stateResult.getReferenceFlows().containsKey(cnec.getNetworkElement().getId()) ||
-                !stateResult.getReferenceFlows().get(cnec.getNetworkElement().getId()).containsKey(side)) {
-            return 0.0;
-        }
-        return stateResult.getReferenceFlows().get(cnec.getNetworkElement().getId()).get(side);
+        return getCnecLocation(cnec).getReferenceFlow(side);
     }
 
     public double getReferenceFlow(FlowCnec cnec, TwoSides side, Instant instant) {
-        StateResult stateResult = getCnecStateResult(cnec, instant);
-        if (stateResult == null ||
-            !stateResult.getReferenceFlows().containsKey(cnec.getNetworkElement().getId()) ||
-            !stateResult.getReferenceFlows().get(cnec.getNetworkElement().getId()).containsKey(side)) {
-            return 0.0;
-        }
-        return stateResult.getReferenceFlows().get(cnec.getNetworkElement().getId()).get(side);
+        return getCnecLocation(cnec, instant).getReferenceFlow(side);
     }
 
     public double getReferenceIntensity(FlowCnec cnec, TwoSides side) {
-        StateResult stateResult = getCnecStateResult(cnec);
-        if (stateResult == null ||
-                !stateResult.getReferenceIntensities().containsKey(cnec.getNetworkElement().getId()) ||
-                !stateResult.getReferenceIntensities().get(cnec.getNetworkElement().getId()).containsKey(side)) {
-            return 0.0;
-        }
-        return stateResult.getReferenceIntensities().get(cnec.getNetworkElement().getId()).get(side);
+        return getCnecLocation(cnec).getReferenceIntensity(side);
     }
 
     public double getReferenceIntensity(FlowCnec cnec, TwoSides side, Instant instant) {
-        StateResult stateResult = getCnecStateResult(cnec, instant);
-        if (stateResult == null ||
-            !stateResult.getReferenceIntensities().containsKey(cnec.getNetworkElement().getId()) ||
-            !stateResult.getReferenceIntensities().get(cnec.getNetworkElement().getId()).containsKey(side)) {
-            return 0.0;
-        }
-        return stateResult.getReferenceIntensities().get(cnec.getNetworkElement().getId()).get(side);
+        return getCnecLocation(cnec, instant).getReferenceIntensity(side);
     }
 
     public double getSensitivityOnFlow(RangeAction<?> rangeAction, FlowCnec cnec, TwoSides side) {
         return RangeActionSensiHandler.get(rangeAction).getSensitivityOnFlow(cnec, side, this);
     }
 
+    /**
+     * Sensitivities of the flow of a CNEC on the given side to each of the range actions, in the order
+     * of the list. The state and network element of the CNEC are looked up once for all range actions.
+     */
+    public double[] getSensitivitiesOnFlow(List<RangeAction<?>> rangeActions, FlowCnec cnec, TwoSides side) {
+        CnecLocation cnecLocation = getCnecLocation(cnec);
+        double[] sensitivities = new double[rangeActions.size()];
+        for (int i = 0; i < rangeActions.size(); i++) {
+            sensitivities[i] = RangeActionSensiHandler.get(rangeActions.get(i))
+                .getSensitivityOnFlow(variableId -> cnecLocation.getFlowSensitivity(getVariableIndex(variableId), side));
+        }
+        return sensitivities;
+    }
+
     public double getSensitivityOnFlow(SensitivityVariableSet glsk, FlowCnec cnec, TwoSides side) {
         return getSensitivityOnFlow(glsk.getId(), cnec, side);
     }
 
     public double getSensitivityOnFlow(String variableId, FlowCnec cnec, TwoSides side) {
-        StateResult stateResult = getCnecStateResult(cnec);
-        if (stateResult == null ||
-                !stateResult.getFlowSensitivities().containsKey(cnec.getNetworkElement().getId()) ||
-                !stateResult.getFlowSensitivities().get(cnec.getNetworkElement().getId()).containsKey(variableId) ||
-                !stateResult.getFlowSensitivities().get(cnec.getNetworkElement().getId()).get(variableId).containsKey(side)) {
-            return 0.0;
-        }
-        return stateResult.getFlowSensitivities().get(cnec.getNetworkElement().getId()).get(variableId).get(side);
+        return getSensitivityOnFlow(getVariableIndex(variableId), cnec, side);
     }
 
     public double getSensitivityOnFlow(String variableId, FlowCnec cnec, TwoSides side, Instant instant) {
-        StateResult stateResult = getCnecStateResult(cnec, instant);
-        if (stateResult == null ||
-            !stateResult.getFlowSensitivities().containsKey(cnec.getNetworkElement().getId()) ||
-            !stateResult.getFlowSensitivities().get(cnec.getNetworkElement().getId()).containsKey(variableId) ||
-            !stateResult.getFlowSensitivities().get(cnec.getNetworkElement().getId()).get(variableId).containsKey(side)) {
-            return 0.0;
+        return getCnecLocation(cnec, instant).getFlowSensitivity(getVariableIndex(variableId), side);
+    }
+
+    /**
+     * Interned index of a sensitivity variable, to be given to the getters taking variable indices.
+     * Returns -1 if no sensitivity has been computed for this variable.
+     */
+    public int getVariableIndex(String variableId) {
+        return variableIndices.getOrDefault(variableId, -1);
+    }
+
+    public double getSensitivityOnFlow(int variableIndex, FlowCnec cnec, TwoSides side) {
+        return getCnecLocation(cnec).getFlowSensitivity(variableIndex, side);
+    }
+
+    /**
+     * Sensitivities of the flow of a CNEC on the given side to each of the variables, given by their
+     * interned indices, in the order of the array
+     */
+    public double[] getSensitivitiesOnFlow(int[] variableIndices, FlowCnec cnec, TwoSides side) {
+        CnecLocation cnecLocation = getCnecLocation(cnec);
+        double[] sensitivities = new double[variableIndices.length];
+        for (int i = 0; i < variableIndices.length; i++) {
+            sensitivities[i] = cnecLocation.getFlowSensitivity(variableIndices[i], side);
         }
-        return stateResult.getFlowSensitivities().get(cnec.getNetworkElement().getId()).get(variableId).get(side);
+        return sensitivities;
+    }
+
+    private CnecLocation getCnecLocation(FlowCnec cnec) {
+        return memoizedLocationPerCnec.computeIfAbsent(cnec.getId(), id -> CnecLocation.of(getCnecStateResult(cnec), functionIndices.get(cnec.getNetworkElement().getId())));
+    }
+
+    private CnecLocation getCnecLocation(FlowCnec cnec, Instant instant) {
+        return CnecLocation.of(getCnecStateResult(cnec, instant), functionIndices.get(cnec.getNetworkElement().getId()));
     }
 
     private StateResult getCnecStateResult(Cnec<?> cnec) {
-        if (memoizedStateResultPerCnec.containsKey(cnec)) {
-            return memoizedStateResultPerCnec.get(cnec);
-        }
         Optional<Contingency> optionalContingency = cnec.getState().getContingency();
         if (optionalContingency.isPresent()) {
             List<Integer> possibleInstants = postContingencyResults.keySet().stream()
@@ -330,8 +489,7 @@ public class SystematicSensitivityResult {
                 // Use latest sensi computed on the cnec's contingency amidst the last instants before cnec state.
                 String contingencyId = optionalContingency.get().getId();
                 if (postContingencyResults.get(instantOrder).containsKey(contingencyId)) {
-                    memoizedStateResultPerCnec.put(cnec, postContingencyResults.get(instantOrder).get(contingencyId));
-                    return memoizedStateResultPerCnec.get(cnec);
+                    return postContingencyResults.get(instantOrder).get(contingencyId);
                 }
             }
             return null;
@@ -7,14 +7,13 @@
 package com.powsybl.openrao.sensitivityanalysis.rasensihandler;
 
 import com.powsybl.openrao.commons.OpenRaoException;
-import com.powsybl.openrao.data.crac.api.cnec.FlowCnec;
-import com.powsybl.iidm.network.TwoSides;
 import com.powsybl.openrao.data.crac.api.rangeaction.HvdcRangeAction;
-import com.powsybl.openrao.sensitivityanalysis.SystematicSensitivityResult;
 import com.powsybl.iidm.network.HvdcLine;
 import com.powsybl.iidm.network.Identifiable;
 import com.powsybl.iidm.network.Network;
 
+import java.util.function.ToDoubleFunction;
+
 /**
  * @author Philippe Edwards {@literal <philippe.edwards at rte-france.com>}
  */
@@ -27,8 +26,8 @@ public class HvdcRangeActionSensiHandler implements RangeActionSensiHandler {
     }
 
     @Override
-    public double getSensitivityOnFlow(FlowCnec cnec, TwoSides side, SystematicSensitivityResult sensitivityResult) {
-        return sensitivityResult.getSensitivityOnFlow(hvdcRangeAction.getNetworkElement().getId(), cnec, side);
+    public double getSensitivityOnFlow(ToDoubleFunction<String> sensitivityPerVariable) {
+        return sensitivityPerVariable.applyAsDouble(hvdcRangeAction.getNetworkElement().getId());
     }
 
     @Override
@@ -7,10 +7,7 @@
 package com.powsybl.openrao.sensitivityanalysis.rasensihandler;
 
 import com.powsybl.openrao.commons.OpenRaoException;
-import com.powsybl.openrao.data.crac.api.cnec.FlowCnec;
-import com.powsybl.iidm.network.TwoSides;
 import com.powsybl.openrao.data.crac.api.rangeaction.InjectionRangeAction;
-import com.powsybl.openrao.sensitivityanalysis.SystematicSensitivityResult;
 import com.powsybl.iidm.network.Generator;
 import com.powsybl.iidm.network.Identifiable;
 import com.powsybl.iidm.network.Load;
@@ -19,6 +16,7 @@ import com.powsybl.sensitivity.WeightedSensitivityVariable;
 
 import java.util.List;
 import java.util.Map;
+import java.util.function.ToDoubleFunction;
 import java.util.stream.Collectors;
 
 /**
@@ -35,9 +33,9 @@ public class InjectionRangeActionSensiHandler implements RangeActionSensiHandler
     }
 
     @Override
-    public double getSensitivityOnFlow(FlowCnec cnec, TwoSides side, SystematicSensitivityResult sensitivityResult) {
-        return sensitivityResult.getSensitivityOnFlow(getPositiveGlskMapId(), cnec, side) * getKeySum(getPositiveGlskMap())
-                - sensitivityResult.getSensitivityOnFlow(getNegativeGlskMapId(), cnec, side) * getKeySum(getNegativeGlskMap());
+    public double getSensitivityOnFlow(ToDoubleFunction<String> sensitivityPerVariable) {
+        return sensitivityPerVariable.applyAsDouble(getPositiveGlskMapId()) * getKeySum(getPositiveGlskMap())
+                - sensitivityPerVariable.applyAsDouble(getNegativeGlskMapId()) * getKeySum(getNegativeGlskMap());
     }
 
     @Override
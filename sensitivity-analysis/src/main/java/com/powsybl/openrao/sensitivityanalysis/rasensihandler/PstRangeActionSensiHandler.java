@@ -7,12 +7,11 @@
 package com.powsybl.openrao.sensitivityanalysis.rasensihandler;
 
 import com.powsybl.openrao.commons.OpenRaoException;
-import com.powsybl.openrao.data.crac.api.cnec.FlowCnec;
-import com.powsybl.iidm.network.TwoSides;
 import com.powsybl.openrao.data.crac.api.rangeaction.PstRangeAction;
-import com.powsybl.openrao.sensitivityanalysis.SystematicSensitivityResult;
 import com.powsybl.iidm.network.*;
 
+import java.util.function.ToDoubleFunction;
+
 /**
  * @author Philippe Edwards {@literal <philippe.edwards at rte-france.com>}
  */
@@ -25,8 +24,8 @@ public class PstRangeActionSensiHandler implements RangeActionSensiHandler {
     }
 
     @Override
-    public double getSensitivityOnFlow(FlowCnec cnec, TwoSides side, SystematicSensitivityResult sensitivityResult) {
-        return sensitivityResult.getSensitivityOnFlow(pstRangeAction.getNetworkElement().getId(), cnec, side);
+    public double getSensitivityOnFlow(ToDoubleFunction<String> sensitivityPerVariable) {
+        return sensitivityPerVariable.applyAsDouble(pstRangeAction.getNetworkElement().getId());
     }
 
     @Override
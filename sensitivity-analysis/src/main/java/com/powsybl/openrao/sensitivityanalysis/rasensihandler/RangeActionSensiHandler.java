@@ -16,12 +16,22 @@ import com.powsybl.openrao.data.crac.api.rangeaction.RangeAction;
 import com.powsybl.openrao.sensitivityanalysis.SystematicSensitivityResult;
 import com.powsybl.iidm.network.Network;
 
+import java.util.function.ToDoubleFunction;
+
 /**
  * @author Baptiste Seguinot {@literal <baptiste.seguinot at rte-france.com>}
  */
 public interface RangeActionSensiHandler {
 
-    double getSensitivityOnFlow(FlowCnec cnec, TwoSides side, SystematicSensitivityResult sensitivityResult);
+    default double getSensitivityOnFlow(FlowCnec cnec, TwoSides side, SystematicSensitivityResult sensitivityResult) {
+        return getSensitivityOnFlow(variableId -> sensitivityResult.getSensitivityOnFlow(variableId, cnec, side));
+    }
+
+    /**
+     * Sensitivity of a flow to the range action, built from the sensitivities of this flow to the
+     * sensitivity variables of the range action, given by their id
+     */
+    double getSensitivityOnFlow(ToDoubleFunction<String> sensitivityPerVariable);
 
     void checkConsistency(Network network);
 
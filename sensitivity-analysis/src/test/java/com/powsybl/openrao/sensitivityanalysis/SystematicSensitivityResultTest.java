@@ -372,4 +372,175 @@ class SystematicSensitivityResultTest {
 
     }
 
+    private static SensitivityFactor flowFactor(String functionId, String variableId, String contingencyId) {
+        return new SensitivityFactor(
+            SensitivityFunctionType.BRANCH_ACTIVE_POWER_1,
+            functionId,
+            SensitivityVariableType.TRANSFORMER_PHASE,
+            variableId,
+            false,
+            contingencyId == null ? new ContingencyContext(null, ContingencyContextType.NONE) : new ContingencyContext(contingencyId, ContingencyContextType.SPECIFIC)
+        );
+    }
+
+    @Test
+    void testUnknownCnecsAndVariables() {
+        setUpWith12Nodes();
+        SensitivityAnalysisResult sensitivityAnalysisResult = new SensitivityAnalysisResult(
+            List.of(flowFactor("BBE2AA1  FFR3AA1  1", "BBE2AA1  BBE3AA1  1", null)),
+            List.of(),
+            List.of(new SensitivityValue(0, -1, 0.5, 10.)));
+        SystematicSensitivityResult result = new SystematicSensitivityResult().completeData(sensitivityAnalysisResult, crac.getOutageInstant().getOrder());
+
+        FlowCnec cnec1 = crac.getFlowCnec("cnec1basecase");
+        assertEquals(10., result.getReferenceFlow(cnec1, TwoSides.ONE), EPSILON);
+        assertEquals(0.5, result.getSensitivityOnFlow("BBE2AA1  BBE3AA1  1", cnec1, TwoSides.ONE), EPSILON);
+        // values which have not been computed are 0
+        assertEquals(0., result.getReferenceFlow(cnec1, TwoSides.TWO), EPSILON);
+        assertEquals(0., result.getReferenceIntensity(cnec1, TwoSides.ONE), EPSILON);
+        assertEquals(0., result.getSensitivityOnFlow("BBE2AA1  BBE3AA1  1", cnec1, TwoSides.TWO), EPSILON);
+        // unknown variable
+        assertEquals(0., result.getSensitivityOnFlow("unknown-variable", cnec1, TwoSides.ONE), EPSILON);
+        // unknown network element
+        FlowCnec cnec2 = crac.getFlowCnec("cnec2basecase");
+        assertEquals(0., result.getReferenceFlow(cnec2, TwoSides.ONE), EPSILON);
+        assertEquals(0., result.getReferenceIntensity(cnec2, TwoSides.ONE), EPSILON);
+        assertEquals(0., result.getSensitivityOnFlow("BBE2AA1  BBE3AA1  1", cnec2, TwoSides.ONE), EPSILON);
+        // contingency which has not been computed
+        FlowCnec curativeCnec = crac.getFlowCnec("cnec1stateCurativeContingency1");
+        assertEquals(0., result.getReferenceFlow(curativeCnec, TwoSides.ONE), EPSILON);
+        assertEquals(0., result.getReferenceFlow(curativeCnec, TwoSides.ONE, crac.getInstant(CURATIVE_INSTANT_ID)), EPSILON);
+        assertEquals(0., result.getSensitivityOnFlow("BBE2AA1  BBE3AA1  1", curativeCnec, TwoSides.ONE), EPSILON);
+        assertEquals(SystematicSensitivityResult.SensitivityComputationStatus.FAILURE, result.getStatus(curativeCnec.getState()));
+        assertEquals(SystematicSensitivityResult.SensitivityComputationStatus.SUCCESS, result.getStatus(crac.getPreventiveState()));
+        assertTrue(result.getContingencies().isEmpty());
+    }
+
+    @Test
+    void testStatusPerStateWithSeveralContingencies() {
+        setUpWith12Nodes();
+        SensitivityAnalysisResult sensitivityAnalysisResult = new SensitivityAnalysisResult(
+            List.of(
+                flowFactor("BBE2AA1  FFR3AA1  1", "BBE2AA1  BBE3AA1  1", null),
+                flowFactor("BBE2AA1  FFR3AA1  1", "BBE2AA1  BBE3AA1  1", "Contingency FR1 FR3"),
+                flowFactor("BBE2AA1  FFR3AA1  1", "BBE2AA1  BBE3AA1  1", "Contingency FR1 FR2")),
+            List.of(
+                new SensitivityAnalysisResult.SensitivityContingencyStatus("Contingency FR1 FR3", SensitivityAnalysisResult.Status.SUCCESS),
+                new SensitivityAnalysisResult.SensitivityContingencyStatus("Contingency FR1 FR2", SensitivityAnalysisResult.Status.FAILURE)),
+            List.of(
+                new SensitivityValue(0, -1, 0.5, 10.),
+                new SensitivityValue(1, 0, -5., -20.),
+                new SensitivityValue(2, 1, 1., 30.)));
+        SystematicSensitivityResult result = new SystematicSensitivityResult().completeData(sensitivityAnalysisResult, crac.getOutageInstant().getOrder());
+
+        assertTrue(result.isSuccess());
+        assertEquals(SystematicSensitivityResult.SensitivityComputationStatus.PARTIAL_FAILURE, result.getStatus());
+        assertEquals(Set.of("Contingency FR1 FR3", "Contingency FR1 FR2"), result.getContingencies());
+
+        FlowCnec succeededCnec = crac.getFlowCnec("cnec1stateCurativeContingency1");
+        FlowCnec failedCnec = crac.getFlowCnec("cnec1stateCurativeContingency2");
+        assertEquals(SystematicSensitivityResult.SensitivityComputationStatus.SUCCESS, result.getStatus(crac.getPreventiveState()));
+        assertEquals(SystematicSensitivityResult.SensitivityComputationStatus.SUCCESS, result.getStatus(succeededCnec.getState()));
+        assertEquals(SystematicSensitivityResult.SensitivityComputationStatus.FAILURE, result.getStatus(failedCnec.getState()));
+
+        assertEquals(10., result.getReferenceFlow(crac.getFlowCnec("cnec1basecase"), TwoSides.ONE), EPSILON);
+        assertEquals(-20., result.getReferenceFlow(succeededCnec, TwoSides.ONE), EPSILON);
+        assertEquals(-5., result.getSensitivityOnFlow("BBE2AA1  BBE3AA1  1", succeededCnec, TwoSides.ONE), EPSILON);
+        // the values of the failed contingency are not used
+        assertTrue(Double.isNaN(result.getReferenceFlow(failedCnec, TwoSides.ONE)));
+        assertTrue(Double.isNaN(result.getSensitivityOnFlow("BBE2AA1  BBE3AA1  1", failedCnec, TwoSides.ONE)));
+    }
+
+    @Test
+    void testCompleteDataMergesSeveralRuns() {
+        setUpWith12Nodes();
+        SensitivityAnalysisResult outageSensitivityAnalysisResult = new SensitivityAnalysisResult(
+            List.of(
+                flowFactor("BBE2AA1  FFR3AA1  1", "BBE2AA1  BBE3AA1  1", null),
+                flowFactor("BBE2AA1  FFR3AA1  1", "BBE2AA1  BBE3AA1  1", "Contingency FR1 FR3")),
+            List.of(new SensitivityAnalysisResult.SensitivityContingencyStatus("Contingency FR1 FR3", SensitivityAnalysisResult.Status.SUCCESS)),
+            List.of(
+                new SensitivityValue(0, -1, 0.5, 10.),
+                new SensitivityValue(1, 0, -5., -20.)));
+        // the second run introduces a new network element, a new variable and a new contingency
+        SensitivityAnalysisResult curativeSensitivityAnalysisResult = new SensitivityAnalysisResult(
+            List.of(
+                flowFactor("FFR2AA1  DDE3AA1  1", "10YFR-RTE------C", null),
+                flowFactor("BBE2AA1  FFR3AA1  1", "BBE2AA1  BBE3AA1  1", null),
+                flowFactor("BBE2AA1  FFR3AA1  1", "BBE2AA1  BBE3AA1  1", "Contingency FR1 FR3"),
+                flowFactor("FFR2AA1  DDE3AA1  1", "10YFR-RTE------C", "Contingency FR1 FR2")),
+            List.of(
+                new SensitivityAnalysisResult.SensitivityContingencyStatus("Contingency FR1 FR3", SensitivityAnalysisResult.Status.SUCCESS),
+                new SensitivityAnalysisResult.SensitivityContingencyStatus("Contingency FR1 FR2", SensitivityAnalysisResult.Status.SUCCESS)),
+            List.of(
+                new SensitivityValue(0, -1, 0.2, 40.),
+                new SensitivityValue(1, -1, 99., 99.),
+                new SensitivityValue(2, 0, -7., -30.),
+                new SensitivityValue(3, 1, 2., 50.)));
+
+        SystematicSensitivityResult result = new SystematicSensitivityResult()
+            .completeData(outageSensitivityAnalysisResult, crac.getOutageInstant().getOrder())
+            .completeData(curativeSensitivityAnalysisResult, crac.getInstant(CURATIVE_INSTANT_ID).getOrder());
+
+        assertEquals(SystematicSensitivityResult.SensitivityComputationStatus.SUCCESS, result.getStatus());
+        assertEquals(Set.of("Contingency FR1 FR3", "Contingency FR1 FR2"), result.getContingencies());
+
+        // preventive values of the first run are kept
+        FlowCnec cnec1 = crac.getFlowCnec("cnec1basecase");
+        assertEquals(10., result.getReferenceFlow(cnec1, TwoSides.ONE), EPSILON);
+        assertEquals(0.5, result.getSensitivityOnFlow("BBE2AA1  BBE3AA1  1", cnec1, TwoSides.ONE), EPSILON);
+        assertEquals(0., result.getSensitivityOnFlow("10YFR-RTE------C", cnec1, TwoSides.ONE), EPSILON);
+        FlowCnec cnec2 = crac.getFlowCnec("cnec2basecase");
+        assertEquals(40., result.getReferenceFlow(cnec2, TwoSides.ONE), EPSILON);
+        assertEquals(0.2, result.getSensitivityOnFlow("10YFR-RTE------C", cnec2, TwoSides.ONE), EPSILON);
+        assertEquals(0., result.getSensitivityOnFlow("BBE2AA1  BBE3AA1  1", cnec2, TwoSides.ONE), EPSILON);
+
+        // post-contingency values are read from the latest run before the instant
+        FlowCnec curativeCnec1 = crac.getFlowCnec("cnec1stateCurativeContingency1");
+        assertEquals(-30., result.getReferenceFlow(curativeCnec1, TwoSides.ONE), EPSILON);
+        assertEquals(-7., result.getSensitivityOnFlow("BBE2AA1  BBE3AA1  1", curativeCnec1, TwoSides.ONE), EPSILON);
+        assertEquals(-20., result.getReferenceFlow(curativeCnec1, TwoSides.ONE, crac.getOutageInstant()), EPSILON);
+        assertEquals(-5., result.getSensitivityOnFlow("BBE2AA1  BBE3AA1  1", curativeCnec1, TwoSides.ONE, crac.getOutageInstant()), EPSILON);
+        FlowCnec curativeCnec2 = crac.getFlowCnec("cnec2stateCurativeContingency2");
+        assertEquals(50., result.getReferenceFlow(curativeCnec2, TwoSides.ONE), EPSILON);
+        assertEquals(2., result.getSensitivityOnFlow("10YFR-RTE------C", curativeCnec2, TwoSides.ONE), EPSILON);
+        assertEquals(0., result.getReferenceFlow(curativeCnec2, TwoSides.ONE, crac.getOutageInstant()), EPSILON);
+        assertEquals(SystematicSensitivityResult.SensitivityComputationStatus.SUCCESS, result.getStatus(curativeCnec2.getState()));
+    }
+
+    @Test
+    void testGettersByVariableIndexWhenLaterRunMovesSlots() {
+        setUpWith12Nodes();
+        // the network element of cnec1 is first only computed after a contingency
+        SensitivityAnalysisResult outageSensitivityAnalysisResult = new SensitivityAnalysisResult(
+            List.of(
+                flowFactor("BBE2AA1  FFR3AA1  1", "BBE2AA1  BBE3AA1  1", "Contingency FR1 FR3"),
+                flowFactor("FFR2AA1  DDE3AA1  1", "BBE2AA1  BBE3AA1  1", null)),
+            List.of(new SensitivityAnalysisResult.SensitivityContingencyStatus("Contingency FR1 FR3", SensitivityAnalysisResult.Status.SUCCESS)),
+            List.of(
+                new SensitivityValue(0, 0, -5., -20.),
+                new SensitivityValue(1, -1, 0.5, 10.)));
+        SystematicSensitivityResult result = new SystematicSensitivityResult().completeData(outageSensitivityAnalysisResult, crac.getOutageInstant().getOrder());
+
+        FlowCnec cnec1 = crac.getFlowCnec("cnec1basecase");
+        FlowCnec cnec2 = crac.getFlowCnec("cnec2basecase");
+        assertEquals(10., result.getReferenceFlow(cnec2, TwoSides.ONE), EPSILON);
+        assertEquals(0., result.getReferenceFlow(cnec1, TwoSides.ONE), EPSILON);
+
+        // the second run adds the network element of cnec1 before the one of cnec2 in the preventive state
+        SensitivityAnalysisResult curativeSensitivityAnalysisResult = new SensitivityAnalysisResult(
+            List.of(flowFactor("BBE2AA1  FFR3AA1  1", "BBE2AA1  BBE3AA1  1", null)),
+            List.of(),
+            List.of(new SensitivityValue(0, -1, 0.7, 30.)));
+        result.completeData(curativeSensitivityAnalysisResult, crac.getInstant(CURATIVE_INSTANT_ID).getOrder());
+
+        int pstIndex = result.getVariableIndex("BBE2AA1  BBE3AA1  1");
+        assertEquals(-1, result.getVariableIndex("unknown-variable"));
+        assertEquals(10., result.getReferenceFlow(cnec2, TwoSides.ONE), EPSILON);
+        assertEquals(0.5, result.getSensitivityOnFlow(pstIndex, cnec2, TwoSides.ONE), EPSILON);
+        assertEquals(30., result.getReferenceFlow(cnec1, TwoSides.ONE), EPSILON);
+        assertArrayEquals(new double[]{0.7, 0.}, result.getSensitivitiesOnFlow(new int[]{pstIndex, -1}, cnec1, TwoSides.ONE), EPSILON);
+        assertArrayEquals(new double[]{0.5}, result.getSensitivitiesOnFlow(List.of(crac.getRangeAction("pst")), cnec2, TwoSides.ONE), EPSILON);
+        assertEquals(-5., result.getSensitivityOnFlow(pstIndex, crac.getFlowCnec("cnec1stateCurativeContingency1"), TwoSides.ONE), EPSILON);
+    }
 }
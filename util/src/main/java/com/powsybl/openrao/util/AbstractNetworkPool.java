@@ -29,10 +29,18 @@ public abstract class AbstractNetworkPool extends ForkJoinPool implements AutoCl
     protected Set<String> baseNetworkVariantIds;
 
     public static AbstractNetworkPool create(Network network, String targetVariant, int parallelism, boolean initClones) {
+        return create(network, targetVariant, parallelism, initClones, false);
+    }
+
+    /**
+     * With asyncClones, the copies of the network are created in the background and handed out as soon as they are
+     * ready, so that the first tasks can start before all the copies exist. See {@link MultipleNetworkPool}.
+     */
+    public static AbstractNetworkPool create(Network network, String targetVariant, int parallelism, boolean initClones, boolean asyncClones) {
         if (parallelism == 1) {
             return new SingleNetworkPool(network, targetVariant);
         } else {
-            return new MultipleNetworkPool(network, targetVariant, parallelism, initClones);
+            return new MultipleNetworkPool(network, targetVariant, parallelism, initClones, asyncClones);
         }
     }
 
@@ -49,12 +57,17 @@ public abstract class AbstractNetworkPool extends ForkJoinPool implements AutoCl
     }
 
     public Network getAvailableNetwork() throws InterruptedException {
-        Network networkClone = networksQueue.take();
+        Network networkClone = takeNetwork();
+        // the working variant is kept when a network is released, so its variant arrays are overwritten in place
         networkClone.getVariantManager().cloneVariant(stateSaveVariant, workingVariant, true);
         networkClone.getVariantManager().setWorkingVariant(workingVariant);
         return networkClone;
     }
 
+    protected Network takeNetwork() throws InterruptedException {
+        return networksQueue.take();
+    }
+
     public void shutdownAndAwaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
         super.shutdown();
         super.awaitTermination(timeout, unit);
@@ -63,6 +76,9 @@ public abstract class AbstractNetworkPool extends ForkJoinPool implements AutoCl
     protected void cleanBaseNetwork() {
         cleanVariants(network);
         network.getVariantManager().removeVariant(stateSaveVariant);
+        if (network.getVariantManager().getVariantIds().contains(workingVariant)) {
+            network.getVariantManager().removeVariant(workingVariant);
+        }
         network.getVariantManager().setWorkingVariant(networkInitialVariantId);
     }
 
@@ -75,6 +91,7 @@ public abstract class AbstractNetworkPool extends ForkJoinPool implements AutoCl
         List<String> variantsToBeRemoved = networkClone.getVariantManager().getVariantIds().stream()
                 .filter(variantId -> !baseNetworkVariantIds.contains(variantId))
                 .filter(variantId -> !variantId.equals(stateSaveVariant))
+                .filter(variantId -> !variantId.equals(workingVariant))
                 .toList();
         variantsToBeRemoved.forEach(variantId -> networkClone.getVariantManager().removeVariant(variantId));
     }
@@ -15,20 +15,57 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static com.powsybl.openrao.commons.logs.OpenRaoLoggerProvider.TECHNICAL_LOGS;
+import static com.powsybl.openrao.util.MCDContextWrapper.wrapWithMdcContext;
 
 /**
+ * A {@code AbstractNetworkPool} implementation that works on copies of the network, one per parallel task.
+ * <p>
+ * By default, {@link #initClones(int)} creates the copies and waits for all of them before returning. With
+ * asyncClones, the copies are created in the background and handed out as soon as they are ready, so that the first
+ * tasks start while the other copies are still being created. The pool then also adapts to the pressure on the queue:
+ * a task that finds no idle copy asks for a new one (up to the parallelism), and a released copy is dropped when
+ * another copy is already idle and no task is waiting to be executed.
+ * During the life of an asynchronous pool, the working variant of the base network is the target variant, and the
+ * base network must not be modified.
+ *
  * @author Sebastien Murgey {@literal <sebastien.murgey at rte-france.com>}
  */
 public class MultipleNetworkPool extends AbstractNetworkPool {
 
-    private int networkNumberOfClones = 0;
+    private static final long CLONE_WAITING_PERIOD_MS = 100;
+    private static final long CLOSE_TIMEOUT_HOURS = 24;
+
+    private final AtomicInteger networkNumberOfClones = new AtomicInteger(0);
+    private final boolean asyncClones;
+    // Number of clones created or being created by the cloning executor
+    private final AtomicInteger scheduledClones = new AtomicInteger(0);
+    private final ExecutorService cloningExecutor;
+    private volatile RuntimeException cloningFailure;
 
     protected MultipleNetworkPool(Network network, String targetVariant, int parallelism, boolean initClones) {
+        this(network, targetVariant, parallelism, initClones, false);
+    }
+
+    protected MultipleNetworkPool(Network network, String targetVariant, int parallelism, boolean initClones, boolean asyncClones) {
         super(network, targetVariant, parallelism);
+        this.asyncClones = asyncClones;
+        if (asyncClones) {
+            network.getVariantManager().setWorkingVariant(targetVariant);
+            this.cloningExecutor = Executors.newFixedThreadPool(parallelism, runnable -> {
+                Thread thread = new Thread(runnable, "OpenRaoNetworkPool cloning");
+                thread.setDaemon(true);
+                return thread;
+            });
+        } else {
+            this.cloningExecutor = null;
+        }
         if (initClones) {
             initClones(parallelism);
         }
@@ -39,6 +76,7 @@ public class MultipleNetworkPool extends AbstractNetworkPool {
         List<String> variantsToBeRemoved = networkClone.getVariantManager().getVariantIds().stream()
             .filter(variantId -> !variantId.equals(VariantManagerConstants.INITIAL_VARIANT_ID))
             .filter(variantId -> !variantId.equals(stateSaveVariant))
+            .filter(variantId -> !variantId.equals(workingVariant))
             .toList();
         variantsToBeRemoved.forEach(variantId -> networkClone.getVariantManager().removeVariant(variantId));
     }
@@ -46,15 +84,23 @@ public class MultipleNetworkPool extends AbstractNetworkPool {
     @Override
     public int getNetworkNumberOfClones() {
         // The number of clones includes the original network itself
-        return networkNumberOfClones;
+        return networkNumberOfClones.get();
     }
 
     @Override
     public void initClones(int desiredNumberOfClones) {
         int requiredClones = Math.min(getParallelism(), desiredNumberOfClones);
-        int clonesToAdd = requiredClones - networkNumberOfClones;
+        if (asyncClones) {
+            // the clones are put in the queue as soon as they are created
+            for (int i = scheduledClones.get(); i < requiredClones; i++) {
+                scheduleClone();
+            }
+            return;
+        }
 
-        if (clonesToAdd == 0) {
+        int clonesToAdd = requiredClones - networkNumberOfClones.get();
+
+        if (clonesToAdd <= 0) {
             return;
         }
 
@@ -63,20 +109,20 @@ public class MultipleNetworkPool extends AbstractNetworkPool {
         String initialVariant = network.getVariantManager().getWorkingVariantId();
         network.getVariantManager().setWorkingVariant(targetVariant);
 
-        AtomicInteger remainingClones = new AtomicInteger(requiredClones);
         List<ForkJoinTask<Network>> tasks = new ArrayList<>();
         try {
-            for (int i = networkNumberOfClones; i < requiredClones; i++) {
+            for (int i = networkNumberOfClones.get(); i < requiredClones; i++) {
                 int finalI = i;
-                tasks.add(this.submit(() -> createNetworkCopy(finalI, remainingClones)));
+                tasks.add(this.submit(() -> createNetworkCopy(finalI)));
             }
             for (ForkJoinTask<Network> task : tasks) {
                 try {
                     boolean isSuccess = networksQueue.offer(task.get());
                     if (!isSuccess) {
-                        throw new OpenRaoException(String.format("Cannot offer copy n°'%d' in pool. Should not happen", networkNumberOfClones + 1));
+                        throw new OpenRaoException(String.format("Cannot offer copy n°'%d' in pool. Should not happen", networkNumberOfClones.get() + 1));
                     } else {
-                        networkNumberOfClones++;
+                        networkNumberOfClones.incrementAndGet();
+                        scheduledClones.incrementAndGet();
                     }
                 } catch (ExecutionException e) {
                     throw new OpenRaoException(e);
@@ -88,13 +134,95 @@ public class MultipleNetworkPool extends AbstractNetworkPool {
         network.getVariantManager().setWorkingVariant(initialVariant);
     }
 
-    private Network createNetworkCopy(int finalI, AtomicInteger remainingClones) {
+    /**
+     * Asks the cloning executor for a new copy of the network, if the parallelism is not reached yet
+     */
+    private void scheduleClone() {
+        int cloneIndex = scheduledClones.getAndUpdate(n -> n < getParallelism() ? n + 1 : n);
+        if (cloneIndex >= getParallelism()) {
+            return;
+        }
+        cloningExecutor.execute(wrapWithMdcContext(() -> {
+            try {
+                Network copy = createNetworkCopy(cloneIndex);
+                networkNumberOfClones.incrementAndGet();
+                if (!networksQueue.offer(copy)) {
+                    throw new OpenRaoException(String.format("Cannot offer copy n°'%d' in pool. Should not happen", cloneIndex + 1));
+                }
+            } catch (RuntimeException e) {
+                scheduledClones.decrementAndGet();
+                cloningFailure = e;
+            }
+        }));
+    }
+
+    @Override
+    protected Network takeNetwork() throws InterruptedException {
+        if (!asyncClones) {
+            return super.takeNetwork();
+        }
+        Network networkClone = networksQueue.poll();
+        if (networkClone == null) {
+            // no idle copy: the pool grows, and the task waits for the first copy to be available
+            scheduleClone();
+        }
+        while (networkClone == null) {
+            if (cloningFailure != null) {
+                throw new OpenRaoException("Network copy could not be created", cloningFailure);
+            }
+            networkClone = networksQueue.poll(CLONE_WAITING_PERIOD_MS, TimeUnit.MILLISECONDS);
+        }
+        return networkClone;
+    }
+
+    @Override
+    public void releaseUsedNetwork(Network networkToRelease) throws InterruptedException {
+        if (asyncClones && !networksQueue.isEmpty() && !hasQueuedSubmissions() && getQueuedTaskCount() == 0) {
+            // another copy is idle and no task is waiting, so this copy would not be used anymore
+            TECHNICAL_LOGS.debug("Removing a copy of network {} from the pool", network.getId());
+            networkNumberOfClones.decrementAndGet();
+            scheduledClones.decrementAndGet();
+            return;
+        }
+        super.releaseUsedNetwork(networkToRelease);
+    }
+
+    @Override
+    public void shutdownAndAwaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        super.shutdownAndAwaitTermination(timeout, unit);
+        if (asyncClones) {
+            cloningExecutor.shutdown();
+            cloningExecutor.awaitTermination(timeout, unit);
+            network.getVariantManager().setWorkingVariant(networkInitialVariantId);
+        }
+    }
+
+    @Override
+    public void close() {
+        super.close();
+        if (asyncClones && !cloningExecutor.isShutdown()) {
+            cloningExecutor.shutdownNow();
+            try {
+                // a copy which is still being created reads the working variant of the base network
+                if (!cloningExecutor.awaitTermination(CLOSE_TIMEOUT_HOURS, TimeUnit.HOURS)) {
+                    TECHNICAL_LOGS.warn("Copies of network {} are still being created, its working variant is not restored", network.getId());
+                    return;
+                }
+            } catch (InterruptedException e) {
+                TECHNICAL_LOGS.warn("Interrupted while waiting for the copies of network {}, its working variant is not restored", network.getId());
+                Thread.currentThread().interrupt();
+                return;
+            }
+            network.getVariantManager().setWorkingVariant(networkInitialVariantId);
+        }
+    }
+
+    private Network createNetworkCopy(int finalI) {
         TECHNICAL_LOGS.debug("Copy n°{}", finalI + 1);
         Network copy = NetworkSerDe.copy(network);
         // The initial network working variant is VariantManagerConstants.INITIAL_VARIANT_ID
         // in cloned network, so we need to copy it again.
         copy.getVariantManager().cloneVariant(VariantManagerConstants.INITIAL_VARIANT_ID, Arrays.asList(stateSaveVariant, workingVariant), true);
-        remainingClones.decrementAndGet();
         return copy;
     }
 }
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.openrao.util;
+
+import java.util.concurrent.Semaphore;
+
+/**
+ * Number of threads (and network copies) which can be lent to nested computations, for instance to the search trees
+ * of the contingency scenarios optimized in parallel.
+ * <p>
+ * The threads are first lent by shares of at most maxThreadsPerRequest, so that each computation gets the same
+ * parallelism. Once this limit is removed, the threads freed by the computations which are over can be lent to the
+ * ones which are still running, including the ones which have already borrowed threads.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class ParallelismBudget {
+    private final int numberOfThreads;
+    private final Semaphore availableThreads;
+    private volatile int maxThreadsPerRequest;
+
+    public ParallelismBudget(int numberOfThreads, int maxThreadsPerRequest) {
+        this.numberOfThreads = Math.max(0, numberOfThreads);
+        this.availableThreads = new Semaphore(this.numberOfThreads);
+        this.maxThreadsPerRequest = maxThreadsPerRequest;
+    }
+
+    /**
+     * Borrows as many threads as possible, up to desiredThreads, without waiting. Returns the number of threads
+     * borrowed, which must be given back with {@link #release(int)}.
+     */
+    public int tryAcquire(int desiredThreads) {
+        return tryAcquire(desiredThreads, 0);
+    }
+
+    /**
+     * Borrows more threads for a computation which already holds borrowedThreads, without waiting. As long as the
+     * maxThreadsPerRequest limit applies, the computation cannot hold more than this limit in total. Returns the number
+     * of threads newly borrowed.
+     */
+    public int tryAcquire(int desiredThreads, int borrowedThreads) {
+        for (int threads = Math.min(desiredThreads, maxThreadsPerRequest - borrowedThreads); threads > 0; threads--) {
+            if (availableThreads.tryAcquire(threads)) {
+                return threads;
+            }
+        }
+        return 0;
+    }
+
+    public void release(int threads) {
+        if (threads > 0) {
+            availableThreads.release(threads);
+        }
+    }
+
+    public void removeMaxThreadsPerRequest() {
+        maxThreadsPerRequest = Integer.MAX_VALUE;
+    }
+
+    public int getNumberOfThreads() {
+        return numberOfThreads;
+    }
+
+    public int getAvailableThreads() {
+        return availableThreads.availablePermits();
+    }
+}
@@ -9,6 +9,7 @@ import org.junit.jupiter.api.Test;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
 
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -138,4 +139,62 @@ class NetworkPoolTest {
         pool.shutdownAndAwaitTermination(24, TimeUnit.HOURS);
         assertEquals(variantsIds, new HashSet<>(network.getVariantManager().getVariantIds()));
     }
+
+    @Test
+    void asyncNetworkPoolUsageTest() throws InterruptedException {
+        Set<String> variantsIds = new HashSet<>(network.getVariantManager().getVariantIds());
+        AbstractNetworkPool pool = AbstractNetworkPool.create(network, otherVariant, 4, false, true);
+        assertTrue(pool instanceof MultipleNetworkPool);
+        assertEquals(otherVariant, network.getVariantManager().getWorkingVariantId());
+
+        // the pool grows when no copy is idle
+        Network firstCopy = pool.getAvailableNetwork();
+        assertNotEquals(network, firstCopy);
+        assertTrue(firstCopy.getVariantManager().getWorkingVariantId().startsWith("OpenRaoNetworkPool working variant"));
+        assertEquals(1, pool.getNetworkNumberOfClones());
+        Network secondCopy = pool.getAvailableNetwork();
+        assertNotEquals(firstCopy, secondCopy);
+        assertEquals(2, pool.getNetworkNumberOfClones());
+
+        // the working variant is kept on release, other variants are removed
+        firstCopy.getVariantManager().cloneVariant(firstCopy.getVariantManager().getWorkingVariantId(), "tmpVariant");
+        pool.releaseUsedNetwork(firstCopy);
+        assertEquals(3, firstCopy.getVariantManager().getVariantIds().size());
+        assertEquals(2, pool.getNetworkNumberOfClones());
+
+        // the pool shrinks when a copy is already idle and no task is waiting
+        pool.releaseUsedNetwork(secondCopy);
+        assertEquals(1, pool.getNetworkNumberOfClones());
+        assertEquals(firstCopy, pool.getAvailableNetwork());
+
+        pool.shutdownAndAwaitTermination(24, TimeUnit.HOURS);
+        assertEquals(variantsIds, new HashSet<>(network.getVariantManager().getVariantIds()));
+        assertEquals(initialVariant, network.getVariantManager().getWorkingVariantId());
+    }
+
+    @Test
+    void asyncInitClones() throws InterruptedException {
+        AbstractNetworkPool pool = AbstractNetworkPool.create(network, otherVariant, 4, true, true);
+        List<Network> copies = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            copies.add(pool.getAvailableNetwork());
+        }
+        assertEquals(4, new HashSet<>(copies).size());
+        assertEquals(4, pool.getNetworkNumberOfClones());
+        pool.shutdownAndAwaitTermination(24, TimeUnit.HOURS);
+    }
+
+    @Test
+    void asyncCloseWaitsForCopies() {
+        Set<String> variantsIds = new HashSet<>(network.getVariantManager().getVariantIds());
+        AbstractNetworkPool pool = AbstractNetworkPool.create(network, otherVariant, 4, true, true);
+        // the copies are still being created when the pool is closed
+        pool.close();
+        int numberOfClones = pool.getNetworkNumberOfClones();
+        assertTrue(numberOfClones <= 4);
+        assertEquals(initialVariant, network.getVariantManager().getWorkingVariantId());
+        assertEquals(variantsIds, new HashSet<>(network.getVariantManager().getVariantIds()));
+        // no copy is created after the pool is closed
+        assertEquals(numberOfClones, pool.getNetworkNumberOfClones());
+    }
 }
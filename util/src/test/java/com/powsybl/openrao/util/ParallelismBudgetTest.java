@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.openrao.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class ParallelismBudgetTest {
+
+    @Test
+    void testLendThreads() {
+        ParallelismBudget budget = new ParallelismBudget(6, 2);
+
+        // shares are limited to 2 threads
+        assertEquals(2, budget.tryAcquire(5));
+        assertEquals(1, budget.tryAcquire(1));
+        assertEquals(0, budget.tryAcquire(0));
+        assertEquals(3, budget.getAvailableThreads());
+
+        // once the limit is removed, all the available threads can be lent
+        budget.removeMaxThreadsPerRequest();
+        assertEquals(3, budget.tryAcquire(5));
+        assertEquals(0, budget.tryAcquire(5));
+
+        budget.release(3);
+        budget.release(0);
+        assertEquals(3, budget.getAvailableThreads());
+    }
+
+    @Test
+    void testLendMoreThreadsToRunningComputations() {
+        ParallelismBudget budget = new ParallelismBudget(4, 2);
+        assertEquals(4, budget.getNumberOfThreads());
+
+        // a computation holding 1 thread can only get 1 more while shares are limited
+        assertEquals(1, budget.tryAcquire(1));
+        assertEquals(1, budget.tryAcquire(3, 1));
+        assertEquals(0, budget.tryAcquire(3, 2));
+        assertEquals(2, budget.getAvailableThreads());
+
+        // once the limit is removed, it can take the threads freed by the other computations
+        budget.removeMaxThreadsPerRequest();
+        assertEquals(2, budget.tryAcquire(3, 2));
+        assertEquals(0, budget.getAvailableThreads());
+    }
+}